@@ -0,0 +1,454 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.AuthorityKeyIdentifier;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.ExtensionsGenerator;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.asn1.x509.SubjectKeyIdentifier;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.PKCSException;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A certificate manager which generates the keys, certificate signing requests, certificates and keystores in-process
+ * using the Bouncy Castle library instead of running {@code openssl} commands. Apart from the files passed to its
+ * methods, it does not use any temporary files.
+ *
+ * It produces the same formats and certificate extensions as the {@link OpenSslCertManager}, so the two can be used
+ * interchangeably:
+ * <ul>
+ *     <li>private keys are RSA keys (4096 bits for CA keys and 2048 bits otherwise) in the PEM encoded PKCS#8 format,</li>
+ *     <li>certificates and certificate signing requests are PEM encoded,</li>
+ *     <li>certificates are signed using SHA-512 and have a random serial number,</li>
+ *     <li>keystores use the PKCS#12 format.</li>
+ * </ul>
+ */
+public class BouncyCastleCertManager implements CertManager {
+    /**
+     * Size of the generated CA keys
+     */
+    /* test */ static final int CA_KEY_SIZE = 4096;
+
+    /**
+     * Size of the generated end-entity keys
+     */
+    /* test */ static final int KEY_SIZE = 2048;
+
+    /**
+     * Number of random bits in the certificate serial numbers (same as the OpenSSL rand_serial option)
+     */
+    private static final int SERIAL_NUMBER_BITS = 159;
+
+    private static final String CSR_SIGNATURE_ALGORITHM = "SHA256withRSA";
+    private static final String KEY_PROTECTION_ALGORITHM = "PBEWithHmacSHA256AndAES_128";
+
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Constructs the BouncyCastleCertManager with the system time
+     */
+    public BouncyCastleCertManager() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Configures the BouncyCastleCertManager with time passed as a parameter
+     *
+     * @param clock     Clock / Time which should be used by the manager
+     */
+    public BouncyCastleCertManager(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateRootCaCert(sbj, keyFile, certFile, notBefore, notAfter, 0);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCaCert(null, null, sbj, keyFile, certFile, notBefore, notAfter, 0);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    /**
+     * Generate a root or intermediate CA certificate, using either a new CA key or reusing an existing subject key.
+     *
+     * @param issuerCaKeyFile The issuing CA key (or null for a root CA).
+     * @param issuerCaCertFile The issuing CA cert (or null for a root CA).
+     * @param subject The required subject.
+     * @param subjectKeyFile The subject key file.
+     *                       If this file is empty then a new CA key will be generated and populated by this call.
+     *                       Otherwise it is assumed to contain the existing CA key.
+     * @param subjectCertFile The subject certificate file, populated by this call.
+     * @param notBefore The required NotBefore date of the issued certificate.
+     * @param notAfter The required NotAfter date of the issued certificate.
+     * @param pathLength The number of CA certificates below this certificate in a certificate chain.
+     * @throws IOException IO problems
+     */
+    private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
+            throw new IllegalArgumentException();
+        }
+        // Preconditions
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        boolean newKey = subjectKeyFile.length() == 0;
+        KeyPair subjectKeyPair = newKey ? generateKeyPair(CA_KEY_SIZE) : CertUtils.keyPair(CertUtils.readPrivateKey(Files.readAllBytes(subjectKeyFile.toPath())));
+
+        X500Name subjectName = CertUtils.x500Name(subject);
+        X500Name issuerName;
+        PrivateKey issuerKey;
+        X509Certificate issuerCert;
+        if (issuerCaCertFile == null) {
+            issuerName = subjectName;
+            issuerKey = subjectKeyPair.getPrivate();
+            issuerCert = null;
+        } else {
+            issuerCert = CertUtils.readCertificate(Files.readAllBytes(issuerCaCertFile.toPath()));
+            issuerName = X500Name.getInstance(issuerCert.getSubjectX500Principal().getEncoded());
+            issuerKey = CertUtils.readPrivateKey(Files.readAllBytes(issuerCaKeyFile.toPath()));
+        }
+
+        try {
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuerName, serialNumber(),
+                    Date.from(notBefore.toInstant()), Date.from(notAfter.toInstant()), subjectName, subjectKeyPair.getPublic())
+                    .addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(subjectKeyPair.getPublic()))
+                    .addExtension(Extension.basicConstraints, true, new BasicConstraints(pathLength))
+                    .addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+
+            if (issuerCert != null) {
+                builder.addExtension(Extension.authorityKeyIdentifier, false, authorityKeyIdentifier(extensionUtils, issuerCert));
+            }
+
+            X509Certificate cert = sign(builder, issuerKey);
+
+            if (newKey) {
+                Files.write(subjectKeyFile.toPath(), CertUtils.pem("PRIVATE KEY", subjectKeyPair.getPrivate().getEncoded()));
+            }
+            Files.write(subjectCertFile.toPath(), CertUtils.pem("CERTIFICATE", cert.getEncoded()));
+        } catch (GeneralSecurityException | OperatorCreationException e) {
+            throw new RuntimeException("Failed to generate CA certificate", e);
+        }
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        // the KeyStore class is able to create an empty store if the truststore file is empty
+        KeyStore trustStore = CertUtils.loadKeyStore(trustStoreFile.length() > 0 ? Files.readAllBytes(trustStoreFile.toPath()) : null, trustStorePassword);
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(CertUtils.readCertificate(Files.readAllBytes(certFile.toPath()))), null);
+        Files.write(trustStoreFile.toPath(), CertUtils.storeKeyStore(trustStore, trustStorePassword));
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        try {
+            PrivateKey key = CertUtils.readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+            Certificate[] chain = CertUtils.readCertificates(Files.readAllBytes(certFile.toPath()));
+
+            KeyStore keyStore = CertUtils.loadKeyStore(null, keyStorePassword);
+            keyStore.setEntry(alias, new KeyStore.PrivateKeyEntry(key, chain),
+                    new KeyStore.PasswordProtection(keyStorePassword.toCharArray(), KEY_PROTECTION_ALGORITHM, null));
+            Files.write(keyStoreFile.toPath(), CertUtils.storeKeyStore(keyStore, keyStorePassword));
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to create keystore", e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = CertUtils.loadKeyStore(Files.readAllBytes(trustStoreFile.toPath()), trustStorePassword);
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        Files.write(trustStoreFile.toPath(), CertUtils.storeKeyStore(trustStore, trustStorePassword));
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        KeyPair keyPair = generateKeyPair(KEY_SIZE);
+
+        try {
+            JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(CertUtils.x500Name(subject), keyPair.getPublic());
+            if (subject.hasSubjectAltNames()) {
+                ExtensionsGenerator extensions = new ExtensionsGenerator();
+                extensions.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(subject));
+                builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest, extensions.generate());
+            }
+
+            ContentSigner signer = new JcaContentSignerBuilder(CSR_SIGNATURE_ALGORITHM).setProvider(CertUtils.PROVIDER).build(keyPair.getPrivate());
+            PKCS10CertificationRequest csr = builder.build(signer);
+
+            Files.write(keyFile.toPath(), CertUtils.pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+            Files.write(csrFile.toPath(), CertUtils.pem("CERTIFICATE REQUEST", csr.getEncoded()));
+        } catch (OperatorCreationException e) {
+            throw new RuntimeException("Failed to generate certificate signing request", e);
+        }
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, notBefore, notAfter);
+    }
+
+    /**
+     * Generates a certificate
+     *
+     * @param csrFile       CSR file
+     * @param caKey         Key file of the CA which should sign this certificate
+     * @param caCert        Cert file of the CA which should sign this certificate
+     * @param crtFile       Cert file for the newly generated certificate
+     * @param sbj           Subject of the new certificate
+     * @param notBefore     Not before validity
+     * @param notAfter      Not after validity
+     *
+     * @throws IOException  Thrown when working with files fails
+     */
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, notBefore, notAfter);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, notBefore, notAfter);
+    }
+
+    /**
+     * Generates a certificate signed by the CA. Same as when using the {@link OpenSslCertManager}, the subject of the
+     * certificate is the organization and common name from the CSR and the Subject Alternative Names are the ones
+     * from the subject passed to this method.
+     *
+     * @param csrFile       CSR file
+     * @param caKey         Key of the CA which should sign this certificate
+     * @param caCert        Certificate of the CA which should sign this certificate
+     * @param crtFile       Cert file for the newly generated certificate
+     * @param sbj           Subject of the new certificate
+     * @param notBefore     Not before validity
+     * @param notAfter      Not after validity
+     *
+     * @throws IOException  Thrown when working with files fails
+     */
+    private void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+        checkValidity(notBefore, notAfter);
+
+        PKCS10CertificationRequest csr = CertUtils.readCsr(Files.readAllBytes(csrFile.toPath()));
+        X509Certificate issuerCert = CertUtils.readCertificate(caCert);
+        PrivateKey issuerKey = CertUtils.readPrivateKey(caKey);
+
+        try {
+            if (!csr.isSignatureValid(new JcaContentVerifierProviderBuilder().setProvider(CertUtils.PROVIDER).build(csr.getSubjectPublicKeyInfo()))) {
+                throw new IllegalArgumentException("The signature of the certificate signing request is not valid");
+            }
+
+            PublicKey publicKey = CertUtils.publicKey(csr);
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                    X500Name.getInstance(issuerCert.getSubjectX500Principal().getEncoded()), serialNumber(),
+                    Date.from(notBefore.toInstant()), Date.from(notAfter.toInstant()), CertUtils.csrSubject(csr), publicKey);
+
+            if (sbj.hasSubjectAltNames()) {
+                builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(sbj))
+                        .addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(publicKey));
+            } else {
+                builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(publicKey))
+                        .addExtension(Extension.basicConstraints, true, new BasicConstraints(false))
+                        .addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.digitalSignature | KeyUsage.keyEncipherment));
+            }
+            builder.addExtension(Extension.authorityKeyIdentifier, false, authorityKeyIdentifier(extensionUtils, issuerCert));
+
+            Files.write(crtFile.toPath(), CertUtils.pem("CERTIFICATE", sign(builder, issuerKey).getEncoded()));
+        } catch (GeneralSecurityException | OperatorCreationException | PKCSException e) {
+            throw new RuntimeException("Failed to generate certificate", e);
+        }
+    }
+
+    void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    private KeyPair generateKeyPair(int keySize) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(keySize, random);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to generate key", e);
+        }
+    }
+
+    private BigInteger serialNumber() {
+        return new BigInteger(SERIAL_NUMBER_BITS, random);
+    }
+
+    /**
+     * Signs the certificate. The signature algorithm uses SHA-512 (same as the OpenSSL configuration used by the
+     * {@link OpenSslCertManager}) and depends on the type of the signing key, which might be provided by the user.
+     *
+     * @param builder   Certificate builder
+     * @param key       Signing key
+     *
+     * @return  Signed certificate
+     */
+    private X509Certificate sign(X509v3CertificateBuilder builder, PrivateKey key) throws OperatorCreationException, CertificateException {
+        String algorithm = switch (key.getAlgorithm()) {
+            case "RSA" -> "SHA512withRSA";
+            case "EC", "ECDSA" -> "SHA512withECDSA";
+            default -> key.getAlgorithm();
+        };
+
+        ContentSigner signer = new JcaContentSignerBuilder(algorithm).setProvider(CertUtils.PROVIDER).build(key);
+        return new JcaX509CertificateConverter().setProvider(CertUtils.PROVIDER).getCertificate(builder.build(signer));
+    }
+
+    /**
+     * Creates the Authority Key Identifier extension with the key identifier of the issuer (same as OpenSSL does by
+     * default)
+     *
+     * @param extensionUtils    Extension utils
+     * @param issuerCert        Issuer certificate
+     *
+     * @return  Authority Key Identifier extension
+     *
+     * @throws IOException  If the Subject Key Identifier of the issuer cannot be parsed
+     */
+    private static AuthorityKeyIdentifier authorityKeyIdentifier(JcaX509ExtensionUtils extensionUtils, X509Certificate issuerCert) throws IOException {
+        byte[] extension = issuerCert.getExtensionValue(Extension.subjectKeyIdentifier.getId());
+        SubjectKeyIdentifier keyIdentifier = extension != null
+                ? SubjectKeyIdentifier.getInstance(JcaX509ExtensionUtils.parseExtensionValue(extension))
+                : extensionUtils.createSubjectKeyIdentifier(issuerCert.getPublicKey());
+
+        return new AuthorityKeyIdentifier(keyIdentifier.getKeyIdentifier());
+    }
+
+    private static GeneralNames subjectAltNames(Subject subject) throws IOException {
+        List<GeneralName> names = new ArrayList<>();
+
+        for (String dnsName : subject.dnsNames()) {
+            names.add(new GeneralName(GeneralName.dNSName, dnsName));
+        }
+
+        for (String ipAddress : subject.ipAddresses()) {
+            // The IP addresses are already validated by the Subject, so this does not do any DNS lookups
+            names.add(new GeneralName(GeneralName.iPAddress, new DEROctetString(InetAddress.getByName(ipAddress).getAddress())));
+        }
+
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+
+}
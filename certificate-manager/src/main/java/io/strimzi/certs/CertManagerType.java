@@ -0,0 +1,65 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The available {@link CertManager} implementations which can be selected in the operator configuration
+ */
+public enum CertManagerType {
+    /**
+     * Uses the OpenSSL command line tool in subprocesses
+     */
+    OPENSSL(OpenSslCertManager::new),
+
+    /**
+     * Generates the keys, certificates and keystores in-process using Bouncy Castle
+     */
+    BOUNCYCASTLE(BouncyCastleCertManager::new);
+
+    private final Supplier<CertManager> factory;
+
+    CertManagerType(Supplier<CertManager> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @return  New instance of the Cert Manager
+     */
+    public CertManager create() {
+        return factory.get();
+    }
+
+    /**
+     * Gets the Cert Manager type from its name. The name is case-insensitive.
+     *
+     * @param value  Name of the Cert Manager type
+     *
+     * @return  Cert Manager type
+     *
+     * @throws IllegalArgumentException If the type is not known
+     */
+    public static CertManagerType fromString(String value) {
+        if (value != null) {
+            for (CertManagerType type : values()) {
+                if (type.name().equalsIgnoreCase(value.trim())) {
+                    return type;
+                }
+            }
+        }
+
+        throw new IllegalArgumentException("Value " + value + " is not a valid Cert Manager type. Valid values are "
+                + Arrays.stream(values()).map(CertManagerType::toString).collect(Collectors.joining(", ")));
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x500.RDN;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.jce.interfaces.ECPrivateKey;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.jce.spec.ECParameterSpec;
+import org.bouncycastle.jce.spec.ECPublicKeySpec;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Utility methods for building the certificate names and for reading and writing the PEM encoded keys, certificates
+ * and certificate signing requests and the PKCS#12 stores in memory. Used by the {@link BouncyCastleCertManager}.
+ */
+final class CertUtils {
+    /**
+     * The provider is used directly instead of registering it, so that it does not change the security providers
+     * used by the rest of the operator
+     */
+    static final Provider PROVIDER = new BouncyCastleProvider();
+
+    private CertUtils() { }
+
+    /**
+     * PEM encodes the data in the same way as OpenSSL (64 characters per line and Unix line endings)
+     *
+     * @param type      Type used in the PEM header and footer
+     * @param der       DER encoded data
+     *
+     * @return  PEM encoded data
+     */
+    static byte[] pem(String type, byte[] der) {
+        String pem = "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, new byte[] {'\n'}).encodeToString(der) + "\n"
+                + "-----END " + type + "-----\n";
+
+        return pem.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Creates the X500 name with the organization name followed by the common name (same order as used with OpenSSL).
+     * Both are encoded as UTF8 strings.
+     *
+     * @param subject   Subject
+     *
+     * @return  X500 Name
+     */
+    static X500Name x500Name(Subject subject) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+
+        if (subject.organizationName() != null) {
+            builder.addRDN(BCStyle.O, subject.organizationName());
+        }
+
+        if (subject.commonName() != null) {
+            builder.addRDN(BCStyle.CN, subject.commonName());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Gets the subject of the issued certificate from the CSR. Same as with the OpenSSL policy used by the
+     * {@link OpenSslCertManager}, only the organization name and the common name are used.
+     *
+     * @param csr   Certificate signing request
+     *
+     * @return  X500 Name
+     */
+    static X500Name csrSubject(PKCS10CertificationRequest csr) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+
+        for (ASN1ObjectIdentifier type : List.of(BCStyle.O, BCStyle.CN)) {
+            for (RDN rdn : csr.getSubject().getRDNs(type)) {
+                builder.addRDN(rdn.getFirst());
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Reads a PEM encoded private key. It supports the PKCS#8 format used by Strimzi as well as the PKCS#1 (RSA) and
+     * SEC1 (EC) formats which might be used by user-provided CA keys.
+     *
+     * @param pem   PEM encoded key
+     *
+     * @return  Private key
+     *
+     * @throws IOException  If the key cannot be parsed
+     */
+    static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        Object object = readPem(pem);
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter().setProvider(PROVIDER);
+
+        if (object instanceof PEMKeyPair keyPair) {
+            return converter.getPrivateKey(keyPair.getPrivateKeyInfo());
+        } else if (object instanceof PrivateKeyInfo keyInfo) {
+            return converter.getPrivateKey(keyInfo);
+        } else {
+            throw new IllegalArgumentException("Unsupported private key format: " + typeOf(object));
+        }
+    }
+
+    /**
+     * Derives the public key from the private key. This is needed when renewing CA certificates with an existing key.
+     *
+     * @param privateKey    Private key
+     *
+     * @return  Key pair
+     */
+    static KeyPair keyPair(PrivateKey privateKey) {
+        try {
+            if (privateKey instanceof RSAPrivateCrtKey rsaKey) {
+                PublicKey publicKey = KeyFactory.getInstance("RSA")
+                        .generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+                return new KeyPair(publicKey, privateKey);
+            } else if (privateKey instanceof ECPrivateKey ecKey) {
+                ECParameterSpec params = ecKey.getParameters();
+                PublicKey publicKey = KeyFactory.getInstance("EC", PROVIDER)
+                        .generatePublic(new ECPublicKeySpec(params.getG().multiply(ecKey.getD()).normalize(), params));
+                return new KeyPair(publicKey, privateKey);
+            } else {
+                throw new IllegalArgumentException("Unsupported private key type: " + privateKey.getAlgorithm());
+            }
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to get the public key", e);
+        }
+    }
+
+    /**
+     * Reads a PEM encoded certificate. When the data contain more certificates, the first one is returned.
+     *
+     * @param pem   PEM encoded certificate
+     *
+     * @return  X509 certificate
+     */
+    static X509Certificate readCertificate(byte[] pem) {
+        try {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(pem));
+        } catch (CertificateException e) {
+            throw new RuntimeException("Failed to read certificate", e);
+        }
+    }
+
+    /**
+     * Reads all PEM encoded certificates
+     *
+     * @param pem   PEM encoded certificates
+     *
+     * @return  Array with the certificates
+     */
+    static Certificate[] readCertificates(byte[] pem) {
+        try {
+            return CertificateFactory.getInstance("X.509").generateCertificates(new ByteArrayInputStream(pem)).toArray(new Certificate[0]);
+        } catch (CertificateException e) {
+            throw new RuntimeException("Failed to read certificates", e);
+        }
+    }
+
+    /**
+     * Reads a PEM encoded certificate signing request
+     *
+     * @param pem   PEM encoded CSR
+     *
+     * @return  Certificate signing request
+     *
+     * @throws IOException  If the CSR cannot be parsed
+     */
+    static PKCS10CertificationRequest readCsr(byte[] pem) throws IOException {
+        Object object = readPem(pem);
+
+        if (object instanceof PKCS10CertificationRequest csr) {
+            return csr;
+        } else {
+            throw new IllegalArgumentException("Unsupported certificate signing request format: " + typeOf(object));
+        }
+    }
+
+    /**
+     * Gets the public key from the certificate signing request
+     *
+     * @param csr   Certificate signing request
+     *
+     * @return  Public key
+     *
+     * @throws IOException  If the public key cannot be parsed
+     */
+    static PublicKey publicKey(PKCS10CertificationRequest csr) throws IOException {
+        return new JcaPEMKeyConverter().setProvider(PROVIDER).getPublicKey(csr.getSubjectPublicKeyInfo());
+    }
+
+    /**
+     * Loads a PKCS#12 store
+     *
+     * @param store     The store or null to create a new empty store
+     * @param password  Password of the store
+     *
+     * @return  The keystore
+     *
+     * @throws IOException  If the store cannot be read
+     */
+    static KeyStore loadKeyStore(byte[] store, String password) throws IOException {
+        try {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(store != null ? new ByteArrayInputStream(store) : null, password.toCharArray());
+            return keyStore;
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to load keystore", e);
+        }
+    }
+
+    /**
+     * Stores the PKCS#12 store
+     *
+     * @param keyStore  The keystore
+     * @param password  Password of the store
+     *
+     * @return  The stored keystore
+     *
+     * @throws IOException  If the store cannot be written
+     */
+    static byte[] storeKeyStore(KeyStore keyStore, String password) throws IOException {
+        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+            keyStore.store(os, password.toCharArray());
+            return os.toByteArray();
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to store keystore", e);
+        }
+    }
+
+    private static Object readPem(byte[] pem) throws IOException {
+        try (PEMParser parser = new PEMParser(new StringReader(new String(pem, StandardCharsets.US_ASCII)))) {
+            return parser.readObject();
+        }
+    }
+
+    private static String typeOf(Object object) {
+        return object != null ? object.getClass().getSimpleName() : null;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.X509Certificate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Checks that the BouncyCastleCertManager and the OpenSslCertManager are interchangeable: they issue certificates with
+ * the same names, extensions and signature algorithms and can use the keys, certificates and CSRs created by the other.
+ */
+public class BouncyCastleCertManagerIT {
+    private final OpenSslCertManager openSsl = new OpenSslCertManager();
+    private final BouncyCastleCertManager bc = new BouncyCastleCertManager();
+
+    private final Subject caSubject = new Subject.Builder().withCommonName("cluster-ca").withOrganizationName("io.strimzi").build();
+    private final Subject subject = new Subject.Builder().withCommonName("my-user").withOrganizationName("io.strimzi").build();
+    private final Subject sanSubject = new Subject.Builder().withCommonName("my-broker").withOrganizationName("io.strimzi")
+            .addDnsName("my-broker.my-namespace.svc").addIpAddress("10.0.0.1").build();
+
+    private Path dir;
+
+    @BeforeAll
+    public static void before() {
+        Assumptions.assumeTrue(System.getProperty("os.name").contains("nux"));
+    }
+
+    @BeforeEach
+    public void createDir() throws IOException {
+        dir = Files.createTempDirectory(getClass().getSimpleName());
+    }
+
+    @AfterEach
+    public void deleteDir() throws IOException {
+        OpenSslCertManager.delete(dir);
+    }
+
+    @Test
+    public void testCaCertificatesMatch() throws Exception {
+        ZonedDateTime notBefore = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+        ZonedDateTime notAfter = notBefore.plusDays(365);
+
+        openSsl.generateRootCaCert(caSubject, file("openssl-root.key"), file("openssl-root.crt"), notBefore, notAfter, 1);
+        bc.generateRootCaCert(caSubject, file("bc-root.key"), file("bc-root.crt"), notBefore, notAfter, 1);
+        assertSameStructure(cert("bc-root.crt"), cert("openssl-root.crt"));
+
+        openSsl.generateIntermediateCaCert(file("openssl-root.key"), file("openssl-root.crt"), caSubject,
+                file("openssl-intermediate.key"), file("openssl-intermediate.crt"), notBefore, notAfter, 0);
+        bc.generateIntermediateCaCert(file("bc-root.key"), file("bc-root.crt"), caSubject,
+                file("bc-intermediate.key"), file("bc-intermediate.crt"), notBefore, notAfter, 0);
+        assertSameStructure(cert("bc-intermediate.crt"), cert("openssl-intermediate.crt"));
+
+        // Renew the CA created by the other implementation with its existing key
+        bc.renewSelfSignedCert(file("openssl-root.key"), file("bc-renewed.crt"), caSubject, 365);
+        openSsl.renewSelfSignedCert(file("bc-root.key"), file("openssl-renewed.crt"), caSubject, 365);
+        assertThat(cert("bc-renewed.crt").getPublicKey(), is(cert("openssl-root.crt").getPublicKey()));
+        assertThat(cert("openssl-renewed.crt").getPublicKey(), is(cert("bc-root.crt").getPublicKey()));
+        assertSameStructure(cert("bc-renewed.crt"), cert("openssl-renewed.crt"));
+    }
+
+    @Test
+    public void testSignedCertificatesMatch() throws Exception {
+        openSsl.generateSelfSignedCert(file("ca.key"), file("ca.crt"), caSubject, 365);
+
+        for (Subject sbj : new Subject[] {subject, sanSubject}) {
+            openSsl.generateCsr(file("openssl.key"), file("openssl.csr"), sbj);
+            openSsl.generateCert(file("openssl.csr"), file("ca.key"), file("ca.crt"), file("openssl.crt"), sbj, 365);
+            bc.generateCsr(file("bc.key"), file("bc.csr"), sbj);
+            bc.generateCert(file("bc.csr"), file("ca.key"), file("ca.crt"), file("bc.crt"), sbj, 365);
+
+            assertSameStructure(cert("bc.crt"), cert("openssl.crt"));
+            cert("bc.crt").verify(cert("ca.crt").getPublicKey());
+        }
+    }
+
+    @Test
+    public void testInterchangeableInputs() throws Exception {
+        bc.generateSelfSignedCert(file("bc-ca.key"), file("bc-ca.crt"), caSubject, 365);
+        openSsl.generateSelfSignedCert(file("openssl-ca.key"), file("openssl-ca.crt"), caSubject, 365);
+
+        // OpenSSL CSR signed by Bouncy Castle CA and the other way around
+        openSsl.generateCsr(file("openssl.key"), file("openssl.csr"), sanSubject);
+        bc.generateCert(file("openssl.csr"), file("openssl-ca.key"), file("openssl-ca.crt"), file("bc-signed.crt"), sanSubject, 365);
+        cert("bc-signed.crt").verify(cert("openssl-ca.crt").getPublicKey());
+
+        bc.generateCsr(file("bc.key"), file("bc.csr"), sanSubject);
+        openSsl.generateCert(file("bc.csr"), file("bc-ca.key"), file("bc-ca.crt"), file("openssl-signed.crt"), sanSubject, 365);
+        cert("openssl-signed.crt").verify(cert("bc-ca.crt").getPublicKey());
+        assertSameStructure(cert("bc-signed.crt"), cert("openssl-signed.crt"));
+
+        // The keystore created by Bouncy Castle can be read by OpenSSL
+        bc.addKeyAndCertToKeyStore(file("bc.key"), file("openssl-signed.crt"), "my-broker", file("bc.p12"), "123456");
+        Process process = new ProcessBuilder("openssl", "pkcs12", "-in", file("bc.p12").getAbsolutePath(), "-passin", "pass:123456", "-nodes")
+                .redirectErrorStream(true)
+                .redirectOutput(file("openssl-pkcs12.out"))
+                .start();
+        assertThat(process.waitFor(), is(0));
+        assertThat(Files.readString(file("openssl-pkcs12.out").toPath()).contains("friendlyName: my-broker"), is(true));
+    }
+
+    private File file(String name) {
+        return dir.resolve(name).toFile();
+    }
+
+    private X509Certificate cert(String name) throws IOException {
+        return CertUtils.readCertificate(Files.readAllBytes(file(name).toPath()));
+    }
+
+    private static void assertSameStructure(X509Certificate actual, X509Certificate expected) throws Exception {
+        assertThat(actual.getVersion(), is(expected.getVersion()));
+        assertThat(actual.getSigAlgName(), is(expected.getSigAlgName()));
+        assertThat(Arrays.equals(actual.getSubjectX500Principal().getEncoded(), expected.getSubjectX500Principal().getEncoded()), is(true));
+        assertThat(Arrays.equals(actual.getIssuerX500Principal().getEncoded(), expected.getIssuerX500Principal().getEncoded()), is(true));
+        assertThat(actual.getCriticalExtensionOIDs(), is(expected.getCriticalExtensionOIDs()));
+        assertThat(actual.getNonCriticalExtensionOIDs(), is(expected.getNonCriticalExtensionOIDs()));
+        assertThat(actual.getBasicConstraints(), is(expected.getBasicConstraints()));
+        assertThat(Arrays.equals(actual.getKeyUsage(), expected.getKeyUsage()), is(true));
+        assertThat(sans(actual), is(sans(expected)));
+        assertThat(actual.getPublicKey().getAlgorithm(), is(expected.getPublicKey().getAlgorithm()));
+    }
+
+    private static List<List<?>> sans(X509Certificate cert) throws Exception {
+        return cert.getSubjectAlternativeNames() != null ? List.copyOf(cert.getSubjectAlternativeNames()) : null;
+    }
+}
@@ -6,13 +6,16 @@ package io.strimzi.operator.cluster;
 
 import io.strimzi.api.kafka.model.connector.KafkaConnector;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.operator.cluster.leaderelection.ShardManager;
 import io.strimzi.operator.cluster.operator.assembly.AbstractOperator;
+import io.strimzi.operator.cluster.operator.assembly.CustomResourceInformer;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.ReconciliationScheduler;
 import io.strimzi.operator.cluster.operator.assembly.ReconnectingWatcher;
 import io.strimzi.operator.cluster.operator.assembly.StrimziPodSetController;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
@@ -45,6 +48,7 @@ public class ClusterOperator extends AbstractVerticle {
     private final ClusterOperatorConfig config;
 
     private final Map<String, ReconnectingWatcher<?>> watchByKind = new ConcurrentHashMap<>();
+    private final Map<String, CustomResourceInformer<?>> informerByKind = new ConcurrentHashMap<>();
 
     private long reconcileTimer;
     private final KafkaAssemblyOperator kafkaAssemblyOperator;
@@ -54,6 +58,8 @@ public class ClusterOperator extends AbstractVerticle {
     private final KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator;
     private final KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator;
     private final ResourceOperatorSupplier resourceOperatorSupplier;
+    private final Future<Void> leadership;
+    private final ShardManager shardManager;
 
     private StrimziPodSetController strimziPodSetController;
 
@@ -83,6 +89,39 @@ public class ClusterOperator extends AbstractVerticle {
                            KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
                            KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator,
                            ResourceOperatorSupplier resourceOperatorSupplier) {
+        this(namespace, config, kafkaAssemblyOperator, kafkaConnectAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
+                kafkaMirrorMaker2AssemblyOperator, kafkaBridgeAssemblyOperator, kafkaRebalanceAssemblyOperator,
+                resourceOperatorSupplier, Future.succeededFuture(), null);
+    }
+
+    /**
+     * Constructor for an operator which waits to become the leader before it starts reconciling. Until then, it only
+     * keeps the informers of the StrimziPodSet controller in-sync, so it can take over quickly after a failover. When
+     * the shard manager is set, only the clusters owned by this operator instance are reconciled.
+     *
+     * @param namespace                         Namespace which this operator instance manages
+     * @param config                            Cluster Operator configuration
+     * @param kafkaAssemblyOperator             Kafka operator
+     * @param kafkaConnectAssemblyOperator      KafkaConnect operator
+     * @param kafkaMirrorMakerAssemblyOperator  KafkaMirrorMaker operator
+     * @param kafkaMirrorMaker2AssemblyOperator KafkaMirrorMaker2 operator
+     * @param kafkaBridgeAssemblyOperator       KafkaBridge operator
+     * @param kafkaRebalanceAssemblyOperator    KafkaRebalance operator
+     * @param resourceOperatorSupplier          Resource operator supplier
+     * @param leadership                        Future which completes when this instance becomes the leader
+     * @param shardManager                      Shard manager or null if sharding is not used
+     */
+    public ClusterOperator(String namespace,
+                           ClusterOperatorConfig config,
+                           KafkaAssemblyOperator kafkaAssemblyOperator,
+                           KafkaConnectAssemblyOperator kafkaConnectAssemblyOperator,
+                           KafkaMirrorMakerAssemblyOperator kafkaMirrorMakerAssemblyOperator,
+                           KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator,
+                           KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
+                           KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator,
+                           ResourceOperatorSupplier resourceOperatorSupplier,
+                           Future<Void> leadership,
+                           ShardManager shardManager) {
         LOGGER.info("Creating ClusterOperator for namespace {}", namespace);
         this.namespace = namespace;
         this.config = config;
@@ -93,6 +132,8 @@ public class ClusterOperator extends AbstractVerticle {
         this.kafkaBridgeAssemblyOperator = kafkaBridgeAssemblyOperator;
         this.kafkaRebalanceAssemblyOperator = kafkaRebalanceAssemblyOperator;
         this.resourceOperatorSupplier = resourceOperatorSupplier;
+        this.leadership = leadership;
+        this.shardManager = shardManager;
     }
 
     @Override
@@ -102,27 +143,57 @@ public class ClusterOperator extends AbstractVerticle {
         // Configure the executor here, but it is used only in other places
         sharedWorkerExecutor = getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
 
+        createStrimziPodSetController()
+                .compose(i -> {
+                    if (!leadership.isComplete()) {
+                        LOGGER.info("Waiting to become the leader before reconciling resources in namespace {}", namespace);
+                    }
+
+                    return leadership;
+                })
+                .compose(i -> startReconciling())
+                .onComplete(start);
+    }
+
+    private Future<Void> startReconciling() {
         List<Future<?>> startFutures = new ArrayList<>(8);
-        startFutures.add(maybeStartStrimziPodSetController());
+        startFutures.add(startStrimziPodSetController());
 
         if (!config.isPodSetReconciliationOnly()) {
             List<AbstractOperator<?, ?, ?, ?>> operators = new ArrayList<>(asList(
                     kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator, kafkaConnectAssemblyOperator,
                     kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator, kafkaRebalanceAssemblyOperator));
-            for (AbstractOperator<?, ?, ?, ?> operator : operators) {
-                startFutures.add(operator.createWatch(namespace).compose(w -> {
-                    LOGGER.info("Opened watch for {} operator", operator.kind());
-                    watchByKind.put(operator.kind(), w);
+            if (config.isCustomResourceInformersEnabled()) {
+                for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+                    startFutures.add(operator.createInformer(namespace).compose(i -> {
+                        LOGGER.info("Started informer for {} operator", operator.kind());
+                        informerByKind.put(operator.kind(), i);
+                        return Future.succeededFuture();
+                    }));
+                }
+
+                // Start the NodePool informer
+                startFutures.add(kafkaAssemblyOperator.createNodePoolInformer(namespace).compose(i -> {
+                    LOGGER.info("Started informer for {} operator", KafkaNodePool.RESOURCE_KIND);
+                    informerByKind.put(KafkaNodePool.RESOURCE_KIND, i);
                     return Future.succeededFuture();
                 }));
-            }
+            } else {
+                for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+                    startFutures.add(operator.createWatch(namespace).compose(w -> {
+                        LOGGER.info("Opened watch for {} operator", operator.kind());
+                        watchByKind.put(operator.kind(), w);
+                        return Future.succeededFuture();
+                    }));
+                }
 
-            // Start the NodePool watch
-            startFutures.add(kafkaAssemblyOperator.createNodePoolWatch(namespace).compose(w -> {
-                LOGGER.info("Opened watch for {} operator", KafkaNodePool.RESOURCE_KIND);
-                watchByKind.put(KafkaNodePool.RESOURCE_KIND, w);
-                return Future.succeededFuture();
-            }));
+                // Start the NodePool watch
+                startFutures.add(kafkaAssemblyOperator.createNodePoolWatch(namespace).compose(w -> {
+                    LOGGER.info("Opened watch for {} operator", KafkaNodePool.RESOURCE_KIND);
+                    watchByKind.put(KafkaNodePool.RESOURCE_KIND, w);
+                    return Future.succeededFuture();
+                }));
+            }
 
             // Start connector watch and add it to the map as well
             startFutures.add(kafkaConnectAssemblyOperator.createConnectorWatch(namespace).compose(w -> {
@@ -132,22 +203,29 @@ public class ClusterOperator extends AbstractVerticle {
             }));
         }
 
-        Future.join(startFutures)
+        return Future.join(startFutures)
                 .compose(f -> {
                     LOGGER.info("Setting up periodic reconciliation for namespace {}", namespace);
                     this.reconcileTimer = vertx.setPeriodic(this.config.getReconciliationIntervalMs(), res2 -> {
                         if (!config.isPodSetReconciliationOnly()) {
                             LOGGER.info("Triggering periodic reconciliation for namespace {}", namespace);
-                            reconcileAll("timer");
+                            reconcileAll(ReconciliationScheduler.PERIODIC_TRIGGER);
                         }
                     });
 
+                    if (shardManager != null) {
+                        shardManager.addRebalanceListener(() -> context.runOnContext(v -> {
+                            LOGGER.info("Triggering reconciliation of newly owned resources after shard rebalance for namespace {}", namespace);
+                            strimziPodSetController.enqueueAll();
+                            reconcileAll("shard-rebalance");
+                        }));
+                    }
+
                     return Future.succeededFuture((Void) null);
-                })
-                .onComplete(start);
+                });
     }
 
-    private Future<Void> maybeStartStrimziPodSetController() {
+    private Future<Void> createStrimziPodSetController() {
         return vertx.executeBlocking(() -> {
             try {
                 strimziPodSetController = new StrimziPodSetController(
@@ -159,8 +237,30 @@ public class ClusterOperator extends AbstractVerticle {
                         resourceOperatorSupplier.strimziPodSetOperator,
                         resourceOperatorSupplier.podOperations,
                         resourceOperatorSupplier.metricsProvider,
-                        config.getPodSetControllerWorkQueueSize()
+                        config.getPodSetControllerWorkQueueSize(),
+                        config.getPodSetControllerWorkers()
                 );
+
+                if (shardManager != null) {
+                    strimziPodSetController.useShardManager(shardManager);
+                }
+
+                if (!leadership.isComplete()) {
+                    // Warm standby => get the informers in-sync while waiting for the leadership
+                    strimziPodSetController.startInformers();
+                }
+
+                return null;
+            } catch (Throwable e) {
+                LOGGER.error("StrimziPodSetController creation failed");
+                throw e;
+            }
+        });
+    }
+
+    private Future<Void> startStrimziPodSetController() {
+        return vertx.executeBlocking(() -> {
+            try {
                 strimziPodSetController.start();
                 return null;
             } catch (Throwable e) {
@@ -180,6 +280,10 @@ public class ClusterOperator extends AbstractVerticle {
             }
         }
 
+        for (CustomResourceInformer<?> informer : informerByKind.values()) {
+            informer.close();
+        }
+
         strimziPodSetController.stop();
         stop.complete();
     }
@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
@@ -27,6 +28,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static io.strimzi.operator.common.config.ConfigParameterParser.BOOLEAN;
+import static io.strimzi.operator.common.config.ConfigParameterParser.CERT_MANAGER_TYPE;
 import static io.strimzi.operator.common.config.ConfigParameterParser.INTEGER;
 import static io.strimzi.operator.common.config.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.config.ConfigParameterParser.LOCAL_OBJECT_REFERENCE_LIST;
@@ -34,6 +36,7 @@ import static io.strimzi.operator.common.config.ConfigParameterParser.LONG;
 import static io.strimzi.operator.common.config.ConfigParameterParser.NAMESPACE_SET;
 import static io.strimzi.operator.common.config.ConfigParameterParser.STRING;
 import static io.strimzi.operator.common.config.ConfigParameterParser.parseFeatureGates;
+import static io.strimzi.operator.common.config.ConfigParameterParser.strictlyPositive;
 
 /**
  * Cluster Operator configuration
@@ -216,6 +219,40 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORK_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE", INTEGER, "1024", CONFIG_VALUES);
 
+    /**
+     * Number of StrimziPodSetController workers reconciling the StrimziPodSets in parallel
+     */
+    public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORKERS = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORKERS", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
+    /**
+     * Maximal number of Kafka broker pods from the same rack which the Kafka roller restarts in parallel
+     */
+    public static final ConfigParameter<Integer> KAFKA_ROLLER_MAX_PARALLEL_RESTARTS = new ConfigParameter<>("STRIMZI_KAFKA_ROLLER_MAX_PARALLEL_RESTARTS", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
+    /**
+     * Indicates whether the hash of the desired state stored in the managed resources should be used to skip updating
+     * the resources which did not change
+     */
+    public static final ConfigParameter<Boolean> DESIRED_STATE_HASH_ENABLED = new ConfigParameter<>("STRIMZI_DESIRED_STATE_HASH_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * Maximal number of custom resource reconciliations running at the same time. When set, the periodic
+     * reconciliations are also spread across the reconciliation interval. 0 means no limit.
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_RECONCILIATIONS", INTEGER, "0", CONFIG_VALUES);
+
+    /**
+     * Maximal number of connectors reconciled at the same time in a single Kafka Connect cluster
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS", strictlyPositive(INTEGER), "10", CONFIG_VALUES);
+
+    /**
+     * Indicates whether informers with a local cache of the custom resources should be used instead of the watches. The
+     * cache is used for the periodic reconciliations and to get the custom resources at the start of the
+     * reconciliations.
+     */
+    public static final ConfigParameter<Boolean> CUSTOM_RESOURCE_INFORMERS_ENABLED = new ConfigParameter<>("STRIMZI_CUSTOM_RESOURCE_INFORMERS_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
 
     /**
      * The Pod name of the cluster operator, used to identify source of K8s events the operator creates
@@ -227,6 +264,11 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<String> POD_SECURITY_PROVIDER_CLASS = new ConfigParameter<>("STRIMZI_POD_SECURITY_PROVIDER_CLASS", STRING, "io.strimzi.plugin.security.profiles.impl.BaselinePodSecurityProvider", CONFIG_VALUES);
 
+    /**
+     * Cert Manager implementation used to issue the certificates (openssl or bouncycastle)
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER = new ConfigParameter<>("STRIMZI_CERT_MANAGER_TYPE", CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
+
     /**
      * Configuration of the Cluster Operator leader election
      */
@@ -578,6 +620,48 @@ public class ClusterOperatorConfig {
         return get(POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
     }
 
+    /**
+     * @return Returns the number of StrimziPodSetController workers
+     */
+    public int getPodSetControllerWorkers() {
+        return get(POD_SET_CONTROLLER_WORKERS);
+    }
+
+    /**
+     * @return Returns the maximal number of Kafka broker pods from the same rack restarted in parallel
+     */
+    public int getKafkaRollerMaxParallelRestarts() {
+        return get(KAFKA_ROLLER_MAX_PARALLEL_RESTARTS);
+    }
+
+    /**
+     * @return Indicates whether the desired state hash should be used to skip updating unchanged resources or not
+     */
+    public boolean isDesiredStateHashEnabled() {
+        return get(DESIRED_STATE_HASH_ENABLED);
+    }
+
+    /**
+     * @return Returns the maximal number of custom resource reconciliations running at the same time or 0 when not limited
+     */
+    public int getMaxConcurrentReconciliations() {
+        return get(MAX_CONCURRENT_RECONCILIATIONS);
+    }
+
+    /**
+     * @return Returns the maximal number of connectors reconciled at the same time in a single Kafka Connect cluster
+     */
+    public int getMaxConcurrentConnectorReconciliations() {
+        return get(MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS);
+    }
+
+    /**
+     * @return Indicates whether the custom resources should be cached using informers instead of using watches
+     */
+    public boolean isCustomResourceInformersEnabled() {
+        return get(CUSTOM_RESOURCE_INFORMERS_ENABLED);
+    }
+
     /**
      * @return  The name of this operator
      */
@@ -592,6 +676,13 @@ public class ClusterOperatorConfig {
         return parsePodSecurityProviderClass(get(POD_SECURITY_PROVIDER_CLASS));
     }
 
+    /**
+     * @return The Cert Manager implementation used to issue the certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER);
+    }
+
     /**
      * @return Returns the Leader Election Manager configuration
      */
@@ -629,8 +720,15 @@ public class ClusterOperatorConfig {
                 "\n\tdnsCacheTtlSec=" + getDnsCacheTtlSec() +
                 "\n\tpodSetReconciliationOnly=" + isPodSetReconciliationOnly() +
                 "\n\tpodSetControllerWorkQueueSize=" + getPodSetControllerWorkQueueSize() +
+                "\n\tpodSetControllerWorkers=" + getPodSetControllerWorkers() +
+                "\n\tkafkaRollerMaxParallelRestarts=" + getKafkaRollerMaxParallelRestarts() +
+                "\n\tdesiredStateHashEnabled=" + isDesiredStateHashEnabled() +
+                "\n\tmaxConcurrentReconciliations=" + getMaxConcurrentReconciliations() +
+                "\n\tmaxConcurrentConnectorReconciliations=" + getMaxConcurrentConnectorReconciliations() +
+                "\n\tcustomResourceInformersEnabled=" + isCustomResourceInformersEnabled() +
                 "\n\toperatorName='" + getOperatorName() + '\'' +
                 "\n\tpodSecurityProviderClass='" + getPodSecurityProviderClass() + '\'' +
+                "\n\tcertManagerType=" + getCertManagerType() +
                 "\n\tleaderElectionConfig='" + getLeaderElectionConfig() + '\'' +
                 "\n\tpodDisruptionBudgetGeneration=" + isPodDisruptionBudgetGeneration() +
                 "}";
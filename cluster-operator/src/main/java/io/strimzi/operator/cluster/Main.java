@@ -7,15 +7,19 @@ package io.strimzi.operator.cluster;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
+import io.strimzi.operator.cluster.leaderelection.LeaderPromotion;
+import io.strimzi.operator.cluster.leaderelection.ShardManager;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
+import io.strimzi.operator.cluster.operator.assembly.AbstractOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.ReconciliationScheduler;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
@@ -38,6 +42,8 @@ import java.security.Security;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The main class used to start the Strimzi Cluster Operator
@@ -83,9 +89,34 @@ public class Main {
         KubernetesClient client = new OperatorKubernetesClientBuilder("strimzi-cluster-operator", strimziVersion).build();
 
         startHealthServer(vertx, metricsProvider)
-                .compose(i -> leaderElection(client, config, shutdownHook))
-                .compose(i -> createPlatformFeaturesAvailability(vertx, client))
-                .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config, shutdownHook))
+                .compose(i -> {
+                    LeaderPromotion leaderPromotion = new LeaderPromotion(metricsProvider);
+
+                    if (config.getLeaderElectionConfig() != null && config.getLeaderElectionConfig().isSharding()) {
+                        // All instances are active and split the clusters between them
+                        LOGGER.info("Starting in sharding mode");
+                        ShardManager shardManager = sharding(vertx, client, config, shutdownHook);
+                        return shardManager.start()
+                                .compose(j -> {
+                                    leaderPromotion.promote();
+                                    return createPlatformFeaturesAvailability(vertx, client);
+                                })
+                                .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config, shutdownHook, leaderPromotion, shardManager));
+                    }
+
+                    leaderElection(client, config, shutdownHook, leaderPromotion);
+
+                    if (config.getLeaderElectionConfig() != null && config.getLeaderElectionConfig().isWarmStandby()) {
+                        // Prepare everything and sync the informers while waiting for the leadership
+                        LOGGER.info("Starting in warm standby mode");
+                        return createPlatformFeaturesAvailability(vertx, client)
+                                .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config, shutdownHook, leaderPromotion, null));
+                    } else {
+                        return leaderPromotion.future()
+                                .compose(j -> createPlatformFeaturesAvailability(vertx, client))
+                                .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config, shutdownHook, leaderPromotion, null));
+                    }
+                })
                 .onComplete(res -> {
                     if (res.failed())   {
                         LOGGER.error("Unable to start operator for 1 or more namespace", res.cause());
@@ -133,6 +164,29 @@ public class Main {
      * @return  Future which completes when all Cluster Operator verticles are started and running
      */
     static CompositeFuture deployClusterOperatorVerticles(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config, ShutdownHook shutdownHook) {
+        LeaderPromotion leaderPromotion = new LeaderPromotion(metricsProvider);
+        leaderPromotion.promote();
+
+        return deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config, shutdownHook, leaderPromotion, null);
+    }
+
+    /**
+     * Deploys the ClusterOperator verticles responsible for the actual Cluster Operator functionality. The verticles
+     * wait with reconciling the resources until this instance becomes the leader. When the shard manager is set, they
+     * reconcile only the clusters owned by this instance.
+     *
+     * @param vertx             Vertx instance
+     * @param client            Kubernetes client instance
+     * @param metricsProvider   Metrics provider instance
+     * @param pfa               PlatformFeaturesAvailability instance describing the Kubernetes cluster
+     * @param config            Cluster Operator configuration
+     * @param shutdownHook      Shutdown hook to register leader election shutdown
+     * @param leaderPromotion   Tracks when this instance becomes the leader
+     * @param shardManager      Shard manager or null if sharding is not used
+     *
+     * @return  Future which completes when all Cluster Operator verticles are started and reconciling
+     */
+    private static CompositeFuture deployClusterOperatorVerticles(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config, ShutdownHook shutdownHook, LeaderPromotion leaderPromotion, ShardManager shardManager) {
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(
                 vertx,
                 client,
@@ -142,6 +196,10 @@ public class Main {
                 config.getOperatorName()
         );
 
+        if (config.isDesiredStateHashEnabled()) {
+            resourceOperatorSupplier.enableDesiredStateHash();
+        }
+
         // Initialize the PodSecurityProvider factory to provide the user configured provider
         PodSecurityProviderFactory.initialize(config.getPodSecurityProviderClass(), pfa);
 
@@ -153,7 +211,7 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator = null;
 
         if (!config.isPodSetReconciliationOnly()) {
-            OpenSslCertManager certManager = new OpenSslCertManager();
+            CertManager certManager = config.getCertManagerType().create();
             PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                     "abcdefghijklmnopqrstuvwxyz" +
                             "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -167,6 +225,35 @@ public class Main {
             kafkaMirrorMakerAssemblyOperator = new KafkaMirrorMakerAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
             kafkaBridgeAssemblyOperator = new KafkaBridgeAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
             kafkaRebalanceAssemblyOperator = new KafkaRebalanceAssemblyOperator(vertx, resourceOperatorSupplier, config);
+
+            // The operators are shared by the verticles of all namespaces. This is registered before the verticles are
+            // deployed, so the pooled HTTP clients are closed only after all the verticles are undeployed.
+            List<Runnable> closeHttpClientPools = List.of(kafkaConnectClusterOperations::close, kafkaMirrorMaker2AssemblyOperator::close, kafkaRebalanceAssemblyOperator::close);
+            shutdownHook.register(() -> closeHttpClientPools.forEach(Runnable::run));
+        }
+
+        if (!config.isPodSetReconciliationOnly() && config.getMaxConcurrentReconciliations() > 0) {
+            // The scheduler is shared by all operators and namespaces, so the limit applies to the whole operator
+            ReconciliationScheduler reconciliationScheduler = new ReconciliationScheduler(vertx, config.getReconciliationIntervalMs(), config.getMaxConcurrentReconciliations(), metricsProvider);
+
+            for (AbstractOperator<?, ?, ?, ?> operator : List.of(kafkaClusterOperations, kafkaConnectClusterOperations, kafkaMirrorMaker2AssemblyOperator,
+                    kafkaMirrorMakerAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaRebalanceAssemblyOperator)) {
+                operator.useReconciliationScheduler(reconciliationScheduler);
+            }
+        }
+
+        if (!config.isPodSetReconciliationOnly() && config.getLeaderElectionConfig() != null) {
+            for (AbstractOperator<?, ?, ?, ?> operator : List.of(kafkaClusterOperations, kafkaConnectClusterOperations, kafkaMirrorMaker2AssemblyOperator,
+                    kafkaMirrorMakerAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaRebalanceAssemblyOperator)) {
+                operator.useLeaderPromotion(leaderPromotion);
+            }
+        }
+
+        if (!config.isPodSetReconciliationOnly() && shardManager != null) {
+            for (AbstractOperator<?, ?, ?, ?> operator : List.of(kafkaClusterOperations, kafkaConnectClusterOperations, kafkaMirrorMaker2AssemblyOperator,
+                    kafkaMirrorMakerAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaRebalanceAssemblyOperator)) {
+                operator.useShardManager(shardManager);
+            }
         }
 
         List<Future<String>> futures = new ArrayList<>(config.getNamespaces().size());
@@ -181,7 +268,9 @@ public class Main {
                     kafkaMirrorMaker2AssemblyOperator,
                     kafkaBridgeAssemblyOperator,
                     kafkaRebalanceAssemblyOperator,
-                    resourceOperatorSupplier);
+                    resourceOperatorSupplier,
+                    leaderPromotion.future(),
+                    shardManager);
             vertx.deployVerticle(operator,
                 res -> {
                     if (res.succeeded()) {
@@ -202,27 +291,27 @@ public class Main {
     }
 
     /**
-     * Utility method which waits until this instance of the operator is elected as a leader:
+     * Utility method which starts the leader election and promotes this instance once it is elected as a leader:
      *   - When it is not a leader, it will just wait
-     *   - Once it is elected a leader, it will continue and start the ClusterOperator verticles
+     *   - Once it is elected a leader, it will complete the promotion and the ClusterOperator verticles will start
+     *     reconciling
      *   - If it is removed as a leader, it will loop the operator container to start from the beginning
      *
-     * When the leader election is disabled, it just completes the future without waiting for anything.
+     * When the leader election is disabled, it just promotes this instance without waiting for anything.
      *
-     * @param client        Kubernetes client
-     * @param config        Cluster Operator configuration
-     * @param shutdownHook  Shutdown hook to register leader election shutdown
+     * @param client            Kubernetes client
+     * @param config            Cluster Operator configuration
+     * @param shutdownHook      Shutdown hook to register leader election shutdown
+     * @param leaderPromotion   Leader promotion which is completed when this instance becomes a leader
      */
-    private static Future<Void> leaderElection(KubernetesClient client, ClusterOperatorConfig config, ShutdownHook shutdownHook)    {
-        Promise<Void> leader = Promise.promise();
-
+    private static void leaderElection(KubernetesClient client, ClusterOperatorConfig config, ShutdownHook shutdownHook, LeaderPromotion leaderPromotion)    {
         if (config.getLeaderElectionConfig() != null) {
             LeaderElectionManager leaderElection = new LeaderElectionManager(
                     client, config.getLeaderElectionConfig(),
                     () -> {
-                        // New leader => complete the future
+                        // New leader => complete the promotion
                         LOGGER.info("I'm the new leader");
-                        leader.complete();
+                        leaderPromotion.promote();
                     },
                     isShuttingDown -> {
                         // Not a leader anymore
@@ -244,10 +333,43 @@ public class Main {
             shutdownHook.register(leaderElection::stop);
         } else {
             LOGGER.info("Leader election is not enabled");
-            leader.complete();
+            leaderPromotion.promote();
         }
+    }
+
+    /**
+     * Creates the shard manager used when all Cluster Operator instances are active and split the clusters between
+     * them. If this instance fails to renew its membership, it will loop the operator container to start from the
+     * beginning.
+     *
+     * @param vertx         Vertx instance
+     * @param client        Kubernetes client
+     * @param config        Cluster Operator configuration
+     * @param shutdownHook  Shutdown hook to register the shard manager shutdown
+     *
+     * @return  The shard manager
+     */
+    private static ShardManager sharding(Vertx vertx, KubernetesClient client, ClusterOperatorConfig config, ShutdownHook shutdownHook)    {
+        ShardManager shardManager = new ShardManager(vertx, client, config.getLeaderElectionConfig(), () -> {
+            LOGGER.warn("Lost the shard membership => exiting");
+            // Has to run asynchronously to not block the shard manager (the exit call is synchronous)
+            CompletableFuture.runAsync(() -> System.exit(1));
+        });
+
+        shutdownHook.register(() -> {
+            CountDownLatch latch = new CountDownLatch(1);
+            shardManager.stop().onComplete(i -> latch.countDown());
+
+            try {
+                if (!latch.await(config.getLeaderElectionConfig().getRenewDeadline().toMillis() + SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    LOGGER.error("Timed out while waiting for the ShardManager to stop");
+                }
+            } catch (InterruptedException e) {
+                LOGGER.error("Interrupted while waiting for the ShardManager to stop");
+            }
+        });
 
-        return leader.future();
+        return shardManager;
     }
 
     /**
@@ -0,0 +1,100 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Immutable consistent hash ring assigning the keys to the members. Each member is placed on the ring at several
+ * points (virtual nodes) to spread the keys evenly. A key is owned by the first member following the hash of the key
+ * on the ring. When a member joins or leaves, only the keys owned by the member move, the other keys stay with their
+ * owners.
+ *
+ * The hash is derived only from the UTF-8 bytes of the keys and of the member identities. So all members compute the
+ * same assignment for the same set of members.
+ */
+class ConsistentHashRing {
+    /**
+     * Number of points at which each member is placed on the ring
+     */
+    /* test */ static final int VIRTUAL_NODES = 128;
+
+    /**
+     * Ring without any members
+     */
+    static final ConsistentHashRing EMPTY = new ConsistentHashRing(Set.of());
+
+    private final Set<String> members;
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    /**
+     * Constructs the ring
+     *
+     * @param members   Identities of the members
+     */
+    ConsistentHashRing(Collection<String> members) {
+        this.members = Collections.unmodifiableSet(new TreeSet<>(members));
+
+        for (String member : this.members) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                // In the unlikely case of a collision, the member sorted first wins on all members
+                ring.putIfAbsent(hash(member + "#" + i), member);
+            }
+        }
+    }
+
+    /**
+     * @return  Sorted set with the identities of the members of this ring
+     */
+    Set<String> members() {
+        return members;
+    }
+
+    /**
+     * Finds the member owning the key
+     *
+     * @param key   The key
+     *
+     * @return  The identity of the member owning the key or null if the ring has no members
+     */
+    String owner(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the UTF-8 representation of the value with a final mixing step to spread similar values
+     * across the ring.
+     *
+     * @param value     Value which should be hashed
+     *
+     * @return  The hash
+     */
+    /* test */ static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
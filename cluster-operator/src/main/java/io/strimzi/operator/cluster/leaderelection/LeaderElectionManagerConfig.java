@@ -12,6 +12,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
+import static io.strimzi.operator.common.config.ConfigParameterParser.BOOLEAN;
 import static io.strimzi.operator.common.config.ConfigParameterParser.DURATION;
 import static io.strimzi.operator.common.config.ConfigParameterParser.NON_EMPTY_STRING;
 
@@ -52,6 +53,18 @@ public class LeaderElectionManagerConfig {
      */
     public final static ConfigParameter<Duration> ENV_VAR_LEADER_ELECTION_RETRY_PERIOD_MS = new ConfigParameter<>("STRIMZI_LEADER_ELECTION_RETRY_PERIOD_MS", DURATION, "2000", CONFIG_VALUES);
 
+    /**
+     * Whether the instances which are not the leader should prepare everything and keep their caches in-sync so that
+     * they can start reconciling immediately when they become the leader
+     */
+    public final static ConfigParameter<Boolean> ENV_VAR_LEADER_ELECTION_WARM_STANDBY = new ConfigParameter<>("STRIMZI_LEADER_ELECTION_WARM_STANDBY", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * Whether all instances should be active and split the custom resources between them instead of electing a single
+     * leader
+     */
+    public final static ConfigParameter<Boolean> ENV_VAR_LEADER_ELECTION_SHARDING = new ConfigParameter<>("STRIMZI_LEADER_ELECTION_SHARDING", BOOLEAN, "false", CONFIG_VALUES);
+
     /**
      * Creates the LeaderElectionManager configuration from Map with environment variables
      *
@@ -163,6 +176,20 @@ public class LeaderElectionManagerConfig {
         return get(ENV_VAR_LEADER_ELECTION_RETRY_PERIOD_MS);
     }
 
+    /**
+     * @return  Returns whether this instance should stay in a warm standby while it is not the leader
+     */
+    public boolean isWarmStandby() {
+        return get(ENV_VAR_LEADER_ELECTION_WARM_STANDBY);
+    }
+
+    /**
+     * @return  Returns whether the instances should split the custom resources between them instead of electing a leader
+     */
+    public boolean isSharding() {
+        return get(ENV_VAR_LEADER_ELECTION_SHARDING);
+    }
+
     @Override
     public String toString() {
         return "LeaderElectionConfig{" +
@@ -172,6 +199,8 @@ public class LeaderElectionManagerConfig {
                 ", leaseDuration=" + getLeaseDuration() +
                 ", renewDeadline=" + getRenewDeadline() +
                 ", retryPeriod=" + getRetryPeriod() +
+                ", warmStandby=" + isWarmStandby() +
+                ", sharding=" + isSharding() +
                 '}';
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tracks the promotion of this Cluster Operator instance to the leader. The operator components can wait for the
+ * promotion using the future and report the start of their reconciliations. The time between the promotion and the
+ * first reconciliation is recorded as a metric, so it shows how long it takes the new leader to take over after a
+ * failover.
+ */
+public class LeaderPromotion {
+    private static final Logger LOGGER = LogManager.getLogger(LeaderPromotion.class);
+
+    /**
+     * Metric name for the time between the promotion to the leader and the start of the first reconciliation
+     */
+    public static final String METRICS_TIME_TO_FIRST_RECONCILE = MetricsHolder.METRICS_PREFIX + "leader.election.time.to.first.reconcile";
+
+    private final MetricsProvider metricsProvider;
+    private final Promise<Void> promoted = Promise.promise();
+    private final AtomicBoolean firstReconciliation = new AtomicBoolean(false);
+    private volatile long promotedNanos;
+
+    /**
+     * Constructs the leader promotion tracker
+     *
+     * @param metricsProvider   Metrics provider
+     */
+    public LeaderPromotion(MetricsProvider metricsProvider) {
+        this.metricsProvider = metricsProvider;
+    }
+
+    /**
+     * Marks this instance as the leader. This is called from the leader election when this instance becomes the leader.
+     */
+    public void promote() {
+        promotedNanos = System.nanoTime();
+        promoted.tryComplete();
+    }
+
+    /**
+     * @return  Future which completes when this instance becomes the leader
+     */
+    public Future<Void> future() {
+        return promoted.future();
+    }
+
+    /**
+     * Reports the start of a reconciliation. The first reconciliation started after the promotion records the time
+     * since the promotion. Any other calls are ignored.
+     */
+    public void reconciliationStarted() {
+        if (promoted.future().isComplete() && firstReconciliation.compareAndSet(false, true)) {
+            long durationNanos = System.nanoTime() - promotedNanos;
+            LOGGER.info("First reconciliation started {}ms after becoming the leader", TimeUnit.NANOSECONDS.toMillis(durationNanos));
+
+            metricsProvider.timer(METRICS_TIME_TO_FIRST_RECONCILE, "The time between becoming the leader and the start of the first reconciliation", Tags.empty())
+                    .record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.NonDeletingOperation;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * ShardManager splits the custom resources between multiple active Cluster Operator replicas. Each replica keeps its
+ * own member Lease resource renewed. The replicas with a valid member Lease form a consistent hash ring which assigns
+ * each (namespace, cluster name) key to one of them. When a replica joins or leaves, only the keys owned by this
+ * replica move.
+ *
+ * When the members change, the keys which move to another replica are not owned by anyone until the change settles
+ * for the lease duration. This gives the previous owner time to notice the change before the new owner starts
+ * reconciling the resource. The rebalance listeners are called once the change settles, so that the replicas can
+ * reconcile the resources they newly own.
+ *
+ * The reconciliations which are already running when the owner changes are not interrupted. Each replica therefore
+ * publishes the keys it is currently reconciling in its member Lease. A replica does not start reconciling a key while
+ * another live member still has it in-flight. Once the other member releases the key, the rebalance listeners are
+ * called again. The in-flight keys are published with every renewal. The lease duration has to be longer than a few
+ * retry periods, so that the previous owner publishes its in-flight keys before the change settles.
+ *
+ * The members are not compared with the renew time written in their Lease, because the clocks of the replicas might
+ * differ. Like the fabric8 LeaderElector, each replica records when it saw a member Lease change the last time and
+ * considers the member gone when its Lease did not change for the lease duration measured by the local monotonic
+ * clock. A Lease left behind by a replica which is gone is therefore seen as live for one lease duration after this
+ * replica starts.
+ *
+ * When this replica fails to renew its member Lease for longer than the renew deadline, it might not be seen as a
+ * member by the other replicas anymore. The membership lost callback is called in such case.
+ */
+public class ShardManager {
+    private static final Logger LOGGER = LogManager.getLogger(ShardManager.class);
+
+    /**
+     * Label used to mark the member Lease resources. Its value is the name of the Lease configured for the leader
+     * election, so that different operator deployments sharing the same namespace do not see each other.
+     */
+    public static final String SHARD_GROUP_LABEL = Labels.STRIMZI_DOMAIN + "cluster-operator-shard-group";
+
+    /**
+     * Annotation of the member Lease with the comma-separated keys which the member is currently reconciling
+     */
+    public static final String ANNO_IN_FLIGHT_KEYS = Annotations.STRIMZI_DOMAIN + "cluster-operator-in-flight-keys";
+
+    private final Vertx vertx;
+    private final KubernetesClient client;
+    private final LeaderElectionManagerConfig config;
+    private final String memberLeaseName;
+    private final Runnable membershipLostCallback;
+    private final List<Runnable> rebalanceListeners = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> waiting = ConcurrentHashMap.newKeySet();
+    // Used only from the blocking code of tick() which does not run concurrently
+    private final Map<String, ObservedLease> observedLeases = new HashMap<>();
+
+    private volatile ConsistentHashRing ring = ConsistentHashRing.EMPTY;
+    private volatile ConsistentHashRing previousRing = null;
+    private volatile Set<String> inFlightElsewhere = Set.of();
+    private volatile Promise<Void> drained = null;
+    private long settledAtMs;
+    private long lastRenewalMs;
+    private long timerId = -1;
+    private boolean membershipLost = false;
+
+    /**
+     * ShardManager constructor
+     *
+     * @param vertx                     Vert.x instance
+     * @param client                    Kubernetes client
+     * @param config                    Leader election configuration with the Lease namespace, identity and timing
+     * @param membershipLostCallback    Callback which is called when this replica fails to renew its membership
+     */
+    public ShardManager(Vertx vertx, KubernetesClient client, LeaderElectionManagerConfig config, Runnable membershipLostCallback) {
+        this.vertx = vertx;
+        this.client = client;
+        this.config = config;
+        this.memberLeaseName = config.getLeaseName() + "-" + config.getIdentity();
+        this.membershipLostCallback = membershipLostCallback;
+    }
+
+    /**
+     * Registers a listener which is called when the change of the members settles and this replica might own new
+     * resources.
+     *
+     * @param listener  Rebalance listener
+     */
+    public void addRebalanceListener(Runnable listener) {
+        rebalanceListeners.add(listener);
+    }
+
+    /**
+     * Starts the ShardManager. It registers this replica as a member and starts renewing the membership and watching
+     * for the other members.
+     *
+     * @return  Future which completes when this replica is registered as a member
+     */
+    public Future<Void> start() {
+        LOGGER.info("Starting the ShardManager with member Lease {} in namespace {}", memberLeaseName, config.getNamespace());
+        lastRenewalMs = System.currentTimeMillis();
+
+        return tick()
+                .onSuccess(i -> timerId = vertx.setPeriodic(config.getRetryPeriod().toMillis(), id -> tick()));
+    }
+
+    /**
+     * Stops the ShardManager. No new reconciliations are started and the running ones are given up to the renew
+     * deadline to finish. When they finish, the member Lease is deleted, so that the other replicas can take over the
+     * resources owned by this replica without waiting for the Lease to expire. Otherwise, the member Lease is left with
+     * the in-flight keys to expire, so that the other replicas do not start reconciling them in the meantime.
+     *
+     * @return  Future which completes when the member Lease is deleted or left to expire
+     */
+    public Future<Void> stop() {
+        LOGGER.info("Stopping the ShardManager");
+
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+        }
+
+        ring = ConsistentHashRing.EMPTY;
+
+        Promise<Void> drainedPromise = Promise.promise();
+        drained = drainedPromise;
+        long drainTimerId = vertx.setTimer(config.getRenewDeadline().toMillis(), id -> drainedPromise.tryComplete());
+
+        if (inFlight.isEmpty()) {
+            drainedPromise.tryComplete();
+        }
+
+        return drainedPromise.future()
+                .compose(i -> {
+                    vertx.cancelTimer(drainTimerId);
+
+                    return vertx.executeBlocking(() -> {
+                        if (inFlight.isEmpty()) {
+                            client.leases().inNamespace(config.getNamespace()).withName(memberLeaseName).delete();
+                        } else {
+                            LOGGER.warn("Reconciliations of {} are still running, the member Lease {} will be left to expire", inFlight.keySet(), memberLeaseName);
+                            renewMembership(System.currentTimeMillis());
+                        }
+
+                        return null;
+                    });
+                })
+                .recover(e -> {
+                    LOGGER.warn("Failed to delete or update the member Lease {}", memberLeaseName, e);
+                    return Future.succeededFuture();
+                })
+                .mapEmpty();
+    }
+
+    /**
+     * Checks whether this replica owns the resource
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource or of the cluster to which the resource belongs
+     *
+     * @return  True if this replica owns the resource and should reconcile it. False otherwise.
+     */
+    public boolean owns(String namespace, String name) {
+        String key = shardKey(namespace, name);
+        ConsistentHashRing previous = previousRing;
+
+        return config.getIdentity().equals(ring.owner(key))
+                && (previous == null || config.getIdentity().equals(previous.owner(key)));
+    }
+
+    /**
+     * Marks the start of a reconciliation of the resource. It succeeds only when this replica owns the resource and no
+     * other replica is still reconciling it. Every successful call has to be followed by a call to release(...) when
+     * the reconciliation finishes.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource or of the cluster to which the resource belongs
+     *
+     * @return  True if the resource can be reconciled by this replica. False otherwise.
+     */
+    public boolean tryAcquire(String namespace, String name) {
+        String key = shardKey(namespace, name);
+
+        if (!owns(namespace, name)) {
+            return false;
+        } else if (inFlightElsewhere.contains(key)) {
+            LOGGER.info("Resource {} is still being reconciled by another replica and will be reconciled once it is released", key);
+            waiting.add(key);
+            return false;
+        } else {
+            inFlight.merge(key, 1, Integer::sum);
+            return true;
+        }
+    }
+
+    /**
+     * Marks the end of a reconciliation of the resource started with a successful call to tryAcquire(...)
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource or of the cluster to which the resource belongs
+     */
+    public void release(String namespace, String name) {
+        inFlight.computeIfPresent(shardKey(namespace, name), (key, count) -> count > 1 ? count - 1 : null);
+
+        Promise<Void> drainedPromise = drained;
+        if (drainedPromise != null && inFlight.isEmpty()) {
+            drainedPromise.tryComplete();
+        }
+    }
+
+    /**
+     * Checks whether this replica is responsible for the resource right now. That is the case when it is reconciling
+     * the resource or when it owns it and no other replica is still reconciling it.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource or of the cluster to which the resource belongs
+     *
+     * @return  True if this replica is responsible for the resource. False otherwise.
+     */
+    public boolean isResponsible(String namespace, String name) {
+        String key = shardKey(namespace, name);
+
+        return inFlight.containsKey(key)
+                || (owns(namespace, name) && !inFlightElsewhere.contains(key));
+    }
+
+    /**
+     * @return  The keys this replica is currently reconciling
+     */
+    /* test */ Set<String> inFlightKeys() {
+        return new TreeSet<>(inFlight.keySet());
+    }
+
+    /**
+     * Renews the membership of this replica and updates the members
+     *
+     * @return  Future which completes when the membership is renewed and the members updated
+     */
+    private Future<Void> tick() {
+        return vertx.executeBlocking(() -> {
+            renewMembership(System.currentTimeMillis());
+            return liveMembers(client.leases().inNamespace(config.getNamespace()).withLabel(SHARD_GROUP_LABEL, config.getLeaseName()).list().getItems(), System.nanoTime());
+        }).compose(members -> {
+            lastRenewalMs = System.currentTimeMillis();
+            updateMembers(members.keySet(), lastRenewalMs);
+            updateInFlightElsewhere(members);
+            return Future.<Void>succeededFuture();
+        }).recover(e -> {
+            LOGGER.warn("Failed to renew the membership", e);
+
+            if (!membershipLost && System.currentTimeMillis() - lastRenewalMs > config.getRenewDeadline().toMillis()) {
+                LOGGER.warn("Failed to renew the membership within the renew deadline");
+                membershipLost = true;
+                ring = ConsistentHashRing.EMPTY;
+                membershipLostCallback.run();
+            }
+
+            return Future.failedFuture(e);
+        });
+    }
+
+    /**
+     * Creates or renews the member Lease of this replica
+     *
+     * @param now   Current time in milliseconds
+     */
+    private void renewMembership(long now) {
+        Lease lease = new LeaseBuilder()
+                .withNewMetadata()
+                    .withName(memberLeaseName)
+                    .withNamespace(config.getNamespace())
+                    .withLabels(Map.of(SHARD_GROUP_LABEL, config.getLeaseName()))
+                    .withAnnotations(Map.of(ANNO_IN_FLIGHT_KEYS, String.join(",", inFlightKeys())))
+                .endMetadata()
+                .withNewSpec()
+                    .withHolderIdentity(config.getIdentity())
+                    .withLeaseDurationSeconds((int) config.getLeaseDuration().toSeconds())
+                    .withRenewTime(ZonedDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneOffset.UTC))
+                .endSpec()
+                .build();
+
+        client.leases().inNamespace(config.getNamespace()).resource(lease).createOr(NonDeletingOperation::update);
+    }
+
+    /**
+     * Finds the members whose Lease changed within its lease duration. The time when each Lease was seen changing the
+     * last time is measured with the local monotonic clock, so that the clocks of the other replicas do not matter.
+     *
+     * @param leases    Member Leases
+     * @param nowNanos  Current value of the monotonic clock in nanoseconds
+     *
+     * @return  Map with the identities of the live members and the keys they are reconciling
+     */
+    /* test */ Map<String, Set<String>> liveMembers(List<Lease> leases, long nowNanos) {
+        Map<String, Set<String>> members = new TreeMap<>();
+        Set<String> leaseNames = new HashSet<>();
+
+        for (Lease lease : leases) {
+            if (lease.getSpec() != null
+                    && lease.getSpec().getHolderIdentity() != null
+                    && lease.getSpec().getLeaseDurationSeconds() != null) {
+                String leaseName = lease.getMetadata().getName();
+                String version = lease.getMetadata().getResourceVersion() + "/" + lease.getSpec().getRenewTime();
+                leaseNames.add(leaseName);
+
+                ObservedLease observed = observedLeases.get(leaseName);
+                if (observed == null || !observed.version().equals(version)) {
+                    observed = new ObservedLease(version, nowNanos);
+                    observedLeases.put(leaseName, observed);
+                }
+
+                if (nowNanos - observed.observedAtNanos() < lease.getSpec().getLeaseDurationSeconds() * 1_000_000_000L) {
+                    String keys = Annotations.stringAnnotation(lease, ANNO_IN_FLIGHT_KEYS, "");
+                    members.put(lease.getSpec().getHolderIdentity(), keys.isEmpty() ? Set.of() : Set.of(keys.split(",")));
+                }
+            }
+        }
+
+        observedLeases.keySet().retainAll(leaseNames);
+
+        // This replica just renewed its membership
+        members.put(config.getIdentity(), inFlightKeys());
+
+        return members;
+    }
+
+    /**
+     * Updates the members of the ring. When the members change, the keys which move are not owned by anyone until the
+     * change settles. When the change settles, the rebalance listeners are called.
+     *
+     * @param members   Identities of the live members
+     * @param now       Current time in milliseconds
+     */
+    /* test */ void updateMembers(Set<String> members, long now) {
+        if (!ring.members().equals(members)) {
+            LOGGER.info("Shard members changed from {} to {}", ring.members(), members);
+
+            // If the previous change did not settle yet, we keep the older ring to not pick up the keys too early
+            if (previousRing == null) {
+                previousRing = ring;
+            }
+
+            ring = new ConsistentHashRing(members);
+            settledAtMs = now + config.getLeaseDuration().toMillis();
+        } else if (previousRing != null && now >= settledAtMs) {
+            LOGGER.info("Shard members {} settled", members);
+            previousRing = null;
+            rebalanceListeners.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Updates the keys which are being reconciled by the other members. When the keys this replica waited for are
+     * released, the rebalance listeners are called so that they are reconciled.
+     *
+     * @param members   Map with the identities of the live members and the keys they are reconciling
+     */
+    /* test */ void updateInFlightElsewhere(Map<String, Set<String>> members) {
+        Set<String> keys = new HashSet<>();
+        members.forEach((member, memberKeys) -> {
+            if (!config.getIdentity().equals(member)) {
+                keys.addAll(memberKeys);
+            }
+        });
+
+        inFlightElsewhere = keys;
+
+        if (!waiting.isEmpty() && waiting.removeIf(key -> !keys.contains(key))) {
+            LOGGER.info("Resources waited for were released by the other replicas");
+            rebalanceListeners.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * The key identifying the shard of the resource. It uses the namespace and the name of the cluster, so that all
+     * kinds of resources belonging to the same cluster are owned by the same replica.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the cluster
+     *
+     * @return  The shard key
+     */
+    private static String shardKey(String namespace, String name) {
+        return namespace + "::" + name;
+    }
+
+    /**
+     * Version of a member Lease and the value of the local monotonic clock when it was seen the first time
+     *
+     * @param version           Resource version and renew time of the Lease
+     * @param observedAtNanos   Value of the monotonic clock when this version was seen the first time
+     */
+    private record ObservedLease(String version, long observedAtNanos) { }
+}
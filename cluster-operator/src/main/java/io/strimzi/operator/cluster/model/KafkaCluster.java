@@ -1867,6 +1867,7 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
     public List<ConfigMap> generatePerBrokerConfigurationConfigMaps(MetricsAndLogging metricsAndLogging, Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts)   {
         String parsedMetrics = metrics.metricsJson(reconciliation, metricsAndLogging.metricsCm());
         String parsedLogging = logging().loggingConfiguration(reconciliation, metricsAndLogging.loggingCm());
+        String listenerIdentifiers = listeners.stream().map(ListenersUtils::envVarIdentifier).collect(Collectors.joining(" "));
         List<ConfigMap> configMaps = new ArrayList<>();
 
         for (KafkaPool pool : nodePools)    {
@@ -1885,7 +1886,7 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
                 // The actual content of this file is not used on controller-only nodes as they do not expose any
                 // user-configured listeners. But we still pass there an empty file as that allows us to share the same
                 // script to generate the node configuration.
-                data.put(BROKER_LISTENERS_FILENAME, node.broker() ? listeners.stream().map(ListenersUtils::envVarIdentifier).collect(Collectors.joining(" ")) : null);
+                data.put(BROKER_LISTENERS_FILENAME, node.broker() ? listenerIdentifiers : null);
 
                 // controller and broker gets the Cluster ID in different states during migration
                 // and they both get it when in full KRaft-mode
@@ -0,0 +1,175 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.kafka.config.model.ConfigModels;
+import io.strimzi.kafka.config.model.Scope;
+import io.strimzi.kafka.config.model.Type;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable registry of the configuration models of the Kafka broker options for a given Kafka version. The models
+ * are parsed from the {@code /kafka-<version>-config-model.json} classpath resource only once per Kafka version and
+ * shared by all reconciliations afterwards. Failures to load the model are not cached, so a missing or invalid model
+ * fails every time it is requested.
+ */
+public final class KafkaConfigModels {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Map<String, KafkaConfigModels> MODELS = new ConcurrentHashMap<>();
+
+    private final String version;
+    private final Map<String, ConfigModel> configs;
+    private final NavigableSet<String> names;
+
+    /**
+     * Constructs the config models registry
+     *
+     * @param version   Kafka version
+     * @param configs   Map with the configuration models
+     */
+    /* test */ KafkaConfigModels(String version, Map<String, ConfigModel> configs) {
+        this.version = version;
+        this.configs = Collections.unmodifiableMap(configs);
+        this.names = Collections.unmodifiableNavigableSet(new TreeSet<>(configs.keySet()));
+    }
+
+    /**
+     * Gets the configuration models for given Kafka version. The models are loaded when they are requested for the
+     * first time and are reused afterwards.
+     *
+     * @param kafkaVersion  Kafka version
+     *
+     * @return  Configuration models for the Kafka version
+     */
+    public static KafkaConfigModels forVersion(KafkaVersion kafkaVersion) {
+        return MODELS.computeIfAbsent(kafkaVersion.version(), KafkaConfigModels::load);
+    }
+
+    /**
+     * Loads the configuration models from the classpath resource
+     *
+     * @param version   Kafka version
+     *
+     * @return  Configuration models for the Kafka version
+     */
+    private static KafkaConfigModels load(String version) {
+        String name = "/kafka-" + version + "-config-model.json";
+        try (InputStream in = KafkaConfigModels.class.getResourceAsStream(name)) {
+            if (in != null) {
+                return parse(version, in);
+            } else {
+                // The configuration model does not exist
+                throw new RuntimeException("Configuration model " + name + " was not found");
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading from classpath resource " + name, e);
+        }
+    }
+
+    /**
+     * Parses the configuration models
+     *
+     * @param version   Expected Kafka version
+     * @param in        Input stream with the JSON representation of the configuration models
+     *
+     * @return  Configuration models for the Kafka version
+     *
+     * @throws IOException  If the configuration models cannot be parsed
+     */
+    /* test */ static KafkaConfigModels parse(String version, InputStream in) throws IOException {
+        ConfigModels configModels = MAPPER.readValue(in, ConfigModels.class);
+
+        if (!version.equals(configModels.getVersion())) {
+            throw new RuntimeException("Incorrect version");
+        }
+
+        return new KafkaConfigModels(version, configModels.getConfigs());
+    }
+
+    /**
+     * @return  The Kafka version of these configuration models
+     */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * @return  Unmodifiable map from the configuration option name to its model
+     */
+    public Map<String, ConfigModel> configs() {
+        return configs;
+    }
+
+    /**
+     * @param name  Name of the configuration option
+     *
+     * @return  The model of the configuration option or null if the option is not known
+     */
+    public ConfigModel get(String name) {
+        return configs.get(name);
+    }
+
+    /**
+     * @param name  Name of the configuration option
+     *
+     * @return  True if the configuration option is known to the Kafka broker. False otherwise.
+     */
+    public boolean isKnown(String name) {
+        return configs.containsKey(name);
+    }
+
+    /**
+     * @param name  Name of the configuration option
+     *
+     * @return  The type of the configuration option or null if the option is not known
+     */
+    public Type type(String name) {
+        ConfigModel model = configs.get(name);
+        return model != null ? model.getType() : null;
+    }
+
+    /**
+     * @param name  Name of the configuration option
+     *
+     * @return  The scope of the configuration option or null if the option is not known
+     */
+    public Scope scope(String name) {
+        ConfigModel model = configs.get(name);
+        return model != null ? model.getScope() : null;
+    }
+
+    /**
+     * @param name  Name of the configuration option
+     *
+     * @return  The allowed values of the configuration option or null if the option is not known or its values are not
+     *          restricted
+     */
+    public List<String> allowedValues(String name) {
+        ConfigModel model = configs.get(name);
+        return model != null ? model.getValues() : null;
+    }
+
+    /**
+     * Finds the known configuration options starting with given prefix. This uses the sorted index of the option names,
+     * so it does not need to iterate through all the options.
+     *
+     * @param prefix    Prefix of the configuration options
+     *
+     * @return  Sorted set with the names of the known configuration options with given prefix
+     */
+    public NavigableSet<String> withPrefix(String prefix) {
+        return names.subSet(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+}
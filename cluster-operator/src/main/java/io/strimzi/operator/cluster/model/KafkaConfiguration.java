@@ -4,14 +4,10 @@
  */
 package io.strimzi.operator.cluster.model;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.kafka.KafkaClusterSpec;
 import io.strimzi.kafka.config.model.ConfigModel;
-import io.strimzi.kafka.config.model.ConfigModels;
 import io.strimzi.operator.common.Reconciliation;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -253,28 +249,14 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The model is loaded only once per Kafka version
+     * and shared afterwards. See {@link KafkaConfigModels}.
+     *
      * @param kafkaVersion The broker version.
-     * @return The config model for that broker version.
+     * @return Unmodifiable config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
-        try {
-            try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
-                if (in != null) {
-                    ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                    if (!kafkaVersion.version().equals(configModels.getVersion())) {
-                        throw new RuntimeException("Incorrect version");
-                    }
-                    return configModels.getConfigs();
-                } else {
-                    // The configuration model does not exist
-                    throw new RuntimeException("Configuration model " + name + " was not found");
-                }
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading from classpath resource " + name, e);
-        }
+        return KafkaConfigModels.forVersion(kafkaVersion).configs();
     }
 
     /**
@@ -41,6 +41,7 @@ import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.model.SharedEnvironmentProvider;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.ClusterRoleBindingOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.ConfigMapOperator;
@@ -55,6 +56,7 @@ import io.strimzi.operator.cluster.operator.resource.kubernetes.ServiceOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.StrimziPodSetOperator;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.InvalidResourceException;
@@ -71,11 +73,14 @@ import io.vertx.core.json.JsonObject;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -123,6 +128,30 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     protected final KafkaVersion.Lookup versions;
     protected final SharedEnvironmentProvider sharedEnvironmentProvider;
     protected final int port;
+    protected final int maxConcurrentConnectorReconciliations;
+
+    /**
+     * Creates a provider of the Kafka Connect REST API clients which share a pool of HTTP clients. So the connections
+     * to the Connect REST API are kept alive and reused across the requests and reconciliations.
+     *
+     * @param vertx             Vert.x instance
+     * @param kind              The kind of the custom resource which will be managed. It is used as the pool name in the metrics.
+     * @param metricsProvider   Metrics provider
+     *
+     * @return  Provider of the Kafka Connect REST API clients
+     */
+    protected static Function<Vertx, KafkaConnectApi> pooledConnectClientProvider(Vertx vertx, String kind, MetricsProvider metricsProvider) {
+        return new PooledConnectClientProvider(new HttpClientPool(vertx, kind, metricsProvider));
+    }
+
+    /**
+     * Closes the pooled HTTP clients used for the Kafka Connect REST API. This is called when the operator is stopped.
+     */
+    public void close() {
+        if (connectClientProvider instanceof PooledConnectClientProvider pooledProvider) {
+            pooledProvider.httpClientPool().close();
+        }
+    }
 
     /**
      * Constructor
@@ -164,6 +193,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         this.versions = config.versions();
         this.sharedEnvironmentProvider = supplier.sharedEnvironmentProvider;
         this.port = port;
+        this.maxConcurrentConnectorReconciliations = config.getMaxConcurrentConnectorReconciliations();
         this.continueOnManualRUFailure = config.featureGates().continueOnManualRUFailureEnabled();
         this.isPodDisruptionBudgetGeneration = config.isPodDisruptionBudgetGeneration();
     }
@@ -365,6 +395,47 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 });
     }
 
+    /**
+     * Runs the task for each of the items with at most {@code limit} tasks running at the same time. Unlike starting
+     * all tasks at once, this keeps the number of concurrent requests to the Connect REST API bounded regardless of
+     * the number of connectors.
+     *
+     * @param items     Items to run the task for
+     * @param limit     Maximum number of tasks running at the same time
+     * @param task      Task to run for each item
+     * @param <T>       Type of the items
+     *
+     * @return  Future which completes when all tasks are complete. It fails if any of the tasks failed.
+     */
+    /* test */ static <T> Future<Void> forEachWithConcurrencyLimit(Collection<T> items, int limit, Function<T, Future<Void>> task) {
+        Queue<T> queue = new ConcurrentLinkedQueue<>(items);
+        List<Future<Void>> lanes = new ArrayList<>(limit);
+
+        for (int i = 0; i < Math.min(limit, items.size()); i++) {
+            lanes.add(runNext(queue, task));
+        }
+
+        return Future.join(lanes).mapEmpty();
+    }
+
+    private static <T> Future<Void> runNext(Queue<T> queue, Function<T, Future<Void>> task) {
+        T item = queue.poll();
+
+        if (item == null) {
+            return Future.succeededFuture();
+        }
+
+        Future<Void> result;
+        try {
+            result = task.apply(item);
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        return result.transform(res -> runNext(queue, task)
+                .compose(i -> res.failed() ? Future.failedFuture(res.cause()) : Future.succeededFuture()));
+    }
+
     /**
      * Try to get the current connector config. If the connector does not exist, or its config differs from the
      * {@code connectorSpec}'s, then call
@@ -1167,4 +1238,16 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             this.autoRestart = autoRestart;
         }
     }
+
+    /**
+     * Provider of the Kafka Connect REST API clients which use the given pool of HTTP clients
+     *
+     * @param httpClientPool    Pool of HTTP clients
+     */
+    private record PooledConnectClientProvider(HttpClientPool httpClientPool) implements Function<Vertx, KafkaConnectApi> {
+        @Override
+        public KafkaConnectApi apply(Vertx vertx) {
+            return new KafkaConnectApiImpl(vertx, httpClientPool);
+        }
+    }
 }
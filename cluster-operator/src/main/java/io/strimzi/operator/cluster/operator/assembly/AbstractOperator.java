@@ -14,6 +14,8 @@ import io.strimzi.api.kafka.model.common.Condition;
 import io.strimzi.api.kafka.model.common.ConditionBuilder;
 import io.strimzi.api.kafka.model.common.Spec;
 import io.strimzi.api.kafka.model.kafka.Status;
+import io.strimzi.operator.cluster.leaderelection.LeaderPromotion;
+import io.strimzi.operator.cluster.leaderelection.ShardManager;
 import io.strimzi.operator.cluster.operator.VertxUtil;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.AbstractWatchableStatusedNamespacedResourceOperator;
 import io.strimzi.operator.common.Annotations;
@@ -39,6 +41,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.shareddata.Lock;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -86,6 +89,11 @@ public abstract class AbstractOperator<
 
     private final Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
 
+    private ReconciliationScheduler reconciliationScheduler;
+    private LeaderPromotion leaderPromotion;
+    private ShardManager shardManager;
+    private final Map<String, CustomResourceInformer<T>> informers = new ConcurrentHashMap<>(1);
+
     /**
      * Constructs the AbstractOperator. This constructor is used to construct the AbstractOperator using the
      * OperatorMetricsHolder instance. This constructor is used by subclasses which want to use specialized metrics
@@ -135,6 +143,47 @@ public abstract class AbstractOperator<
         // Intentionally left blank for dedicated Kinds to implement, but not be required by.
     }
 
+    /**
+     * Configures the scheduler which paces the reconciliations of this operator. When no scheduler is configured, the
+     * reconciliations are started immediately.
+     *
+     * @param reconciliationScheduler   Reconciliation scheduler
+     */
+    public void useReconciliationScheduler(ReconciliationScheduler reconciliationScheduler) {
+        this.reconciliationScheduler = reconciliationScheduler;
+    }
+
+    /**
+     * Configures the leader promotion tracker to which this operator reports the start of its reconciliations
+     *
+     * @param leaderPromotion   Leader promotion tracker
+     */
+    public void useLeaderPromotion(LeaderPromotion leaderPromotion) {
+        this.leaderPromotion = leaderPromotion;
+    }
+
+    /**
+     * Configures the shard manager which decides which custom resources are reconciled by this operator instance. When
+     * no shard manager is configured, all custom resources are reconciled.
+     *
+     * @param shardManager  Shard manager
+     */
+    public void useShardManager(ShardManager shardManager) {
+        this.shardManager = shardManager;
+    }
+
+    /**
+     * Checks whether the resource should be reconciled by this operator instance
+     *
+     * @param namespace The namespace containing the cluster
+     * @param name The name of the cluster
+     *
+     * @return  True when sharding is not used or when this operator instance owns the cluster. False otherwise.
+     */
+    protected boolean isOwnedByThisShard(String namespace, String name) {
+        return shardManager == null || shardManager.owns(namespace, name);
+    }
+
     /**
      * Gets the name of the lock to be used for operating on the given {@code namespace} and
      * cluster {@code name}
@@ -175,19 +224,42 @@ public abstract class AbstractOperator<
      * Reconciliation works by getting the assembly resource (e.g. {@code KafkaUser})
      * in the given namespace with the given name and
      * comparing with the corresponding resource.
+     * When a reconciliation scheduler is configured, the reconciliation is started by the scheduler.
+     * When a shard manager is configured, resources owned by other operator instances are skipped. Resources which
+     * are still being reconciled by their previous owner are skipped as well until the previous owner releases them.
      * @param reconciliation The reconciliation.
      * @return A Future which is completed with the result of the reconciliation.
      */
     @Override
     public final Future<Void> reconcile(Reconciliation reconciliation) {
+        if (!isOwnedByThisShard(reconciliation.namespace(), reconciliation.name())) {
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} is owned by another operator instance and will not be reconciled", kind, reconciliation.name(), reconciliation.namespace());
+            return Future.succeededFuture();
+        } else if (reconciliationScheduler != null) {
+            return reconciliationScheduler.submit(reconciliation, () -> reconcileNow(reconciliation));
+        } else {
+            return reconcileNow(reconciliation);
+        }
+    }
+
+    private Future<Void> reconcileNow(Reconciliation reconciliation) {
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
+        if (shardManager != null && !shardManager.tryAcquire(namespace, name)) {
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} is owned or still reconciled by another operator instance and will not be reconciled", kind, name, namespace);
+            return Future.succeededFuture();
+        }
+
+        if (leaderPromotion != null) {
+            leaderPromotion.reconciliationStarted();
+        }
+
         metrics().reconciliationsCounter(reconciliation.namespace()).increment();
         Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
 
         Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () ->
-            resourceOperator.getAsync(namespace, name)
+            getResource(namespace, name)
                 .compose(cr -> cr != null ? reconcileResource(reconciliation, cr) : reconcileDeletion(reconciliation)));
 
         Promise<Void> result = Promise.promise();
@@ -195,6 +267,10 @@ public abstract class AbstractOperator<
             callSafely(reconciliation, () -> handleResult(reconciliation, reconcileResult, reconciliationTimerSample))
                 .onComplete(handleSafely(reconciliation, ignored -> result.handle(reconcileResult))));
 
+        if (shardManager != null) {
+            result.future().onComplete(ignored -> shardManager.release(namespace, name));
+        }
+
         return result.future();
     }
 
@@ -469,7 +545,8 @@ public abstract class AbstractOperator<
     }
 
     /**
-     * Find the names of all resources that should be reconciled
+     * Find the names of all resources that should be reconciled. When an informer in-sync for the namespace exists, the
+     * resources are found in its cache. Otherwise, they are listed from the Kubernetes API server.
      *
      * @param namespace The namespace where the resources should be looked up
      *
@@ -477,13 +554,48 @@ public abstract class AbstractOperator<
      */
     @Override
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
-        return resourceOperator.listAsync(namespace, selector())
+        CustomResourceInformer<T> informer = syncedInformer(namespace);
+
+        Future<List<T>> resources = informer != null
+                ? Future.succeededFuture(informer.list(namespace))
+                : resourceOperator.listAsync(namespace, selector());
+
+        return resources
                 .map(resourceList ->
                         resourceList.stream()
                                 .map(resource -> new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName()))
                                 .collect(Collectors.toSet()));
     }
 
+    /**
+     * Gets the custom resource. When an informer in-sync for the namespace exists, the resource is taken from its
+     * cache. Otherwise, it is fetched from the Kubernetes API server.
+     *
+     * @param namespace The namespace of the resource
+     * @param name The name of the resource
+     *
+     * @return  A future with the resource or null if it does not exist
+     */
+    protected Future<T> getResource(String namespace, String name) {
+        CustomResourceInformer<T> informer = syncedInformer(namespace);
+
+        if (informer != null) {
+            return Future.succeededFuture(informer.get(namespace, name));
+        } else {
+            return resourceOperator.getAsync(namespace, name);
+        }
+    }
+
+    private CustomResourceInformer<T> syncedInformer(String namespace) {
+        for (CustomResourceInformer<T> informer : informers.values()) {
+            if (informer.covers(namespace) && informer.hasSynced()) {
+                return informer;
+            }
+        }
+
+        return null;
+    }
+
     /**
      * A selector to narrow the scope of the {@linkplain #createWatch(String) watch}
      * and {@linkplain #allResourceNames(String) query}.
@@ -504,6 +616,23 @@ public abstract class AbstractOperator<
         return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(resourceOperator, kind(), namespace, selector(), this::eventHandler));
     }
 
+    /**
+     * Create an informer for the custom resources. The informer is used instead of the watch. Its cache is used to
+     * find the resources for the periodic reconciliations and to get the resources at the start of the
+     * reconciliations.
+     *
+     * @param namespace     Namespace where to inform on resources
+     *
+     * @return  A future which completes when the informer is in-sync
+     */
+    public Future<CustomResourceInformer<T>> createInformer(String namespace) {
+        CustomResourceInformer<T> informer = new CustomResourceInformer<>(resourceOperator, kind(), namespace, selector(), this::eventHandler);
+        informers.put(namespace, informer);
+
+        return Future.fromCompletionStage(informer.start(), vertx.getOrCreateContext())
+                .map(informer);
+    }
+
     /**
      * Event handler called when the watch receives an event.
      *
@@ -607,7 +736,7 @@ public abstract class AbstractOperator<
             LOGGER.debugCr(reconciliation, "Removed metric " + MetricsHolder.METRICS_PREFIX + "resource.state{}", key);
         }
 
-        return resourceOperator.getAsync(reconciliation.namespace(), reconciliation.name()).map(cr -> {
+        return getResource(reconciliation.namespace(), reconciliation.name()).map(cr -> {
             if (cr != null && Util.matchesSelector(selector(), cr)) {
                 resourcesStateCounter.computeIfAbsent(key, tags ->
                         metrics().metricsProvider().gauge(MetricsHolder.METRICS_RESOURCE_STATE, "Current state of the resource: 1 ready, 0 fail", metricTags)
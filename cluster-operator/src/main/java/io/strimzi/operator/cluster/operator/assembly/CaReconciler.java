@@ -71,6 +71,8 @@ public class CaReconciler {
     /* test */ final Reconciliation reconciliation;
     private final Vertx vertx;
     private final long operationTimeoutMs;
+    private final int maxParallelRestarts;
+    private final KafkaAssemblyOperatorMetricsHolder metrics;
 
     /* test */ final DeploymentOperator deploymentOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
@@ -120,10 +122,37 @@ public class CaReconciler {
             Vertx vertx,
             CertManager certManager,
             PasswordGenerator passwordGenerator
+    ) {
+        this(reconciliation, kafkaCr, config, supplier, vertx, certManager, passwordGenerator, null);
+    }
+
+    /**
+     * Constructs the CA reconciler which reconciles the Cluster and Client CAs
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param kafkaCr           The Kafka custom resource
+     * @param config            Cluster Operator Configuration
+     * @param supplier          Supplier with Kubernetes Resource Operators
+     * @param vertx             Vert.x instance
+     * @param certManager       Certificate Manager for managing certificates
+     * @param passwordGenerator Password generator for generating passwords
+     * @param metrics           Metrics holder for the Kafka rolling metrics or null if the metrics are not used
+     */
+    public CaReconciler(
+            Reconciliation reconciliation,
+            Kafka kafkaCr,
+            ClusterOperatorConfig config,
+            ResourceOperatorSupplier supplier,
+            Vertx vertx,
+            CertManager certManager,
+            PasswordGenerator passwordGenerator,
+            KafkaAssemblyOperatorMetricsHolder metrics
     ) {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.maxParallelRestarts = config.getKafkaRollerMaxParallelRestarts();
+        this.metrics = metrics;
 
         this.deploymentOperator = supplier.deploymentOperations;
         this.strimziPodSetOperator = supplier.strimziPodSetOperator;
@@ -563,7 +592,9 @@ public class CaReconciler {
                 null,
                 null,
                 false,
-                eventPublisher
+                eventPublisher,
+                maxParallelRestarts,
+                metrics
         ).rollingRestart(pod -> {
             LOGGER.debugCr(reconciliation, "Rolling Pod {} due to {}", pod.getMetadata().getName(), podRollReasons.getReasons());
             return podRollReasons;
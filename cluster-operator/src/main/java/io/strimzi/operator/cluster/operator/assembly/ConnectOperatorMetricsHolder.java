@@ -27,10 +27,16 @@ public class ConnectOperatorMetricsHolder extends OperatorMetricsHolder {
      */
     public static final String METRIC_AUTO_RESTARTS = METRICS_PREFIX + "auto.restarts";
 
+    /**
+     * Metric name for the Kafka Connect REST API requests.
+     */
+    public static final String METRIC_CONNECT_REST_REQUESTS = METRICS_PREFIX + "connect.rest.requests";
+
     private final Map<MetricKey, Counter> connectorsReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Counter> connectorsFailedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Counter> connectorsSuccessfulReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Counter> connectorsAutoRestartsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Counter> connectRestRequestsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> connectorsReconciliationsTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, AtomicInteger> connectorsResourceCounterMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, AtomicInteger> pausedConnectorsResourceCounterMap = new ConcurrentHashMap<>(1);
@@ -99,6 +105,20 @@ public class ConnectOperatorMetricsHolder extends OperatorMetricsHolder {
                 Optional.of(getLabelSelectorValues()), connectorsAutoRestartsCounterMap);
     }
 
+    /**
+     * Counter metric for number of requests sent to the Kafka Connect REST API when reconciling the connectors. Divided
+     * by the number of reconciliations, it gives the average number of REST API requests per reconciliation.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter connectRestRequestsCounter(String namespace) {
+        return getCounter(new MetricKey(kind, namespace), METRIC_CONNECT_REST_REQUESTS,
+                "Number of requests sent to the Kafka Connect REST API when reconciling the connectors",
+                Optional.of(getLabelSelectorValues()), connectRestRequestsCounterMap);
+    }
+
     /**
      * Counter metric for number of connector resources.
      *
@@ -0,0 +1,221 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.AbstractNamespacedResourceOperator;
+import io.strimzi.operator.common.InformerUtils;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.config.ConfigParameter;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Informer for the custom resources used by the assembly operators instead of the {@link ReconnectingWatcher}. It
+ * keeps a local cache of the resources indexed by their namespace and by the cluster they belong to. The cache is
+ * used to find the resources for the periodic reconciliations and to get the resources at the start of the
+ * reconciliations without querying the Kubernetes API server.
+ *
+ * After a disconnect, the informer resumes the watch from the last resource version it has seen. It lists all
+ * resources again only when the resource version is too old. When the informer stops unexpectedly, it is replaced
+ * with a new informer after a short delay, so that the events are not silently lost. The new informer lists all
+ * resources and triggers their reconciliation.
+ *
+ * @param <T> The resource type
+ */
+public class CustomResourceInformer<T extends HasMetadata> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CustomResourceInformer.class);
+
+    /**
+     * Name of the index with the resources belonging to the same cluster based on the strimzi.io/cluster label
+     */
+    public static final String CLUSTER_INDEX = "cluster";
+
+    private static final long RESTART_DELAY_MS = 5_000L;
+
+    private final AbstractNamespacedResourceOperator<?, T, ?, ?> resourceOperator;
+    private final String kind;
+    private final String namespace;
+    private final LabelSelector selector;
+    private final BiConsumer<Watcher.Action, T> eventHandler;
+    private final long restartDelayMs;
+    private volatile SharedIndexInformer<T> informer;
+    private volatile boolean stopping = false;
+
+    /**
+     * Creates the informer. The informer has to be started using the start() method.
+     *
+     * @param resourceOperator  Operator for managing the resource which should be informed on
+     * @param kind              Kind of the resource this informer is informing on
+     * @param namespace         Namespace which should be watched (or * for all namespaces)
+     * @param selector          Custom resource selector
+     * @param eventHandler      Event handler for handling the received events
+     */
+    public CustomResourceInformer(AbstractNamespacedResourceOperator<?, T, ?, ?> resourceOperator, String kind, String namespace, LabelSelector selector, BiConsumer<Watcher.Action, T> eventHandler) {
+        this(resourceOperator, kind, namespace, selector, eventHandler, RESTART_DELAY_MS);
+    }
+
+    /* test */ CustomResourceInformer(AbstractNamespacedResourceOperator<?, T, ?, ?> resourceOperator, String kind, String namespace, LabelSelector selector, BiConsumer<Watcher.Action, T> eventHandler, long restartDelayMs) {
+        this.resourceOperator = resourceOperator;
+        this.kind = kind;
+        this.namespace = namespace;
+        this.selector = selector;
+        this.eventHandler = eventHandler;
+        this.restartDelayMs = restartDelayMs;
+        this.informer = createInformer();
+    }
+
+    private SharedIndexInformer<T> createInformer() {
+        // The periodic reconciliation is used instead of the informer resync
+        SharedIndexInformer<T> sharedInformer = selector != null ? resourceOperator.informer(namespace, selector, 0) : resourceOperator.informer(namespace, 0);
+
+        sharedInformer.addIndexers(Map.of(CLUSTER_INDEX, CustomResourceInformer::clusterIndexFunc));
+        sharedInformer.addEventHandler(new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(T resource) {
+                eventHandler.accept(Watcher.Action.ADDED, resource);
+            }
+
+            @Override
+            public void onUpdate(T oldResource, T newResource) {
+                if (!Objects.equals(oldResource.getMetadata().getResourceVersion(), newResource.getMetadata().getResourceVersion())) {
+                    eventHandler.accept(Watcher.Action.MODIFIED, newResource);
+                }
+            }
+
+            @Override
+            public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+                eventHandler.accept(Watcher.Action.DELETED, resource);
+            }
+        });
+        sharedInformer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler(kind, isStarted, throwable));
+
+        return sharedInformer;
+    }
+
+    /**
+     * Starts the informer
+     *
+     * @return  Completion stage which completes when the informer is in-sync
+     */
+    public CompletionStage<Void> start() {
+        LOGGER.infoOp("Starting {} informer in namespace {}", kind, namespace);
+        return start(informer);
+    }
+
+    private CompletionStage<Void> start(SharedIndexInformer<T> sharedInformer) {
+        sharedInformer.stopped().whenComplete((v, t) -> {
+            InformerUtils.stoppedInformerHandler(kind, t, stopping);
+
+            if (!stopping) {
+                CompletableFuture.runAsync(this::restart, CompletableFuture.delayedExecutor(restartDelayMs, TimeUnit.MILLISECONDS));
+            }
+        });
+        return sharedInformer.start();
+    }
+
+    /**
+     * Replaces the informer which stopped unexpectedly with a new one
+     */
+    private synchronized void restart() {
+        if (!stopping) {
+            LOGGER.warnOp("Restarting {} informer in namespace {}", kind, namespace);
+            informer = createInformer();
+            start(informer);
+        }
+    }
+
+    /**
+     * Stops the informer
+     */
+    public synchronized void close() {
+        stopping = true;
+        InformerUtils.stopAll(5_000L, informer);
+    }
+
+    /**
+     * @return  True if the informer is running and its cache is in-sync. False otherwise or when the informer is
+     *          stopping.
+     */
+    public boolean hasSynced() {
+        return !stopping && informer.isRunning() && informer.hasSynced();
+    }
+
+    /**
+     * Checks whether this informer covers given namespace
+     *
+     * @param namespace     Namespace
+     *
+     * @return  True if this informer informs on all namespaces or on the given namespace. False otherwise.
+     */
+    public boolean covers(String namespace) {
+        return ConfigParameter.ANY_NAMESPACE.equals(this.namespace) || this.namespace.equals(namespace);
+    }
+
+    /**
+     * Lists the resources from the cache
+     *
+     * @param namespace     Namespace (or * for all namespaces)
+     *
+     * @return  List with the cached resources. The resources are shared with the cache and must not be modified.
+     */
+    public List<T> list(String namespace) {
+        if (ConfigParameter.ANY_NAMESPACE.equals(namespace)) {
+            return informer.getStore().list();
+        } else {
+            return informer.getIndexer().byIndex(Cache.NAMESPACE_INDEX, namespace);
+        }
+    }
+
+    /**
+     * Lists the resources belonging to a cluster from the cache
+     *
+     * @param namespace     Namespace of the cluster
+     * @param cluster       Name of the cluster
+     *
+     * @return  List with copies of the cached resources with the strimzi.io/cluster label set to the cluster name
+     */
+    public List<T> listByCluster(String namespace, String cluster) {
+        return informer.getIndexer().byIndex(CLUSTER_INDEX, clusterIndexKey(namespace, cluster))
+                .stream()
+                .map(Serialization::clone)
+                .toList();
+    }
+
+    /**
+     * Gets a resource from the cache
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Copy of the cached resource or null if it does not exist
+     */
+    public T get(String namespace, String name) {
+        T resource = informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name));
+        return resource != null ? Serialization.clone(resource) : null;
+    }
+
+    private static List<String> clusterIndexFunc(HasMetadata resource) {
+        String cluster = resource.getMetadata().getLabels() != null ? resource.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL) : null;
+        return cluster != null ? List.of(clusterIndexKey(resource.getMetadata().getNamespace(), cluster)) : List.of();
+    }
+
+    private static String clusterIndexKey(String namespace, String cluster) {
+        return namespace + "/" + cluster;
+    }
+}
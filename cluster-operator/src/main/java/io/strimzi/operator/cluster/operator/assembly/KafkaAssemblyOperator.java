@@ -66,6 +66,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 
 /**
@@ -115,6 +116,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
     private final CrdOperator<KubernetesClient, KafkaNodePool, KafkaNodePoolList> nodePoolOperator;
+    private final Map<String, CustomResourceInformer<KafkaNodePool>> nodePoolInformers = new ConcurrentHashMap<>(1);
     protected Clock clock;
 
     /**
@@ -470,7 +472,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          * @return  CaReconciler instance
          */
         CaReconciler caReconciler()   {
-            return new CaReconciler(reconciliation, kafkaAssembly, config, supplier, vertx, certManager, passwordGenerator);
+            return new CaReconciler(reconciliation, kafkaAssembly, config, supplier, vertx, certManager, passwordGenerator, metrics);
         }
 
         /**
@@ -651,7 +653,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     supplier,
                     pfa,
                     vertx,
-                    kafkaMetadataStateManager
+                    kafkaMetadataStateManager,
+                    metrics
             );
         }
 
@@ -671,7 +674,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             Future<List<KafkaNodePool>> nodePoolFuture;
             if (ReconcilerUtils.nodePoolsEnabled(kafkaAssembly)) {
                 // Node Pools are enabled
-                nodePoolFuture = nodePoolOperator.listAsync(namespace, Labels.fromMap(Map.of(Labels.STRIMZI_CLUSTER_LABEL, name)));
+                nodePoolFuture = listNodePools(namespace, name);
             } else {
                 nodePoolFuture = Future.succeededFuture(null);
             }
@@ -920,6 +923,42 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(nodePoolOperator, KafkaNodePool.RESOURCE_KIND, namespace, null, this::nodePoolEventHandler));
     }
 
+    /**
+     * Create an informer for KafkaNodePool resources. The informer is used instead of the watch and its cache is used
+     * to find the node pools belonging to the Kafka cluster during the reconciliation.
+     *
+     * @param namespace     Namespace where to inform on the resources
+     *
+     * @return  A future which completes when the informer is in-sync
+     */
+    public Future<CustomResourceInformer<KafkaNodePool>> createNodePoolInformer(String namespace) {
+        CustomResourceInformer<KafkaNodePool> informer = new CustomResourceInformer<>(nodePoolOperator, KafkaNodePool.RESOURCE_KIND, namespace, null, this::nodePoolEventHandler);
+        nodePoolInformers.put(namespace, informer);
+
+        return Future.fromCompletionStage(informer.start(), vertx.getOrCreateContext())
+                .map(informer);
+    }
+
+    /**
+     * Lists the KafkaNodePool resources belonging to a Kafka cluster. When a node pool informer in-sync for the
+     * namespace exists, they are found using its cluster index. Otherwise, they are listed from the Kubernetes API
+     * server.
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     * @param name          Name of the Kafka cluster
+     *
+     * @return  Future with the list of node pools
+     */
+    private Future<List<KafkaNodePool>> listNodePools(String namespace, String name) {
+        for (CustomResourceInformer<KafkaNodePool> informer : nodePoolInformers.values()) {
+            if (informer.covers(namespace) && informer.hasSynced()) {
+                return Future.succeededFuture(informer.listByCluster(namespace, name));
+            }
+        }
+
+        return nodePoolOperator.listAsync(namespace, Labels.fromMap(Map.of(Labels.STRIMZI_CLUSTER_LABEL, name)));
+    }
+
     /**
      * Event handler called when the KafkaNodePool watch receives an event.
      *
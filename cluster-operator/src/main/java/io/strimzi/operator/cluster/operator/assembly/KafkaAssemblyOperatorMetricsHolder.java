@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.metrics.CertificateMetricKey;
 import io.strimzi.operator.common.metrics.MetricKey;
@@ -18,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
@@ -30,7 +32,25 @@ public class KafkaAssemblyOperatorMetricsHolder extends OperatorMetricsHolder {
      */
     public static final String METRICS_CERTIFICATE_EXPIRATION_MS = METRICS_PREFIX + "certificate.expiration.timestamp.ms";
 
+    /**
+     * Metric name for the duration of the refreshes of the topic snapshot used by the Kafka roller to check availability.
+     */
+    public static final String METRICS_KAFKA_ROLLER_SNAPSHOT_REFRESH = METRICS_PREFIX + "kafka.roller.snapshot.refresh";
+
+    /**
+     * Metric name for the number of partitions in the topic snapshot used by the Kafka roller to check availability.
+     */
+    public static final String METRICS_KAFKA_ROLLER_SNAPSHOT_PARTITIONS = METRICS_PREFIX + "kafka.roller.snapshot.partitions";
+
+    /**
+     * Metric name for the duration of the individual steps of the Kafka reconciliation.
+     */
+    public static final String METRICS_KAFKA_RECONCILIATION_STEP = METRICS_PREFIX + "kafka.reconciliation.step";
+
     protected final Map<MetricKey, AtomicLong> certificateExpirationMap = new ConcurrentHashMap<>(1);
+    protected final Map<MetricKey, Timer> rollerSnapshotRefreshTimerMap = new ConcurrentHashMap<>(1);
+    protected final Map<MetricKey, AtomicInteger> rollerSnapshotPartitionsMap = new ConcurrentHashMap<>(1);
+    protected final Map<MetricKey, Timer> reconciliationStepTimerMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the operator metrics holder
@@ -76,6 +96,53 @@ public class KafkaAssemblyOperatorMetricsHolder extends OperatorMetricsHolder {
                 Tag.of("resource-namespace", namespace));
     }
 
+    /**
+     * Timer for the refreshes of the topic snapshot used by the Kafka roller to check whether brokers can be rolled.
+     *
+     * @param clusterName   Name of the cluster
+     * @param namespace     Namespace of the resources being reconciled
+     * @return Metrics timer
+     */
+    public Timer kafkaRollerSnapshotRefreshTimer(String clusterName, String namespace) {
+        return getTimer(new ClusterMetricKey(kind, namespace, clusterName), METRICS_KAFKA_ROLLER_SNAPSHOT_REFRESH,
+                "The time it took to refresh the topic snapshot used by the Kafka roller to check availability",
+                Optional.empty(), rollerSnapshotRefreshTimerMap,
+                Tag.of("cluster", clusterName),
+                Tag.of("resource-namespace", namespace));
+    }
+
+    /**
+     * Number of partitions in the topic snapshot used by the Kafka roller to check whether brokers can be rolled.
+     *
+     * @param clusterName   Name of the cluster
+     * @param namespace     Namespace of the resources being reconciled
+     * @return Metric gauge
+     */
+    public AtomicInteger kafkaRollerSnapshotPartitions(String clusterName, String namespace) {
+        return getGauge(new ClusterMetricKey(kind, namespace, clusterName), METRICS_KAFKA_ROLLER_SNAPSHOT_PARTITIONS,
+                "Number of partitions in the topic snapshot used by the Kafka roller to check availability",
+                Optional.empty(), rollerSnapshotPartitionsMap,
+                Tag.of("cluster", clusterName),
+                Tag.of("resource-namespace", namespace));
+    }
+
+    /**
+     * Timer for the individual steps of the Kafka reconciliation.
+     *
+     * @param clusterName   Name of the cluster
+     * @param namespace     Namespace of the resources being reconciled
+     * @param step          Name of the reconciliation step
+     * @return Metrics timer
+     */
+    public Timer kafkaReconciliationStepTimer(String clusterName, String namespace, String step) {
+        return getTimer(new ClusterStepMetricKey(kind, namespace, clusterName, step), METRICS_KAFKA_RECONCILIATION_STEP,
+                "The time it took to complete the step of the Kafka reconciliation",
+                Optional.empty(), reconciliationStepTimerMap,
+                Tag.of("cluster", clusterName),
+                Tag.of("resource-namespace", namespace),
+                Tag.of("step", step));
+    }
+
     /**
      * Removing all metrics for the certificates which match the given predicate.
      *
@@ -97,4 +164,40 @@ public class KafkaAssemblyOperatorMetricsHolder extends OperatorMetricsHolder {
 
         removedKeys.forEach(certificateExpirationMap::remove);
     }
+
+    /**
+     * Metric key for the metrics of the individual Kafka clusters
+     */
+    private static class ClusterMetricKey extends MetricKey {
+        private final String clusterName;
+
+        ClusterMetricKey(String kind, String namespace, String clusterName) {
+            super(kind, namespace);
+            this.clusterName = clusterName;
+        }
+
+        @Override
+        public String getKey() {
+            return String.format("%s/%s/%s", kind, namespace, clusterName);
+        }
+    }
+
+    /**
+     * Metric key for the metrics of the individual reconciliation steps of the Kafka clusters
+     */
+    private static class ClusterStepMetricKey extends MetricKey {
+        private final String clusterName;
+        private final String step;
+
+        ClusterStepMetricKey(String kind, String namespace, String clusterName, String step) {
+            super(kind, namespace);
+            this.clusterName = clusterName;
+            this.step = step;
+        }
+
+        @Override
+        public String getKey() {
+            return String.format("%s/%s/%s/%s", kind, namespace, clusterName, step);
+        }
+    }
 }
@@ -143,7 +143,9 @@ public interface KafkaConnectApi {
     Future<Void> resume(Reconciliation reconciliation,  String host, int port, String connectorName);
 
     /**
-     * Make a {@code GET} request to {@code /connectors}
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info}. The configurations and statuses of
+     * the connectors from the response are kept by the client. They are used instead of the individual requests for
+     * the configuration and status of each connector until the connector is changed through this client.
      * @param reconciliation The reconciliation
      * @param host The host to make the request to.
      * @param port The port to make the request to.
@@ -248,6 +250,12 @@ public interface KafkaConnectApi {
      * @return A Future which completes with the result of the request.
      */
     Future<Void> resetConnectorOffsets(Reconciliation reconciliation, String host, int port, String connectorName);
+
+    /**
+     * @return  The number of the REST API requests sent by this client. The requests answered from the connector list
+     *          are not counted.
+     */
+    int requestCount();
 }
 
 class ConnectRestException extends RuntimeException {
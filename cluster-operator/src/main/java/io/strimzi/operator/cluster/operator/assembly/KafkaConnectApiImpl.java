@@ -8,6 +8,7 @@ package io.strimzi.operator.cluster.operator.assembly;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
@@ -19,10 +20,10 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.DecodeException;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 import java.io.IOException;
@@ -36,6 +37,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -48,11 +52,75 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public static final TypeReference<Map<String, String>> MAP_OF_STRINGS = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, String>>> MAP_OF_MAP_OF_STRINGS = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, List<String>>>> MAP_OF_MAP_OF_LIST_OF_STRING = new TypeReference<>() { };
+    public static final TypeReference<Map<String, Map<String, Object>>> MAP_OF_EXPANDED_CONNECTORS = new TypeReference<>() { };
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final HttpClientPool httpClientPool;
+    private final AtomicInteger requestCount = new AtomicInteger(0);
+
+    // Connector configurations and statuses from the last list request. They are used instead of the individual
+    // requests for each connector until the connector is changed by this client.
+    private final Map<String, Map<String, Object>> snapshot = new ConcurrentHashMap<>();
 
     public KafkaConnectApiImpl(Vertx vertx) {
+        this(vertx, null);
+    }
+
+    /**
+     * Constructs the Kafka Connect REST API client
+     *
+     * @param vertx             Vert.x instance
+     * @param httpClientPool    Pool of the HTTP clients shared between the requests or null to use a new HTTP client
+     *                          for each request
+     */
+    public KafkaConnectApiImpl(Vertx vertx, HttpClientPool httpClientPool) {
         this.vertx = vertx;
+        this.httpClientPool = httpClientPool;
+    }
+
+    private <T> Future<T> withHttpClient(BiConsumer<HttpClient, Promise<T>> operation) {
+        requestCount.incrementAndGet();
+        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
+
+        if (httpClientPool != null) {
+            return httpClientPool.withHttpClient(options, operation);
+        } else {
+            return HttpClientUtils.withHttpClient(vertx, options, operation);
+        }
+    }
+
+    @Override
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    private static String snapshotKey(String host, int port, String connectorName) {
+        return host + ":" + port + "/" + connectorName;
+    }
+
+    /**
+     * Removes the connector from the snapshot. This has to be called before any change to the connector, so that the
+     * following requests get its current state from the Connect REST API.
+     */
+    private void invalidateSnapshot(String host, int port, String connectorName) {
+        snapshot.remove(snapshotKey(host, port, connectorName));
+    }
+
+    /**
+     * Gets a copy of the status or info of the connector from the snapshot
+     *
+     * @return  The status or info or null if the connector is not in the snapshot
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> fromSnapshot(String host, int port, String connectorName, String field) {
+        Map<String, Object> expanded = snapshot.get(snapshotKey(host, port, connectorName));
+
+        if (expanded != null && expanded.get(field) instanceof Map) {
+            // The copy makes sure the callers cannot modify the snapshot
+            return mapper.convertValue(expanded.get(field), TREE_TYPE);
+        } else {
+            return null;
+        }
     }
 
     @Override
@@ -61,10 +129,11 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             Reconciliation reconciliation,
             String host, int port,
             String connectorName, JsonObject configJson) {
+        invalidateSnapshot(host, port, connectorName);
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, configJson);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -114,7 +183,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private <T> Future<T> doGet(Reconciliation reconciliation, String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -153,6 +222,15 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             Reconciliation reconciliation,
             String host, int port,
             String connectorName) {
+        Map<String, Object> info = fromSnapshot(host, port, connectorName, "info");
+
+        if (info != null && info.get("config") instanceof Map<?, ?> config) {
+            LOGGER.debugCr(reconciliation, "Using configuration of connector {} from the connector list", connectorName);
+            Map<String, String> configCopy = new HashMap<>(config.size());
+            config.forEach((key, value) -> configCopy.put(String.valueOf(key), String.valueOf(value)));
+            return Future.succeededFuture(configCopy);
+        }
+
         return doGet(reconciliation, host, port, String.format("/connectors/%s/config", connectorName),
                 new HashSet<>(asList(200, 201)),
                 MAP_OF_STRINGS);
@@ -166,9 +244,10 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<Void> delete(Reconciliation reconciliation, String host, int port, String connectorName) {
+        invalidateSnapshot(host, port, connectorName);
         String path = "/connectors/" + connectorName;
         LOGGER.debugCr(reconciliation, "Making DELETE request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.DELETE, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -271,28 +350,40 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<Map<String, Object>> status(Reconciliation reconciliation, String host, int port, String connectorName, Set<Integer> okStatusCodes) {
+        if (okStatusCodes.contains(200)) {
+            Map<String, Object> status = fromSnapshot(host, port, connectorName, "status");
+
+            if (status != null) {
+                LOGGER.debugCr(reconciliation, "Using status of connector {} from the connector list", connectorName);
+                return Future.succeededFuture(status);
+            }
+        }
+
         String path = "/connectors/" + connectorName + "/status";
         return doGet(reconciliation, host, port, path, okStatusCodes, TREE_TYPE);
     }
 
     @Override
     public Future<Void> pause(Reconciliation reconciliation, String host, int port, String connectorName) {
+        invalidateSnapshot(host, port, connectorName);
         return updateState(reconciliation, host, port, "/connectors/" + connectorName + "/pause", 202);
     }
 
     @Override
     public Future<Void> stop(Reconciliation reconciliation, String host, int port, String connectorName) {
+        invalidateSnapshot(host, port, connectorName);
         return updateState(reconciliation, host, port, "/connectors/" + connectorName + "/stop", 204);
     }
 
     @Override
     public Future<Void> resume(Reconciliation reconciliation, String host, int port, String connectorName) {
+        invalidateSnapshot(host, port, connectorName);
         return updateState(reconciliation, host, port, "/connectors/" + connectorName + "/resume", 202);
     }
 
     private Future<Void> updateState(Reconciliation reconciliation, String host, int port, String path, int expectedStatusCode) {
         LOGGER.debugCr(reconciliation, "Making PUT request to {} ", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -319,47 +410,29 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<List<String>> list(Reconciliation reconciliation, String host, int port) {
-        String path = "/connectors";
-        LOGGER.debugCr(reconciliation, "Making GET request to {} ", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
-                httpClient.request(HttpMethod.GET, port, host, path, request -> {
+        // The status and info of all connectors are fetched in a single request and kept in the snapshot. So the
+        // following requests for the configurations and statuses of the unchanged connectors do not need to be sent.
+        return doGet(reconciliation, host, port, "/connectors?expand=status&expand=info", Collections.singleton(200), MAP_OF_EXPANDED_CONNECTORS)
+                .map(connectors -> {
+                    List<String> list = new ArrayList<>(connectors.size());
 
-                    if (request.succeeded()) {
-                        request.result().setFollowRedirects(true)
-                                .putHeader("Accept", "application/json");
-                        request.result().send(response -> {
-                            if (response.succeeded()) {
-                                if (response.result().statusCode() == 200) {
-                                    response.result().bodyHandler(buffer -> {
-                                        JsonArray objects = buffer.toJsonArray();
-                                        List<String> list = new ArrayList<>(objects.size());
-                                        for (Object o : objects) {
-                                            if (o instanceof String) {
-                                                list.add((String) o);
-                                            } else {
-                                                result.fail(o == null ? "null" : o.getClass().getName());
-                                            }
-                                        }
-                                        result.complete(list);
-                                    });
-                                } else {
-                                    result.fail(new ConnectRestException(response.result(), "Unexpected status code"));
-                                }
-                            } else {
-                                result.tryFail(response.cause());
-                            }
-                        });
-                    } else {
-                        result.tryFail(request.cause());
+                    for (Map.Entry<String, Map<String, Object>> connector : connectors.entrySet()) {
+                        list.add(connector.getKey());
+
+                        if (connector.getValue() != null) {
+                            snapshot.put(snapshotKey(host, port, connector.getKey()), connector.getValue());
+                        }
                     }
-                }));
+
+                    return list;
+                });
     }
 
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(Reconciliation reconciliation, String host, int port) {
         String path = "/connector-plugins";
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -394,7 +467,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, levelJO);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) -> {
+        return withHttpClient((httpClient, result) -> {
             Buffer buffer = levelJO.toBuffer();
             httpClient
                     .request(HttpMethod.PUT, port, host, path, request -> {
@@ -429,7 +502,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<Map<String, String>> listConnectLoggers(Reconciliation reconciliation, String host, int port) {
         String path = "/admin/loggers/";
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -560,17 +633,19 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<Map<String, Object>> restart(String host, int port, String connectorName, boolean includeTasks, boolean onlyFailed) {
+        invalidateSnapshot(host, port, connectorName);
         return restartConnectorOrTask(host, port, "/connectors/" + connectorName + "/restart?includeTasks=" + includeTasks + "&onlyFailed=" + onlyFailed);
     }
 
     @Override
     public Future<Void> restartTask(String host, int port, String connectorName, int taskID) {
+        invalidateSnapshot(host, port, connectorName);
         return restartConnectorOrTask(host, port, "/connectors/" + connectorName + "/tasks/" + taskID + "/restart")
             .compose(result -> Future.succeededFuture());
     }
 
     private Future<Map<String, Object>> restartConnectorOrTask(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -608,7 +683,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<List<String>> getConnectorTopics(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = String.format("/connectors/%s/topics", connectorName);
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -647,7 +722,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<String> getConnectorOffsets(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = String.format("/connectors/%s/offsets", connectorName);
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -686,9 +761,10 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<Void> alterConnectorOffsets(Reconciliation reconciliation, String host, int port, String connectorName, String newOffsets) {
+        invalidateSnapshot(host, port, connectorName);
         String path = String.format("/connectors/%s/offsets", connectorName);
         LOGGER.debugCr(reconciliation, "Making PATCH request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.PATCH, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -729,9 +805,10 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<Void> resetConnectorOffsets(Reconciliation reconciliation, String host, int port, String connectorName) {
+        invalidateSnapshot(host, port, connectorName);
         String path = String.format("/connectors/%s/offsets", connectorName);
         LOGGER.debugCr(reconciliation, "Making DELETE request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.DELETE, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
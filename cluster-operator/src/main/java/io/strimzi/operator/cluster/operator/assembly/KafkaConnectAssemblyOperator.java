@@ -94,7 +94,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, pooledConnectClientProvider(vertx, KafkaConnect.RESOURCE_KIND, supplier.metricsProvider));
     }
 
     /**
@@ -399,24 +399,20 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                 } else {
                     return Future.failedFuture(error);
                 }
-            });
+            }).onComplete(i -> metrics().connectRestRequestsCounter(namespace).increment(apiClient.requestCount()));
         }
     }
 
     private Future<Void> deleteConnectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, Set<String> connectorsForDeletion) {
         LOGGER.debugCr(reconciliation, "{} cluster: delete connectors: {}", kind(), connectorsForDeletion);
-        return Future.join(connectorsForDeletion.stream()
-                    .map(connectorName -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null))
-                    .collect(Collectors.toList()))
-                .mapEmpty();
+        return forEachWithConcurrencyLimit(connectorsForDeletion, maxConcurrentConnectorReconciliations,
+                connectorName -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null));
     }
 
     private Future<Void> createOrUpdateConnectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, List<KafkaConnector> desiredConnectors) {
         LOGGER.debugCr(reconciliation, "{} cluster: required connectors: {}", kind(), desiredConnectors);
-        return Future.join(desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector))
-                    .collect(Collectors.toList()))
-                .mapEmpty();
+        return forEachWithConcurrencyLimit(desiredConnectors, maxConcurrentConnectorReconciliations,
+                connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
     }
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
@@ -521,6 +517,11 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
         String connectorKind = resource.getKind();
         String connectName = resource.getMetadata().getLabels() == null ? null : resource.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
 
+        if (connectName != null && !isOwnedByThisShard(namespace, connectName)) {
+            LOGGER.debugOp("{} {} in namespace {} was {}, but Connect cluster {} is owned by another operator instance and will be ignored", connectorKind, connectorName, namespace, action, connectName);
+            return;
+        }
+
         switch (action) {
             case ADDED, DELETED, MODIFIED -> {
                 if (connectName != null) {
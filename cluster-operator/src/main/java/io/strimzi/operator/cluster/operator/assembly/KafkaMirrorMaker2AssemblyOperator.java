@@ -79,7 +79,7 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     public KafkaMirrorMaker2AssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, pooledConnectClientProvider(vertx, KafkaMirrorMaker2.RESOURCE_KIND, supplier.metricsProvider));
     }
 
     /**
@@ -252,8 +252,8 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
             Future<Void> deletionFuture = deleteConnectors(reconciliation, host, apiClient, currentConnectors);
             Future<Void> createOrUpdateFuture = createOrUpdateConnectors(reconciliation, host, apiClient, kafkaMirrorMaker2, desiredConnectors, mirrorMaker2Status);
 
-            return Future.join(deletionFuture, createOrUpdateFuture).mapEmpty();
-        });
+            return Future.join(deletionFuture, createOrUpdateFuture).<Void>mapEmpty();
+        }).onComplete(i -> metrics().connectRestRequestsCounter(reconciliation.namespace()).increment(apiClient.requestCount()));
     }
 
     private Future<Void> deleteConnectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, List<String> connectorsForDeletion) {
@@ -28,6 +28,7 @@ import io.strimzi.operator.cluster.model.CruiseControl;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.cruisecontrol.CruiseControlConfiguration;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AbstractRebalanceOptions;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AddBrokerOptions;
@@ -151,6 +152,7 @@ public class KafkaRebalanceAssemblyOperator
     private final SecretOperator secretOperations;
     private final LabelSelector kafkaSelector;
     private final ConfigMapOperator configMapOperator;
+    private final HttpClientPool cruiseControlHttpClientPool;
     private int cruiseControlPort;
 
     /**
@@ -182,6 +184,14 @@ public class KafkaRebalanceAssemblyOperator
         this.configMapOperator = supplier.configMapOperations;
         this.secretOperations = supplier.secretOperations;
         this.cruiseControlPort = cruiseControlPort;
+        this.cruiseControlHttpClientPool = new HttpClientPool(vertx, "CruiseControl", supplier.metricsProvider);
+    }
+
+    /**
+     * Closes the pooled HTTP clients used for the Cruise Control REST API. This is called when the operator is stopped.
+     */
+    public void close() {
+        cruiseControlHttpClientPool.close();
     }
 
     /**
@@ -195,7 +205,7 @@ public class KafkaRebalanceAssemblyOperator
      */
     public CruiseControlApi cruiseControlClientProvider(Secret ccSecret, Secret ccApiSecret,
                                                            boolean apiAuthEnabled, boolean apiSslEnabled) {
-        return new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+        return new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled, cruiseControlHttpClientPool);
     }
 
     /**
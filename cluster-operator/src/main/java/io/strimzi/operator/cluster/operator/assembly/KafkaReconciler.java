@@ -11,6 +11,7 @@ import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.common.Condition;
 import io.strimzi.api.kafka.model.kafka.Kafka;
 import io.strimzi.api.kafka.model.kafka.KafkaResources;
@@ -54,6 +55,7 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.cluster.operator.resource.kubernetes.ClusterRoleBindingOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.ConfigMapOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.CrdOperator;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.DesiredStateHash;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.IngressOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.NetworkPolicyOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.NodeOperator;
@@ -112,8 +114,16 @@ import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_SERVER_CERT_HA
 public class KafkaReconciler {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaReconciler.class.getName());
 
+    /**
+     * Configuration options which differ between the nodes of the same node pool (the per-node overlay of the shared
+     * base configuration). All of them are known Kafka configuration options.
+     */
+    private static final List<String> PER_NODE_CONFIGURATION_OPTIONS = List.of("node.id", "broker.id", "log.dirs", "metadata.log.dir", "advertised.listeners");
+
     // Various settings
     private final long operationTimeoutMs;
+    private final int maxParallelRestarts;
+    private final KafkaAssemblyOperatorMetricsHolder metrics;
     private final boolean isNetworkPolicyGeneration;
     private final boolean isPodDisruptionBudgetGeneration;
     private final boolean isKafkaNodePoolsEnabled;
@@ -161,8 +171,8 @@ public class KafkaReconciler {
     private final boolean continueOnManualRUFailure;
 
     private String logging = "";
-    private final Map<Integer, String> brokerLoggingHash = new HashMap<>();
-    private final Map<Integer, String> brokerConfigurationHash = new HashMap<>();
+    /* test */ final Map<Integer, String> brokerLoggingHash = new HashMap<>();
+    /* test */ final Map<Integer, String> brokerConfigurationHash = new HashMap<>();
     private final Map<Integer, String> kafkaServerCertificateHash = new HashMap<>();
     /* test */ TlsPemIdentity coTlsPemIdentity;
     /* test */ KafkaListenersReconciler.ReconciliationResult listenerReconciliationResults; // Result of the listener reconciliation with the listener details
@@ -198,10 +208,45 @@ public class KafkaReconciler {
             PlatformFeaturesAvailability pfa,
             Vertx vertx,
             KafkaMetadataStateManager kafkaMetadataStateManager
+    ) {
+        this(reconciliation, kafkaCr, nodePools, kafka, clusterCa, clientsCa, config, supplier, pfa, vertx, kafkaMetadataStateManager, null);
+    }
+
+    /**
+     * Constructs the Kafka reconciler
+     *
+     * @param reconciliation            Reconciliation marker
+     * @param kafkaCr                   The Kafka custom resource
+     * @param nodePools                 List of KafkaNodePool resources belonging to this cluster
+     * @param kafka                     Kafka cluster instance
+     * @param clusterCa                 The Cluster CA instance
+     * @param clientsCa                 The Clients CA instance
+     * @param config                    Cluster Operator Configuration
+     * @param supplier                  Supplier with Kubernetes Resource Operators
+     * @param pfa                       PlatformFeaturesAvailability describing the environment we run in
+     * @param vertx                     Vert.x instance
+     * @param kafkaMetadataStateManager Instance of the Kafka metadata state manager
+     * @param metrics                   Metrics holder for the Kafka reconciliation metrics or null if the metrics are not used
+     */
+    public KafkaReconciler(
+            Reconciliation reconciliation,
+            Kafka kafkaCr,
+            List<KafkaNodePool> nodePools,
+            KafkaCluster kafka,
+            ClusterCa clusterCa,
+            ClientsCa clientsCa,
+            ClusterOperatorConfig config,
+            ResourceOperatorSupplier supplier,
+            PlatformFeaturesAvailability pfa,
+            Vertx vertx,
+            KafkaMetadataStateManager kafkaMetadataStateManager,
+            KafkaAssemblyOperatorMetricsHolder metrics
     ) {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.maxParallelRestarts = config.getKafkaRollerMaxParallelRestarts();
+        this.metrics = metrics;
         this.kafkaNodePoolCrs = nodePools;
         this.kafka = kafka;
         this.kafkaMetadataStateManager = kafkaMetadataStateManager;
@@ -254,40 +299,61 @@ public class KafkaReconciler {
      * @return              Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(KafkaStatus kafkaStatus, Clock clock)    {
-        return modelWarnings(kafkaStatus)
-                .compose(i -> initClientAuthenticationCertificates())
-                .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> updateKafkaAutoRebalanceStatus(kafkaStatus))
-                .compose(i -> manualRollingUpdate())
-                .compose(i -> pvcs(kafkaStatus))
-                .compose(i -> serviceAccount())
-                .compose(i -> initClusterRoleBinding())
-                .compose(i -> scaleDown())
-                .compose(i -> updateNodePoolStatuses(kafkaStatus))
-                .compose(i -> listeners())
-                .compose(i -> certificateSecret(clock))
-                .compose(i -> brokerConfigurationConfigMaps())
-                .compose(i -> jmxSecret())
-                .compose(i -> podDisruptionBudget())
-                .compose(i -> migrateFromStatefulSetToPodSet())
-                .compose(i -> podSet())
-                .compose(podSetDiffs -> rollingUpdate(podSetDiffs)) // We pass the PodSet reconciliation result this way to avoid storing it in the instance
-                .compose(i -> podsReady())
-                .compose(i -> serviceEndpointsReady())
-                .compose(i -> headlessServiceEndpointsReady())
-                .compose(i -> clusterId(kafkaStatus))
-                .compose(i -> defaultKafkaQuotas())
-                .compose(i -> nodeUnregistration(kafkaStatus))
-                .compose(i -> metadataVersion(kafkaStatus))
-                .compose(i -> deletePersistentClaims())
-                .compose(i -> sharedKafkaConfigurationCleanup())
+        // We pass the PodSet reconciliation result this way to avoid storing it in the instance
+        Promise<Map<String, ReconcileResult<StrimziPodSet>>> podSetDiffs = Promise.promise();
+
+        // The steps which do not depend on each other run concurrently. The steps rolling or deleting the pods, and
+        // the steps updating the status keep their order.
+        return new ReconcilerStepGraph(reconciliation, stepTimer())
+                .step("modelWarnings", () -> modelWarnings(kafkaStatus))
+                .step("initClientAuthenticationCertificates", this::initClientAuthenticationCertificates)
+                .step("manualPodCleaning", this::manualPodCleaning)
+                .step("networkPolicy", this::networkPolicy)
+                .step("serviceAccount", this::serviceAccount)
+                .step("initClusterRoleBinding", this::initClusterRoleBinding)
+                .step("listeners", this::listeners)
+                .step("jmxSecret", this::jmxSecret)
+                .step("podDisruptionBudget", this::podDisruptionBudget)
+                .step("updateKafkaAutoRebalanceStatus", () -> updateKafkaAutoRebalanceStatus(kafkaStatus), "modelWarnings")
+                .step("manualRollingUpdate", this::manualRollingUpdate, "initClientAuthenticationCertificates", "manualPodCleaning", "networkPolicy")
+                .step("pvcs", () -> pvcs(kafkaStatus), "updateKafkaAutoRebalanceStatus", "manualRollingUpdate")
+                .step("scaleDown", this::scaleDown, "pvcs")
+                .step("updateNodePoolStatuses", () -> updateNodePoolStatuses(kafkaStatus), "scaleDown")
+                .step("certificateSecret", () -> certificateSecret(clock), "listeners")
+                // Deletes the ConfigMaps of the scaled-down nodes
+                .step("brokerConfigurationConfigMaps", this::brokerConfigurationConfigMaps, "listeners", "scaleDown")
+                .step("migrateFromStatefulSetToPodSet", this::migrateFromStatefulSetToPodSet, "scaleDown")
+                .step("podSet", () -> podSet().onSuccess(podSetDiffs::complete).mapEmpty(),
+                        "serviceAccount", "initClusterRoleBinding", "jmxSecret", "podDisruptionBudget", "updateNodePoolStatuses",
+                        "certificateSecret", "brokerConfigurationConfigMaps", "migrateFromStatefulSetToPodSet")
+                .step("rollingUpdate", () -> rollingUpdate(podSetDiffs.future().result()), "podSet")
+                .step("podsReady", this::podsReady, "rollingUpdate")
+                .step("serviceEndpointsReady", this::serviceEndpointsReady, "podsReady")
+                .step("headlessServiceEndpointsReady", this::headlessServiceEndpointsReady, "podsReady")
+                .step("clusterId", () -> clusterId(kafkaStatus), "serviceEndpointsReady", "headlessServiceEndpointsReady")
+                .step("defaultKafkaQuotas", this::defaultKafkaQuotas, "clusterId")
+                .step("nodeUnregistration", () -> nodeUnregistration(kafkaStatus), "defaultKafkaQuotas")
+                .step("metadataVersion", () -> metadataVersion(kafkaStatus), "nodeUnregistration")
+                .step("deletePersistentClaims", this::deletePersistentClaims, "metadataVersion")
+                .step("sharedKafkaConfigurationCleanup", this::sharedKafkaConfigurationCleanup, "deletePersistentClaims")
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(i -> nodePortExternalListenerStatus())
-                .compose(i -> addListenersToKafkaStatus(kafkaStatus))
-                .compose(i -> updateKafkaVersion(kafkaStatus))
-                .compose(i -> updateKafkaMetadataMigrationState())
-                .compose(i -> updateKafkaMetadataState(kafkaStatus));
+                .step("nodePortExternalListenerStatus", this::nodePortExternalListenerStatus, "sharedKafkaConfigurationCleanup")
+                .step("addListenersToKafkaStatus", () -> addListenersToKafkaStatus(kafkaStatus), "nodePortExternalListenerStatus")
+                .step("updateKafkaVersion", () -> updateKafkaVersion(kafkaStatus), "addListenersToKafkaStatus")
+                .step("updateKafkaMetadataMigrationState", this::updateKafkaMetadataMigrationState, "updateKafkaVersion")
+                .step("updateKafkaMetadataState", () -> updateKafkaMetadataState(kafkaStatus), "updateKafkaMetadataMigrationState")
+                .execute();
+    }
+
+    /**
+     * @return  Function providing the timers for the individual reconciliation steps or null if metrics are not used
+     */
+    private Function<String, Timer> stepTimer() {
+        if (metrics != null) {
+            return step -> metrics.kafkaReconciliationStepTimer(reconciliation.name(), reconciliation.namespace(), step);
+        } else {
+            return null;
+        }
     }
 
     private Future<Void> updateKafkaAutoRebalanceStatus(KafkaStatus kafkaStatus) {
@@ -483,7 +549,9 @@ public class KafkaReconciler {
                     logging,
                     kafka.getKafkaVersion(),
                     allowReconfiguration,
-                    eventsPublisher
+                    eventsPublisher,
+                    maxParallelRestarts,
+                    metrics
             ).rollingRestart(podNeedsRestart);
     }
 
@@ -634,6 +702,11 @@ public class KafkaReconciler {
      * also delete the ConfigMaps for any scaled-down brokers (scale down is done before this is called in the
      * reconciliation)
      *
+     * The configurations of the nodes differ only in the per-node overlay with the node ID, log directories and
+     * advertised listeners. The parts of the configuration hashes derived from the shared base configuration are
+     * therefore calculated only once for all nodes sharing the same base configuration. When the desired state hash is
+     * enabled, the ConfigMaps with a matching hash are not reconciled at all.
+     *
      * @param metricsAndLogging     Metrics and Logging configuration
      *
      * @return  Future which completes when the Kafka Configuration is prepared
@@ -648,27 +721,36 @@ public class KafkaReconciler {
                     List<Future<?>> ops = new ArrayList<>();
 
                     // Delete all existing ConfigMaps which are not desired and are not the shared config map
-                    List<String> desiredNames = new ArrayList<>(desiredConfigMaps.size() + 1);
+                    Set<String> desiredNames = new HashSet<>(desiredConfigMaps.size() + 1);
                     desiredNames.add(KafkaResources.kafkaMetricsAndLogConfigMapName(reconciliation.name())); // We do not want to delete the shared ConfigMap, so we add it here
                     desiredNames.addAll(desiredConfigMaps.stream().map(cm -> cm.getMetadata().getName()).toList());
 
+                    Map<String, ConfigMap> existingByName = new HashMap<>(existingConfigMaps.size());
                     for (ConfigMap cm : existingConfigMaps) {
                         // We delete the cms not on the desired names list
                         if (!desiredNames.contains(cm.getMetadata().getName())) {
                             ops.add(configMapOperator.deleteAsync(reconciliation, reconciliation.namespace(), cm.getMetadata().getName(), true));
+                        } else {
+                            existingByName.put(cm.getMetadata().getName(), cm);
                         }
                     }
 
+                    // The logging hashes are the same for all nodes with the same role
+                    String brokerLoggingHashStub = Util.hashStub(Util.getLoggingDynamicallyUnmodifiableEntries(logging));
+                    String controllerLoggingHashStub = Util.hashStub(logging);
+
+                    // The configuration options unknown to Kafka depend only on the base configuration shared by the nodes
+                    Map<String, String> unknownConfigsByBaseConfiguration = new HashMap<>();
+
                     // Create / update the desired config maps
                     for (ConfigMap cm : desiredConfigMaps) {
                         String cmName = cm.getMetadata().getName();
                         int nodeId = ReconcilerUtils.getPodIndexFromPodName(cmName);
                         KafkaPool pool = kafka.nodePoolForNodeId(nodeId);
+                        String configuration = cm.getData().getOrDefault(KafkaCluster.BROKER_CONFIGURATION_FILENAME, "");
 
-                        String nodeConfiguration = "";
+                        String nodeConfiguration;
 
-                        // We collect the information needed for the annotation hash for brokers or mixed nodes.
-                        // Controller-only nodes do not have advertised listener configuration and this config is not relevant for them.
                         if (pool.isBroker()) {
                             // The advertised hostname and port might change. If they change, we need to roll the pods.
                             // Here we collect their hash to trigger the rolling update. For per-broker configuration,
@@ -688,30 +770,32 @@ public class KafkaReconciler {
                                     .sorted()
                                     .collect(Collectors.joining(" "));
                             nodeConfiguration += cm.getData().getOrDefault(KafkaCluster.BROKER_LISTENERS_FILENAME, "");
-                        }
-
-                        // Changes to regular Kafka configuration are handled through the KafkaRoller which decides whether to roll the pod or not
-                        // In addition to that, we have to handle changes to configuration unknown to Kafka -> different plugins (Authorization, Quotas etc.)
-                        // This is captured here with the unknown configurations and the hash is used to roll the pod when it changes
-                        KafkaConfiguration kc = KafkaConfiguration.unvalidated(reconciliation, cm.getData().getOrDefault(KafkaCluster.BROKER_CONFIGURATION_FILENAME, ""));
 
-                        // We collect the configuration options related to various plugins
-                        nodeConfiguration += kc.unknownConfigsWithValues(kafka.getKafkaVersion()).toString();
+                            // Changes to regular Kafka configuration are handled through the KafkaRoller which decides whether to roll the pod or not
+                            // In addition to that, we have to handle changes to configuration unknown to Kafka -> different plugins (Authorization, Quotas etc.)
+                            // This is captured here with the unknown configurations and the hash is used to roll the pod when it changes.
+                            // The per-node options are all known to Kafka, so the unknown configurations are collected only
+                            // once for each distinct base configuration.
+                            nodeConfiguration += unknownConfigsByBaseConfiguration.computeIfAbsent(baseConfiguration(configuration),
+                                    base -> KafkaConfiguration.unvalidated(reconciliation, base).unknownConfigsWithValues(kafka.getKafkaVersion()).toString());
 
-                        // We collect the information relevant to controller-only nodes
-                        if (pool.isController() && !pool.isBroker())   {
-                            // For controllers only, we extract the controller-relevant configurations and use it in the configuration annotations
-                            nodeConfiguration = kc.controllerConfigsWithValues().toString();
-                            // For controllers only, we use the full logging configuration in the logging annotation
-                            this.brokerLoggingHash.put(nodeId, Util.hashStub(logging));
+                            this.brokerLoggingHash.put(nodeId, brokerLoggingHashStub);
                         } else {
-                            this.brokerLoggingHash.put(nodeId, Util.hashStub(Util.getLoggingDynamicallyUnmodifiableEntries(logging)));
+                            // For controllers only, we extract the controller-relevant configurations and use it in the configuration annotations.
+                            // These include some of the per-node options, so they are collected from the whole configuration.
+                            nodeConfiguration = KafkaConfiguration.unvalidated(reconciliation, configuration).controllerConfigsWithValues().toString();
+                            // For controllers only, we use the full logging configuration in the logging annotation
+                            this.brokerLoggingHash.put(nodeId, controllerLoggingHashStub);
                         }
 
                         // We store hash of the broker configurations for later use in Pod and in rolling updates
                         this.brokerConfigurationHash.put(nodeId, Util.hashStub(nodeConfiguration));
 
-                        ops.add(configMapOperator.reconcile(reconciliation, reconciliation.namespace(), cmName, cm));
+                        if (configMapUnchanged(existingByName.get(cmName), cm)) {
+                            LOGGER.debugCr(reconciliation, "ConfigMap {} matches the desired state hash and is not reconciled", cmName);
+                        } else {
+                            ops.add(configMapOperator.reconcile(reconciliation, reconciliation.namespace(), cmName, cm));
+                        }
                     }
 
                     return Future
@@ -720,6 +804,36 @@ public class KafkaReconciler {
                 });
     }
 
+    /**
+     * Removes the per-node overlay options from the node configuration. The resulting base configuration is the same
+     * for all nodes of the same node pool and is used to share the work done on the configuration between them.
+     *
+     * @param configuration     Node configuration
+     *
+     * @return  The base configuration without the per-node options
+     */
+    /* test */ static String baseConfiguration(String configuration) {
+        return configuration.lines()
+                .filter(line -> PER_NODE_CONFIGURATION_OPTIONS.stream().noneMatch(option -> line.startsWith(option + "=")))
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Checks whether the existing per-node ConfigMap already has the desired state. This uses the desired state hash
+     * and works only when it is enabled for the ConfigMaps. The existing ConfigMap comes from the list done at the
+     * beginning of this step, so it saves the get and the diff done by the ConfigMap reconciliation.
+     *
+     * @param existing  Existing ConfigMap or null if it does not exist
+     * @param desired   Desired ConfigMap
+     *
+     * @return  True if the existing ConfigMap has the same desired state hash. False otherwise.
+     */
+    private boolean configMapUnchanged(ConfigMap existing, ConfigMap desired) {
+        return configMapOperator.isDesiredStateHashEnabled()
+                && existing != null
+                && DesiredStateHash.stamp(desired).equals(DesiredStateHash.of(existing));
+    }
+
     /**
      * This method is used to create or update the config maps required by the brokers. It does not do the cleanup the
      * old shared Config Map used by StatefulSets. That is done only at the end of the reconciliation. However, it would
@@ -0,0 +1,174 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs the steps of a reconciliation pipeline according to the dependencies between them. Each step is started as soon
+ * as all the steps it depends on are complete. So the steps which do not depend on each other run concurrently. The
+ * steps are expected to be asynchronous. The futures they return might complete on other threads, for example the
+ * KafkaRoller completes its future from its own executor when it fails. The graph therefore handles the completion of
+ * each step on the Vert.x context from which it was executed. So its own state and the state of the reconciler shared
+ * by the steps are used only from that context and do not need any additional synchronization.
+ *
+ * The dependencies of a step have to be added to the graph before the step itself. That keeps the graph acyclic and
+ * the order in which the steps are added is also the order in which the independent steps are started.
+ *
+ * When any step fails, no other steps are started. The steps which are already running are allowed to complete and the
+ * returned future fails with the error of the first failed step.
+ */
+class ReconcilerStepGraph {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconcilerStepGraph.class.getName());
+
+    private final Reconciliation reconciliation;
+    private final Function<String, Timer> stepTimer;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    private boolean executed = false;
+    private Context context = null;
+    private Throwable failure = null;
+
+    /**
+     * Constructs the step graph
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param stepTimer         Function returning the timer for given step name or null if the steps should not be timed
+     */
+    ReconcilerStepGraph(Reconciliation reconciliation, Function<String, Timer> stepTimer) {
+        this.reconciliation = reconciliation;
+        this.stepTimer = stepTimer;
+    }
+
+    /**
+     * Adds a step to the graph
+     *
+     * @param name          Name of the step
+     * @param step          Supplier which starts the step and returns a Future which completes when the step is done
+     * @param dependsOn     Names of the steps which have to complete before this step is started
+     *
+     * @return  This step graph
+     */
+    ReconcilerStepGraph step(String name, Supplier<Future<Void>> step, String... dependsOn) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " is already defined");
+        }
+
+        for (String dependency : dependsOn) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Step " + name + " depends on step " + dependency + " which is not defined");
+            }
+        }
+
+        steps.put(name, new Step(name, step, List.of(dependsOn)));
+
+        return this;
+    }
+
+    /**
+     * Runs the steps of the graph. The graph can be executed only once.
+     *
+     * @return  Future which completes when all steps are complete or fails when any of the steps fails
+     */
+    Future<Void> execute() {
+        if (executed) {
+            throw new IllegalStateException("The step graph was already executed");
+        }
+
+        executed = true;
+        context = Vertx.currentContext();
+
+        Map<String, Future<Void>> results = new HashMap<>(steps.size());
+
+        for (Step step : steps.values()) {
+            Future<Void> dependencies;
+
+            if (step.dependsOn().isEmpty()) {
+                dependencies = Future.succeededFuture();
+            } else {
+                dependencies = Future.all(step.dependsOn().stream().map(results::get).toList()).mapEmpty();
+            }
+
+            results.put(step.name(), dependencies.compose(i -> run(step)));
+        }
+
+        return Future.join(new ArrayList<>(results.values()))
+                .transform(i -> failure == null ? Future.succeededFuture() : Future.failedFuture(failure));
+    }
+
+    private Future<Void> run(Step step) {
+        if (failure != null) {
+            // Some other step failed already => we do not start any new steps
+            return Future.failedFuture(failure);
+        }
+
+        LOGGER.debugCr(reconciliation, "Starting reconciliation step {}", step.name());
+        long startNanos = System.nanoTime();
+
+        Future<Void> result;
+        try {
+            result = step.step().get();
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        Promise<Void> completed = Promise.promise();
+
+        result.onComplete(res -> {
+            if (context == null || context == Vertx.currentContext()) {
+                complete(step, res, startNanos, completed);
+            } else {
+                context.runOnContext(v -> complete(step, res, startNanos, completed));
+            }
+        });
+
+        return completed.future();
+    }
+
+    private void complete(Step step, AsyncResult<Void> res, long startNanos, Promise<Void> completed) {
+        long durationNanos = System.nanoTime() - startNanos;
+
+        if (stepTimer != null) {
+            stepTimer.apply(step.name()).record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        if (res.succeeded()) {
+            LOGGER.debugCr(reconciliation, "Reconciliation step {} completed in {}ms", step.name(), TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        } else {
+            LOGGER.debugCr(reconciliation, "Reconciliation step {} failed after {}ms", step.name(), TimeUnit.NANOSECONDS.toMillis(durationNanos));
+
+            if (failure == null) {
+                failure = res.cause();
+            }
+        }
+
+        completed.handle(res);
+    }
+
+    /**
+     * Step of the reconciliation
+     *
+     * @param name          Name of the step
+     * @param step          Supplier which starts the step
+     * @param dependsOn     Names of the steps this step depends on
+     */
+    private record Step(String name, Supplier<Future<Void>> step, List<String> dependsOn) { }
+}
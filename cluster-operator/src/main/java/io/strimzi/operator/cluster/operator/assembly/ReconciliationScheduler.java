@@ -0,0 +1,316 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the reconciliations of the custom resources to avoid starting the reconciliations of all resources at the
+ * same time when the periodic reconciliation timer fires:
+ *
+ * <ul>
+ *     <li>The periodic reconciliations are spread across the reconciliation interval. Each resource is delayed by its
+ *     own offset derived from its kind, namespace and name. So the same resource is reconciled roughly once per
+ *     interval while different resources are reconciled at different times.</li>
+ *     <li>At most the configured number of reconciliations run at the same time. The other reconciliations wait in
+ *     a queue.</li>
+ *     <li>The reconciliations triggered by events have priority over the periodic reconciliations. They are started
+ *     before any queued periodic reconciliation and they replace any pending periodic reconciliation of the same
+ *     resource.</li>
+ *     <li>A reconciliation of a resource which already waits for an event reconciliation is merged with it. The same
+ *     applies to a periodic reconciliation of a resource which already waits for a periodic reconciliation. So a burst
+ *     of events for one resource occupies at most one place in the queue.</li>
+ * </ul>
+ *
+ * The time which the reconciliations spend in the queue is exposed as a metric.
+ */
+public class ReconciliationScheduler {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationScheduler.class);
+
+    /**
+     * Trigger used by the periodic reconciliations
+     */
+    public static final String PERIODIC_TRIGGER = "timer";
+
+    /**
+     * Metric name for the time the reconciliations spent waiting in the queue
+     */
+    public static final String METRICS_QUEUE_WAIT = MetricsHolder.METRICS_PREFIX + "reconciliations.queue.wait";
+
+    /**
+     * Metric name for the number of reconciliations waiting in the queue
+     */
+    public static final String METRICS_QUEUED = MetricsHolder.METRICS_PREFIX + "reconciliations.queued";
+
+    /**
+     * Metric name for the number of running reconciliations
+     */
+    public static final String METRICS_RUNNING = MetricsHolder.METRICS_PREFIX + "reconciliations.running";
+
+    private static final String EVENT = "event";
+    private static final String PERIODIC = "periodic";
+
+    private final Vertx vertx;
+    private final long intervalMs;
+    private final int maxConcurrentReconciliations;
+    private final MetricsProvider metricsProvider;
+
+    private final Deque<Task> eventQueue = new ArrayDeque<>();
+    private final Deque<Task> periodicQueue = new ArrayDeque<>();
+    private final Map<String, Task> pendingEvents = new HashMap<>();
+    private final Map<String, Task> pendingPeriodic = new HashMap<>();
+    private int running = 0;
+
+    private final AtomicInteger queuedEvents;
+    private final AtomicInteger queuedPeriodic;
+    private final AtomicInteger runningGauge;
+
+    /**
+     * Constructs the reconciliation scheduler
+     *
+     * @param vertx                         Vert.x instance
+     * @param intervalMs                    Periodic reconciliation interval across which the periodic reconciliations
+     *                                      are spread
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations running at the same time
+     * @param metricsProvider               Metrics provider
+     */
+    public ReconciliationScheduler(Vertx vertx, long intervalMs, int maxConcurrentReconciliations, MetricsProvider metricsProvider) {
+        this.vertx = vertx;
+        this.intervalMs = intervalMs;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.metricsProvider = metricsProvider;
+
+        this.queuedEvents = metricsProvider.gauge(METRICS_QUEUED, "Number of reconciliations waiting in the queue", Tags.of(Tag.of("type", EVENT)));
+        this.queuedPeriodic = metricsProvider.gauge(METRICS_QUEUED, "Number of reconciliations waiting in the queue", Tags.of(Tag.of("type", PERIODIC)));
+        this.runningGauge = metricsProvider.gauge(METRICS_RUNNING, "Number of running reconciliations", Tags.empty());
+    }
+
+    /**
+     * Submits the reconciliation to the scheduler. The periodic reconciliations are delayed by the offset of the
+     * resource and queued. Other reconciliations are started immediately when the concurrency limit allows it or are
+     * queued before all periodic reconciliations otherwise.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param reconcile         Supplier which starts the reconciliation
+     *
+     * @return  Future which completes with the result of the reconciliation
+     */
+    public Future<Void> submit(Reconciliation reconciliation, Supplier<Future<Void>> reconcile) {
+        String key = key(reconciliation);
+
+        if (PERIODIC_TRIGGER.equals(reconciliation.trigger())) {
+            return submitPeriodic(reconciliation, key, reconcile);
+        } else {
+            return submitEvent(reconciliation, key, reconcile);
+        }
+    }
+
+    private Future<Void> submitPeriodic(Reconciliation reconciliation, String key, Supplier<Future<Void>> reconcile) {
+        Task task;
+
+        synchronized (this) {
+            Task pendingEvent = pendingEvents.get(key);
+
+            if (pendingEvent != null) {
+                LOGGER.debugCr(reconciliation, "Reconciliation triggered by an event is already pending and the periodic reconciliation will not be scheduled");
+                return pendingEvent.promise.future();
+            }
+
+            Task pending = pendingPeriodic.get(key);
+
+            if (pending != null) {
+                LOGGER.debugCr(reconciliation, "Periodic reconciliation is already pending and will not be scheduled again");
+                return pending.promise.future();
+            }
+
+            task = new Task(reconciliation, PERIODIC, reconcile);
+            pendingPeriodic.put(key, task);
+        }
+
+        long delayMs = offsetMs(key);
+        LOGGER.debugCr(reconciliation, "Periodic reconciliation will be queued in {}ms", delayMs);
+
+        if (delayMs > 0) {
+            task.timerId = vertx.setTimer(delayMs, id -> enqueue(task));
+        } else {
+            enqueue(task);
+        }
+
+        return task.promise.future();
+    }
+
+    private Future<Void> submitEvent(Reconciliation reconciliation, String key, Supplier<Future<Void>> reconcile) {
+        Task task = new Task(reconciliation, EVENT, reconcile);
+        Task replaced;
+
+        synchronized (this) {
+            Task pending = pendingEvents.get(key);
+
+            if (pending != null) {
+                // The pending reconciliation has not started yet, so it will see the latest state of the resource
+                LOGGER.debugCr(reconciliation, "Reconciliation triggered by an event is already pending and the {} reconciliation is merged with it", reconciliation.trigger());
+                pending.promise.future().onComplete(task.promise);
+                return task.promise.future();
+            }
+
+            // The periodic reconciliation of the same resource is not needed anymore
+            replaced = pendingPeriodic.remove(key);
+
+            if (replaced != null) {
+                periodicQueue.remove(replaced);
+                queuedPeriodic.set(periodicQueue.size());
+            }
+
+            task.queuedNanos = System.nanoTime();
+            pendingEvents.put(key, task);
+            eventQueue.add(task);
+            queuedEvents.set(eventQueue.size());
+        }
+
+        if (replaced != null) {
+            LOGGER.debugCr(reconciliation, "Pending periodic reconciliation is replaced by the {} reconciliation", reconciliation.trigger());
+
+            if (replaced.timerId != -1) {
+                vertx.cancelTimer(replaced.timerId);
+            }
+
+            task.promise.future().onComplete(replaced.promise);
+        }
+
+        drain();
+
+        return task.promise.future();
+    }
+
+    private void enqueue(Task task) {
+        synchronized (this) {
+            if (pendingPeriodic.get(key(task.reconciliation)) != task) {
+                // Replaced by an event in the meantime
+                return;
+            }
+
+            task.queuedNanos = System.nanoTime();
+            periodicQueue.add(task);
+            queuedPeriodic.set(periodicQueue.size());
+        }
+
+        drain();
+    }
+
+    /**
+     * Starts the queued reconciliations as long as the concurrency limit allows it. The reconciliations triggered by
+     * events are started first.
+     */
+    private void drain() {
+        List<Task> toStart = new ArrayList<>();
+
+        synchronized (this) {
+            while (running < maxConcurrentReconciliations) {
+                Task task = eventQueue.poll();
+
+                if (task != null) {
+                    pendingEvents.remove(key(task.reconciliation));
+                } else {
+                    task = periodicQueue.poll();
+
+                    if (task == null) {
+                        break;
+                    }
+
+                    pendingPeriodic.remove(key(task.reconciliation));
+                }
+
+                running++;
+                toStart.add(task);
+            }
+
+            queuedEvents.set(eventQueue.size());
+            queuedPeriodic.set(periodicQueue.size());
+            runningGauge.set(running);
+        }
+
+        toStart.forEach(this::start);
+    }
+
+    private void start(Task task) {
+        metricsProvider.timer(METRICS_QUEUE_WAIT, "The time the reconciliations spent waiting in the queue",
+                        Tags.of(Tag.of("kind", task.reconciliation.kind()), Tag.of("type", task.type)))
+                .record(System.nanoTime() - task.queuedNanos, TimeUnit.NANOSECONDS);
+
+        Future<Void> result;
+        try {
+            result = task.reconcile.get();
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        result.onComplete(res -> {
+            synchronized (this) {
+                running--;
+            }
+
+            drain();
+            task.promise.handle(res);
+        });
+    }
+
+    /**
+     * Offset by which the periodic reconciliation of given resource is delayed. It is derived from the key of the
+     * resource, so it is stable for the same resource and spreads different resources across the interval.
+     *
+     * @param key   Key of the resource
+     *
+     * @return  Offset in milliseconds
+     */
+    /* test */ long offsetMs(String key) {
+        if (intervalMs <= 0) {
+            return 0;
+        }
+
+        // Spread the bits of the String hash code which is not well distributed for similar names
+        long hash = key.hashCode() * 0x9E3779B97F4A7C15L;
+        return Math.floorMod(hash ^ (hash >>> 32), intervalMs);
+    }
+
+    private static String key(Reconciliation reconciliation) {
+        return reconciliation.kind() + "/" + reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    /**
+     * Reconciliation waiting for its turn
+     */
+    private static class Task {
+        private final Reconciliation reconciliation;
+        private final String type;
+        private final Supplier<Future<Void>> reconcile;
+        private final Promise<Void> promise = Promise.promise();
+        private long timerId = -1;
+        private long queuedNanos;
+
+        Task(Reconciliation reconciliation, String type, Supplier<Future<Void>> reconcile) {
+            this.reconciliation = reconciliation;
+            this.type = type;
+            this.reconcile = reconcile;
+        }
+    }
+}
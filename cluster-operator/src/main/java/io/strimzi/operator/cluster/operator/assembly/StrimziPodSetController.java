@@ -30,6 +30,7 @@ import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2List;
 import io.strimzi.api.kafka.model.podset.StrimziPodSet;
 import io.strimzi.api.kafka.model.podset.StrimziPodSetBuilder;
 import io.strimzi.api.kafka.model.podset.StrimziPodSetStatus;
+import io.strimzi.operator.cluster.leaderelection.ShardManager;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.PodRevision;
 import io.strimzi.operator.cluster.model.PodSetUtils;
@@ -53,10 +54,19 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
- * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them
+ * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them.
+ *
+ * The reconciliations are executed by one or more workers. Each worker has its own work queue and thread. Every
+ * StrimziPodSet is always assigned to the same worker based on the hash of its namespace and name. That way, the
+ * reconciliations of the same StrimziPodSet are never executed in parallel and keep their order, while the different
+ * StrimziPodSets can be reconciled in parallel.
  */
 public class StrimziPodSetController implements Runnable {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetController.class);
@@ -69,6 +79,8 @@ public class StrimziPodSetController implements Runnable {
     private final Thread controllerThread;
 
     private volatile boolean stop = false;
+    private boolean informersStarted = false;
+    private volatile ShardManager shardManager;
 
     private final PodOperator podOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
@@ -76,7 +88,7 @@ public class StrimziPodSetController implements Runnable {
     private final LabelSelector crSelector;
     private final String watchedNamespace;
 
-    private final BlockingQueue<SimplifiedReconciliation> workQueue;
+    private final List<Worker> workers;
     private final SharedIndexInformer<Pod> podInformer;
     private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
     private final SharedIndexInformer<Kafka> kafkaInformer;
@@ -114,16 +126,52 @@ public class StrimziPodSetController implements Runnable {
             PodOperator podOperator,
             MetricsProvider metricsProvider,
             int podSetControllerWorkQueueSize
+    ) {
+        this(watchedNamespace, crSelectorLabels, kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator,
+                strimziPodSetOperator, podOperator, metricsProvider, podSetControllerWorkQueueSize, 1);
+    }
+
+    /**
+     * Creates the StrimziPodSet controller. The controller should normally exist once per operator for cluster-wide mode
+     * or once per namespace for namespaced mode.
+     *
+     * @param watchedNamespace              Namespace which should be watched. Use * for all namespaces.
+     * @param crSelectorLabels              Selector labels for custom resource managed by this operator instance. This is used
+     *                                      to check that the pods belong to a Kafka cluster matching these labels.
+     * @param kafkaOperator                 Kafka Operator for getting the Kafka custom resources
+     * @param kafkaConnectOperator          KafkaConnect Operator for getting the KafkaConnect custom resources
+     * @param kafkaMirrorMaker2Operator     KafkaMirrorMaker2 Operator for getting the KafkaMirrorMaker2 custom resources
+     * @param strimziPodSetOperator         StrimziPodSet Operator used to manage the StrimziPodSet resources - get them, update
+     *                                      their status etc.
+     * @param podOperator                   Pod operator for managing pods
+     * @param metricsProvider               Metrics provider
+     * @param podSetControllerWorkQueueSize Indicates the size of the work queue of each StrimziPodSetController worker
+     * @param podSetControllerWorkers       Number of workers reconciling the StrimziPodSets in parallel
+     */
+    public StrimziPodSetController(
+            String watchedNamespace,
+            Labels crSelectorLabels,
+            CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator,
+            CrdOperator<KubernetesClient, KafkaConnect, KafkaConnectList> kafkaConnectOperator,
+            CrdOperator<KubernetesClient, KafkaMirrorMaker2, KafkaMirrorMaker2List> kafkaMirrorMaker2Operator,
+            StrimziPodSetOperator strimziPodSetOperator,
+            PodOperator podOperator,
+            MetricsProvider metricsProvider,
+            int podSetControllerWorkQueueSize,
+            int podSetControllerWorkers
     ) {
         this.podOperator = podOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? null : new LabelSelector(null, crSelectorLabels.toMap());
         this.watchedNamespace = watchedNamespace;
-        this.workQueue = new ArrayBlockingQueue<>(podSetControllerWorkQueueSize);
 
         // Set up the metrics holder
         this.metrics = new ControllerMetricsHolder("StrimziPodSet", crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
 
+        this.workers = IntStream.range(0, podSetControllerWorkers)
+                .mapToObj(i -> new Worker(i, podSetControllerWorkQueueSize))
+                .toList();
+
         // Kafka, KafkaConnect and KafkaMirrorMaker2 informers and listers are used to get the CRs quickly.
         // This is needed for verification of the CR selector labels.
         this.kafkaInformer = kafkaOperator.informer(watchedNamespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap(), DEFAULT_RESYNC_PERIOD_MS);
@@ -144,6 +192,24 @@ public class StrimziPodSetController implements Runnable {
         this.controllerThread = new Thread(this, "StrimziPodSetController");
     }
 
+    /**
+     * Configures the shard manager which decides which clusters are managed by this operator instance. When no shard
+     * manager is configured, all clusters matching the CR selector are managed.
+     *
+     * @param shardManager  Shard manager
+     */
+    public void useShardManager(ShardManager shardManager) {
+        this.shardManager = shardManager;
+    }
+
+    /**
+     * Enqueues the reconciliations of all StrimziPodSets managed by this operator instance. This is used after the
+     * shards are rebalanced to reconcile the StrimziPodSets of the clusters newly owned by this operator instance.
+     */
+    public void enqueueAll() {
+        strimziPodSetLister.list().forEach(podSet -> enqueueStrimziPodSet(podSet, "RESYNCED"));
+    }
+
     protected ControllerMetricsHolder metrics()   {
         return metrics;
     }
@@ -158,11 +224,24 @@ public class StrimziPodSetController implements Runnable {
 
     protected void startController() {
         strimziPodSetInformer.addEventHandler(new PodSetEventHandler());
-        strimziPodSetInformer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler("StrimziPodSet", isStarted, throwable));
-
         podInformer.addEventHandler(new PodEventHandler());
-        podInformer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler("Pod", isStarted, throwable));
 
+        startInformers();
+    }
+
+    /**
+     * Starts the informers without enqueueing any reconciliations. This is used to get the informers in-sync while
+     * the operator waits to become the leader. The event handlers added later when the controller is started get the
+     * already synced resources from the informers without listing them again. Calling this method when the informers
+     * are already started does nothing.
+     */
+    public synchronized void startInformers() {
+        if (informersStarted) {
+            return;
+        }
+
+        strimziPodSetInformer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler("StrimziPodSet", isStarted, throwable));
+        podInformer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler("Pod", isStarted, throwable));
         kafkaInformer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler("Kafka", isStarted, throwable));
         kafkaConnectInformer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler("KafkaConnect", isStarted, throwable));
         kafkaMirrorMaker2Informer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler("KafkaMirrorMaker2", isStarted, throwable));
@@ -178,6 +257,8 @@ public class StrimziPodSetController implements Runnable {
         kafkaInformer.stopped().whenComplete((v, t) -> InformerUtils.stoppedInformerHandler("Kafka", t, stop));
         kafkaConnectInformer.stopped().whenComplete((v, t) -> InformerUtils.stoppedInformerHandler("KafkaConnect", t, stop));
         kafkaMirrorMaker2Informer.stopped().whenComplete((v, t) -> InformerUtils.stoppedInformerHandler("KafkaMirrorMaker2", t, stop));
+
+        informersStarted = true;
     }
 
     protected void stopController() {
@@ -310,10 +391,11 @@ public class StrimziPodSetController implements Runnable {
             HasMetadata cr = findCustomResource(podSet);
 
             if (cr != null
-                    && Util.matchesSelector(crSelector, cr)) {
+                    && Util.matchesSelector(crSelector, cr)
+                    && (shardManager == null || shardManager.isResponsible(cr.getMetadata().getNamespace(), cr.getMetadata().getName()))) {
                 return true;
             } else {
-                LOGGER.debugOp("StrimziPodSet {} in namespace {} does not belong to a custom resource matching the selector", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace());
+                LOGGER.debugOp("StrimziPodSet {} in namespace {} does not belong to a custom resource matching the selector and managed by this operator instance", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace());
                 return false;
             }
         } else {
@@ -529,23 +611,17 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
+     * Enqueues the next reconciliation to the worker which owns the StrimziPodSet.
      *
      * @param reconciliation    Reconciliation identifier
      */
     private void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!workQueue.contains(reconciliation)) {
-            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
-            workQueue.add(reconciliation);
-        } else {
-            metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.name);
-        }
+        workers.get(Math.floorMod(reconciliation.hashCode(), workers.size())).enqueue(reconciliation);
     }
 
     /**
-     * The run loop of the controller thread. It picks reconciliations from the work queue and executes them.
+     * The run loop of the controller thread. It starts the informers, waits for them to sync and starts the workers
+     * which pick reconciliations from their work queues and execute them.
      */
     @Override
     public void run() {
@@ -559,16 +635,13 @@ public class StrimziPodSetController implements Runnable {
 
         LOGGER.infoOp("Informers are in-sync");
 
-        while (!stop) {
-            try {
-                LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
-            } catch (InterruptedException e)    {
-                LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
-            } catch (Exception e)   {
-                LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
-            }
+        if (!stop) {
+            LOGGER.infoOp("Starting {} StrimziPodSet controller worker(s)", workers.size());
+            workers.forEach(worker -> worker.thread.start());
+        }
+
+        for (Worker worker : workers) {
+            worker.join();
         }
 
         LOGGER.infoOp("Stopping StrimziPodSet controller");
@@ -591,14 +664,101 @@ public class StrimziPodSetController implements Runnable {
         LOGGER.infoOp("Requesting the StrimziPodSet controller to stop");
         this.stop = true;
         controllerThread.interrupt();
-        try {
-            controllerThread.join();
-        } catch (InterruptedException e)    {
-            LOGGER.warnOp("Interrupted while waiting for the StrimziPodSet controller thread to stop");
+        workers.forEach(worker -> worker.thread.interrupt());
+
+        if (controllerThread.getState() == Thread.State.NEW) {
+            // The controller was not started => only the informers might be running
+            synchronized (this) {
+                if (informersStarted) {
+                    stopController();
+                }
+            }
+        } else {
+            try {
+                controllerThread.join();
+            } catch (InterruptedException e)    {
+                LOGGER.warnOp("Interrupted while waiting for the StrimziPodSet controller thread to stop");
+            }
         }
         LOGGER.infoOp("StrimziPodSet controller stopped");
     }
 
+    /**
+     * Worker executing the reconciliations of the StrimziPodSets assigned to it. It checks whether another
+     * reconciliation for the same resource is already in its queue and enqueues the new event only if it is not there
+     * yet.
+     */
+    private class Worker implements Runnable {
+        private final int index;
+        private final Thread thread;
+        private final BlockingQueue<SimplifiedReconciliation> queue;
+        // Enqueued reconciliations and the time when they were enqueued
+        private final Map<SimplifiedReconciliation, Long> enqueued = new ConcurrentHashMap<>();
+        private final AtomicInteger queueSize;
+
+        Worker(int index, int queueSize) {
+            this.index = index;
+            this.thread = new Thread(this, "StrimziPodSetController-" + index);
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+            this.queueSize = metrics.workerQueueSizeGauge(watchedNamespace, index);
+        }
+
+        void enqueue(SimplifiedReconciliation reconciliation)    {
+            if (enqueued.putIfAbsent(reconciliation, System.nanoTime()) == null) {
+                LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {} to worker {}", reconciliation.name, reconciliation.namespace, index);
+                if (queue.offer(reconciliation)) {
+                    queueSize.set(queue.size());
+                } else {
+                    enqueued.remove(reconciliation);
+                    LOGGER.warnOp("Failed to enqueue StrimziPodSet {} in namespace {} because the queue of worker {} is full", reconciliation.name, reconciliation.namespace, index);
+                }
+            } else {
+                metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+                LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.namespace);
+            }
+        }
+
+        /**
+         * The run loop of the worker thread. It picks reconciliations from the work queue and executes them.
+         */
+        @Override
+        public void run() {
+            while (!stop) {
+                try {
+                    LOGGER.debugOp("Waiting for next event from the work queue of worker {}", index);
+                    SimplifiedReconciliation reconciliation = queue.take();
+                    // Events arriving from now on are enqueued again. The reconciliation did not start yet, so it will
+                    // use the latest version of the resource anyway.
+                    Long enqueuedAt = enqueued.remove(reconciliation);
+                    queueSize.set(queue.size());
+
+                    if (enqueuedAt != null) {
+                        metrics.workerQueueTimer(watchedNamespace, index).record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                    }
+
+                    reconcile(reconciliation.toReconciliation());
+                } catch (InterruptedException e)    {
+                    LOGGER.debugOp("StrimziPodSet Controller worker {} was interrupted", index, e);
+                } catch (Exception e)   {
+                    LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
+                }
+            }
+        }
+
+        /**
+         * Waits for the worker thread to finish
+         */
+        void join() {
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    LOGGER.debugOp("Interrupted while waiting for the StrimziPodSet controller worker {} to stop", index);
+                }
+            }
+        }
+    }
+
     /**
      * Helper class to track the pod counts during reconciliation and to pass through different methods. This is used to
      * count the numbers for the StrimziPodSet status subresource.
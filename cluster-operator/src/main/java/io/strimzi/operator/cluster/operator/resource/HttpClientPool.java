@@ -0,0 +1,299 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.PemTrustOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Pool of HTTP clients which are shared between the requests with the same client options. Unlike
+ * {@link HttpClientUtils#withHttpClient(Vertx, HttpClientOptions, BiConsumer)}, the clients are not closed after each
+ * request. So the keep-alive connections (and their TLS sessions) to the same host and port are reused by the following
+ * requests. The clients which were not used for the idle eviction period are closed. The TLS trust options are part of
+ * the options used to look up the client. So when the trusted certificates are rotated, a new client is created and the
+ * old one is evicted once it is idle.
+ */
+public class HttpClientPool {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(HttpClientPool.class);
+
+    /**
+     * Default period after which unused clients are closed
+     */
+    public static final long DEFAULT_IDLE_EVICTION_MS = 300_000L;
+
+    /**
+     * Default maximum number of connections to the same host and port
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_TARGET = 5;
+
+    /**
+     * Metric name for the requests which reused an existing client
+     */
+    public static final String METRICS_POOL_HITS = MetricsHolder.METRICS_PREFIX + "http.client.pool.hits";
+
+    /**
+     * Metric name for the requests which had to create a new client
+     */
+    public static final String METRICS_POOL_MISSES = MetricsHolder.METRICS_PREFIX + "http.client.pool.misses";
+
+    /**
+     * Metric name for the clients closed because they were idle
+     */
+    public static final String METRICS_POOL_EVICTIONS = MetricsHolder.METRICS_PREFIX + "http.client.pool.evictions";
+
+    /**
+     * Metric name for the number of open clients
+     */
+    public static final String METRICS_POOL_CLIENTS = MetricsHolder.METRICS_PREFIX + "http.client.pool.clients";
+
+    /**
+     * Metric name for the number of open connections
+     */
+    public static final String METRICS_POOL_CONNECTIONS = MetricsHolder.METRICS_PREFIX + "http.client.pool.connections";
+
+    private final Vertx vertx;
+    private final String name;
+    private final long idleEvictionMs;
+    private final int maxConnectionsPerTarget;
+    private final Map<String, PooledHttpClient> clients = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final AtomicInteger openClients;
+    private final AtomicInteger openConnections;
+
+    private long evictionTimerId = -1;
+
+    /**
+     * Constructs the HTTP client pool with the default settings
+     *
+     * @param vertx             Vert.x instance
+     * @param name              Name of the pool used in the metrics
+     * @param metricsProvider   Metrics provider
+     */
+    public HttpClientPool(Vertx vertx, String name, MetricsProvider metricsProvider) {
+        this(vertx, name, metricsProvider, DEFAULT_IDLE_EVICTION_MS, DEFAULT_MAX_CONNECTIONS_PER_TARGET);
+    }
+
+    /**
+     * Constructs the HTTP client pool
+     *
+     * @param vertx                     Vert.x instance
+     * @param name                      Name of the pool used in the metrics
+     * @param metricsProvider           Metrics provider
+     * @param idleEvictionMs            Period in milliseconds after which unused clients are closed
+     * @param maxConnectionsPerTarget   Maximum number of connections to the same host and port
+     */
+    public HttpClientPool(Vertx vertx, String name, MetricsProvider metricsProvider, long idleEvictionMs, int maxConnectionsPerTarget) {
+        this.vertx = vertx;
+        this.name = name;
+        this.idleEvictionMs = idleEvictionMs;
+        this.maxConnectionsPerTarget = maxConnectionsPerTarget;
+
+        Tags tags = Tags.of(Tag.of("pool", name));
+        this.hits = metricsProvider.counter(METRICS_POOL_HITS, "Number of HTTP requests which reused a pooled client", tags);
+        this.misses = metricsProvider.counter(METRICS_POOL_MISSES, "Number of HTTP requests which created a new pooled client", tags);
+        this.evictions = metricsProvider.counter(METRICS_POOL_EVICTIONS, "Number of pooled HTTP clients closed because they were idle", tags);
+        this.openClients = metricsProvider.gauge(METRICS_POOL_CLIENTS, "Number of open pooled HTTP clients", tags);
+        this.openConnections = metricsProvider.gauge(METRICS_POOL_CONNECTIONS, "Number of open connections of the pooled HTTP clients", tags);
+    }
+
+    /**
+     * Perform the given operation, which completes the promise, using a pooled HTTP client instance. The client is
+     * returned to the pool when the promise is completed.
+     *
+     * @param options   Client options
+     * @param operation The operation to perform.
+     * @param <T>       The type of the result
+     *
+     * @return A future which is completed with the result performed by the operation
+     */
+    public <T> Future<T> withHttpClient(HttpClientOptions options, BiConsumer<HttpClient, Promise<T>> operation) {
+        PooledHttpClient client;
+        try {
+            client = acquire(options);
+        } catch (IllegalArgumentException e) {
+            return Future.failedFuture(e);
+        }
+
+        Promise<T> promise = Promise.promise();
+
+        try {
+            operation.accept(client.httpClient, promise);
+        } catch (Throwable t) {
+            promise.tryFail(t);
+        }
+
+        return promise.future().onComplete(i -> client.release());
+    }
+
+    private PooledHttpClient acquire(HttpClientOptions options) {
+        PooledHttpClient client = clients.compute(key(options), (key, existing) -> {
+            if (existing == null) {
+                misses.increment();
+                existing = new PooledHttpClient(createHttpClient(options));
+            } else {
+                hits.increment();
+            }
+
+            existing.acquire();
+            return existing;
+        });
+
+        openClients.set(clients.size());
+        startEvictionTimer();
+
+        return client;
+    }
+
+    private HttpClient createHttpClient(HttpClientOptions options) {
+        return vertx.httpClientBuilder()
+                .with(new HttpClientOptions(options).setKeepAlive(true))
+                .with(new PoolOptions().setHttp1MaxSize(maxConnectionsPerTarget))
+                .withConnectHandler(connection -> {
+                    openConnections.incrementAndGet();
+                    connection.closeHandler(v -> openConnections.decrementAndGet());
+                })
+                .build();
+    }
+
+    /**
+     * The key of the pooled client. The trust options are not part of the JSON representation of the client options.
+     * So they are added to the key separately to make sure the client is not reused after the certificates are rotated.
+     * Only the PEM trust options are supported, because the other trust options do not expose their content.
+     *
+     * @param options   Client options
+     *
+     * @return  Key identifying the pooled client
+     *
+     * @throws IllegalArgumentException If the client options use other than PEM trust options
+     */
+    /* test */ static String key(HttpClientOptions options) {
+        JsonObject key = options.toJson();
+
+        if (options.getTrustOptions() instanceof PemTrustOptions pemTrustOptions) {
+            key.put("pemTrustOptions", pemTrustOptions.toJson());
+        } else if (options.getTrustOptions() != null) {
+            throw new IllegalArgumentException("Pooled HTTP clients support only PEM trust options, but "
+                    + options.getTrustOptions().getClass().getSimpleName() + " was used");
+        }
+
+        return key.encode();
+    }
+
+    private synchronized void startEvictionTimer() {
+        if (evictionTimerId == -1) {
+            evictionTimerId = vertx.setPeriodic(idleEvictionMs, id -> evictIdle(System.currentTimeMillis() - idleEvictionMs));
+        }
+    }
+
+    /**
+     * Closes the clients which have no requests in progress and which were not used since given time
+     *
+     * @param idleSinceMs   Clients last used before this time are closed
+     */
+    /* test */ void evictIdle(long idleSinceMs) {
+        List<HttpClient> evicted = new ArrayList<>();
+
+        for (String key : clients.keySet()) {
+            clients.computeIfPresent(key, (k, client) -> {
+                if (client.isIdleSince(idleSinceMs)) {
+                    evicted.add(client.httpClient);
+                    return null;
+                } else {
+                    return client;
+                }
+            });
+        }
+
+        if (!evicted.isEmpty()) {
+            LOGGER.debugOp("Closing {} idle HTTP clients from pool {}", evicted.size(), name);
+            evicted.forEach(HttpClient::close);
+            evictions.increment(evicted.size());
+            openClients.set(clients.size());
+        }
+
+        synchronized (this) {
+            if (clients.isEmpty() && evictionTimerId != -1) {
+                vertx.cancelTimer(evictionTimerId);
+                evictionTimerId = -1;
+            }
+        }
+    }
+
+    /**
+     * Closes all clients in the pool, including those which have requests in progress. This is used when the operator
+     * is stopped.
+     */
+    public void close() {
+        List<HttpClient> closed = new ArrayList<>();
+
+        for (String key : clients.keySet()) {
+            clients.computeIfPresent(key, (k, client) -> {
+                closed.add(client.httpClient);
+                return null;
+            });
+        }
+
+        LOGGER.debugOp("Closing {} HTTP clients from pool {}", closed.size(), name);
+        closed.forEach(HttpClient::close);
+        openClients.set(clients.size());
+
+        synchronized (this) {
+            if (evictionTimerId != -1) {
+                vertx.cancelTimer(evictionTimerId);
+                evictionTimerId = -1;
+            }
+        }
+    }
+
+    /**
+     * HTTP client with the number of requests in progress and the time when it was last used. It is acquired and
+     * evicted only within the compute methods of the map. So a client cannot be evicted while it is being acquired.
+     */
+    private static class PooledHttpClient {
+        private final HttpClient httpClient;
+        private final AtomicInteger inProgress = new AtomicInteger(0);
+        private volatile long lastUsedMs = System.currentTimeMillis();
+
+        PooledHttpClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+
+        void acquire() {
+            inProgress.incrementAndGet();
+            lastUsedMs = System.currentTimeMillis();
+        }
+
+        void release() {
+            lastUsedMs = System.currentTimeMillis();
+            inProgress.decrementAndGet();
+        }
+
+        boolean isIdleSince(long idleSinceMs) {
+            return inProgress.get() == 0 && lastUsedMs < idleSinceMs;
+        }
+    }
+}
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.Future;
@@ -19,17 +20,27 @@ import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
 
 /**
- * Determines whether the given broker can be rolled without affecting
- * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ * Determines whether the given broker, or the given set of brokers restarted at the same time, can be rolled without
+ * affecting producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>The topics are described once when this instance is created and kept in a {@link PartitionReplicaIndex}. Each
+ * check is answered from the index. Only the topics with a replica on the checked brokers which are stale are described
+ * again. Topics are stale when they were described more than the maximal snapshot age ago, when they were invalidated
+ * using {@link #invalidate()} (e.g. after a broker restart), or when they prevented the previous check from succeeding.
+ * The topic configurations are described only once for each topic when a broker hosting it is checked for the first
+ * time. So a single instance can be shared across all the checks done during one rolling update.</p>
  */
 class KafkaAvailability {
 
@@ -39,19 +50,45 @@ class KafkaAvailability {
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final long maxSnapshotAgeMs;
 
+    private final Timer refreshTimer;
+
+    private final AtomicInteger snapshotPartitions;
+
+    private final PartitionReplicaIndex index = new PartitionReplicaIndex();
+
+    private volatile long topicNamesListedAt = PartitionReplicaIndex.STALE;
+
+    private Future<Void> snapshot;
+
+    /**
+     * Constructs the KafkaAvailability which uses the snapshot taken when it is created without refreshing it
+     * (apart from the topics which prevented rolling of a broker).
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param ac                Kafka Admin client
+     */
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
+        this(reconciliation, ac, Long.MAX_VALUE, null, null);
+    }
+
+    /**
+     * Constructs the KafkaAvailability
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param ac                    Kafka Admin client
+     * @param maxSnapshotAgeMs      Maximal age of the topic descriptions before they are described again
+     * @param refreshTimer          Timer for recording the duration of the snapshot refreshes or null if not used
+     * @param snapshotPartitions    Gauge for the number of partitions in the snapshot or null if not used
+     */
+    KafkaAvailability(Reconciliation reconciliation, Admin ac, long maxSnapshotAgeMs, Timer refreshTimer, AtomicInteger snapshotPartitions) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
-            LOGGER.traceCr(reconciliation, "Topic names {}", names);
-            return describeTopics(names);
-        });
+        this.maxSnapshotAgeMs = maxSnapshotAgeMs;
+        this.refreshTimer = refreshTimer;
+        this.snapshotPartitions = snapshotPartitions;
+        this.snapshot = refresh(Set.of());
     }
 
     /**
@@ -60,47 +97,160 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBrokers(Set.of(podId));
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
-                    LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
-                    return Future.failedFuture(error);
-                });
+    /**
+     * Determine whether the given brokers can be rolled at the same time without affecting
+     * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+     * This is the case when none of the partitions would drop below its {@code min.in.sync.replicas}
+     * with all these brokers removed from its ISR at once.
+     */
+    Future<Boolean> canRoll(Set<Integer> podIds) {
+        LOGGER.debugCr(reconciliation, "Determining whether brokers {} can be rolled together", podIds);
+        return canRollBrokers(podIds);
+    }
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
-
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
-            Collection<TopicDescription> tds = topicsOnGivenBroker.result();
-            boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
-            if (!canRoll) {
-                LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
+    /**
+     * Marks the whole snapshot as stale. This should be called when the ISRs are expected to change, for example after
+     * a broker was restarted.
+     */
+    void invalidate() {
+        topicNamesListedAt = PartitionReplicaIndex.STALE;
+        index.invalidateAll();
+    }
+
+    private Future<Boolean> canRollBrokers(Set<Integer> podIds) {
+        return snapshotFor(podIds).map(i -> {
+            Set<String> topicsOnGivenBrokers = index.topicsOn(podIds);
+            Set<String> blockingTopics = new HashSet<>();
+
+            for (String topic : topicsOnGivenBrokers) {
+                if (wouldAffectAvailability(podIds, topic)) {
+                    blockingTopics.add(topic);
+                }
+            }
+
+            if (!blockingTopics.isEmpty()) {
+                LOGGER.debugCr(reconciliation, "Restart pod(s) {} would remove them from ISR, stalling producers with acks=all", podIds);
+                // The check will be retried => make sure it uses the current ISRs
+                index.invalidate(blockingTopics);
             }
-            return canRoll;
+
+            return blockingTopics.isEmpty();
         }).recover(error -> {
-            LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", podId, error);
+            LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod(s) {}", podIds, error);
             return Future.failedFuture(error);
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
+    /**
+     * Returns a future which completes when the snapshot contains up-to-date descriptions of the topics with replicas
+     * on the given brokers. Refreshes the stale parts of the snapshot if needed.
+     *
+     * @param podIds    Broker IDs
+     *
+     * @return  Future which completes when the snapshot is ready to be used
+     */
+    private synchronized Future<Void> snapshotFor(Set<Integer> podIds) {
+        if (!snapshot.isComplete()) {
+            return snapshot.transform(i -> snapshotFor(podIds));
+        }
+
+        long notBeforeMs = notBeforeMs();
+        Set<String> topicsOnGivenBrokers = index.topicsOn(podIds);
+
+        // When the previous refresh failed, the index tells what is still missing
+        if (snapshot.failed()
+                || topicNamesListedAt == PartitionReplicaIndex.STALE
+                || topicNamesListedAt < notBeforeMs
+                || !index.stale(topicsOnGivenBrokers, notBeforeMs).isEmpty()
+                || !index.withoutMinIsr(topicsOnGivenBrokers).isEmpty()) {
+            snapshot = refresh(podIds);
+        }
+
+        return snapshot;
+    }
+
+    private long notBeforeMs() {
+        return maxSnapshotAgeMs == Long.MAX_VALUE ? Long.MIN_VALUE + 1 : System.currentTimeMillis() - maxSnapshotAgeMs;
+    }
+
+    /**
+     * Refreshes the snapshot. It lists the topics to find the new and deleted topics and describes the new topics and
+     * the stale topics with replicas on the given brokers. The configurations are described only for the topics with
+     * replicas on the given brokers which were not described yet.
+     *
+     * @param podIds    Broker IDs
+     *
+     * @return  Future which completes when the snapshot is refreshed
+     */
+    private Future<Void> refresh(Set<Integer> podIds) {
+        long startNanos = System.nanoTime();
+        long nowMs = System.currentTimeMillis();
+
+        // 1. Get all topic names
+        return topicNames().compose(names -> {
+            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
+            LOGGER.traceCr(reconciliation, "Topic names {}", names);
+
+            Set<String> removed = index.topicNames();
+            removed.removeAll(names);
+            index.remove(removed);
+
+            Set<String> added = new HashSet<>(names);
+            added.removeAll(index.topicNames());
+
+            Set<String> toDescribe = new HashSet<>(added);
+            toDescribe.addAll(index.stale(index.topicsOn(podIds), notBeforeMs()));
+
+            topicNamesListedAt = nowMs;
+
+            // 2. Get topic descriptions (for the new and stale topics)
+            Future<Collection<TopicDescription>> descriptions = toDescribe.isEmpty()
+                    ? Future.succeededFuture(List.of())
+                    : describeTopics(toDescribe);
+
+            return descriptions
+                    .compose(tds -> {
+                        LOGGER.debugCr(reconciliation, "Got {} topic descriptions", tds.size());
+                        index.update(tds, nowMs);
+
+                        // 3. Get topic configs (for the topics on the given brokers which we do not know yet)
+                        return topicMinIsrs(index.withoutMinIsr(index.topicsOn(podIds)));
+                    })
+                    .map(minIsrs -> {
+                        index.updateMinIsrs(minIsrs);
+                        return (Void) null;
+                    });
+        }).onComplete(ar -> {
+            if (refreshTimer != null) {
+                refreshTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+
+            if (snapshotPartitions != null) {
+                snapshotPartitions.set(index.partitions());
+            }
+
+            if (ar.succeeded()) {
+                LOGGER.debugCr(reconciliation, "Topic snapshot refreshed and contains {} topics with {} partitions", index.topics(), index.partitions());
+            } else {
+                LOGGER.warnCr(reconciliation, "Failed to refresh the topic snapshot", ar.cause());
+            }
+        });
+    }
+
+    private boolean wouldAffectAvailability(Set<Integer> brokers, String topic) {
+        TopicDescription td = index.description(topic);
+        if (td == null) {
+            // The topic was deleted in the meantime
+            return false;
+        }
+
+        int minIsr = index.minIsr(topic);
+        if (minIsr != PartitionReplicaIndex.NO_MIN_ISR) {
             LOGGER.debugCr(reconciliation, "{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
         } else {
-            minIsr = -1;
             LOGGER.debugCr(reconciliation, "{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
         }
 
@@ -110,14 +260,14 @@ class KafkaAvailability {
                 if (pi.replicas().size() <= minIsr) {
                     if (LOGGER.isDebugEnabled()) {
                         LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers,
                                 pi.replicas().size());
                     }
                 } else if (isr.size() < minIsr
-                        && contains(pi.replicas(), broker)) {
+                        && containsAny(pi.replicas(), brokers)) {
                     if (LOGGER.isInfoEnabled()) {
                         String msg;
-                        if (contains(isr, broker)) {
+                        if (containsAny(isr, brokers)) {
                             msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} is in the ISR, " +
                                                           "so should not be restarted right now (it would impact consumers).";
                         } else {
@@ -125,21 +275,20 @@ class KafkaAvailability {
                                                           "so should not be restarted right now (it might be first to catch up).";
                         }
                         LOGGER.infoCr(reconciliation, msg,
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers);
                     }
                     return true;
-                } else if (isr.size() == minIsr
-                        && contains(isr, broker)) {
+                } else if (containsAny(isr, brokers) && isr.size() - countIn(isr, brokers) < minIsr) {
                     if (minIsr < pi.replicas().size()) {
                         if (LOGGER.isInfoEnabled()) {
                             LOGGER.infoCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers);
                         }
                         return true;
                     } else {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers,
                                     pi.replicas().size());
                         }
                     }
@@ -153,43 +302,46 @@ class KafkaAvailability {
         return isr.stream().map(Node::idString).collect(Collectors.joining(","));
     }
 
-    private boolean contains(List<Node> isr, int broker) {
-        return isr.stream().anyMatch(node -> node.id() == broker);
+    private boolean containsAny(List<Node> isr, Set<Integer> brokers) {
+        return isr.stream().anyMatch(node -> brokers.contains(node.id()));
+    }
+
+    private long countIn(List<Node> isr, Set<Integer> brokers) {
+        return isr.stream().filter(node -> brokers.contains(node.id())).count();
     }
 
-    private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
+    private Future<Map<String, Integer>> topicMinIsrs(Collection<String> topicNames) {
+        if (topicNames.isEmpty()) {
+            return Future.succeededFuture(Map.of());
+        }
+
         LOGGER.debugCr(reconciliation, "Getting topic configs for {} topics", topicNames.size());
         List<ConfigResource> configs = topicNames.stream()
                 .map((String topicName) -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
                 .collect(Collectors.toList());
-        Promise<Map<String, Config>> promise = Promise.promise();
+        Promise<Map<String, Integer>> promise = Promise.promise();
         ac.describeConfigs(configs).all().whenComplete((topicNameToConfig, error) -> {
             if (error != null) {
                 promise.fail(error);
             } else {
                 LOGGER.debugCr(reconciliation, "Got topic configs for {} topics", topicNames.size());
-                promise.complete(topicNameToConfig.entrySet().stream()
-                        .collect(Collectors.toMap(
-                            entry -> entry.getKey().name(),
-                            entry -> entry.getValue())));
+                Map<String, Integer> minIsrs = new HashMap<>(topicNameToConfig.size());
+                for (Map.Entry<ConfigResource, Config> entry : topicNameToConfig.entrySet()) {
+                    minIsrs.put(entry.getKey().name(), minIsr(entry.getValue()));
+                }
+                promise.complete(minIsrs);
             }
         });
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
+    private static int minIsr(Config config) {
+        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+        if (minIsrConfig != null && minIsrConfig.value() != null) {
+            return parseInt(minIsrConfig.value());
+        } else {
+            return PartitionReplicaIndex.NO_MIN_ISR;
         }
-        return topicPartitionInfos;
     }
 
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.kafka.config.model.Scope;
+import io.strimzi.operator.cluster.model.KafkaConfigModels;
 import io.strimzi.operator.cluster.model.KafkaConfiguration;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NodeRef;
@@ -41,7 +42,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
 
     private final Reconciliation reconciliation;
     private final Collection<AlterConfigOp> brokerConfigDiff;
-    private final Map<String, ConfigModel> configModel;
+    private final KafkaConfigModels configModels;
 
     /**
      * These options are skipped because they contain placeholders
@@ -79,8 +80,8 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      */
     protected KafkaBrokerConfigurationDiff(Reconciliation reconciliation, Config brokerConfigs, String desired, KafkaVersion kafkaVersion, NodeRef brokerNodeRef) {
         this.reconciliation = reconciliation;
-        this.configModel = KafkaConfiguration.readConfigModel(kafkaVersion);
-        this.brokerConfigDiff = diff(brokerNodeRef, desired, brokerConfigs, configModel);
+        this.configModels = KafkaConfigModels.forVersion(kafkaVersion);
+        this.brokerConfigDiff = diff(brokerNodeRef, desired, brokerConfigs, configModels.configs());
     }
 
     /**
@@ -103,7 +104,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      * @return true if the entry is READ_ONLY
      */
     private boolean isEntryReadOnly(ConfigEntry entry) {
-        return configModel.get(entry.name()).getScope().equals(Scope.READ_ONLY);
+        return configModels.scope(entry.name()) == Scope.READ_ONLY;
     }
 
     /**
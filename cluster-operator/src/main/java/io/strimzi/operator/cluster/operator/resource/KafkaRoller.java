@@ -17,6 +17,7 @@ import io.strimzi.operator.cluster.model.NodeRef;
 import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperatorMetricsHolder;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.PodOperator;
 import io.strimzi.operator.common.AdminClientProvider;
@@ -96,6 +97,11 @@ import static java.util.Collections.singletonList;
  *
  * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.</p>
  *
+ * <p>When the maximum restart parallelism is higher than 1, the broker-only pods which need to be restarted are first
+ * grouped by their rack. Within each rack, batches of up to the maximum parallelism brokers are restarted at the same
+ * time when {@link KafkaAvailability} confirms that restarting the whole batch would not impact availability. The
+ * remaining pods are then handled one-at-a-time by the algorithm above.</p>
+ *
  * <p>Note the following important properties of this algorithm:</p>
  * <ul>
  *     <li>if there is a spontaneous change in controller while the rolling restart is happening, any new
@@ -111,6 +117,7 @@ public class KafkaRoller {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaRoller.class);
     private static final String CONTROLLER_QUORUM_FETCH_TIMEOUT_MS_CONFIG_NAME = "controller.quorum.fetch.timeout.ms";
     private static final String CONTROLLER_QUORUM_FETCH_TIMEOUT_MS_CONFIG_DEFAULT = "2000";
+    private static final long AVAILABILITY_SNAPSHOT_MAX_AGE_MS = 10_000L;
 
     private final PodOperator podOperations;
     private final long pollingIntervalMs;
@@ -129,10 +136,13 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final int maxRestartParallelism;
+    private final KafkaAssemblyOperatorMetricsHolder metrics;
     /**
      * Admin client used to send requests that are only relevant for the brokers. It is bootstrapped with broker nodes that might be rolled.
      */
     private Admin brokerAdminClient;
+    private KafkaAvailability brokerAvailability;
     /**
      * Admin client used to send requests that are only relevant for KRaft controllers (e.g. describeMetadataQuorum). It is bootstrapped with broker bootstrapService
      * so that requests are forwarded to the controllers.
@@ -163,6 +173,38 @@ public class KafkaRoller {
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, Set<NodeRef> nodes,
                        TlsPemIdentity coTlsPemIdentity, AdminClientProvider adminClientProvider, KafkaAgentClientProvider kafkaAgentClientProvider,
                        Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher) {
+        this(reconciliation, vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier, nodes, coTlsPemIdentity,
+                adminClientProvider, kafkaAgentClientProvider, kafkaConfigProvider, kafkaLogging, kafkaVersion, allowReconfiguration,
+                eventsPublisher, 1, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation            Reconciliation marker
+     * @param vertx                     Vert.x instance
+     * @param podOperations             Pod operator for managing pods
+     * @param pollingIntervalMs         Polling interval in milliseconds
+     * @param operationTimeoutMs        Operation timeout in milliseconds
+     * @param backOffSupplier           Backoff supplier
+     * @param nodes                     List of Kafka node references to consider rolling
+     * @param coTlsPemIdentity          Trust set and identity for TLS client authentication for connecting to the Kafka cluster
+     * @param adminClientProvider       Kafka Admin client provider
+     * @param kafkaAgentClientProvider  Kafka Agent client provider
+     * @param kafkaConfigProvider       Kafka configuration provider
+     * @param kafkaLogging              Kafka logging configuration
+     * @param kafkaVersion              Kafka version
+     * @param allowReconfiguration      Flag indicting whether reconfiguration is allowed or not
+     * @param eventsPublisher           Kubernetes Events publisher for publishing events about pod restarts
+     * @param maxRestartParallelism     Maximal number of broker pods from the same rack which can be restarted at the same
+     *                                  time. 1 means that all pods are restarted one-by-one.
+     * @param metrics                   Metrics holder for the metrics about the rolling or null if the metrics are not used
+     */
+    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, Set<NodeRef> nodes,
+                       TlsPemIdentity coTlsPemIdentity, AdminClientProvider adminClientProvider, KafkaAgentClientProvider kafkaAgentClientProvider,
+                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration,
+                       KubernetesRestartEventPublisher eventsPublisher, int maxRestartParallelism, KafkaAssemblyOperatorMetricsHolder metrics) {
         this.namespace = reconciliation.namespace();
         this.cluster = reconciliation.name();
         this.nodes = nodes;
@@ -183,6 +225,8 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.maxRestartParallelism = maxRestartParallelism;
+        this.metrics = metrics;
     }
 
     private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
@@ -267,9 +311,27 @@ public class KafkaRoller {
                 }
 
                 Future.join(controllerFutures).compose(v -> {
+                    if (allowReconfiguration) {
+                        return scheduleParallelDynamicUpdates(brokerPods);
+                    } else {
+                        return Future.succeededFuture();
+                    }
+                }).compose(v -> {
+                    if (maxRestartParallelism > 1) {
+                        return scheduleParallelRestarts(brokerPods);
+                    } else {
+                        return Future.succeededFuture();
+                    }
+                }).compose(v -> {
                     List<Future<Void>> brokerFutures = new ArrayList<>(nodes.size());
                     for (NodeRef broker : brokerPods) {
-                        brokerFutures.add(schedule(broker, 0, TimeUnit.MILLISECONDS));
+                        RestartContext ctx = podToContext.get(broker.podName());
+                        if (ctx != null && ctx.promise.future().isComplete()) {
+                            // Already updated dynamically or restarted as part of a parallel batch
+                            brokerFutures.add(ctx.promise.future());
+                        } else {
+                            brokerFutures.add(schedule(broker, 0, TimeUnit.MILLISECONDS));
+                        }
                     }
                     return Future.join(brokerFutures);
                 }).onComplete(ar -> {
@@ -347,6 +409,255 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Runs the parallel dynamic updates of the broker pods on the roller thread. Only interruption fails the returned
+     * future. Any other problem just means that the remaining pods will be updated one-by-one.
+     *
+     * @param brokerPods    Broker pods in the order in which they would be rolled
+     *
+     * @return  Future which completes when the parallel dynamic updates are finished
+     */
+    private Future<Void> scheduleParallelDynamicUpdates(List<NodeRef> brokerPods) {
+        Promise<Void> result = Promise.promise();
+        singleExecutor.submit(() -> {
+            try {
+                updateBrokersDynamicallyInParallel(brokerPods);
+                result.complete();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.fail(e);
+            } catch (Exception e) {
+                LOGGER.warnCr(reconciliation, "Could not update brokers dynamically in parallel, the remaining brokers will be updated one-by-one", e);
+                result.complete();
+            }
+        });
+        return result.future();
+    }
+
+    /**
+     * Dynamically updates the ready broker pods which do not need to be restarted. The configuration and logging of all
+     * these brokers are described in a single Admin API call, the diffs are computed in parallel and the alterations
+     * are sent at the same time. Dynamic updates do not affect availability, so no availability checks are needed. The
+     * pods which do not need any update or which were updated successfully are done. The pods which need to be restarted
+     * or whose update failed are left to the one-by-one rolling. This method blocks.
+     *
+     * @param brokerPods    Broker pods in the order in which they would be rolled
+     *
+     * @throws Exception    Problem when describing or updating the broker configurations
+     */
+    private void updateBrokersDynamicallyInParallel(List<NodeRef> brokerPods) throws Exception {
+        List<NodeRef> candidates = new ArrayList<>();
+        for (NodeRef nodeRef : brokerPods) {
+            if (!podOperations.isReady(namespace, nodeRef.podName())) {
+                continue;
+            }
+
+            Pod pod = podOperations.get(namespace, nodeRef.podName());
+            if (pod == null
+                    || isPodStuck(pod)
+                    || !Labels.booleanLabel(pod, Labels.STRIMZI_BROKER_ROLE_LABEL, nodeRef.broker())
+                    || Labels.booleanLabel(pod, Labels.STRIMZI_CONTROLLER_ROLE_LABEL, nodeRef.controller())
+                    || podNeedsRestart.apply(pod).shouldRestart()) {
+                continue;
+            }
+
+            candidates.add(nodeRef);
+        }
+
+        if (candidates.size() < 2) {
+            // Nothing to gain compared to the one-by-one update
+            return;
+        }
+
+        if (!maybeInitBrokerAdminClient()) {
+            throw new ForceableProblem("Failed to create the broker admin client");
+        }
+
+        Map<ConfigResource, Config> configs = describeBrokerConfigs(candidates);
+
+        // The diffs do not depend on each other, so they are computed in parallel
+        Map<NodeRef, DynamicUpdate> diffs = candidates.parallelStream()
+                .collect(Collectors.toMap(Function.identity(), nodeRef -> new DynamicUpdate(
+                        new KafkaBrokerConfigurationDiff(reconciliation, configs.get(Util.getBrokersConfig(nodeRef.nodeId())), kafkaConfigProvider.apply(nodeRef.nodeId()), kafkaVersion, nodeRef),
+                        new KafkaBrokerLoggingConfigurationDiff(reconciliation, configs.get(Util.getBrokersLogging(nodeRef.nodeId())), kafkaLogging))));
+
+        Map<NodeRef, DynamicUpdate> updates = new HashMap<>(diffs.size());
+        for (Map.Entry<NodeRef, DynamicUpdate> diff : diffs.entrySet()) {
+            KafkaBrokerConfigurationDiff configDiff = diff.getValue().configDiff();
+
+            if (configDiff.getDiffSize() > 0 && !configDiff.canBeUpdatedDynamically()) {
+                LOGGER.debugCr(reconciliation, "Pod {} cannot be updated dynamically and is left for the one-by-one rolling", diff.getKey());
+            } else if (configDiff.getDiffSize() > 0 || diff.getValue().loggingDiff().getDiffSize() > 0) {
+                updates.put(diff.getKey(), diff.getValue());
+            } else {
+                LOGGER.debugCr(reconciliation, "Pod {} does not need to be restarted or reconfigured", diff.getKey());
+                podToContext.computeIfAbsent(diff.getKey().podName(), k -> new RestartContext(backoffSupplier)).promise.complete();
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            LOGGER.infoCr(reconciliation, "Updating configuration of pods {} dynamically in parallel", updates.keySet());
+            Map<NodeRef, Future<Void>> results = dynamicUpdateBrokerConfigs(brokerAdminClient, updates);
+            await(Future.join(new ArrayList<>(results.values())).otherwiseEmpty(), 30, TimeUnit.SECONDS,
+                    error -> new ForceableProblem("Error updating broker configurations", error));
+
+            for (Map.Entry<NodeRef, Future<Void>> result : results.entrySet()) {
+                if (result.getValue().succeeded()) {
+                    LOGGER.infoCr(reconciliation, "Dynamic update of pod {} was successful.", result.getKey());
+                    podToContext.computeIfAbsent(result.getKey().podName(), k -> new RestartContext(backoffSupplier)).promise.complete();
+                } else {
+                    LOGGER.debugCr(reconciliation, "Pod {} could not be updated dynamically in parallel ({}), it is left for the one-by-one rolling", result.getKey(), result.getValue().cause());
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the parallel restarts of the broker pods on the roller thread. Only fatal problems fail the returned future.
+     * Any other problem just means that the remaining pods will be rolled one-by-one.
+     *
+     * @param brokerPods    Broker pods in the order in which they would be rolled
+     *
+     * @return  Future which completes when the parallel restarts are finished
+     */
+    private Future<Void> scheduleParallelRestarts(List<NodeRef> brokerPods) {
+        Promise<Void> result = Promise.promise();
+        singleExecutor.submit(() -> {
+            try {
+                restartBrokersInParallel(brokerPods);
+                result.complete();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.fail(e);
+            } catch (FatalProblem e) {
+                LOGGER.infoCr(reconciliation, "Could not restart brokers in parallel, giving up without retrying because we encountered a fatal error", e);
+                podToContext.forEachValue(Integer.MAX_VALUE, f -> f.promise.tryFail(e));
+                result.fail(e);
+            } catch (Exception e) {
+                LOGGER.warnCr(reconciliation, "Could not restart brokers in parallel, the remaining brokers will be rolled one-by-one", e);
+                result.complete();
+            }
+        });
+        return result.future();
+    }
+
+    /**
+     * Restarts the broker pods which need to be restarted in batches. The batches contain only ready pods from the same
+     * rack and are built so that {@link KafkaAvailability} confirms that all pods in the batch can be rolled together.
+     * Pods which cannot be batched with any other pod are left to the one-by-one rolling. This method blocks.
+     *
+     * @param brokerPods    Broker pods in the order in which they would be rolled
+     *
+     * @throws Exception    Problem when restarting the pods. FatalProblem is thrown when the restarted pods do not get ready.
+     */
+    private void restartBrokersInParallel(List<NodeRef> brokerPods) throws Exception {
+        if (!maybeInitBrokerAdminClient()) {
+            throw new ForceableProblem("Failed to create the broker admin client");
+        }
+
+        Map<Integer, String> racks = brokerRacks();
+        Map<String, List<NodeRef>> candidatesByRack = new HashMap<>();
+        Map<NodeRef, Pod> pods = new HashMap<>();
+        int controllerId = -1;
+        for (NodeRef nodeRef : brokerPods) {
+            String rack = racks.get(nodeRef.nodeId());
+            if (rack == null || !podOperations.isReady(namespace, nodeRef.podName())) {
+                continue;
+            }
+
+            Pod pod = podOperations.get(namespace, nodeRef.podName());
+            if (pod == null || isPodStuck(pod) || !podNeedsRestart.apply(pod).shouldRestart()) {
+                continue;
+            }
+
+            if (controllerId == -1) {
+                // The controller is left for the one-by-one rolling so that it is restarted last
+                controllerId = controller(nodeRef, operationTimeoutMs, TimeUnit.MILLISECONDS, new RestartContext(backoffSupplier));
+            }
+
+            if (nodeRef.nodeId() != controllerId) {
+                candidatesByRack.computeIfAbsent(rack, r -> new ArrayList<>()).add(nodeRef);
+                pods.put(nodeRef, pod);
+            }
+        }
+
+        for (Map.Entry<String, List<NodeRef>> rack : candidatesByRack.entrySet()) {
+            List<NodeRef> candidates = new ArrayList<>(rack.getValue());
+
+            while (candidates.size() > 1) {
+                List<NodeRef> batch = nextBatch(candidates);
+
+                if (batch.size() < 2) {
+                    LOGGER.debugCr(reconciliation, "No more pods from rack {} can be restarted in parallel", rack.getKey());
+                    break;
+                }
+
+                candidates.removeAll(batch);
+                restartBatch(batch.stream().map(pods::get).toList());
+            }
+        }
+    }
+
+    /**
+     * Builds the next batch of pods which can be restarted together. Starts with the first candidate and adds the other
+     * candidates one by one as long as {@link KafkaAvailability} confirms that the batch can be rolled.
+     *
+     * @param candidates    Candidate pods from the same rack
+     *
+     * @return  Batch of pods which can be restarted together
+     */
+    private List<NodeRef> nextBatch(List<NodeRef> candidates) throws ForceableProblem, InterruptedException {
+        KafkaAvailability availability = brokerAvailability();
+        List<NodeRef> batch = new ArrayList<>();
+        Set<Integer> batchIds = new HashSet<>();
+
+        for (NodeRef candidate : candidates) {
+            if (batch.size() >= maxRestartParallelism) {
+                break;
+            }
+
+            Set<Integer> ids = new HashSet<>(batchIds);
+            ids.add(candidate.nodeId());
+
+            if (batch.isEmpty() || await(availability.canRoll(ids), operationTimeoutMs, TimeUnit.MILLISECONDS,
+                    t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka broker pods", t))) {
+                batch.add(candidate);
+                batchIds = ids;
+            }
+        }
+
+        return batch;
+    }
+
+    /**
+     * Restarts the pods from the batch at the same time and waits for all of them to become ready. This method blocks.
+     *
+     * @param batch     Pods which should be restarted
+     */
+    private void restartBatch(List<Pod> batch) throws InterruptedException, UnforceableProblem, FatalProblem {
+        List<String> podNames = batch.stream().map(pod -> pod.getMetadata().getName()).toList();
+        List<RestartContext> contexts = new ArrayList<>(batch.size());
+        List<Future<Void>> restarts = new ArrayList<>(batch.size());
+
+        for (Pod pod : batch) {
+            RestartContext ctx = podToContext.computeIfAbsent(pod.getMetadata().getName(), k -> new RestartContext(backoffSupplier));
+            ctx.restartReasons = podNeedsRestart.apply(pod);
+            LOGGER.infoCr(reconciliation, "Rolling Pod {} in parallel with pods {} due to {}", pod.getMetadata().getName(), podNames, ctx.restartReasons.getAllReasonNotes());
+            contexts.add(ctx);
+            restarts.add(restart(pod, ctx));
+        }
+
+        await(Future.join(restarts), operationTimeoutMs, TimeUnit.MILLISECONDS, e -> new UnforceableProblem("Error while trying to restart pods " + podNames, e));
+
+        for (Pod pod : batch) {
+            awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+        }
+
+        invalidateBrokerAvailability();
+
+        contexts.forEach(ctx -> ctx.promise.complete());
+    }
+
     /**
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
@@ -744,6 +1055,56 @@ public class KafkaRoller {
         LOGGER.infoCr(reconciliation, "Dynamic update of pod {} was successful.", nodeRef);
     }
 
+    /**
+     * Describes the configuration and logging of the given brokers in a single Admin API call.
+     *
+     * @param nodes     References of the brokers
+     *
+     * @return  Map with the broker configurations and broker logging configurations
+     */
+    /* test */ Map<ConfigResource, Config> describeBrokerConfigs(List<NodeRef> nodes) throws ForceableProblem, InterruptedException {
+        List<ConfigResource> resources = new ArrayList<>(nodes.size() * 2);
+        for (NodeRef nodeRef : nodes) {
+            resources.add(Util.getBrokersConfig(nodeRef.nodeId()));
+            resources.add(Util.getBrokersLogging(nodeRef.nodeId()));
+        }
+
+        return await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, brokerAdminClient.describeConfigs(resources).all()),
+                30, TimeUnit.SECONDS,
+            error -> new ForceableProblem("Error getting broker configs", error)
+        );
+    }
+
+    /**
+     * Sends the dynamic updates of multiple brokers in a single Admin API call. The Admin client sends the alterations
+     * to the different brokers concurrently.
+     *
+     * @param ac        Admin client
+     * @param updates   Map with the configuration and logging diffs of the brokers which should be updated
+     *
+     * @return  Map with the Futures which complete when the update of given broker is done
+     */
+    /* test */ Map<NodeRef, Future<Void>> dynamicUpdateBrokerConfigs(Admin ac, Map<NodeRef, DynamicUpdate> updates) {
+        Map<ConfigResource, Collection<AlterConfigOp>> updatedConfig = new HashMap<>(updates.size() * 2);
+        for (Map.Entry<NodeRef, DynamicUpdate> update : updates.entrySet()) {
+            int nodeId = update.getKey().nodeId();
+            updatedConfig.put(Util.getBrokersConfig(nodeId), update.getValue().configDiff().getConfigDiff());
+            updatedConfig.put(Util.getBrokersLogging(nodeId), update.getValue().loggingDiff().getLoggingDiff());
+        }
+
+        LOGGER.traceCr(reconciliation, "Updating broker configurations with {}", updatedConfig);
+
+        Map<ConfigResource, KafkaFuture<Void>> alterConfigResults = ac.incrementalAlterConfigs(updatedConfig).values();
+        Map<NodeRef, Future<Void>> results = new HashMap<>(updates.size());
+        for (NodeRef nodeRef : updates.keySet()) {
+            KafkaFuture<Void> result = KafkaFuture.allOf(alterConfigResults.get(Util.getBrokersConfig(nodeRef.nodeId())),
+                    alterConfigResults.get(Util.getBrokersLogging(nodeRef.nodeId())));
+            results.put(nodeRef, VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, result));
+        }
+
+        return results;
+    }
+
     private KafkaBrokerLoggingConfigurationDiff logging(NodeRef nodeRef)
             throws ForceableProblem, InterruptedException {
         Config brokerLogging = brokerLogging(nodeRef.nodeId());
@@ -751,6 +1112,14 @@ public class KafkaRoller {
         return new KafkaBrokerLoggingConfigurationDiff(reconciliation, brokerLogging, kafkaLogging);
     }
 
+    /**
+     * Configuration and logging diffs of a broker which is updated dynamically
+     *
+     * @param configDiff    Broker configuration diff
+     * @param loggingDiff   Broker logging diff
+     */
+    /* test */ record DynamicUpdate(KafkaBrokerConfigurationDiff configDiff, KafkaBrokerLoggingConfigurationDiff loggingDiff) { }
+
     /** Exceptions which we're prepared to ignore (thus forcing a restart) in some circumstances. */
     static final class ForceableProblem extends Exception {
         final boolean forceNow;
@@ -806,14 +1175,14 @@ public class KafkaRoller {
             if (isBroker && isController) {
                 boolean canRollController = await(restartContext.quorumCheck.canRollController(nodeId), timeout, unit,
                         t -> new UnforceableProblem("An error while trying to determine the possibility of updating Kafka controller pods", t));
-                boolean canRollBroker = await(availability(brokerAdminClient).canRoll(nodeId), timeout, unit,
+                boolean canRollBroker = await(brokerAvailability().canRoll(nodeId), timeout, unit,
                         t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka broker pods", t));
                 return canRollController && canRollBroker;
             } else if (isController) {
                 return await(restartContext.quorumCheck.canRollController(nodeId), timeout, unit,
                         t -> new UnforceableProblem("An error while trying to determine the possibility of updating Kafka controller pods", t));
             } else {
-                return await(availability(brokerAdminClient).canRoll(nodeId), timeout, unit,
+                return await(brokerAvailability().canRoll(nodeId), timeout, unit,
                         t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka broker pods", t));
             }
         } catch (ForceableProblem | UnforceableProblem e) {
@@ -842,6 +1211,7 @@ public class KafkaRoller {
         LOGGER.debugCr(reconciliation, "Rolling pod {}", podName);
         await(restart(pod, restartContext), timeout, unit, e -> new UnforceableProblem("Error while trying to restart pod " + podName + " to become ready", e));
         awaitReadiness(pod, timeout, unit);
+        invalidateBrokerAvailability();
     }
 
     private void awaitReadiness(Pod pod, long timeout, TimeUnit unit) throws FatalProblem, InterruptedException {
@@ -936,7 +1306,54 @@ public class KafkaRoller {
     }
 
     /* test */ KafkaAvailability availability(Admin ac) {
-        return new KafkaAvailability(reconciliation, ac);
+        return new KafkaAvailability(reconciliation, ac, AVAILABILITY_SNAPSHOT_MAX_AGE_MS,
+                metrics != null ? metrics.kafkaRollerSnapshotRefreshTimer(cluster, namespace) : null,
+                metrics != null ? metrics.kafkaRollerSnapshotPartitions(cluster, namespace) : null);
+    }
+
+    /**
+     * Returns the KafkaAvailability shared by all checks of the broker pods during this rolling update, so that the
+     * topic snapshot is built only once per rolling update and then refreshed incrementally.
+     *
+     * @return  KafkaAvailability instance
+     */
+    private KafkaAvailability brokerAvailability() {
+        if (brokerAvailability == null) {
+            brokerAvailability = availability(brokerAdminClient);
+        }
+
+        return brokerAvailability;
+    }
+
+    /**
+     * Marks the topic snapshot as stale after a broker restart, because the ISRs of its partitions are changing.
+     */
+    private void invalidateBrokerAvailability() {
+        if (brokerAvailability != null) {
+            brokerAvailability.invalidate();
+        }
+    }
+
+    /**
+     * Gets the racks of the brokers. Brokers without a rack are not included in the returned map.
+     *
+     * @return  Map with the broker IDs and their racks
+     */
+    /* test */ Map<Integer, String> brokerRacks() throws ForceableProblem, InterruptedException {
+        try {
+            Collection<Node> brokers = brokerAdminClient.describeCluster().nodes().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
+            Map<Integer, String> racks = new HashMap<>(brokers.size());
+
+            for (Node broker : brokers) {
+                if (broker.hasRack()) {
+                    racks.put(broker.id(), broker.rack());
+                }
+            }
+
+            return racks;
+        } catch (ExecutionException | TimeoutException e) {
+            throw new ForceableProblem("An error while trying to get the racks of the Kafka brokers", e);
+        }
     }
     
     /**
@@ -0,0 +1,206 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory index of the topic partitions hosted by each broker together with their ISR and the
+ * {@code min.insync.replicas} of their topics. It is used by {@link KafkaAvailability} to answer the repeated checks
+ * done during a single rolling update without describing all topics in the cluster for each of them. Each topic keeps
+ * the time when it was described, so that only the stale topics can be refreshed.
+ */
+class PartitionReplicaIndex {
+    /**
+     * Used for topics without {@code min.insync.replicas}
+     */
+    static final int NO_MIN_ISR = -1;
+
+    /**
+     * Used as the description time of the topics which were invalidated
+     */
+    static final long STALE = Long.MIN_VALUE;
+
+    private final Map<String, TopicDescription> descriptions = new HashMap<>();
+    private final Map<String, Long> describedAt = new HashMap<>();
+    private final Map<String, Integer> minIsrs = new HashMap<>();
+    private final Map<Integer, Set<String>> topicsByBroker = new HashMap<>();
+    private int partitions = 0;
+
+    /**
+     * Adds or replaces the topic descriptions
+     *
+     * @param tds       Topic descriptions
+     * @param nowMs     Time when the topics were described
+     */
+    synchronized void update(Collection<TopicDescription> tds, long nowMs) {
+        for (TopicDescription td : tds) {
+            removeFromBrokers(descriptions.put(td.name(), td));
+            describedAt.put(td.name(), nowMs);
+            partitions += td.partitions().size();
+
+            for (TopicPartitionInfo pi : td.partitions()) {
+                for (Node replica : pi.replicas()) {
+                    topicsByBroker.computeIfAbsent(replica.id(), id -> new HashSet<>()).add(td.name());
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the {@code min.insync.replicas} of the topics
+     *
+     * @param topicMinIsrs  Map with the topic names and their {@code min.insync.replicas} or {@link #NO_MIN_ISR}
+     */
+    synchronized void updateMinIsrs(Map<String, Integer> topicMinIsrs) {
+        minIsrs.putAll(topicMinIsrs);
+    }
+
+    /**
+     * Removes the topics which do not exist anymore
+     *
+     * @param topicNames    Names of the removed topics
+     */
+    synchronized void remove(Collection<String> topicNames) {
+        for (String topicName : topicNames) {
+            removeFromBrokers(descriptions.remove(topicName));
+            describedAt.remove(topicName);
+            minIsrs.remove(topicName);
+        }
+    }
+
+    private void removeFromBrokers(TopicDescription td) {
+        if (td != null) {
+            partitions -= td.partitions().size();
+
+            for (TopicPartitionInfo pi : td.partitions()) {
+                for (Node replica : pi.replicas()) {
+                    Set<String> topics = topicsByBroker.get(replica.id());
+
+                    if (topics != null) {
+                        topics.remove(td.name());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the topics as stale so that they are described again before they are used next time
+     *
+     * @param topicNames    Names of the stale topics
+     */
+    synchronized void invalidate(Collection<String> topicNames) {
+        for (String topicName : topicNames) {
+            describedAt.computeIfPresent(topicName, (name, time) -> STALE);
+        }
+    }
+
+    /**
+     * Marks all topics as stale
+     */
+    synchronized void invalidateAll() {
+        describedAt.replaceAll((name, time) -> STALE);
+    }
+
+    /**
+     * @return  Names of all indexed topics
+     */
+    synchronized Set<String> topicNames() {
+        return new HashSet<>(descriptions.keySet());
+    }
+
+    /**
+     * @param brokers   Broker IDs
+     *
+     * @return  Names of the topics with a replica on any of the brokers
+     */
+    synchronized Set<String> topicsOn(Set<Integer> brokers) {
+        Set<String> topics = new HashSet<>();
+
+        for (Integer broker : brokers) {
+            topics.addAll(topicsByBroker.getOrDefault(broker, Set.of()));
+        }
+
+        return topics;
+    }
+
+    /**
+     * @param topicNames    Topic names
+     * @param notBeforeMs   Topics described before this time are stale
+     *
+     * @return  Names of the topics from the given collection which are stale
+     */
+    synchronized Set<String> stale(Collection<String> topicNames, long notBeforeMs) {
+        Set<String> stale = new HashSet<>();
+
+        for (String topicName : topicNames) {
+            long time = describedAt.getOrDefault(topicName, STALE);
+
+            if (time == STALE || time < notBeforeMs) {
+                stale.add(topicName);
+            }
+        }
+
+        return stale;
+    }
+
+    /**
+     * @param topicNames    Topic names
+     *
+     * @return  Names of the topics from the given collection without known {@code min.insync.replicas}
+     */
+    synchronized Set<String> withoutMinIsr(Collection<String> topicNames) {
+        Set<String> withoutMinIsr = new HashSet<>();
+
+        for (String topicName : topicNames) {
+            if (!minIsrs.containsKey(topicName)) {
+                withoutMinIsr.add(topicName);
+            }
+        }
+
+        return withoutMinIsr;
+    }
+
+    /**
+     * @param topicName Topic name
+     *
+     * @return  Description of the topic or null if it is not indexed
+     */
+    synchronized TopicDescription description(String topicName) {
+        return descriptions.get(topicName);
+    }
+
+    /**
+     * @param topicName Topic name
+     *
+     * @return  The {@code min.insync.replicas} of the topic or {@link #NO_MIN_ISR} if it is not set
+     */
+    synchronized int minIsr(String topicName) {
+        return minIsrs.getOrDefault(topicName, NO_MIN_ISR);
+    }
+
+    /**
+     * @return  Number of indexed topics
+     */
+    synchronized int topics() {
+        return descriptions.size();
+    }
+
+    /**
+     * @return  Number of indexed partitions
+     */
+    synchronized int partitions() {
+        return partitions;
+    }
+}
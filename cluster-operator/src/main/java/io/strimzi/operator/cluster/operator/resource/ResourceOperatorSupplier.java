@@ -27,6 +27,7 @@ import io.strimzi.operator.cluster.model.DefaultSharedEnvironmentProvider;
 import io.strimzi.operator.cluster.model.SharedEnvironmentProvider;
 import io.strimzi.operator.cluster.operator.assembly.BrokersInUseCheck;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.AbstractNamespacedResourceOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.BuildConfigOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.BuildOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.ClusterRoleBindingOperator;
@@ -55,6 +56,9 @@ import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Class holding the various resource operator and providers of various clients
  */
@@ -488,4 +492,29 @@ public class ResourceOperatorSupplier {
         this.sharedEnvironmentProvider = sharedEnvironmentProvider;
         this.brokersInUseCheck = brokersInUseCheck;
     }
+
+    /**
+     * Enables the desired state hash in the operators for the resources which are fully owned by the operator and are
+     * not expected to be modified by others. The unchanged resources are then not diffed and patched in the periodic
+     * reconciliations.
+     */
+    public void enableDesiredStateHash() {
+        List<AbstractNamespacedResourceOperator<?, ?, ?, ?>> operators = new ArrayList<>(List.of(
+                serviceOperations,
+                configMapOperations,
+                serviceAccountOperations,
+                roleBindingOperations,
+                roleOperations,
+                networkPolicyOperator,
+                podDisruptionBudgetOperator,
+                ingressOperations));
+
+        if (routeOperations != null) {
+            operators.add(routeOperations);
+        }
+
+        for (AbstractNamespacedResourceOperator<?, ?, ?, ?> operator : operators) {
+            operator.setDesiredStateHashEnabled(true);
+        }
+    }
 }
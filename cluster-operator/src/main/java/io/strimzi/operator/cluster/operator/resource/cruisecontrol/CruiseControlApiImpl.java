@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
 import io.fabric8.kubernetes.api.model.HTTPHeader;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
 import io.strimzi.operator.common.CruiseControlUtil;
 import io.strimzi.operator.common.Reconciliation;
@@ -21,6 +22,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
@@ -32,6 +34,7 @@ import io.vertx.core.net.PemTrustOptions;
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 
 import static io.strimzi.operator.common.model.cruisecontrol.CruiseControlHeaders.USER_TASK_ID_HEADER;
 
@@ -52,6 +55,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     private final boolean apiSslEnabled;
     private final HTTPHeader authHttpHeader;
     private final PemTrustOptions pto;
+    private final HttpClientPool httpClientPool;
 
     /**
      * Constructor
@@ -64,11 +68,28 @@ public class CruiseControlApiImpl implements CruiseControlApi {
      * @param apiSslEnabled     Flag indicating if TLS is enabled
      */
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled) {
+        this(vertx, idleTimeout, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance
+     * @param idleTimeout       Idle timeout
+     * @param ccSecret          Cruise Control Secret
+     * @param ccApiSecret       Cruise Control API Secret
+     * @param apiAuthEnabled    Flag indicating if authentication is enabled
+     * @param apiSslEnabled     Flag indicating if TLS is enabled
+     * @param httpClientPool    Pool of the HTTP clients shared between the requests or null to use a new HTTP client
+     *                          for each request
+     */
+    public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled, HttpClientPool httpClientPool) {
         this.vertx = vertx;
         this.idleTimeout = idleTimeout;
         this.apiSslEnabled = apiSslEnabled;
         this.authHttpHeader = getAuthHttpHeader(apiAuthEnabled, ccApiSecret);
         this.pto = new PemTrustOptions().addCertValue(Buffer.buffer(Util.decodeBase64FieldFromSecret(ccSecret, "cruise-control.crt")));
+        this.httpClientPool = httpClientPool;
     }
 
     @Override
@@ -91,6 +112,14 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         }
     }
 
+    private <T> Future<T> withHttpClient(HttpClientOptions options, BiConsumer<HttpClient, Promise<T>> operation) {
+        if (httpClientPool != null) {
+            return httpClientPool.withHttpClient(options, operation);
+        } else {
+            return HttpClientUtils.withHttpClient(vertx, options, operation);
+        }
+    }
+
     private static HTTPHeader generateAuthHttpHeader(String user, String password) {
         String headerName = "Authorization";
         String headerValue = CruiseControlUtil.buildBasicAuthValue(user, password);
@@ -116,7 +145,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(options, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending GET request to {}", path);
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
@@ -262,7 +291,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return withHttpClient(httpOptions, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending POST request to {} with userTaskID {}", path, userTaskId);
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(reconciliation, host, port, path, userTaskId, request, result));
         });
@@ -282,7 +311,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return withHttpClient(httpOptions, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending POST request to {} with userTaskID {}", path, userTaskId);
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(reconciliation, host, port, path, userTaskId, request, result));
         });
@@ -302,7 +331,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return withHttpClient(httpOptions, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending POST request to {} with userTaskID {}", path, userTaskId);
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(reconciliation, host, port, path, userTaskId, request, result));
         });
@@ -324,7 +353,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(options, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending GET request to {} with userTaskID {}", path, userTaskId);
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
@@ -433,7 +462,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(options, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending POST request to {}", path);
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
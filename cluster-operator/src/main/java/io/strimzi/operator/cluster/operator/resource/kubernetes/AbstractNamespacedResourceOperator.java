@@ -49,6 +49,8 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         extends AbstractResourceOperator<C, T, L, R> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractNamespacedResourceOperator.class);
 
+    private volatile boolean desiredStateHashEnabled = false;
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -61,6 +63,26 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
 
     protected abstract MixedOperation<T, L, R> operation();
 
+    /**
+     * Enables or disables the desired state hash. When enabled, the hash of the desired resource is stored in the
+     * {@link DesiredStateHash#ANNO_STRIMZI_IO_DESIRED_STATE_HASH} annotation when the resource is created or updated.
+     * When the hash of the desired resource matches the hash stored in the existing resource, the existing resource is
+     * not diffed and patched. Any changes done to the resource by other actors are not reverted until the desired
+     * resource changes. So it should be used only for resources which are not expected to be modified by others.
+     *
+     * @param enabled   True to enable the desired state hash. False otherwise.
+     */
+    public void setDesiredStateHashEnabled(boolean enabled) {
+        this.desiredStateHashEnabled = enabled;
+    }
+
+    /**
+     * @return  True if the desired state hash is enabled for this operator. False otherwise.
+     */
+    public boolean isDesiredStateHashEnabled() {
+        return desiredStateHashEnabled;
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -93,12 +115,17 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
         }
 
+        String desiredHash = desiredStateHashEnabled && desired != null ? DesiredStateHash.stamp(desired) : null;
+
         return getAsync(namespace, name)
                 .compose(current -> {
                     if (desired != null) {
                         if (current == null) {
                             LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
                             return internalCreate(reconciliation, namespace, name, desired);
+                        } else if (desiredHash != null && desiredHash.equals(DesiredStateHash.of(current))) {
+                            LOGGER.debugCr(reconciliation, "{} {}/{} matches the desired state hash, noop", resourceKind, namespace, name);
+                            return Future.succeededFuture(ReconcileResult.noop(current));
                         } else {
                             LOGGER.debugCr(reconciliation, "{} {}/{} already exists, updating it", resourceKind, namespace, name);
                             return internalUpdate(reconciliation, namespace, name, current, desired);
@@ -0,0 +1,92 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.kubernetes;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.Util;
+
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Utility methods for the hash of the desired state of the resources. The hash is stored in an annotation of the
+ * resource when it is created or updated. When the hash of the new desired state matches the hash stored in the
+ * existing resource, the desired state did not change since the last update and the resource does not need to be
+ * diffed and patched.
+ */
+public final class DesiredStateHash {
+    /**
+     * Annotation with the hash of the desired state of the resource
+     */
+    public static final String ANNO_STRIMZI_IO_DESIRED_STATE_HASH = Annotations.STRIMZI_DOMAIN + "desired-state-hash";
+
+    // Sorting the properties and map entries makes the JSON canonical regardless of the order in which the resource was built
+    private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    private DesiredStateHash() { }
+
+    /**
+     * Calculates the hash of the desired resource and stores it in its annotation. Any hash stored previously in the
+     * desired resource is not part of the hash.
+     *
+     * @param desired   Desired resource
+     *
+     * @return  The hash of the desired resource
+     */
+    public static String stamp(HasMetadata desired) {
+        Map<String, String> annotations = desired.getMetadata().getAnnotations();
+
+        if (annotations != null && annotations.containsKey(ANNO_STRIMZI_IO_DESIRED_STATE_HASH)) {
+            annotations = new LinkedHashMap<>(annotations);
+            annotations.remove(ANNO_STRIMZI_IO_DESIRED_STATE_HASH);
+            desired.getMetadata().setAnnotations(annotations);
+        }
+
+        String hash = hash(desired);
+
+        // The annotations are copied as the original map might be immutable
+        annotations = annotations != null ? new LinkedHashMap<>(annotations) : new LinkedHashMap<>(1);
+        annotations.put(ANNO_STRIMZI_IO_DESIRED_STATE_HASH, hash);
+        desired.getMetadata().setAnnotations(annotations);
+
+        return hash;
+    }
+
+    /**
+     * Gets the hash of the desired state stored in the resource
+     *
+     * @param resource  Resource
+     *
+     * @return  The stored hash or null if the resource does not have it
+     */
+    public static String of(HasMetadata resource) {
+        return Annotations.stringAnnotation(resource, ANNO_STRIMZI_IO_DESIRED_STATE_HASH, null);
+    }
+
+    /**
+     * Calculates the SHA-1 hash of the canonical JSON representation of the resource
+     *
+     * @param resource  Resource
+     *
+     * @return  The hash as a hexadecimal string
+     */
+    /* test */ static String hash(HasMetadata resource) {
+        try {
+            return String.format("%040x", new BigInteger(1, Util.sha1Digest(CANONICAL_MAPPER.writeValueAsBytes(resource))));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to calculate the hash of " + resource.getKind() + " " + resource.getMetadata().getName(), e);
+        }
+    }
+}
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.UnsupportedVersionException;
@@ -387,4 +388,79 @@ public class ClusterOperatorConfigTest {
         config.getLeaderElectionConfig();
         assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getLeaderElectionConfig(), is(notNullValue()));
     }
+
+    @Test
+    public void testCertManagerType() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        envVars.put(ClusterOperatorConfig.CERT_MANAGER.key(), "bouncycastle");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.BOUNCYCASTLE));
+
+        envVars.put(ClusterOperatorConfig.CERT_MANAGER.key(), "keytool");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testPodSetControllerWorkers() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getPodSetControllerWorkers(), is(1));
+
+        envVars.put(ClusterOperatorConfig.POD_SET_CONTROLLER_WORKERS.key(), "8");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getPodSetControllerWorkers(), is(8));
+
+        envVars.put(ClusterOperatorConfig.POD_SET_CONTROLLER_WORKERS.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testKafkaRollerMaxParallelRestarts() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getKafkaRollerMaxParallelRestarts(), is(1));
+
+        envVars.put(ClusterOperatorConfig.KAFKA_ROLLER_MAX_PARALLEL_RESTARTS.key(), "3");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getKafkaRollerMaxParallelRestarts(), is(3));
+
+        envVars.put(ClusterOperatorConfig.KAFKA_ROLLER_MAX_PARALLEL_RESTARTS.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testDesiredStateHashEnabled() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isDesiredStateHashEnabled(), is(false));
+
+        envVars.put(ClusterOperatorConfig.DESIRED_STATE_HASH_ENABLED.key(), "true");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isDesiredStateHashEnabled(), is(true));
+    }
+
+    @Test
+    public void testMaxConcurrentReconciliations() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxConcurrentReconciliations(), is(0));
+
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS.key(), "20");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxConcurrentReconciliations(), is(20));
+    }
+
+    @Test
+    public void testMaxConcurrentConnectorReconciliations() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxConcurrentConnectorReconciliations(), is(10));
+
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS.key(), "25");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxConcurrentConnectorReconciliations(), is(25));
+
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testCustomResourceInformersEnabled() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isCustomResourceInformersEnabled(), is(false));
+
+        envVars.put(ClusterOperatorConfig.CUSTOM_RESOURCE_INFORMERS_ENABLED.key(), "true");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isCustomResourceInformersEnabled(), is(true));
+    }
 }
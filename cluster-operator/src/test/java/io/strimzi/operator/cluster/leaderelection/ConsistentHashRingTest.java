@@ -0,0 +1,85 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+public class ConsistentHashRingTest {
+    private static final int KEYS = 3_000;
+
+    private static String key(int i) {
+        return "namespace-" + (i % 10) + "::my-cluster-" + i;
+    }
+
+    @Test
+    public void testEmptyRing() {
+        assertThat(ConsistentHashRing.EMPTY.owner(key(0)), is(nullValue()));
+        assertThat(ConsistentHashRing.EMPTY.members().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testAssignmentIsDeterministic() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("co-0", "co-1", "co-2"));
+        ConsistentHashRing sameRing = new ConsistentHashRing(List.of("co-2", "co-0", "co-1"));
+
+        for (int i = 0; i < KEYS; i++) {
+            assertThat(ring.owner(key(i)), is(sameRing.owner(key(i))));
+        }
+    }
+
+    @Test
+    public void testKeysAreSpreadAcrossMembers() {
+        ConsistentHashRing ring = new ConsistentHashRing(Set.of("co-0", "co-1", "co-2"));
+        Map<String, Integer> owned = new HashMap<>();
+
+        for (int i = 0; i < KEYS; i++) {
+            owned.merge(ring.owner(key(i)), 1, Integer::sum);
+        }
+
+        assertThat(owned.keySet(), is(Set.of("co-0", "co-1", "co-2")));
+
+        for (int count : owned.values()) {
+            assertThat(count, is(greaterThan(KEYS / 3 * 2 / 3)));
+            assertThat(count, is(lessThan(KEYS / 3 * 4 / 3)));
+        }
+    }
+
+    @Test
+    public void testOnlyKeysOfChangedMemberMove() {
+        ConsistentHashRing ring = new ConsistentHashRing(Set.of("co-0", "co-1", "co-2"));
+        ConsistentHashRing scaledUp = new ConsistentHashRing(Set.of("co-0", "co-1", "co-2", "co-3"));
+        ConsistentHashRing scaledDown = new ConsistentHashRing(Set.of("co-0", "co-2"));
+        int moved = 0;
+
+        for (int i = 0; i < KEYS; i++) {
+            String owner = ring.owner(key(i));
+
+            // When a member joins, the keys move only to the new member
+            if (!owner.equals(scaledUp.owner(key(i)))) {
+                assertThat(scaledUp.owner(key(i)), is("co-3"));
+                moved++;
+            }
+
+            // When a member leaves, only its keys move
+            if (!owner.equals("co-1")) {
+                assertThat(scaledDown.owner(key(i)), is(owner));
+            }
+        }
+
+        assertThat(moved, is(greaterThan(KEYS / 4 / 2)));
+        assertThat(moved, is(lessThan(KEYS / 4 * 2)));
+    }
+}
@@ -30,6 +30,8 @@ public class LeaderElectionManagerConfigTest {
         assertThat(config.getLeaseDuration().toMillis(), is(15_000L));
         assertThat(config.getRenewDeadline().toMillis(), is(10_000L));
         assertThat(config.getRetryPeriod().toMillis(), is(2_000L));
+        assertThat(config.isWarmStandby(), is(false));
+        assertThat(config.isSharding(), is(false));
     }
 
     @Test
@@ -52,6 +54,32 @@ public class LeaderElectionManagerConfigTest {
         assertThat(config.getRetryPeriod().toMillis(), is(5_000L));
     }
 
+    @Test
+    public void testWarmStandby() {
+        Map<String, String> envVars = new HashMap<>();
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME.key(), "my-lease");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE.key(), "my-namespace");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY.key(), "my-pod");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_WARM_STANDBY.key(), "true");
+
+        LeaderElectionManagerConfig config = LeaderElectionManagerConfig.fromMap(envVars);
+
+        assertThat(config.isWarmStandby(), is(true));
+    }
+
+    @Test
+    public void testSharding() {
+        Map<String, String> envVars = new HashMap<>();
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME.key(), "my-lease");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE.key(), "my-namespace");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY.key(), "my-pod");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_SHARDING.key(), "true");
+
+        LeaderElectionManagerConfig config = LeaderElectionManagerConfig.fromMap(envVars);
+
+        assertThat(config.isSharding(), is(true));
+    }
+
     @Test
     public void testMissingAllRequired() {
         Map<String, String> envVars = new HashMap<>();
@@ -0,0 +1,35 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class LeaderPromotionTest {
+    @Test
+    public void testTimeToFirstReconciliation() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        LeaderPromotion promotion = new LeaderPromotion(new MicrometerMetricsProvider(registry));
+
+        // Reconciliations before the promotion are ignored
+        promotion.reconciliationStarted();
+        assertThat(promotion.future().isComplete(), is(false));
+        assertThat(registry.find(LeaderPromotion.METRICS_TIME_TO_FIRST_RECONCILE).timer(), is(nullValue()));
+
+        promotion.promote();
+        assertThat(promotion.future().succeeded(), is(true));
+
+        // Only the first reconciliation after the promotion is recorded
+        promotion.reconciliationStarted();
+        promotion.reconciliationStarted();
+        assertThat(registry.get(LeaderPromotion.METRICS_TIME_TO_FIRST_RECONCILE).timer().count(), is(1L));
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ShardManagerTest {
+    private static final long LEASE_DURATION_MS = 15_000L;
+
+    private static LeaderElectionManagerConfig config(String identity) {
+        Map<String, String> envVars = new HashMap<>();
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME.key(), "my-lease");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE.key(), "my-namespace");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY.key(), identity);
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_DURATION_MS.key(), String.valueOf(LEASE_DURATION_MS));
+
+        return LeaderElectionManagerConfig.fromMap(envVars);
+    }
+
+    private static ShardManager shardManager(String identity) {
+        // The Vert.x instance and the Kubernetes client are used only when the ShardManager is started or stopped
+        return new ShardManager(null, null, config(identity), () -> { });
+    }
+
+    /**
+     * Finds a cluster which is owned by given member when the given members are present
+     */
+    private static String clusterOwnedBy(String member, Set<String> members) {
+        ConsistentHashRing ring = new ConsistentHashRing(members);
+
+        for (int i = 0; ; i++) {
+            if (member.equals(ring.owner("my-namespace::my-cluster-" + i))) {
+                return "my-cluster-" + i;
+            }
+        }
+    }
+
+    @Test
+    public void testOwnershipSettlesBeforeTakingOver() {
+        ShardManager shardManager = shardManager("co-0");
+        AtomicInteger rebalances = new AtomicInteger(0);
+        shardManager.addRebalanceListener(rebalances::incrementAndGet);
+
+        // Nothing is owned before the ShardManager knows the members
+        assertThat(shardManager.owns("my-namespace", "my-cluster"), is(false));
+
+        // The first member waits for the lease duration before it owns anything
+        shardManager.updateMembers(Set.of("co-0"), 0L);
+        assertThat(shardManager.owns("my-namespace", "my-cluster"), is(false));
+
+        shardManager.updateMembers(Set.of("co-0"), LEASE_DURATION_MS);
+        assertThat(shardManager.owns("my-namespace", "my-cluster"), is(true));
+        assertThat(rebalances.get(), is(1));
+
+        // Another member joins => the clusters moving to it are released immediately
+        String movedCluster = clusterOwnedBy("co-1", Set.of("co-0", "co-1"));
+        String keptCluster = clusterOwnedBy("co-0", Set.of("co-0", "co-1"));
+
+        shardManager.updateMembers(Set.of("co-0", "co-1"), 2 * LEASE_DURATION_MS);
+        assertThat(shardManager.owns("my-namespace", movedCluster), is(false));
+        assertThat(shardManager.owns("my-namespace", keptCluster), is(true));
+
+        shardManager.updateMembers(Set.of("co-0", "co-1"), 3 * LEASE_DURATION_MS);
+        assertThat(rebalances.get(), is(2));
+
+        // The member leaves => its clusters are taken over only after the change settles
+        shardManager.updateMembers(Set.of("co-0"), 4 * LEASE_DURATION_MS);
+        assertThat(shardManager.owns("my-namespace", movedCluster), is(false));
+        assertThat(shardManager.owns("my-namespace", keptCluster), is(true));
+
+        shardManager.updateMembers(Set.of("co-0"), 4 * LEASE_DURATION_MS + 1);
+        assertThat(shardManager.owns("my-namespace", movedCluster), is(false));
+        assertThat(rebalances.get(), is(2));
+
+        shardManager.updateMembers(Set.of("co-0"), 5 * LEASE_DURATION_MS);
+        assertThat(shardManager.owns("my-namespace", movedCluster), is(true));
+        assertThat(rebalances.get(), is(3));
+    }
+
+    @Test
+    public void testRebalanceDuringRunningReconciliation() {
+        ShardManager co0 = shardManager("co-0");
+        ShardManager co1 = shardManager("co-1");
+        AtomicInteger rebalances = new AtomicInteger(0);
+        co1.addRebalanceListener(rebalances::incrementAndGet);
+
+        String movedCluster = clusterOwnedBy("co-1", Set.of("co-0", "co-1"));
+
+        // co-0 is the only member and starts reconciling the cluster
+        co0.updateMembers(Set.of("co-0"), 0L);
+        co0.updateMembers(Set.of("co-0"), LEASE_DURATION_MS);
+        assertThat(co0.tryAcquire("my-namespace", movedCluster), is(true));
+        assertThat(co0.inFlightKeys(), is(Set.of("my-namespace::" + movedCluster)));
+
+        // co-1 joins and the change settles while co-0 is still reconciling the cluster
+        co0.updateMembers(Set.of("co-0", "co-1"), 2 * LEASE_DURATION_MS);
+        assertThat(co0.owns("my-namespace", movedCluster), is(false));
+        assertThat(co0.isResponsible("my-namespace", movedCluster), is(true));
+
+        co1.updateMembers(Set.of("co-0", "co-1"), 2 * LEASE_DURATION_MS);
+        co1.updateInFlightElsewhere(Map.of("co-0", co0.inFlightKeys(), "co-1", co1.inFlightKeys()));
+        co1.updateMembers(Set.of("co-0", "co-1"), 3 * LEASE_DURATION_MS);
+        assertThat(rebalances.get(), is(1));
+        assertThat(co1.owns("my-namespace", movedCluster), is(true));
+
+        // The rebalance on co-1 does not start a second reconciliation
+        assertThat(co1.isResponsible("my-namespace", movedCluster), is(false));
+        assertThat(co1.tryAcquire("my-namespace", movedCluster), is(false));
+        assertThat(co1.inFlightKeys(), is(Set.of()));
+
+        // co-1 takes over once co-0 finishes its reconciliation
+        co0.release("my-namespace", movedCluster);
+        assertThat(co0.inFlightKeys(), is(Set.of()));
+        assertThat(co0.isResponsible("my-namespace", movedCluster), is(false));
+
+        co1.updateInFlightElsewhere(Map.of("co-0", co0.inFlightKeys(), "co-1", co1.inFlightKeys()));
+        assertThat(rebalances.get(), is(2));
+        assertThat(co1.tryAcquire("my-namespace", movedCluster), is(true));
+
+        co1.release("my-namespace", movedCluster);
+        assertThat(co1.inFlightKeys(), is(Set.of()));
+    }
+
+    private static Lease memberLease(String identity, String resourceVersion, String renewTime) {
+        return new LeaseBuilder()
+                .withNewMetadata()
+                    .withName("my-lease-" + identity)
+                    .withNamespace("my-namespace")
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withNewSpec()
+                    .withHolderIdentity(identity)
+                    .withLeaseDurationSeconds((int) (LEASE_DURATION_MS / 1_000L))
+                    .withRenewTime(ZonedDateTime.parse(renewTime))
+                .endSpec()
+                .build();
+    }
+
+    @Test
+    public void testLiveMembersIgnoreTheClocksOfOtherReplicas() {
+        ShardManager co0 = shardManager("co-0");
+        long second = 1_000_000_000L;
+
+        // co-1 has its clock far behind and co-2 far ahead, but both keep renewing their Leases
+        Lease co1 = memberLease("co-1", "1", "2000-01-01T00:00:00Z");
+        Lease co2 = memberLease("co-2", "2", "2100-01-01T00:00:00Z");
+        assertThat(co0.liveMembers(List.of(co1, co2), 0L).keySet(), is(Set.of("co-0", "co-1", "co-2")));
+
+        co1 = memberLease("co-1", "3", "2000-01-01T00:00:02Z");
+        assertThat(co0.liveMembers(List.of(co1, co2), 10 * second).keySet(), is(Set.of("co-0", "co-1", "co-2")));
+
+        // co-2 stopped renewing its Lease for the lease duration => it is not a member anymore despite its renew time
+        co1 = memberLease("co-1", "4", "2000-01-01T00:00:04Z");
+        assertThat(co0.liveMembers(List.of(co1, co2), 20 * second).keySet(), is(Set.of("co-0", "co-1")));
+
+        // co-2 renews its Lease again
+        co2 = memberLease("co-2", "5", "2100-01-01T00:00:20Z");
+        assertThat(co0.liveMembers(List.of(co1, co2), 21 * second).keySet(), is(Set.of("co-0", "co-1", "co-2")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStopWaitsForRunningReconciliations() throws Exception {
+        Vertx vertx = Vertx.vertx();
+
+        try {
+            Resource<Lease> memberLease = mock(Resource.class);
+            NonNamespaceOperation<Lease, LeaseList, Resource<Lease>> namespacedLeases = mock(NonNamespaceOperation.class);
+            when(namespacedLeases.withName("my-lease-co-0")).thenReturn(memberLease);
+            MixedOperation<Lease, LeaseList, Resource<Lease>> leases = mock(MixedOperation.class);
+            when(leases.inNamespace("my-namespace")).thenReturn(namespacedLeases);
+            KubernetesClient client = mock(KubernetesClient.class);
+            when(client.leases()).thenReturn(leases);
+
+            ShardManager co0 = new ShardManager(vertx, client, config("co-0"), () -> { });
+            co0.updateMembers(Set.of("co-0"), 0L);
+            co0.updateMembers(Set.of("co-0"), LEASE_DURATION_MS);
+            assertThat(co0.tryAcquire("my-namespace", "my-cluster"), is(true));
+
+            // The member Lease is deleted only when the reconciliation finishes
+            CompletableFuture<Void> stopped = co0.stop().toCompletionStage().toCompletableFuture();
+            Thread.sleep(200L);
+            assertThat(stopped.isDone(), is(false));
+            assertThat(co0.tryAcquire("my-namespace", "my-other-cluster"), is(false));
+
+            co0.release("my-namespace", "my-cluster");
+            stopped.get(5, TimeUnit.SECONDS);
+            verify(memberLease).delete();
+        } finally {
+            vertx.close();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.kafka.config.model.Scope;
+import io.strimzi.kafka.config.model.Type;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ParallelSuite
+public class KafkaConfigModelsTest {
+    private static final String MODEL = """
+            {
+              "version": "3.8.0",
+              "configs": {
+                "compression.type": {
+                  "scope": "CLUSTER_WIDE",
+                  "type": "STRING",
+                  "enum": ["uncompressed", "zstd", "lz4", "snappy", "gzip", "producer"]
+                },
+                "log.retention.ms": {
+                  "scope": "CLUSTER_WIDE",
+                  "type": "LONG"
+                },
+                "log.retention.hours": {
+                  "scope": "READ_ONLY",
+                  "type": "INT"
+                },
+                "broker.id": {
+                  "scope": "READ_ONLY",
+                  "type": "INT"
+                }
+              }
+            }
+            """;
+
+    private static KafkaConfigModels parse(String version, String model) throws IOException {
+        return KafkaConfigModels.parse(version, new ByteArrayInputStream(model.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @ParallelTest
+    public void testLookups() throws IOException {
+        KafkaConfigModels models = parse("3.8.0", MODEL);
+
+        assertThat(models.version(), is("3.8.0"));
+        assertThat(models.isKnown("compression.type"), is(true));
+        assertThat(models.isKnown("my.plugin.option"), is(false));
+
+        assertThat(models.type("log.retention.ms"), is(Type.LONG));
+        assertThat(models.scope("broker.id"), is(Scope.READ_ONLY));
+        assertThat(models.allowedValues("compression.type"), is(List.of("uncompressed", "zstd", "lz4", "snappy", "gzip", "producer")));
+        assertThat(models.allowedValues("log.retention.ms"), is(nullValue()));
+
+        assertThat(models.get("my.plugin.option"), is(nullValue()));
+        assertThat(models.type("my.plugin.option"), is(nullValue()));
+        assertThat(models.scope("my.plugin.option"), is(nullValue()));
+    }
+
+    @ParallelTest
+    public void testPrefixMatching() throws IOException {
+        KafkaConfigModels models = parse("3.8.0", MODEL);
+
+        assertThat(models.withPrefix("log.retention."), is(Set.of("log.retention.hours", "log.retention.ms")));
+        assertThat(models.withPrefix("compression."), is(Set.of("compression.type")));
+        assertThat(models.withPrefix("my.plugin.").isEmpty(), is(true));
+    }
+
+    @ParallelTest
+    public void testModelsAreImmutable() throws IOException {
+        KafkaConfigModels models = parse("3.8.0", MODEL);
+
+        assertThrows(UnsupportedOperationException.class, () -> models.configs().remove("broker.id"));
+        assertThrows(UnsupportedOperationException.class, () -> models.withPrefix("log.").clear());
+    }
+
+    @ParallelTest
+    public void testIncorrectVersion() {
+        RuntimeException exc = assertThrows(RuntimeException.class, () -> parse("3.7.0", MODEL));
+
+        assertThat(exc.getMessage(), is("Incorrect version"));
+    }
+
+    @ParallelTest
+    public void testMissingModelIsNotCached() {
+        KafkaVersion version = KafkaVersionTestUtils.getKafkaVersionLookup().version("2.6.0");
+
+        // The failure is not memoised, so every lookup of the missing model fails
+        for (int i = 0; i < 2; i++) {
+            RuntimeException exc = assertThrows(RuntimeException.class, () -> KafkaConfigModels.forVersion(version));
+            assertThat(exc.getMessage(), is("Configuration model /kafka-2.6.0-config-model.json was not found"));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+@ExtendWith(VertxExtension.class)
+public class AbstractConnectOperatorTest {
+    @Test
+    public void testForEachWithConcurrencyLimit(VertxTestContext context) {
+        List<Promise<Void>> running = new ArrayList<>();
+        List<Integer> started = new ArrayList<>();
+
+        Future<Void> result = AbstractConnectOperator.forEachWithConcurrencyLimit(List.of(1, 2, 3, 4, 5), 2, item -> {
+            Promise<Void> promise = Promise.promise();
+            running.add(promise);
+            started.add(item);
+            return promise.future();
+        });
+
+        // Only two tasks run at the same time
+        assertThat(started, is(List.of(1, 2)));
+
+        // Completing one task starts the next one
+        running.get(0).complete();
+        assertThat(started, is(List.of(1, 2, 3)));
+
+        running.get(1).fail("Task failed");
+        running.get(2).complete();
+        assertThat(started, is(List.of(1, 2, 3, 4, 5)));
+        assertThat(result.isComplete(), is(false));
+
+        running.get(3).complete();
+        running.get(4).complete();
+
+        Checkpoint async = context.checkpoint();
+        result.onComplete(context.failing(e -> context.verify(() -> {
+            // All tasks ran even though one of them failed
+            assertThat(e.getMessage(), is("Task failed"));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testForEachWithConcurrencyLimitRunsAllItems(VertxTestContext context) {
+        AtomicInteger concurrent = new AtomicInteger(0);
+        List<String> done = new ArrayList<>();
+
+        Checkpoint async = context.checkpoint();
+        AbstractConnectOperator.forEachWithConcurrencyLimit(Set.of("a", "b", "c"), 10, item -> {
+            assertThat(concurrent.incrementAndGet() <= 3, is(true));
+            done.add(item);
+            concurrent.decrementAndGet();
+            return Future.succeededFuture();
+        }).onComplete(context.succeeding(i -> context.verify(() -> {
+            assertThat(done, containsInAnyOrder("a", "b", "c"));
+            async.flag();
+        })));
+    }
+}
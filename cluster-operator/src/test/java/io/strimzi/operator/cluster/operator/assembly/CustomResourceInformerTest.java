@@ -0,0 +1,142 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolBuilder;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolList;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.CrdOperator;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CustomResourceInformerTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private static KafkaNodePool nodePool(String name, String cluster, String resourceVersion) {
+        return new KafkaNodePoolBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(Map.of(Labels.STRIMZI_CLUSTER_LABEL, cluster))
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void testCacheAndEvents() {
+        KafkaNodePool pool = nodePool("pool-a", "my-cluster", "1");
+
+        SharedIndexInformer<KafkaNodePool> mockInformer = mock(SharedIndexInformer.class);
+        Indexer<KafkaNodePool> mockIndexer = mock(Indexer.class);
+        when(mockInformer.getIndexer()).thenReturn(mockIndexer);
+        when(mockInformer.getStore()).thenReturn(mockIndexer);
+        when(mockInformer.isRunning()).thenReturn(true);
+        when(mockInformer.hasSynced()).thenReturn(true);
+        when(mockInformer.stopped()).thenReturn(CompletableFuture.completedFuture(null));
+        when(mockIndexer.byIndex(eq(CustomResourceInformer.CLUSTER_INDEX), eq(NAMESPACE + "/my-cluster"))).thenReturn(List.of(pool));
+        when(mockIndexer.getByKey(eq(Cache.namespaceKeyFunc(NAMESPACE, "pool-a")))).thenReturn(pool);
+
+        CrdOperator<KubernetesClient, KafkaNodePool, KafkaNodePoolList> mockOperator = mock(CrdOperator.class);
+        when(mockOperator.informer(eq(NAMESPACE), any(Long.class))).thenReturn(mockInformer);
+
+        List<String> events = new ArrayList<>();
+        CustomResourceInformer<KafkaNodePool> informer = new CustomResourceInformer<>(mockOperator, KafkaNodePool.RESOURCE_KIND, NAMESPACE, null,
+                (action, resource) -> events.add(action + "/" + resource.getMetadata().getName()));
+
+        // The cluster index uses the namespace and the strimzi.io/cluster label
+        ArgumentCaptor<Map> indexersCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mockInformer).addIndexers(indexersCaptor.capture());
+        Function<KafkaNodePool, List<String>> indexFunc = (Function<KafkaNodePool, List<String>>) indexersCaptor.getValue().get(CustomResourceInformer.CLUSTER_INDEX);
+        assertThat(indexFunc.apply(pool), is(List.of(NAMESPACE + "/my-cluster")));
+        assertThat(indexFunc.apply(new KafkaNodePoolBuilder().withNewMetadata().withName("pool-b").withNamespace(NAMESPACE).endMetadata().build()), is(List.of()));
+
+        // Resources from the cache are copies
+        assertThat(informer.covers(NAMESPACE), is(true));
+        assertThat(informer.covers("other-namespace"), is(false));
+        assertThat(informer.hasSynced(), is(true));
+        assertThat(informer.get(NAMESPACE, "pool-a"), is(pool));
+        assertThat(informer.get(NAMESPACE, "pool-a"), is(not(sameInstance(pool))));
+        assertThat(informer.get(NAMESPACE, "pool-b"), is(nullValue()));
+        assertThat(informer.listByCluster(NAMESPACE, "my-cluster"), is(List.of(pool)));
+        assertThat(informer.listByCluster(NAMESPACE, "my-cluster").get(0), is(not(sameInstance(pool))));
+
+        // Resyncs without a new resource version do not trigger events
+        ArgumentCaptor<ResourceEventHandler> handlerCaptor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+        verify(mockInformer).addEventHandler(handlerCaptor.capture());
+        ResourceEventHandler<KafkaNodePool> handler = handlerCaptor.getValue();
+        handler.onAdd(pool);
+        handler.onUpdate(pool, nodePool("pool-a", "my-cluster", "1"));
+        handler.onUpdate(pool, nodePool("pool-a", "my-cluster", "2"));
+        handler.onDelete(pool, false);
+        assertThat(events, is(List.of(Watcher.Action.ADDED + "/pool-a", Watcher.Action.MODIFIED + "/pool-a", Watcher.Action.DELETED + "/pool-a")));
+
+        // The cache is not used anymore once the informer is stopping
+        informer.close();
+        assertThat(informer.hasSynced(), is(false));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRestartWhenStoppedUnexpectedly() {
+        CompletableFuture<Void> firstStopped = new CompletableFuture<>();
+        SharedIndexInformer<KafkaNodePool> firstInformer = mock(SharedIndexInformer.class);
+        when(firstInformer.stopped()).thenReturn(firstStopped);
+        when(firstInformer.start()).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<Void> secondStopped = new CompletableFuture<>();
+        SharedIndexInformer<KafkaNodePool> secondInformer = mock(SharedIndexInformer.class);
+        when(secondInformer.stopped()).thenReturn(secondStopped);
+        when(secondInformer.start()).thenReturn(CompletableFuture.completedFuture(null));
+        when(secondInformer.isRunning()).thenReturn(true);
+        when(secondInformer.hasSynced()).thenReturn(true);
+
+        CrdOperator<KubernetesClient, KafkaNodePool, KafkaNodePoolList> mockOperator = mock(CrdOperator.class);
+        when(mockOperator.informer(eq(NAMESPACE), any(Long.class))).thenReturn(firstInformer, secondInformer);
+
+        CustomResourceInformer<KafkaNodePool> informer = new CustomResourceInformer<>(mockOperator, KafkaNodePool.RESOURCE_KIND, NAMESPACE, null, (action, resource) -> { }, 10L);
+        informer.start();
+        verify(firstInformer).start();
+
+        // The informer stops without being closed => it is replaced with a new one
+        firstStopped.completeExceptionally(new RuntimeException("Informer failed"));
+        assertThat(informer.hasSynced(), is(false));
+        verify(secondInformer, timeout(5_000L)).start();
+        verify(secondInformer).addEventHandler(any());
+        assertThat(informer.hasSynced(), is(true));
+
+        // The informer is closed => it is not replaced anymore
+        informer.close();
+        secondStopped.complete(null);
+        verify(mockOperator, after(100L).times(2)).informer(eq(NAMESPACE), any(Long.class));
+    }
+}
@@ -16,6 +16,8 @@ import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 
@@ -114,6 +116,57 @@ public class KafkaConnectApiImplTest {
                 })));
     }
 
+    @Test
+    public void testConnectorListIsUsedForConfigAndStatus(Vertx vertx, VertxTestContext context) throws Exception {
+        List<String> requests = new ArrayList<>();
+        String expanded = new ObjectMapper().writeValueAsString(Map.of(
+                "my-connector", Map.of(
+                        "info", Map.of("name", "my-connector", "config", Map.of("name", "my-connector", "tasks.max", "1")),
+                        "status", Map.of("name", "my-connector", "connector", Map.of("state", "RUNNING"))
+                )
+        ));
+        HttpServer server = vertx.createHttpServer().requestHandler(request -> {
+            requests.add(request.method() + " " + request.uri());
+
+            if (request.uri().startsWith("/connectors?")) {
+                request.response().setStatusCode(200).end(expanded);
+            } else if (request.uri().endsWith("/pause")) {
+                request.response().setStatusCode(202).end();
+            } else {
+                request.response().setStatusCode(200).end("{\"name\": \"my-connector\", \"connector\": {\"state\": \"PAUSED\"}}");
+            }
+        }).listen(0).toCompletionStage().toCompletableFuture().get();
+
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+
+        Checkpoint async = context.checkpoint();
+        api.list(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort())
+                .compose(connectors -> {
+                    assertThat(connectors, is(List.of("my-connector")));
+                    return api.getConnectorConfig(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort(), "my-connector");
+                })
+                .compose(config -> {
+                    assertThat(config, is(Map.of("name", "my-connector", "tasks.max", "1")));
+                    return api.status(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort(), "my-connector");
+                })
+                .compose(status -> {
+                    assertThat(status.get("connector"), is(Map.of("state", "RUNNING")));
+                    // Only the list request was sent so far
+                    assertThat(requests, is(List.of("GET /connectors?expand=status&expand=info")));
+                    return api.pause(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort(), "my-connector");
+                })
+                .compose(i -> api.status(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort(), "my-connector"))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    // The connector was changed, so the status is not taken from the list anymore
+                    assertThat(status.get("connector"), is(Map.of("state", "PAUSED")));
+                    assertThat(requests, is(List.of("GET /connectors?expand=status&expand=info", "PUT /connectors/my-connector/pause", "GET /connectors/my-connector/status")));
+                    assertThat(api.requestCount(), is(3));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
     HttpServer mockApi(Vertx vertx, int status, String body) throws InterruptedException, ExecutionException {
         HttpServer httpServer = vertx.createHttpServer().requestHandler(request -> request.response().setStatusCode(status).end(body));
         return httpServer.listen(0).toCompletionStage().toCompletableFuture().get();
@@ -0,0 +1,230 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.kafka.KafkaResources;
+import io.strimzi.api.kafka.model.kafka.PersistentClaimStorageBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerType;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolBuilder;
+import io.strimzi.api.kafka.model.nodepool.ProcessRoles;
+import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.AbstractModel;
+import io.strimzi.operator.cluster.model.ClusterCa;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.KafkaMetadataConfigurationState;
+import io.strimzi.operator.cluster.model.KafkaPool;
+import io.strimzi.operator.cluster.model.ListenersUtils;
+import io.strimzi.operator.cluster.model.MetricsAndLogging;
+import io.strimzi.operator.cluster.model.NodeRef;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.model.ClientsCa;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.model.PasswordGenerator;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.platform.KubernetesVersion;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+public class KafkaReconcilerConfigurationTest {
+    private final static String NAMESPACE = "testns";
+    private final static String CLUSTER_NAME = "testkafka";
+    private final static PlatformFeaturesAvailability PFA = new PlatformFeaturesAvailability(true, KubernetesVersion.MINIMAL_SUPPORTED_VERSION);
+    private final static ClusterOperatorConfig CO_CONFIG = ResourceUtils.dummyClusterOperatorConfig();
+    private final static ClusterCa CLUSTER_CA = new ClusterCa(
+            Reconciliation.DUMMY_RECONCILIATION,
+            new OpenSslCertManager(),
+            new PasswordGenerator(10, "a", "a"),
+            CLUSTER_NAME,
+            ResourceUtils.createInitialCaCertSecret(NAMESPACE, CLUSTER_NAME, AbstractModel.clusterCaCertSecretName(CLUSTER_NAME), MockCertManager.clusterCaCert(), MockCertManager.clusterCaCertStore(), "123456"),
+            ResourceUtils.createInitialCaKeySecret(NAMESPACE, CLUSTER_NAME, AbstractModel.clusterCaKeySecretName(CLUSTER_NAME), MockCertManager.clusterCaKey())
+    );
+    private final static ClientsCa CLIENTS_CA = new ClientsCa(
+            Reconciliation.DUMMY_RECONCILIATION,
+            new OpenSslCertManager(),
+            new PasswordGenerator(10, "a", "a"),
+            KafkaResources.clientsCaCertificateSecretName(CLUSTER_NAME),
+            ResourceUtils.createInitialCaCertSecret(NAMESPACE, CLUSTER_NAME, AbstractModel.clusterCaCertSecretName(CLUSTER_NAME), MockCertManager.clusterCaCert(), MockCertManager.clusterCaCertStore(), "123456"),
+            KafkaResources.clientsCaKeySecretName(CLUSTER_NAME),
+            ResourceUtils.createInitialCaKeySecret(NAMESPACE, CLUSTER_NAME, AbstractModel.clusterCaKeySecretName(CLUSTER_NAME), MockCertManager.clusterCaKey()),
+            365,
+            30,
+            true,
+            null
+    );
+    private final static GenericKafkaListener LISTENER = new GenericKafkaListenerBuilder()
+            .withName("tls")
+            .withPort(9092)
+            .withType(KafkaListenerType.INTERNAL)
+            .withTls(true)
+            .build();
+    private final static Kafka KAFKA = new KafkaBuilder()
+            .withNewMetadata()
+                .withName(CLUSTER_NAME)
+                .withNamespace(NAMESPACE)
+                .withAnnotations(Map.of(Annotations.ANNO_STRIMZI_IO_NODE_POOLS, "enabled", Annotations.ANNO_STRIMZI_IO_KRAFT, "enabled"))
+            .endMetadata()
+            .withNewSpec()
+                .withNewKafka()
+                    .withListeners(LISTENER)
+                    // Options unknown to Kafka are used by plugins and are part of the broker configuration hash
+                    .withConfig(Map.of("my.plugin.option", "my-value", "my.other.plugin.option", 1024, "auto.create.topics.enable", false))
+                .endKafka()
+            .endSpec()
+            .build();
+    private final static KafkaNodePool CONTROLLERS = nodePool("controllers", ProcessRoles.CONTROLLER);
+    private final static KafkaNodePool MIXED = nodePool("mixed", ProcessRoles.CONTROLLER, ProcessRoles.BROKER);
+    private final static KafkaNodePool BROKERS = nodePool("brokers", ProcessRoles.BROKER);
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void beforeAll()  {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void afterAll()    {
+        vertx.close();
+    }
+
+    private static KafkaNodePool nodePool(String name, ProcessRoles... roles) {
+        return new KafkaNodePoolBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(Map.of(Labels.STRIMZI_CLUSTER_LABEL, CLUSTER_NAME))
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(2)
+                    .withNewJbodStorage()
+                        .withVolumes(new PersistentClaimStorageBuilder().withId(0).withDeleteClaim(true).withSize("100Gi").build())
+                    .endJbodStorage()
+                    .withRoles(roles)
+                .endSpec()
+                .build();
+    }
+
+    @Test
+    public void testBaseConfiguration() {
+        String configuration = """
+                node.id=3
+                broker.id=3
+                process.roles=broker,controller
+                log.dirs=/var/lib/kafka/data-0/kafka-log3
+                metadata.log.dir=/var/lib/kafka/data-0/kafka-log3
+                advertised.listeners=TLS-9092://my-cluster-mixed-3.my-cluster-kafka-brokers.testns.svc:9092
+                node.id.generation.enable=true
+                my.plugin.option=my-value
+                """;
+
+        assertThat(KafkaReconciler.baseConfiguration(configuration), is("""
+                process.roles=broker,controller
+                node.id.generation.enable=true
+                my.plugin.option=my-value"""));
+
+        // Nodes from the same pool share the base configuration
+        assertThat(KafkaReconciler.baseConfiguration(configuration.replace("3", "4")), is(KafkaReconciler.baseConfiguration(configuration)));
+    }
+
+    @Test
+    public void testConfigurationHashesMatchFullConfigurationHashes() {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        when(supplier.configMapOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.configMapOperations.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
+
+        Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME);
+        KafkaCluster kafka = KafkaClusterCreator.createKafkaCluster(
+                reconciliation,
+                KAFKA,
+                List.of(CONTROLLERS, MIXED, BROKERS),
+                Map.of(),
+                Map.of(),
+                KafkaVersionTestUtils.DEFAULT_KRAFT_VERSION_CHANGE,
+                KafkaMetadataConfigurationState.KRAFT,
+                KafkaVersionTestUtils.getKafkaVersionLookup(),
+                supplier.sharedEnvironmentProvider);
+
+        KafkaReconciler reconciler = new KafkaReconciler(reconciliation, KAFKA, List.of(CONTROLLERS, MIXED, BROKERS), kafka, CLUSTER_CA, CLIENTS_CA, CO_CONFIG, supplier, PFA, vertx, new KafkaMetadataStateManager(reconciliation, KAFKA));
+        reconciler.listenerReconciliationResults = new KafkaListenersReconciler.ReconciliationResult();
+        for (NodeRef node : kafka.brokerNodes()) {
+            reconciler.listenerReconciliationResults.advertisedHostnames.put(node.nodeId(), Map.of(ListenersUtils.envVarIdentifier(LISTENER), node.podName() + ".my-host"));
+            reconciler.listenerReconciliationResults.advertisedPorts.put(node.nodeId(), Map.of(ListenersUtils.envVarIdentifier(LISTENER), "9092"));
+        }
+
+        MetricsAndLogging metricsAndLogging = new MetricsAndLogging(null, null);
+        assertThat(reconciler.perBrokerKafkaConfiguration(metricsAndLogging).succeeded(), is(true));
+
+        // The hashes calculated from the full configuration of each node
+        String logging = kafka.logging().loggingConfiguration(reconciliation, null);
+        Map<Integer, String> expectedConfigurationHashes = new HashMap<>();
+        Map<Integer, String> expectedLoggingHashes = new HashMap<>();
+        for (ConfigMap cm : kafka.generatePerBrokerConfigurationConfigMaps(metricsAndLogging, reconciler.listenerReconciliationResults.advertisedHostnames, reconciler.listenerReconciliationResults.advertisedPorts)) {
+            int nodeId = ReconcilerUtils.getPodIndexFromPodName(cm.getMetadata().getName());
+            KafkaPool pool = kafka.nodePoolForNodeId(nodeId);
+            KafkaConfiguration kc = KafkaConfiguration.unvalidated(reconciliation, cm.getData().get(KafkaCluster.BROKER_CONFIGURATION_FILENAME));
+            String nodeConfiguration = "";
+
+            if (pool.isBroker()) {
+                nodeConfiguration = reconciler.listenerReconciliationResults.advertisedHostnames.get(nodeId).entrySet().stream()
+                        .map(kv -> kv.getKey() + "://" + kv.getValue()).sorted().collect(Collectors.joining(" "));
+                nodeConfiguration += reconciler.listenerReconciliationResults.advertisedPorts.get(nodeId).entrySet().stream()
+                        .map(kv -> kv.getKey() + "://" + kv.getValue()).sorted().collect(Collectors.joining(" "));
+                nodeConfiguration += cm.getData().getOrDefault(KafkaCluster.BROKER_LISTENERS_FILENAME, "");
+
+                assertThat(kc.unknownConfigsWithValues(kafka.getKafkaVersion()).isEmpty(), is(false));
+            }
+
+            nodeConfiguration += kc.unknownConfigsWithValues(kafka.getKafkaVersion()).toString();
+
+            if (pool.isController() && !pool.isBroker())   {
+                nodeConfiguration = kc.controllerConfigsWithValues().toString();
+                expectedLoggingHashes.put(nodeId, Util.hashStub(logging));
+            } else {
+                expectedLoggingHashes.put(nodeId, Util.hashStub(Util.getLoggingDynamicallyUnmodifiableEntries(logging)));
+            }
+
+            expectedConfigurationHashes.put(nodeId, Util.hashStub(nodeConfiguration));
+        }
+
+        assertThat(expectedConfigurationHashes.size(), is(6));
+        assertThat(reconciler.brokerConfigurationHash, is(expectedConfigurationHashes));
+        assertThat(reconciler.brokerLoggingHash, is(expectedLoggingHashes));
+
+        // Controller-only nodes use the controller configuration and the full logging
+        int controllerId = kafka.nodes().stream().filter(node -> node.poolName().equals("controllers")).findFirst().orElseThrow().nodeId();
+        int mixedId = kafka.nodes().stream().filter(node -> node.poolName().equals("mixed")).findFirst().orElseThrow().nodeId();
+        assertThat(reconciler.brokerConfigurationHash.get(controllerId), is(not(reconciler.brokerConfigurationHash.get(mixedId))));
+        assertThat(reconciler.brokerLoggingHash.get(controllerId), is(not(reconciler.brokerLoggingHash.get(mixedId))));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class ReconcilerStepGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "namespace", "my-cluster");
+
+    @Test
+    public void testIndependentStepsRunConcurrently(VertxTestContext context) {
+        List<String> events = new ArrayList<>();
+        Promise<Void> a = Promise.promise();
+        Promise<Void> b = Promise.promise();
+
+        Checkpoint async = context.checkpoint();
+        new ReconcilerStepGraph(RECONCILIATION, null)
+                .step("a", () -> {
+                    events.add("a");
+                    return a.future();
+                })
+                .step("b", () -> {
+                    events.add("b");
+                    // Both independent steps are running at the same time
+                    a.complete();
+                    b.complete();
+                    return b.future();
+                })
+                .step("c", () -> {
+                    events.add("c");
+                    return Future.succeededFuture();
+                }, "a", "b")
+                .execute()
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(events, is(List.of("a", "b", "c")));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testStepsCompletingOnOtherThreadsContinueOnTheContext(Vertx vertx, VertxTestContext context) {
+        Context vertxContext = vertx.getOrCreateContext();
+        List<Context> contexts = new ArrayList<>();
+
+        Checkpoint async = context.checkpoint();
+        vertxContext.runOnContext(v -> new ReconcilerStepGraph(RECONCILIATION, null)
+                .step("a", () -> {
+                    // Completes from another thread, like the KafkaRoller does when it fails
+                    Promise<Void> a = Promise.promise();
+                    CompletableFuture.runAsync(a::complete);
+                    return a.future();
+                })
+                .step("b", () -> {
+                    contexts.add(Vertx.currentContext());
+                    return Future.succeededFuture();
+                }, "a")
+                .execute()
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(contexts, is(List.of(vertxContext)));
+                    assertThat(Vertx.currentContext(), is(vertxContext));
+                    async.flag();
+                }))));
+    }
+
+    @Test
+    public void testDependentStepWaitsForDependencies(VertxTestContext context) {
+        List<String> events = new ArrayList<>();
+        Promise<Void> a = Promise.promise();
+
+        Checkpoint async = context.checkpoint();
+        new ReconcilerStepGraph(RECONCILIATION, null)
+                .step("a", () -> {
+                    events.add("a-started");
+                    return a.future();
+                })
+                .step("b", () -> {
+                    events.add("b");
+                    a.complete();
+                    events.add("a-completed");
+                    return Future.succeededFuture();
+                })
+                .step("c", () -> {
+                    events.add("c");
+                    return Future.succeededFuture();
+                }, "a")
+                .execute()
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(events, is(List.of("a-started", "b", "a-completed", "c")));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailureStopsNewSteps(VertxTestContext context) {
+        List<String> events = new ArrayList<>();
+        Promise<Void> running = Promise.promise();
+
+        Future<Void> result = new ReconcilerStepGraph(RECONCILIATION, null)
+                .step("running", () -> {
+                    events.add("running");
+                    return running.future();
+                })
+                .step("failing", () -> {
+                    events.add("failing");
+                    return Future.failedFuture(new RuntimeException("Step failed"));
+                })
+                .step("dependent", () -> {
+                    events.add("dependent");
+                    return Future.succeededFuture();
+                }, "failing")
+                .step("independent", () -> {
+                    events.add("independent");
+                    return Future.succeededFuture();
+                }, "running")
+                .execute();
+
+        // The graph waits for the running step
+        assertThat(result.isComplete(), is(false));
+        running.complete();
+
+        Checkpoint async = context.checkpoint();
+        result.onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e.getMessage(), is("Step failed"));
+            // No other steps were started after the failure
+            assertThat(events, is(List.of("running", "failing")));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testExceptionInStepFailsTheGraph(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        new ReconcilerStepGraph(RECONCILIATION, null)
+                .step("throwing", () -> {
+                    throw new IllegalStateException("Step threw");
+                })
+                .execute()
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(e.getMessage(), is("Step threw"));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testStepsAreTimed(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        Checkpoint async = context.checkpoint();
+        new ReconcilerStepGraph(RECONCILIATION, step -> registry.timer("step", "step", step))
+                .step("a", Future::succeededFuture)
+                .step("b", () -> Future.failedFuture("Step failed"), "a")
+                .execute()
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(registry.timer("step", "step", "a").count(), is(1L));
+                    assertThat(registry.timer("step", "step", "b").count(), is(1L));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testInvalidGraph() {
+        ReconcilerStepGraph graph = new ReconcilerStepGraph(RECONCILIATION, null)
+                .step("a", Future::succeededFuture);
+
+        assertThrows(IllegalArgumentException.class, () -> graph.step("a", Future::succeededFuture));
+        assertThrows(IllegalArgumentException.class, () -> graph.step("b", Future::succeededFuture, "c"));
+
+        graph.execute();
+        assertThrows(IllegalStateException.class, graph::execute);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationSchedulerTest {
+    private static Reconciliation reconciliation(String trigger, String name) {
+        return new Reconciliation(trigger, "Kafka", "namespace", name);
+    }
+
+    private static Supplier<Future<Void>> record(List<String> started, String name, Promise<Void> promise) {
+        return () -> {
+            started.add(name);
+            return promise.future();
+        };
+    }
+
+    @Test
+    public void testEventsHavePriorityOverPeriodicReconciliations(Vertx vertx) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, 0, 1, new MicrometerMetricsProvider(registry));
+        List<String> started = new ArrayList<>();
+        Promise<Void> a = Promise.promise();
+        Promise<Void> b = Promise.promise();
+        Promise<Void> c = Promise.promise();
+
+        scheduler.submit(reconciliation("watch", "a"), record(started, "a", a));
+        Future<Void> periodic = scheduler.submit(reconciliation(ReconciliationScheduler.PERIODIC_TRIGGER, "c"), record(started, "c", c));
+        scheduler.submit(reconciliation("watch", "b"), record(started, "b", b));
+
+        // Only one reconciliation runs at a time
+        assertThat(started, is(List.of("a")));
+        assertThat(registry.get(ReconciliationScheduler.METRICS_RUNNING).gauge().value(), is(1.0));
+        assertThat(registry.get(ReconciliationScheduler.METRICS_QUEUED).tag("type", "event").gauge().value(), is(1.0));
+        assertThat(registry.get(ReconciliationScheduler.METRICS_QUEUED).tag("type", "periodic").gauge().value(), is(1.0));
+
+        // The queued event is started before the periodic reconciliation queued earlier
+        a.complete();
+        assertThat(started, is(List.of("a", "b")));
+
+        b.complete();
+        assertThat(started, is(List.of("a", "b", "c")));
+
+        c.complete();
+        assertThat(periodic.succeeded(), is(true));
+        assertThat(registry.get(ReconciliationScheduler.METRICS_RUNNING).gauge().value(), is(0.0));
+        assertThat(registry.get(ReconciliationScheduler.METRICS_QUEUE_WAIT).tag("kind", "Kafka").tag("type", "event").timer().count(), is(2L));
+        assertThat(registry.get(ReconciliationScheduler.METRICS_QUEUE_WAIT).tag("kind", "Kafka").tag("type", "periodic").timer().count(), is(1L));
+    }
+
+    @Test
+    public void testPendingPeriodicReconciliationIsNotScheduledAgain(Vertx vertx) {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, 0, 1, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        List<String> started = new ArrayList<>();
+        Promise<Void> blocker = Promise.promise();
+        Promise<Void> periodic = Promise.promise();
+
+        scheduler.submit(reconciliation("watch", "blocker"), record(started, "blocker", blocker));
+        Future<Void> first = scheduler.submit(reconciliation(ReconciliationScheduler.PERIODIC_TRIGGER, "a"), record(started, "a", periodic));
+        Future<Void> second = scheduler.submit(reconciliation(ReconciliationScheduler.PERIODIC_TRIGGER, "a"), record(started, "a", periodic));
+
+        assertThat(second, is(first));
+
+        blocker.complete();
+        periodic.complete();
+        assertThat(started, is(List.of("blocker", "a")));
+        assertThat(first.succeeded(), is(true));
+    }
+
+    @Test
+    public void testEventReplacesPendingPeriodicReconciliation(Vertx vertx) {
+        // With a long interval, the periodic reconciliation is waiting for its offset
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, 3_600_000L, 1, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        List<String> started = new ArrayList<>();
+        Promise<Void> event = Promise.promise();
+
+        Future<Void> periodic = scheduler.submit(reconciliation(ReconciliationScheduler.PERIODIC_TRIGGER, "a"), record(started, "periodic", Promise.promise()));
+        scheduler.submit(reconciliation("watch", "a"), record(started, "event", event));
+
+        assertThat(started, is(List.of("event")));
+        assertThat(periodic.isComplete(), is(false));
+
+        event.complete();
+        assertThat(periodic.succeeded(), is(true));
+        assertThat(started, is(List.of("event")));
+    }
+
+    @Test
+    public void testPendingEventsForTheSameResourceAreMerged(Vertx vertx) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, 0, 2, new MicrometerMetricsProvider(registry));
+        List<String> started = new ArrayList<>();
+        Promise<Void> x = Promise.promise();
+        Promise<Void> y = Promise.promise();
+        Promise<Void> a = Promise.promise();
+
+        scheduler.submit(reconciliation("watch", "x"), record(started, "x", x));
+        scheduler.submit(reconciliation("watch", "y"), record(started, "y", y));
+
+        // A burst of events for one resource waits as a single reconciliation
+        List<Future<Void>> burst = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            burst.add(scheduler.submit(reconciliation("watch", "a"), record(started, "a", a)));
+        }
+        Future<Void> periodic = scheduler.submit(reconciliation(ReconciliationScheduler.PERIODIC_TRIGGER, "a"), record(started, "periodic", Promise.promise()));
+        scheduler.submit(reconciliation("watch", "b"), record(started, "b", Promise.promise()));
+
+        assertThat(started, is(List.of("x", "y")));
+        assertThat(registry.get(ReconciliationScheduler.METRICS_QUEUED).tag("type", "event").gauge().value(), is(2.0));
+        assertThat(registry.get(ReconciliationScheduler.METRICS_QUEUED).tag("type", "periodic").gauge().value(), is(0.0));
+
+        // The other resources are not starved by the burst
+        x.complete();
+        y.complete();
+        assertThat(started, is(List.of("x", "y", "a", "b")));
+
+        a.complete();
+        assertThat(started, is(List.of("x", "y", "a", "b")));
+        assertThat(periodic.succeeded(), is(true));
+        burst.forEach(f -> assertThat(f.succeeded(), is(true)));
+    }
+
+    @Test
+    public void testFailedReconciliationReleasesItsSlot(Vertx vertx) {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, 0, 1, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        List<String> started = new ArrayList<>();
+
+        Future<Void> failed = scheduler.submit(reconciliation("watch", "a"), () -> {
+            throw new RuntimeException("Failed to start");
+        });
+        scheduler.submit(reconciliation("watch", "b"), record(started, "b", Promise.promise()));
+
+        assertThat(failed.failed(), is(true));
+        assertThat(started, is(List.of("b")));
+    }
+
+    @Test
+    public void testPeriodicReconciliationsAreSpreadAcrossTheInterval(Vertx vertx) {
+        long intervalMs = 120_000L;
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, intervalMs, 1, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        Set<Long> offsets = new HashSet<>();
+        int firstHalf = 0;
+
+        for (int i = 0; i < 100; i++) {
+            long offset = scheduler.offsetMs("Kafka/namespace/my-cluster-" + i);
+
+            assertThat(offset, is(greaterThanOrEqualTo(0L)));
+            assertThat(offset, is(lessThan(intervalMs)));
+            // The offset is stable for the same resource
+            assertThat(scheduler.offsetMs("Kafka/namespace/my-cluster-" + i), is(offset));
+
+            offsets.add(offset);
+            if (offset < intervalMs / 2) {
+                firstHalf++;
+            }
+        }
+
+        assertThat(offsets.size(), is(greaterThan(90)));
+        assertThat(firstHalf, is(greaterThan(25)));
+        assertThat(firstHalf, is(lessThan(75)));
+    }
+}
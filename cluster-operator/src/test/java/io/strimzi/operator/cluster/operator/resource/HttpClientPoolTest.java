@@ -0,0 +1,148 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.net.JksOptions;
+import io.vertx.core.net.PemTrustOptions;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class HttpClientPoolTest {
+    private static HttpServer mockServer(Vertx vertx) throws InterruptedException, ExecutionException {
+        HttpServer httpServer = vertx.createHttpServer().requestHandler(request -> request.response().setStatusCode(200).end("OK"));
+        return httpServer.listen(0).toCompletionStage().toCompletableFuture().get();
+    }
+
+    private static Future<Integer> get(HttpClientPool pool, HttpClientOptions options, int port) {
+        return pool.withHttpClient(options, (httpClient, result) -> httpClient.request(HttpMethod.GET, port, "127.0.0.1", "/")
+                .compose(request -> request.send())
+                .compose(response -> response.body().map(body -> response.statusCode()))
+                .onComplete(result));
+    }
+
+    private static double metric(MeterRegistry registry, String name) {
+        return registry.get(name).tag("pool", "test").meter().measure().iterator().next().getValue();
+    }
+
+    @Test
+    public void testClientsAndConnectionsAreReused(Vertx vertx, VertxTestContext context) throws InterruptedException, ExecutionException {
+        HttpServer server = mockServer(vertx);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HttpClientPool pool = new HttpClientPool(vertx, "test", new MicrometerMetricsProvider(registry));
+        HttpClientOptions options = new HttpClientOptions();
+
+        Checkpoint async = context.checkpoint();
+        get(pool, options, server.actualPort())
+                .compose(i -> get(pool, options, server.actualPort()))
+                .compose(i -> get(pool, new HttpClientOptions(), server.actualPort()))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(status, is(200));
+                    assertThat(metric(registry, HttpClientPool.METRICS_POOL_MISSES), is(1.0));
+                    assertThat(metric(registry, HttpClientPool.METRICS_POOL_HITS), is(2.0));
+                    assertThat(metric(registry, HttpClientPool.METRICS_POOL_CLIENTS), is(1.0));
+                    // The keep-alive connections are reused. The next request might be sent before the previous
+                    // connection is returned to the connection pool, so we cannot expect just a single connection.
+                    assertThat(metric(registry, HttpClientPool.METRICS_POOL_CONNECTIONS), is(lessThan(3.0)));
+
+                    pool.close();
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testIdleClientsAreEvicted(Vertx vertx, VertxTestContext context) throws InterruptedException, ExecutionException {
+        HttpServer server = mockServer(vertx);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HttpClientPool pool = new HttpClientPool(vertx, "test", new MicrometerMetricsProvider(registry));
+        HttpClientOptions options = new HttpClientOptions();
+
+        Checkpoint async = context.checkpoint();
+        get(pool, options, server.actualPort())
+                .compose(i -> {
+                    // Not idle for long enough
+                    pool.evictIdle(System.currentTimeMillis() - 60_000L);
+                    assertThat(metric(registry, HttpClientPool.METRICS_POOL_CLIENTS), is(1.0));
+
+                    pool.evictIdle(Long.MAX_VALUE);
+                    assertThat(metric(registry, HttpClientPool.METRICS_POOL_CLIENTS), is(0.0));
+                    assertThat(metric(registry, HttpClientPool.METRICS_POOL_EVICTIONS), is(1.0));
+
+                    return get(pool, options, server.actualPort());
+                })
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(metric(registry, HttpClientPool.METRICS_POOL_MISSES), is(2.0));
+                    assertThat(metric(registry, HttpClientPool.METRICS_POOL_HITS), is(0.0));
+
+                    pool.close();
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testKeyChangesWithTrustedCertificates() {
+        HttpClientOptions options = new HttpClientOptions()
+                .setSsl(true)
+                .setTrustOptions(new PemTrustOptions().addCertValue(Buffer.buffer("old-certificate")));
+        HttpClientOptions sameOptions = new HttpClientOptions()
+                .setSsl(true)
+                .setTrustOptions(new PemTrustOptions().addCertValue(Buffer.buffer("old-certificate")));
+        HttpClientOptions rotatedOptions = new HttpClientOptions()
+                .setSsl(true)
+                .setTrustOptions(new PemTrustOptions().addCertValue(Buffer.buffer("new-certificate")));
+
+        assertThat(HttpClientPool.key(options), is(HttpClientPool.key(sameOptions)));
+        assertThat(HttpClientPool.key(options), is(not(HttpClientPool.key(rotatedOptions))));
+        assertThat(HttpClientPool.key(options), is(not(HttpClientPool.key(new HttpClientOptions()))));
+    }
+
+    @Test
+    public void testCloseClosesClientsInUse(Vertx vertx) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HttpClientPool pool = new HttpClientPool(vertx, "test", new MicrometerMetricsProvider(registry));
+
+        // The operation never completes, so the client stays in use
+        pool.withHttpClient(new HttpClientOptions(), (httpClient, result) -> { });
+        assertThat(metric(registry, HttpClientPool.METRICS_POOL_CLIENTS), is(1.0));
+
+        pool.close();
+        assertThat(metric(registry, HttpClientPool.METRICS_POOL_CLIENTS), is(0.0));
+    }
+
+    @Test
+    public void testOnlyPemTrustOptionsAreSupported(Vertx vertx) {
+        HttpClientOptions options = new HttpClientOptions()
+                .setSsl(true)
+                .setTrustOptions(new JksOptions().setValue(Buffer.buffer("truststore")));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> HttpClientPool.key(options));
+        assertThat(e.getMessage(), is("Pooled HTTP clients support only PEM trust options, but JksOptions was used"));
+
+        HttpClientPool pool = new HttpClientPool(vertx, "test", new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        assertThat(pool.withHttpClient(options, (httpClient, result) -> result.complete()).failed(), is(true));
+    }
+}
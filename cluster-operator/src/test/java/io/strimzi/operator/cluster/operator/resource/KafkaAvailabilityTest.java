@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -34,16 +36,21 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -376,6 +383,139 @@ public class KafkaAvailabilityTest {
         }
     }
 
+    @Test
+    public void testAboveMinIsrWithMultipleBrokers(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2, 3)
+                        .leader(0)
+                        .isr(0, 1, 2, 3)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 2, 4)
+                        .leader(2)
+                        .isr(0, 2, 4)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(5);
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint(3);
+        kafkaAvailability.canRoll(Set.of(1, 3)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll, "brokers 1 and 3 should be rollable together, leaving two brokers in the ISR of A-0");
+            a.flag();
+        })));
+        kafkaAvailability.canRoll(Set.of(0, 1)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll, "brokers 0 and 1 should be rollable together, leaving two brokers in the ISR of A-0 and B-0");
+            a.flag();
+        })));
+        kafkaAvailability.canRoll(Set.of(0, 1, 2)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertFalse(canRoll, "brokers 0, 1 and 2 should not be rollable together, leaving only one broker in the ISR of A-0 and B-0");
+            a.flag();
+        })));
+    }
+
+    @Test
+    public void testBelowMinIsrOnOtherBrokers(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                    .addNewPartition(1)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint(ksb.brokers.size());
+        for (Integer brokerId : ksb.brokers.keySet()) {
+            kafkaAvailability.canRoll(brokerId).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                if (brokerId < 3) {
+                    assertTrue(canRoll,
+                            "broker " + brokerId + " should be rollable, the under-replicated partition A-1 has no replica on it");
+                } else {
+                    assertFalse(canRoll,
+                            "broker " + brokerId + " should not be rollable, having a replica of the under-replicated partition A-1");
+                }
+                a.flag();
+            })));
+        }
+    }
+
+    @Test
+    public void testSnapshotIsReusedAndRefreshedIncrementally(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2, 3)
+                        .leader(1)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                    .addNewPartition(1)
+                        .replicaOn(1, 2, 3)
+                        .leader(2)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        Timer refreshTimer = new SimpleMeterRegistry().timer("refresh");
+        AtomicInteger snapshotPartitions = new AtomicInteger(0);
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac,
+                Long.MAX_VALUE, refreshTimer, snapshotPartitions);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    assertTrue(canRoll);
+                    return kafkaAvailability.canRoll(Set.of(0, 3));
+                })
+                .compose(canRoll -> {
+                    assertTrue(canRoll);
+
+                    // The topics were described only once and the configs only for the topics on the checked brokers
+                    verify(ac, times(1)).describeTopics(anyCollection());
+                    verify(ac, times(2)).describeConfigs(any());
+                    assertThat(refreshTimer.count(), is(3L));
+                    assertThat(snapshotPartitions.get(), is(3));
+
+                    kafkaAvailability.invalidate();
+                    return kafkaAvailability.canRoll(0);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertTrue(canRoll);
+
+                    // Only the topic with replicas on broker 0 is described again, configs are not described again
+                    verify(ac, times(1)).describeTopics(Set.of("A"));
+                    verify(ac, times(2)).describeConfigs(any());
+                    assertThat(refreshTimer.count(), is(4L));
+                    a.flag();
+                })));
+    }
+
     @Test
     public void testMinIsrEqualsReplicas(VertxTestContext context) {
         KSB ksb = new KSB()
@@ -18,6 +18,7 @@ import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.auth.TlsPemIdentity;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -33,6 +34,7 @@ import org.apache.kafka.clients.admin.QuorumInfo;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -530,6 +532,27 @@ public class KafkaRollerTest {
                 emptyList());
     }
 
+    @Test
+    public void testDynamicUpdatesAreSentInParallel(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(addPodNames(REPLICAS), podOps,
+                noException(), null,
+                noException(), podId -> podId == 1 ? new KafkaRoller.ForceableProblem("could not get alter exception") : null, noException(),
+            brokerId -> succeededFuture(true), false, new DefaultAdminClientProvider(), new DefaultKafkaAgentClientProvider(), false, null, 2);
+        // Only the pod whose parallel update failed is updated one-by-one and rolled when the update fails again
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.empty())
+                .onComplete(testContext.succeeding(v -> {
+                    testContext.verify(() -> {
+                        assertThat(kafkaRoller.parallelDynamicUpdates, is(List.of(Set.of(0, 1, 2, 3, 4))));
+                        assertThat(kafkaRoller.dynamicUpdates, is(List.of(1)));
+                        assertThat(restarted(), is(List.of(1)));
+                    });
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                }));
+    }
+
     @Test
     public void testSuccessfulRollingKRaftControllers(VertxTestContext testContext) {
         TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(addKraftPodNames(0, 3, 3),
@@ -708,6 +731,49 @@ public class KafkaRollerTest {
                 asList(7, 4, 3, 5, 6, 8, 1, 0, 2)); //Rolls in order: unready controllers, ready controllers, unready brokers, ready brokers
     }
 
+    @Test
+    public void testParallelRollByRack(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        List<Set<Integer>> batches = new ArrayList<>();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(addKraftPodNames(6, 0, 0), podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true),
+                false, new DefaultAdminClientProvider(), new DefaultKafkaAgentClientProvider(), false, null,
+                2, Map.of(0, "zone-a", 1, "zone-b", 2, "zone-a", 3, "zone-b", 4, "zone-a", 5, "zone-b"),
+                brokerIds -> {
+                    batches.add(brokerIds);
+                    return succeededFuture(true);
+                }, 5);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // All brokers are restarted exactly once
+                    assertThat(Set.copyOf(restarted()), is(Set.of(0, 1, 2, 3, 4, 5)));
+                    assertThat(restarted().size(), is(6));
+                    // Batches never mix racks, and the controller is restarted last on its own
+                    assertThat(Set.copyOf(batches), is(Set.of(Set.of(0, 2), Set.of(1, 3))));
+                    assertThat(restarted().get(5), is(5));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testParallelRollFallsBackToSequentialWhenUnsafe(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(addKraftPodNames(3, 0, 0), podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true),
+                false, new DefaultAdminClientProvider(), new DefaultKafkaAgentClientProvider(), false, null,
+                3, Map.of(0, "zone-a", 1, "zone-a", 2, "zone-a"),
+                brokerIds -> succeededFuture(false), -1);
+
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2),
+                asList(0, 1, 2));
+    }
+
     private TestingKafkaRoller rollerWithControllers(PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(addPodNames(KafkaRollerTest.REPLICAS), podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -842,6 +908,10 @@ public class KafkaRollerTest {
         private final int[] controllers;
         private final List<String> tcpProbes = new ArrayList<>();
         private final BrokerState brokerState;
+        private final Map<Integer, String> racks;
+        private final Function<Set<Integer>, Future<Boolean>> canRollBatchFn;
+        private final List<Set<Integer>> parallelDynamicUpdates = new ArrayList<>();
+        private final List<Integer> dynamicUpdates = new ArrayList<>();
 
         @SuppressWarnings("checkstyle:ParameterNumber")
         private TestingKafkaRoller(Set<NodeRef> nodes,
@@ -856,6 +926,26 @@ public class KafkaRollerTest {
                                    AdminClientProvider adminClientProvider,
                                    KafkaAgentClientProvider kafkaAgentClientProvider,
                                    boolean delegateAdminClientCall, BrokerState brokerState, int... controllers) {
+            this(nodes, podOps, acOpenException, acCloseException, controllerException, alterConfigsException, getConfigsException,
+                    canRollFn, delegateControllerCall, adminClientProvider, kafkaAgentClientProvider, delegateAdminClientCall, brokerState,
+                    1, Map.of(), brokerIds -> succeededFuture(false), controllers);
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private TestingKafkaRoller(Set<NodeRef> nodes,
+                                   PodOperator podOps,
+                                   Function<Set<NodeRef>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   boolean delegateControllerCall,
+                                   AdminClientProvider adminClientProvider,
+                                   KafkaAgentClientProvider kafkaAgentClientProvider,
+                                   boolean delegateAdminClientCall, BrokerState brokerState,
+                                   int maxRestartParallelism, Map<Integer, String> racks,
+                                   Function<Set<Integer>, Future<Boolean>> canRollBatchFn, int... controllers) {
             super(
                     new Reconciliation("test", "Kafka", stsNamespace(), clusterName()),
                     KafkaRollerTest.vertx,
@@ -871,7 +961,9 @@ public class KafkaRollerTest {
                     "",
                     KafkaVersionTestUtils.getLatestVersion(),
                     true,
-                    mock(KubernetesRestartEventPublisher.class));
+                    mock(KubernetesRestartEventPublisher.class),
+                    maxRestartParallelism,
+                    null);
             this.delegateControllerCall = delegateControllerCall;
             this.delegateAdminClientCall = delegateAdminClientCall;
             this.controllers = controllers;
@@ -885,6 +977,8 @@ public class KafkaRollerTest {
             this.canRollFn = canRollFn;
             this.unclosedAdminClients = new IdentityHashMap<>();
             this.brokerState = brokerState;
+            this.racks = racks;
+            this.canRollBatchFn = canRollBatchFn;
         }
 
         @Override
@@ -926,7 +1020,7 @@ public class KafkaRollerTest {
 
         @Override
         protected KafkaAvailability availability(Admin ac) {
-            return new KafkaAvailability(null, null) {
+            return new KafkaAvailability(new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), null) {
                 @Override
                 protected Future<Set<String>> topicNames() {
                     return succeededFuture(Collections.emptySet());
@@ -941,9 +1035,19 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<Boolean> canRoll(Set<Integer> podIds) {
+                    return canRollBatchFn.apply(podIds);
+                }
             };
         }
 
+        @Override
+        Map<Integer, String> brokerRacks() {
+            return racks;
+        }
+
         @Override
         protected KafkaQuorumCheck quorumCheck(Admin ac, long controllerQuorumFetchTimeoutMs) {
             Admin admin = mock(Admin.class);
@@ -992,8 +1096,30 @@ public class KafkaRollerTest {
             return new Config(emptyList());
         }
 
+        @Override
+        Map<ConfigResource, Config> describeBrokerConfigs(List<NodeRef> nodes) throws ForceableProblem {
+            Map<ConfigResource, Config> configs = new HashMap<>();
+            for (NodeRef nodeRef : nodes) {
+                configs.put(Util.getBrokersConfig(nodeRef.nodeId()), brokerConfig(nodeRef));
+                configs.put(Util.getBrokersLogging(nodeRef.nodeId()), brokerLogging(nodeRef.nodeId()));
+            }
+            return configs;
+        }
+
+        @Override
+        Map<NodeRef, Future<Void>> dynamicUpdateBrokerConfigs(Admin ac, Map<NodeRef, DynamicUpdate> updates) {
+            parallelDynamicUpdates.add(updates.keySet().stream().map(NodeRef::nodeId).collect(Collectors.toSet()));
+            Map<NodeRef, Future<Void>> results = new HashMap<>();
+            for (NodeRef nodeRef : updates.keySet()) {
+                ForceableProblem problem = alterConfigsException.apply(nodeRef.nodeId());
+                results.put(nodeRef, problem != null ? failedFuture(problem) : succeededFuture());
+            }
+            return results;
+        }
+
         @Override
         protected void dynamicUpdateBrokerConfig(NodeRef nodeRef, Admin ac, KafkaBrokerConfigurationDiff configurationDiff, KafkaBrokerLoggingConfigurationDiff logDiff) throws ForceableProblem {
+            dynamicUpdates.add(nodeRef.nodeId());
             ForceableProblem problem = alterConfigsException.apply(nodeRef.nodeId());
             if (problem != null) {
                 throw problem;
@@ -18,6 +18,7 @@ import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
 import io.vertx.junit5.Checkpoint;
@@ -186,6 +187,73 @@ public abstract class AbstractNamespacedResourceOperatorTest<C extends Kubernete
         })));
     }
 
+    @Test
+    public void testCreateWhenExistsWithMatchingDesiredStateHashIsNotAPatch(VertxTestContext context) {
+        T desired = modifiedResource();
+        String hash = DesiredStateHash.stamp(modifiedResource());
+
+        // The current resource differs from the desired one, but it has the hash of the same desired state
+        T current = resource();
+        current.getMetadata().setAnnotations(Map.of(DesiredStateHash.ANNO_STRIMZI_IO_DESIRED_STATE_HASH, hash));
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(current);
+        when(mockResource.patch(any(), any())).thenReturn(current);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(current.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(current.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.setDesiredStateHashEnabled(true);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, desired).onComplete(context.succeeding(rr -> context.verify(() -> {
+            assertThat(rr.getType(), is(ReconcileResult.Type.NOOP));
+            assertThat(DesiredStateHash.of(desired), is(hash));
+            verify(mockResource).get();
+            verify(mockResource, never()).patch(any(), any());
+            verify(mockResource, never()).create();
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testCreationWithDesiredStateHash(VertxTestContext context) {
+        T resource = resource();
+        String hash = DesiredStateHash.hash(resource());
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(null);
+        when(mockResource.create()).thenReturn(resource);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+        when(mockNameable.resource(eq(resource))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperationsWithMockedReadiness(vertx, mockClient);
+        op.setDesiredStateHashEnabled(true);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, resource).onComplete(context.succeeding(rr -> context.verify(() -> {
+            // The hash is stored in the created resource
+            assertThat(DesiredStateHash.of(resource), is(hash));
+            verify(mockResource).create();
+            async.flag();
+        })));
+    }
+
     @Test
     public void testExistenceCheckThrows(VertxTestContext context) {
         T resource = resource();
@@ -6,6 +6,7 @@ package io.strimzi.operator.common.config;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.featuregates.FeatureGates;
 import io.strimzi.operator.common.model.Labels;
@@ -117,6 +118,17 @@ public interface ConfigParameterParser<T> {
         }
     };
 
+    /**
+     * The type of the Cert Manager used to generate keys and certificates
+     */
+    ConfigParameterParser<CertManagerType> CERT_MANAGER_TYPE = configValue -> {
+        try {
+            return CertManagerType.fromString(configValue);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException("Failed to parse. " + e.getMessage());
+        }
+    };
+
     /**
      * Strictly Positive Number
      * @param parser ConfigParameterParser object
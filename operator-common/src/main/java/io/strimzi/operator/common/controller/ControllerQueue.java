@@ -8,17 +8,24 @@ import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 
 /**
  * Controller queue class wraps a Blocking queue and exposes the methods used by controllers. This includes taking
  * events from the queue and enqueueing events into the queue.
+ *
+ * The enqueued reconciliations are tracked in a concurrent set next to the FIFO queue. That way, checking whether
+ * a reconciliation is already enqueued does not need to scan the queue under its lock, and both enqueueing and
+ * taking the reconciliations take constant time even when the queue is large (e.g. during a periodic resync).
  */
 public class ControllerQueue {
     private final static Logger LOGGER = LogManager.getLogger(ControllerQueue.class);
 
     /*test*/ final BlockingQueue<SimplifiedReconciliation> queue;
+    /*test*/ final Set<SimplifiedReconciliation> enqueued = ConcurrentHashMap.newKeySet();
     private final ControllerMetricsHolder metrics;
 
     /**
@@ -29,7 +36,7 @@ public class ControllerQueue {
      * @param metrics       Holder for the controller metrics
      */
     public ControllerQueue(int queueSize, ControllerMetricsHolder metrics) {
-        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.queue = new LinkedBlockingQueue<>(queueSize);
         this.metrics = metrics;
     }
 
@@ -39,7 +46,12 @@ public class ControllerQueue {
      * @throws InterruptedException InterruptedException is thrown if interrupted while waiting to get the next resource from the queue (e.g. when the queue is empty)
      */
     public SimplifiedReconciliation take() throws InterruptedException {
-        return queue.take();
+        SimplifiedReconciliation reconciliation = queue.take();
+        // Events arriving from now on are enqueued again. Any event arriving between taking the reconciliation and
+        // removing it from the set is ignored, but the reconciliation did not start yet, so it will use the latest
+        // version of the resource anyway.
+        enqueued.remove(reconciliation);
+        return reconciliation;
     }
 
     /**
@@ -49,9 +61,10 @@ public class ControllerQueue {
      * @param reconciliation    Reconciliation identifier
      */
     public void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!queue.contains(reconciliation)) {
+        if (enqueued.add(reconciliation)) {
             LOGGER.debug("Enqueueing {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
             if (!queue.offer(reconciliation))    {
+                enqueued.remove(reconciliation);
                 LOGGER.warn("Failed to enqueue an event because the controller queue is full");
             }
         } else {
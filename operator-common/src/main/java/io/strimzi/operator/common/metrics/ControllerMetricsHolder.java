@@ -5,12 +5,15 @@
 package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A metrics holder for controllers.
@@ -20,8 +23,18 @@ public class ControllerMetricsHolder extends MetricsHolder {
      * Metric name for reconciliations which are already queued when we try to enqueue them again.
      */
     public static final String METRICS_RECONCILIATIONS_ALREADY_ENQUEUED = METRICS_PREFIX + "reconciliations.already.enqueued";
+    /**
+     * Metric name for the number of reconciliations waiting in the queue of a controller worker.
+     */
+    public static final String METRICS_CONTROLLER_WORKER_QUEUE_SIZE = METRICS_PREFIX + "controller.worker.queue.size";
+    /**
+     * Metric name for the time the reconciliations spent waiting in the queue of a controller worker.
+     */
+    public static final String METRICS_CONTROLLER_WORKER_QUEUE_TIME = METRICS_PREFIX + "controller.worker.queue.time";
 
     private final Map<MetricKey, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, AtomicInteger> workerQueueSizeGaugeMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Timer> workerQueueTimerMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the controller metrics holder
@@ -48,4 +61,52 @@ public class ControllerMetricsHolder extends MetricsHolder {
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running",
                 Optional.of(getLabelSelectorValues()), alreadyQueuedReconciliationsCounterMap);
     }
+
+    /**
+     * Gauge metric for the number of reconciliations waiting in the queue of a controller worker. When one of the
+     * workers has much longer queue than the others, it might indicate that most of the events are for only a few
+     * resources.
+     *
+     * @param namespace     Namespace watched by the controller
+     * @param worker        Index of the worker
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger workerQueueSizeGauge(String namespace, int worker) {
+        return getGauge(new WorkerMetricKey(kind, namespace, worker), METRICS_CONTROLLER_WORKER_QUEUE_SIZE,
+                "Number of reconciliations waiting in the queue of the controller worker",
+                Optional.of(getLabelSelectorValues()), workerQueueSizeGaugeMap, Tag.of("worker", String.valueOf(worker)));
+    }
+
+    /**
+     * Timer metric for the time the reconciliations spent in the queue of a controller worker before they were
+     * started.
+     *
+     * @param namespace     Namespace watched by the controller
+     * @param worker        Index of the worker
+     *
+     * @return  Metrics timer
+     */
+    public Timer workerQueueTimer(String namespace, int worker) {
+        return getTimer(new WorkerMetricKey(kind, namespace, worker), METRICS_CONTROLLER_WORKER_QUEUE_TIME,
+                "The time the reconciliations spent in the queue of the controller worker before they were started",
+                Optional.of(getLabelSelectorValues()), workerQueueTimerMap, Tag.of("worker", String.valueOf(worker)));
+    }
+
+    /**
+     * Metric key for the metrics of the individual controller workers
+     */
+    private static class WorkerMetricKey extends MetricKey {
+        private final int worker;
+
+        WorkerMetricKey(String kind, String namespace, int worker) {
+            super(kind, namespace);
+            this.worker = worker;
+        }
+
+        @Override
+        public String getKey() {
+            return String.format("%s/%s/%d", kind, namespace, worker);
+        }
+    }
 }
@@ -307,11 +307,12 @@ public abstract class MetricsHolder {
      * @param metricHelp        Help description of the metric
      * @param selectorLabels    Selector labels to select the controller resources
      * @param gaugeMap          Map with gauges
+     * @param optionalTags      Optional tags to be added to the metric
      *
      * @return  Gauge metric
      */
-    protected AtomicInteger getGauge(MetricKey metricKey, String metricName, String metricHelp, Optional<String> selectorLabels, Map<MetricKey, AtomicInteger> gaugeMap) {
-        return metric(metricKey, selectorLabels, gaugeMap, tags -> metricsProvider.gauge(metricName, metricHelp, tags));
+    protected AtomicInteger getGauge(MetricKey metricKey, String metricName, String metricHelp, Optional<String> selectorLabels, Map<MetricKey, AtomicInteger> gaugeMap, Tag... optionalTags) {
+        return metric(metricKey, selectorLabels, gaugeMap, tags -> metricsProvider.gauge(metricName, metricHelp, tags), optionalTags);
     }
 
     /**
@@ -322,11 +323,12 @@ public abstract class MetricsHolder {
      * @param metricHelp        Help description of the metric
      * @param selectorLabels    Selector labels to select the controller resources
      * @param timerMap          Map with timers
+     * @param optionalTags      Optional tags to be added to the metric
      *
      * @return  Timer metric
      */
-    protected Timer getTimer(MetricKey metricKey, String metricName, String metricHelp, Optional<String> selectorLabels, Map<MetricKey, Timer> timerMap) {
-        return metric(metricKey, selectorLabels, timerMap, tags -> metricsProvider.timer(metricName, metricHelp, tags));
+    protected Timer getTimer(MetricKey metricKey, String metricName, String metricHelp, Optional<String> selectorLabels, Map<MetricKey, Timer> timerMap, Tag... optionalTags) {
+        return metric(metricKey, selectorLabels, timerMap, tags -> metricsProvider.timer(metricName, metricHelp, tags), optionalTags);
     }
 
     protected String getLabelSelectorValues() {
@@ -4,12 +4,16 @@
  */
 package io.strimzi.operator.common.model;
 
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.node.MissingNode;
 import io.fabric8.kubernetes.client.utils.Serialization;
 
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+
 /**
  * Abstract class for diffing Json and YAML resources
  */
@@ -20,20 +24,113 @@ public abstract class AbstractJsonDiff {
             .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
             .configure(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS, false);
 
+    /**
+     * Looks up the node at the JSON Pointer path. The ~0 and ~1 escapes in the path segments are resolved, so paths of
+     * the JSON Patch operations and of the differences found by forEachDifference() can be used.
+     *
+     * @param source    JSON tree
+     * @param path      JSON Pointer path
+     *
+     * @return  The node at the path or MissingNode if there is none
+     */
     protected static JsonNode lookupPath(JsonNode source, String path) {
-        JsonNode s = source;
-        for (String component : path.substring(1).split("/")) {
-            if (s.isArray()) {
-                try {
-                    s = s.path(Integer.parseInt(component));
-                } catch (NumberFormatException e) {
-                    return MissingNode.getInstance();
+        return source.at(JsonPointer.compile(path));
+    }
+
+    /**
+     * Walks the source and target JSON trees together and calls the difference handler with the JSON Pointer path of
+     * each place where they differ. The paths are the same as the paths of the JSON Patch operations which would
+     * transform the source into the target: a field missing on one side or a value which differs is reported at its
+     * own path and objects are compared field by field. Arrays are compared element by element by their index. Unlike
+     * computing the whole JSON Patch, this does not allocate any new nodes and it stops as soon as the handler returns
+     * false. So it can be used to find only the first relevant difference.
+     *
+     * @param source        Source JSON tree
+     * @param target        Target JSON tree
+     * @param difference    Handler called with the path of each difference. It returns true to continue with the next
+     *                      difference or false to stop.
+     *
+     * @return  True if the whole trees were walked. False if the handler stopped the walk.
+     */
+    protected static boolean forEachDifference(JsonNode source, JsonNode target, Predicate<String> difference) {
+        return walk(source, target, new StringBuilder(), difference);
+    }
+
+    private static boolean walk(JsonNode source, JsonNode target, StringBuilder path, Predicate<String> difference) {
+        if (source.isObject() && target.isObject()) {
+            int length = path.length();
+
+            Iterator<Map.Entry<String, JsonNode>> sourceFields = source.fields();
+            while (sourceFields.hasNext()) {
+                Map.Entry<String, JsonNode> field = sourceFields.next();
+                JsonNode targetValue = target.get(field.getKey());
+                appendPathSegment(path, field.getKey());
+
+                if (targetValue == null ? !difference.test(path.toString()) : !walk(field.getValue(), targetValue, path, difference)) {
+                    return false;
+                }
+
+                path.setLength(length);
+            }
+
+            Iterator<String> targetFieldNames = target.fieldNames();
+            while (targetFieldNames.hasNext()) {
+                String fieldName = targetFieldNames.next();
+
+                if (!source.has(fieldName)) {
+                    appendPathSegment(path, fieldName);
+
+                    if (!difference.test(path.toString())) {
+                        return false;
+                    }
+
+                    path.setLength(length);
+                }
+            }
+
+            return true;
+        } else if (source.isArray() && target.isArray()) {
+            int length = path.length();
+            int common = Math.min(source.size(), target.size());
+
+            for (int i = 0; i < Math.max(source.size(), target.size()); i++) {
+                path.append('/').append(i);
+
+                if (i < common ? !walk(source.get(i), target.get(i), path, difference) : !difference.test(path.toString())) {
+                    return false;
                 }
+
+                path.setLength(length);
+            }
+
+            return true;
+        } else if (!source.equals(target)) {
+            return difference.test(path.toString());
+        } else {
+            return true;
+        }
+    }
+
+    /**
+     * Appends the field name as a new segment of the JSON Pointer path with escaped ~ and / characters
+     *
+     * @param path          Path
+     * @param fieldName     Field name
+     */
+    private static void appendPathSegment(StringBuilder path, String fieldName) {
+        path.append('/');
+
+        for (int i = 0; i < fieldName.length(); i++) {
+            char c = fieldName.charAt(i);
+
+            if (c == '~') {
+                path.append("~0");
+            } else if (c == '/') {
+                path.append("~1");
             } else {
-                s = s.path(component);
+                path.append(c);
             }
         }
-        return s;
     }
 
     /**
@@ -5,10 +5,11 @@
 package io.strimzi.operator.common.model;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.api.kafka.model.kafka.Status;
 import io.strimzi.operator.common.ReconciliationLogger;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
@@ -30,28 +31,30 @@ public class StatusDiff extends AbstractJsonDiff {
     public StatusDiff(Status current, Status desired) {
         JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
         JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
 
-        int num = 0;
+        // In debug mode, all differences are collected to log their full paths. Otherwise, we stop at the first one.
+        boolean debug = LOGGER.isDebugEnabled();
+        List<String> differences = new ArrayList<>(1);
 
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-
-            if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
-                LOGGER.debugOp("Ignoring Status diff {}", d);
-                continue;
+        forEachDifference(source, target, path -> {
+            if (IGNORABLE_PATHS.matcher(path).matches()) {
+                LOGGER.debugOp("Ignoring Status diff {}", path);
+                return true;
             }
 
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debugOp("Status differs: {}", d);
-                LOGGER.debugOp("Current Status path {} has value {}", pathValue, lookupPath(source, pathValue));
-                LOGGER.debugOp("Desired Status path {} has value {}", pathValue, lookupPath(target, pathValue));
-            }
+            differences.add(path);
+            return debug;
+        });
 
-            num++;
+        if (debug) {
+            for (String path : differences) {
+                LOGGER.debugOp("Status differs: {}", path);
+                LOGGER.debugOp("Current Status path {} has value {}", path, lookupPath(source, path));
+                LOGGER.debugOp("Desired Status path {} has value {}", path, lookupPath(target, path));
+            }
         }
 
-        this.isEmpty = num == 0;
+        this.isEmpty = differences.isEmpty();
     }
 
     /**
@@ -6,11 +6,12 @@ package io.strimzi.operator.common.operator.resource;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.AbstractJsonDiff;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
@@ -49,29 +50,30 @@ public class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
     public ResourceDiff(Reconciliation reconciliation, String resourceKind, String resourceName, T current, T desired, Pattern ignorableFields) {
         JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
         JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
 
-        int num = 0;
+        // In debug mode, all differences are collected to log their full paths. Otherwise, we stop at the first one.
+        boolean debug = LOGGER.isDebugEnabled();
+        List<String> differences = new ArrayList<>(1);
 
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-
-            if (ignorableFields.matcher(pathValue).matches()) {
-                LOGGER.debugCr(reconciliation, "Ignoring {} {} diff {}", resourceKind, resourceName, d);
-                continue;
+        forEachDifference(source, target, path -> {
+            if (ignorableFields.matcher(path).matches()) {
+                LOGGER.debugCr(reconciliation, "Ignoring {} {} diff {}", resourceKind, resourceName, path);
+                return true;
             }
 
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debugCr(reconciliation, "{} {} differs: {}", resourceKind, resourceName, d);
-                LOGGER.debugCr(reconciliation, "Current {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(source, pathValue));
-                LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(target, pathValue));
-            }
+            differences.add(path);
+            return debug;
+        });
 
-            num++;
-            break;
+        if (debug) {
+            for (String path : differences) {
+                LOGGER.debugCr(reconciliation, "{} {} differs: {}", resourceKind, resourceName, path);
+                LOGGER.debugCr(reconciliation, "Current {} {} path {} has value {}", resourceKind, resourceName, path, lookupPath(source, path));
+                LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, path, lookupPath(target, path));
+            }
         }
 
-        this.isEmpty = num == 0;
+        this.isEmpty = differences.isEmpty();
     }
 
     @Override
@@ -13,6 +13,7 @@ import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class ControllerQueueTest {
@@ -37,4 +38,46 @@ public class ControllerQueueTest {
         // Test metric
         assertThat(metricsRegistry.get(ControllerMetricsHolder.METRICS_RECONCILIATIONS_ALREADY_ENQUEUED).tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(1.0));
     }
+
+    @Test
+    public void testEnqueueingTaken() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "timer");
+
+        q.enqueue(r1);
+        assertThat(q.take(), is(r1));
+        assertThat(q.enqueued.isEmpty(), is(true));
+
+        // The reconciliation was taken from the queue => it should be enqueued again
+        q.enqueue(r2);
+        assertThat(q.queue.size(), is(1));
+        assertThat(q.take().trigger, is("timer"));
+
+        // Test metric
+        assertThat(metricsRegistry.find(ControllerMetricsHolder.METRICS_RECONCILIATIONS_ALREADY_ENQUEUED).counter(), is(nullValue()));
+    }
+
+    @Test
+    public void testEnqueueingToFullQueue() throws InterruptedException {
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+        ControllerQueue q = new ControllerQueue(1, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-other-name", "watch");
+
+        q.enqueue(r1);
+        q.enqueue(r2);
+
+        assertThat(q.queue.size(), is(1));
+        assertThat(q.enqueued.contains(r2), is(false));
+
+        // Once there is space in the queue, the rejected reconciliation can be enqueued
+        q.take();
+        q.enqueue(r2);
+        assertThat(q.take(), is(r2));
+    }
 }
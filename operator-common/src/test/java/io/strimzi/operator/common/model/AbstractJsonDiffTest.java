@@ -0,0 +1,76 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+public class AbstractJsonDiffTest {
+    private static JsonNode json(String json) throws JsonProcessingException {
+        return AbstractJsonDiff.PATCH_MAPPER.readTree(json);
+    }
+
+    private static List<String> allDifferences(JsonNode source, JsonNode target) {
+        List<String> differences = new ArrayList<>();
+        assertThat(AbstractJsonDiff.forEachDifference(source, target, differences::add), is(true));
+        return differences;
+    }
+
+    @Test
+    public void testNoDifferences() throws JsonProcessingException {
+        JsonNode node = json("{\"a\": {\"b\": [1, {\"c\": \"d\"}]}, \"e\": null}");
+
+        assertThat(allDifferences(node, json("{\"e\": null, \"a\": {\"b\": [1, {\"c\": \"d\"}]}}")), is(List.of()));
+    }
+
+    @Test
+    public void testAllDifferences() throws JsonProcessingException {
+        JsonNode source = json("{\"a\": {\"b\": \"c\", \"removed\": 1}, \"array\": [1, 2, 3], \"type\": {\"x\": 1}, \"same\": true}");
+        JsonNode target = json("{\"a\": {\"b\": \"d\", \"added\": 1}, \"array\": [1, 5], \"type\": [1], \"same\": true}");
+
+        assertThat(allDifferences(source, target), containsInAnyOrder("/a/b", "/a/removed", "/a/added", "/array/1", "/array/2", "/type"));
+    }
+
+    @Test
+    public void testPathEscaping() throws JsonProcessingException {
+        JsonNode source = json("{\"annotations\": {\"strimzi.io/a~b\": \"1\"}}");
+        JsonNode target = json("{\"annotations\": {\"strimzi.io/a~b\": \"2\"}}");
+
+        assertThat(allDifferences(source, target), is(List.of("/annotations/strimzi.io~1a~0b")));
+    }
+
+    @Test
+    public void testLookupPath() throws JsonProcessingException {
+        JsonNode node = json("{\"annotations\": {\"strimzi.io/a~b\": \"1\"}, \"array\": [1, {\"c\": 2}]}");
+
+        assertThat(AbstractJsonDiff.lookupPath(node, "/annotations/strimzi.io~1a~0b").asText(), is("1"));
+        assertThat(AbstractJsonDiff.lookupPath(node, "/array/1/c").asInt(), is(2));
+        assertThat(AbstractJsonDiff.lookupPath(node, "/array/c").isMissingNode(), is(true));
+        assertThat(AbstractJsonDiff.lookupPath(node, "/missing").isMissingNode(), is(true));
+    }
+
+    @Test
+    public void testStopsWhenHandlerReturnsFalse() throws JsonProcessingException {
+        JsonNode source = json("{\"a\": 1, \"b\": 2, \"c\": 3}");
+        JsonNode target = json("{\"a\": 2, \"b\": 3, \"c\": 4}");
+
+        List<String> differences = new ArrayList<>();
+        boolean completed = AbstractJsonDiff.forEachDifference(source, target, path -> {
+            differences.add(path);
+            return !"/b".equals(path);
+        });
+
+        assertThat(completed, is(false));
+        assertThat(differences, is(List.of("/a", "/b")));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.operator.common.Reconciliation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ResourceDiffTest {
+    private static final ObjectMapper MAPPER = Serialization.jsonMapper().copy()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private static final Pod POD = new PodBuilder()
+            .withNewMetadata()
+                .withName("my-pod")
+                .withNamespace("my-namespace")
+                .withLabels(Map.of("app", "my-app"))
+                .withAnnotations(Map.of("strimzi.io/revision", "1"))
+                .withResourceVersion("1")
+            .endMetadata()
+            .withNewSpec()
+                .addNewContainer()
+                    .withName("kafka")
+                    .withImage("kafka:latest")
+                    .addNewEnv()
+                        .withName("A")
+                        .withValue("a")
+                    .endEnv()
+                .endContainer()
+            .endSpec()
+            .build();
+
+    private static boolean diff(Pod current, Pod desired) {
+        return new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Pod", "my-pod", current, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty();
+    }
+
+    // The previous implementation based on the complete JSON Patch is used as a reference for the results
+    private static boolean jsonPatchDiff(Pod current, Pod desired) {
+        JsonNode patch = JsonDiff.asJson(MAPPER.valueToTree(current), MAPPER.valueToTree(desired));
+
+        for (JsonNode operation : patch) {
+            if (!ResourceDiff.DEFAULT_IGNORABLE_PATHS.matcher(operation.get("path").asText()).matches()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Test
+    public void testDiffMatchesJsonPatch() {
+        List<Pod> desiredPods = List.of(
+                // Same
+                new PodBuilder(POD).build(),
+                // Ignorable differences only
+                new PodBuilder(POD).editMetadata().withResourceVersion("2").withUid("1234").endMetadata().withNewStatus().withPhase("Running").endStatus().build(),
+                // Changed label
+                new PodBuilder(POD).editMetadata().withLabels(Map.of("app", "other-app")).endMetadata().build(),
+                // Added label
+                new PodBuilder(POD).editMetadata().addToLabels("new", "label").endMetadata().build(),
+                // Removed annotation
+                new PodBuilder(POD).editMetadata().withAnnotations(null).endMetadata().build(),
+                // Changed nested array item
+                new PodBuilder(POD).editSpec().editFirstContainer().editFirstEnv().withValue("b").endEnv().endContainer().endSpec().build(),
+                // Added array item
+                new PodBuilder(POD).editSpec().editFirstContainer().addNewEnv().withName("B").withValue("b").endEnv().endContainer().endSpec().build(),
+                // Removed array item
+                new PodBuilder(POD).editSpec().editFirstContainer().withEnv(List.of()).endContainer().endSpec().build()
+        );
+
+        for (Pod desired : desiredPods) {
+            assertThat(diff(POD, desired), is(jsonPatchDiff(POD, desired)));
+            assertThat(diff(desired, POD), is(jsonPatchDiff(desired, POD)));
+        }
+    }
+
+    @Test
+    public void testIgnorableDifferences() {
+        Pod desired = new PodBuilder(POD)
+                .editMetadata()
+                    .withResourceVersion("2")
+                    .withGeneration(5L)
+                .endMetadata()
+                .withNewStatus()
+                    .withPhase("Running")
+                .endStatus()
+                .build();
+
+        assertThat(diff(POD, desired), is(true));
+    }
+
+    @Test
+    public void testCustomIgnorableDifferences() {
+        Pod desired = new PodBuilder(POD)
+                .editMetadata()
+                    .addToAnnotations("strimzi.io/revision", "2")
+                .endMetadata()
+                .build();
+
+        assertThat(diff(POD, desired), is(false));
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Pod", "my-pod", POD, desired, Pattern.compile("^(/metadata/annotations/strimzi.io~1revision)$")).isEmpty(), is(true));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Provides the max size and the linger time of the {@link BatchingLoop} batches.
+ * <br/><br/>
+ * When adaptive batching is disabled these are the configured {@code maxBatchSize} and {@code maxBatchLingerMs}.
+ * When it is enabled they are tuned before each batch, within their configured min and max values:
+ * <ul>
+ *     <li>the batch size is halved when the Kafka requests are failing with timeouts or throttling errors,
+ *     or when their latency is more than twice the baseline latency, otherwise it is doubled when
+ *     the queue holds more events than fit in a batch;</li>
+ *     <li>the linger time is halved when the queue is empty, so that single events are reconciled quickly,
+ *     and it is doubled otherwise, so that more events are collected in each batch.</li>
+ * </ul>
+ */
+class BatchTuner {
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchTuner.class);
+
+    private static final double EWMA_ALPHA = 0.2;
+    private static final double MAX_ERROR_RATE = 0.2;
+    private static final double MAX_LATENCY_GROWTH = 2.0;
+    private static final double BASELINE_LATENCY_CREEP = 1.05;
+
+    private final boolean adaptive;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long minLingerMs;
+    private final long maxLingerMs;
+    private final AtomicInteger batchSize;
+    private final AtomicLong lingerMs;
+
+    // guarded by this
+    private double latencyMs = -1;
+    private double baselineLatencyMs = -1;
+    private double errorRate = 0;
+
+    /**
+     * Create a new instance.
+     *
+     * @param config Topic Operator configuration.
+     * @param metricsHolder Metrics holder.
+     */
+    BatchTuner(TopicOperatorConfig config, TopicOperatorMetricsHolder metricsHolder) {
+        this.adaptive = config.adaptiveBatchingEnabled();
+        this.maxBatchSize = config.maxBatchSize();
+        this.minBatchSize = Math.min(config.minBatchSize(), maxBatchSize);
+        this.maxLingerMs = config.maxBatchLingerMs();
+        this.minLingerMs = Math.min(config.minBatchLingerMs(), maxLingerMs);
+        this.batchSize = metricsHolder.reconciliationsBatchSize(config.namespace());
+        this.lingerMs = metricsHolder.reconciliationsBatchLingerMs(config.namespace());
+        this.batchSize.set(maxBatchSize);
+        this.lingerMs.set(maxLingerMs);
+    }
+
+    /**
+     * @return The current max batch size.
+     */
+    int batchSize() {
+        return batchSize.get();
+    }
+
+    /**
+     * @return The current batch linger time in milliseconds.
+     */
+    long lingerMs() {
+        return lingerMs.get();
+    }
+
+    /**
+     * Record the outcome of a Kafka request made while reconciling a batch.
+     *
+     * @param durationNs How long the request took to complete.
+     * @param overloaded Whether the request failed because Kafka is overloaded (timeout or throttling).
+     */
+    synchronized void recordKafkaRequest(long durationNs, boolean overloaded) {
+        if (!adaptive) {
+            return;
+        }
+        double durationMs = durationNs / 1_000_000.0;
+        latencyMs = latencyMs < 0 ? durationMs : EWMA_ALPHA * durationMs + (1 - EWMA_ALPHA) * latencyMs;
+        // the baseline follows decreases immediately, and sustained increases slowly
+        baselineLatencyMs = baselineLatencyMs < 0 ? latencyMs : Math.min(latencyMs, baselineLatencyMs * BASELINE_LATENCY_CREEP);
+        errorRate = EWMA_ALPHA * (overloaded ? 1 : 0) + (1 - EWMA_ALPHA) * errorRate;
+    }
+
+    /**
+     * Tune the batch size and linger time before filling a new batch.
+     *
+     * @param queueSize The number of events waiting in the queue.
+     */
+    synchronized void tune(int queueSize) {
+        if (!adaptive) {
+            return;
+        }
+        int size = batchSize.get();
+        if (errorRate > MAX_ERROR_RATE || (baselineLatencyMs > 0 && latencyMs > MAX_LATENCY_GROWTH * baselineLatencyMs)) {
+            size = Math.max(minBatchSize, size / 2);
+        } else if (queueSize > size) {
+            size = (int) Math.min(maxBatchSize, 2L * size);
+        }
+        long linger = lingerMs.get();
+        linger = queueSize == 0 ? Math.max(minLingerMs, linger / 2) : Math.min(maxLingerMs, linger * 2);
+
+        if (size != batchSize.get() || linger != lingerMs.get()) {
+            LOGGER.debugOp("Tuned batch size {} and linger {}ms (queue size {}, latency {}ms, baseline latency {}ms, error rate {})",
+                size, linger, queueSize, latencyMs, baselineLatencyMs, errorRate);
+        }
+        batchSize.set(size);
+        lingerMs.set(linger);
+    }
+}
@@ -4,29 +4,26 @@
  */
 package io.strimzi.operator.topic;
 
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicStatusBuilder;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
-import io.strimzi.operator.topic.model.KubeRef;
 import io.strimzi.operator.topic.model.ReconcilableTopic;
 import io.strimzi.operator.topic.model.TopicEvent;
 import io.strimzi.operator.topic.model.TopicEvent.TopicDelete;
 import io.strimzi.operator.topic.model.TopicEvent.TopicUpsert;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Encapsulates a queue (actually a deque) of {@link TopicEvent}s and a pool of threads (see {@link LoopRunnable}) servicing
+ * Encapsulates a queue of {@link TopicEvent}s (see {@link TopicEventQueue}) and a pool of threads (see {@link LoopRunnable}) servicing
  * the reconciliation of those events using a {@link BatchingTopicController}.
  * Any given {@link KafkaTopic} is only being reconciled by a single thread at any one time.
  */
@@ -34,23 +31,18 @@ public class BatchingLoop {
     static final ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchingLoop.class);
 
     private final BatchingTopicController controller;
-    private final BlockingDeque<TopicEvent> queue;
+    private final TopicEventQueue queue;
 
     private final int maxQueueSize;
     private final int maxBatchSize;
     private final long maxBatchLingerMs;
     private final String namespace;
+    private final BatchTuner batchTuner;
 
     private final ItemStore<KafkaTopic> itemStore;
     private final Runnable stopRunnable;
     private final TopicOperatorMetricsHolder metricsHolder;
 
-    /**
-     * The set of topics currently being reconciled by a controller.
-     * Guarded by the monitor of the BatchingLoop.
-     * This functions as mechanism for preventing concurrent reconciliation of the same topic.
-     */
-    private final Set<KubeRef> inFlight = new HashSet<>(); // guarded by this
     private final LoopRunnable[] threads;
 
     /**
@@ -62,24 +54,27 @@ public class BatchingLoop {
      * @param itemStore Item store.
      * @param stopRunnable Stop runnable.
      * @param metricsHolder Metrics holder.
+     * @param batchTuner Batch tuner, which provides the batch size and linger time.
      */
-    public BatchingLoop(TopicOperatorConfig config,
-                        BatchingTopicController controller,
-                        int maxThreads,
-                        ItemStore<KafkaTopic> itemStore,
-                        Runnable stopRunnable,
-                        TopicOperatorMetricsHolder metricsHolder) {
+    BatchingLoop(TopicOperatorConfig config,
+                 BatchingTopicController controller,
+                 int maxThreads,
+                 ItemStore<KafkaTopic> itemStore,
+                 Runnable stopRunnable,
+                 TopicOperatorMetricsHolder metricsHolder,
+                 BatchTuner batchTuner) {
         this.maxQueueSize = config.maxQueueSize();
         this.maxBatchSize = config.maxBatchSize();
         this.maxBatchLingerMs = config.maxBatchLingerMs();
         this.namespace = config.namespace();
+        this.batchTuner = batchTuner;
 
         this.controller = controller;
         this.itemStore = itemStore;
         this.stopRunnable = stopRunnable;
         this.metricsHolder = metricsHolder;
 
-        this.queue = new LinkedBlockingDeque<>(maxQueueSize);
+        this.queue = new TopicEventQueue(maxQueueSize, namespace, metricsHolder);
         this.threads = new LoopRunnable[maxThreads];
         for (int i = 0; i < maxThreads; i++) {
             threads[i] = new LoopRunnable("LoopRunnable-" + i);
@@ -109,14 +104,11 @@ public class BatchingLoop {
     }
 
     /**
-     * Add an event to be reconciled to the tail of the {@link #queue}.
+     * Add an event to be reconciled to the {@link #queue}.
      * @param event The event.
      */
     public void offer(TopicEvent event) {
-        if (queue.offerFirst(event)) {
-            LOGGER.debugOp("Item {} added to front of queue", event);
-            metricsHolder.reconciliationsMaxQueueSize(namespace).getAndUpdate(size -> Math.max(size, queue.size()));
-        } else {
+        if (!queue.offer(event)) {
             LOGGER.errorOp("Queue length {} exceeded, stopping operator. Please increase {} environment variable.",
                 maxQueueSize,
                 TopicOperatorConfig.MAX_QUEUE_SIZE.key());
@@ -160,7 +152,7 @@ public class BatchingLoop {
     }
 
     /**
-     * A thread that services the head of the {@link #queue}.
+     * A thread that claims batches of events from the {@link #queue}.
      */
     class LoopRunnable extends Thread {
         private volatile boolean stopRequested = false;
@@ -202,15 +194,13 @@ public class BatchingLoop {
 
         private boolean runOnce(int batchId, Batch batch) {
             try {
-                synchronized (BatchingLoop.this) {
-                    // remove the old batch from the inflight set and reset the batch
-                    LOGGER.traceOp("[Batch #{}] Removing batch from inflight", batchId - 1);
-                    batch.toUpdate.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.toDelete.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.clear();
-                    // fill a new batch
-                    fillBatch(batchId, batch);
-                }
+                // release the topics of the old batch and reset the batch
+                LOGGER.traceOp("[Batch #{}] Removing batch from inflight", batchId - 1);
+                batch.toUpdate.stream().map(TopicEvent::toRef).forEach(queue::complete);
+                batch.toDelete.stream().map(TopicEvent::toRef).forEach(queue::complete);
+                batch.clear();
+                // fill a new batch
+                fillBatch(batchId, batch);
 
                 if (batch.size() > 0) {
                     LOGGER.infoOp("[Batch #{}] Reconciling batch of {} topics", batchId, batch.size());
@@ -243,7 +233,7 @@ public class BatchingLoop {
                     batchId, topicUpsert, TopicOperatorUtil.resourceVersion(kt));
                 var r = new Reconciliation("upsert", "KafkaTopic", topicUpsert.namespace(), topicUpsert.name());
                 LOGGER.debugOp("[Batch #{}] Contains {}", batchId, r);
-                return new ReconcilableTopic(r, kt, TopicOperatorUtil.topicName(kt));
+                return new ReconcilableTopic(r, copyOf(kt), TopicOperatorUtil.topicName(kt));
             } else {
                 // Null can happen if the KafkaTopic has been deleted from Kube and we've not yet processed
                 // the corresponding delete event
@@ -253,61 +243,68 @@ public class BatchingLoop {
             }
         }
 
+        /**
+         * The controller updates the status of the KafkaTopic it reconciles, so it is given a copy with its own
+         * metadata and status, to keep the instance in the item store unchanged, which is what the
+         * {@link KubernetesHandler} compares with. The spec is shared, because the controller never modifies it.
+         */
+        private KafkaTopic copyOf(KafkaTopic kt) {
+            var copy = new KafkaTopic(kt.getSpec(), kt.getStatus() != null ? new KafkaTopicStatusBuilder(kt.getStatus()).build() : null);
+            copy.setApiVersion(kt.getApiVersion());
+            copy.setKind(kt.getKind());
+            copy.setMetadata(kt.getMetadata() != null ? new ObjectMetaBuilder(kt.getMetadata()).build() : null);
+            return copy;
+        }
+
         private void fillBatch(int batchId, Batch batch) throws InterruptedException {
             LOGGER.traceOp("[Batch #{}] Filling", batchId);
-            List<TopicEvent> rejected = new ArrayList<>();
+            batchTuner.tune(queue.size());
+            var batchSize = batchTuner.batchSize();
+            var lingerMs = batchTuner.lingerMs();
 
+            // wait up to maxBatchLingerMs for the first event, then up to the current linger time for the others
             var deadlineNs = System.nanoTime() + maxBatchLingerMs * 1_000_000;
+            var deadlineMs = maxBatchLingerMs;
             while (true) {
-                if (batch.size() >= maxBatchSize) {
-                    LOGGER.traceOp("[Batch #{}] Reached maxBatchSize, batch complete", batchId, maxBatchSize);
+                if (batch.size() >= batchSize) {
+                    LOGGER.traceOp("[Batch #{}] Reached batch size {}, batch complete", batchId, batchSize);
                     break;
                 }
 
                 var timeoutNs = deadlineNs - System.nanoTime();
                 if (timeoutNs <= 0) {
-                    LOGGER.traceOp("[Batch #{}] {}ms linger expired", batchId, maxBatchLingerMs);
+                    LOGGER.traceOp("[Batch #{}] {}ms linger expired", batchId, deadlineMs);
                     break;
                 }
-                LOGGER.traceOp("[Batch #{}] Taking next item from deque head with timeout {}ns", batchId, timeoutNs);
-                var topicEvent = queue.pollFirst(timeoutNs, TimeUnit.NANOSECONDS);
+                LOGGER.traceOp("[Batch #{}] Claiming next item from queue with timeout {}ns", batchId, timeoutNs);
+                var topicEvent = queue.poll(timeoutNs, TimeUnit.NANOSECONDS);
 
                 if (topicEvent == null) {
                     LOGGER.traceOp("[Batch #{}] Linger expired, batch complete", batchId);
                     break;
                 }
-                addToBatch(batchId, batch, rejected, topicEvent);
+                if (batch.size() == 0) {
+                    var lingerDeadlineNs = System.nanoTime() + lingerMs * 1_000_000;
+                    if (lingerDeadlineNs < deadlineNs) {
+                        deadlineNs = lingerDeadlineNs;
+                        deadlineMs = lingerMs;
+                    }
+                }
+                addToBatch(batchId, batch, topicEvent);
             }
             LOGGER.traceOp("[Batch #{}] Filled with {} topics", batchId, batch.size());
             metricsHolder.reconciliationsMaxBatchSize(namespace).getAndUpdate(size -> Math.max(size, batch.size()));
-
-            // here we need a deque and can push `rejected` back on the front of the queue
-            //      where they can be taken by the next thread.
-            for (int i = rejected.size() - 1; i >= 0; i--) {
-                TopicEvent item = rejected.get(i);
-                offer(item);
-            }
         }
 
-        private void addToBatch(int batchId, Batch batch, List<TopicEvent> rejected, TopicEvent topicEvent) {
-            // We could add logic here to cope properly with interleaved upserts and deletes
-            // of the same topic in the same batch.
-            // E.g. upset then delete is equivalent to just a delete
-            // It's actually a bit tricky since you have to process the events in reverse order to correctly
-            // simplify them, so `Batch` would have to be something like a `Map<Ref, List<TopicEvent>>`.
-            var ref = topicEvent.toRef();
-            if (inFlight.add(ref)) {
-                // wasn't already inflight
-                LOGGER.debugOp("[Batch #{}] Adding {}", batchId, topicEvent);
-                if (topicEvent instanceof TopicUpsert) {
-                    batch.toUpdate.add((TopicUpsert) topicEvent);
-                } else {
-                    batch.toDelete.add((TopicDelete) topicEvent);
-                }
+        private void addToBatch(int batchId, Batch batch, TopicEvent topicEvent) {
+            // The queue holds back the events of topics which are inflight, so a batch never contains
+            // two events for the same topic, and interleaved upserts and deletes are reconciled in order
+            // by successive batches.
+            LOGGER.debugOp("[Batch #{}] Adding {}", batchId, topicEvent);
+            if (topicEvent instanceof TopicUpsert) {
+                batch.toUpdate.add((TopicUpsert) topicEvent);
             } else {
-                LOGGER.debugOp("[Batch #{}] Rejecting item {}, already inflight", batchId, topicEvent);
-                rejected.add(topicEvent);
-                metricsHolder.lockedReconciliationsCounter(namespace).increment();
+                batch.toDelete.add((TopicDelete) topicEvent);
             }
         }
     }
@@ -192,19 +192,21 @@ public class BatchingTopicController {
         var deleteResult = kafkaHandler.deleteTopics(reconcilableTopics, topicNames);
 
         // remove the finalizer and forget the topic
-        deleteResult.ok().forEach(pair -> {
-            try {
-                kubernetesHandler.removeFinalizer(pair.getKey());
-            } catch (KubernetesClientException e) {
-                // If this method be being called because the resource was deleted
-                // then we expect the PATCH will error with Not Found
-                if (!(onDeletePath && e.getCode() == 404)) { // 404 = Not Found
-                    throw e;
-                }
-            }
+        var removedFinalizers = kubernetesHandler.removeFinalizers(deleteResult.ok().map(Pair::getKey).toList());
+        removedFinalizers.ok().forEach(pair -> {
             forgetReconcilableTopic(pair.getKey());
             metricsHolder.successfulReconciliationsCounter(config.namespace()).increment();
         });
+        removedFinalizers.errors().forEach(pair -> {
+            // If this method be being called because the resource was deleted
+            // then we expect the PATCH will error with Not Found
+            if (onDeletePath && pair.getValue().getCause() instanceof KubernetesClientException e && e.getCode() == 404) { // 404 = Not Found
+                forgetReconcilableTopic(pair.getKey());
+                metricsHolder.successfulReconciliationsCounter(config.namespace()).increment();
+            } else {
+                updateStatusForException(pair.getKey(), pair.getValue());
+            }
+        });
 
         // join that to fail
         deleteResult.errors().forEach(entry -> {
@@ -333,16 +335,10 @@ public class BatchingTopicController {
         }
     }
     
-    private List<ReconcilableTopic> addOrRemoveFinalizer(List<ReconcilableTopic> reconcilableTopics) {
-        var collect = reconcilableTopics.stream()
-            .map(reconcilableTopic -> new ReconcilableTopic(reconcilableTopic.reconciliation(),
-                config.useFinalizer()
-                    ? kubernetesHandler.addFinalizer(reconcilableTopic)
-                    : kubernetesHandler.removeFinalizer(reconcilableTopic), reconcilableTopic.topicName()))
-            .collect(Collectors.toList());
-        LOGGER.traceOp("{} {} topics", config.useFinalizer() ?
-            "Added finalizers to" : "Removed finalizers from", reconcilableTopics.size());
-        return collect;
+    private PartitionedByError<ReconcilableTopic, KafkaTopic> addOrRemoveFinalizer(List<ReconcilableTopic> reconcilableTopics) {
+        return config.useFinalizer()
+            ? kubernetesHandler.addFinalizers(reconcilableTopics)
+            : kubernetesHandler.removeFinalizers(reconcilableTopics);
     }
     
     private final Predicate<ReconcilableTopic> hasTopicSpec = reconcilableTopic -> {
@@ -414,7 +410,11 @@ public class BatchingTopicController {
     private Results updateManagedNonPausedTopics(List<ReconcilableTopic> inputBatch, List<ReconcilableTopic> managedNonPaused) {
         var results = new Results();
         
-        var addedFinalizer = addOrRemoveFinalizer(managedNonPaused);
+        var finalizerResults = addOrRemoveFinalizer(managedNonPaused);
+        results.addLeftResults(finalizerResults.errors());
+        var addedFinalizer = finalizerResults.ok()
+            .map(pair -> new ReconcilableTopic(pair.getKey().reconciliation(), pair.getValue(), pair.getKey().topicName()))
+            .toList();
         var describedTopics = kafkaHandler.describeTopics(addedFinalizer);
         describedTopics.ok().forEach(pair -> {
             if (pair.getValue() != null && pair.getValue().topicId() != null) {
@@ -855,15 +855,20 @@ public class BatchingTopicController {
     }
 
     private void updateStatuses(Results results) {
-        // update statues with the overall results
-        results.forEachRightResult((reconcilableTopic, ignored) ->
-            updateStatusForSuccess(reconcilableTopic, results)
-        );
-        results.forEachLeftResult(this::updateStatusForException);
-        LOGGER.traceOp("Updated status of {} KafkaTopics", results.size());
+        // update statuses with the overall results, the Kubernetes requests are sent concurrently
+        List<ReconcilableTopic> toUpdate = new ArrayList<>(results.size());
+        results.forEachRightResult((reconcilableTopic, ignored) -> {
+            setStatusForSuccess(reconcilableTopic, results);
+            toUpdate.add(reconcilableTopic);
+        });
+        results.forEachLeftResult((reconcilableTopic, e) -> {
+            setStatusForException(reconcilableTopic, e);
+            toUpdate.add(reconcilableTopic);
+        });
+        kubernetesHandler.updateStatuses(toUpdate);
     }
 
-    private void updateStatusForSuccess(ReconcilableTopic reconcilableTopic, Results results) {
+    private void setStatusForSuccess(ReconcilableTopic reconcilableTopic, Results results) {
         List<Condition> conditions = new ArrayList<>();
         var conditionType = "Ready";
         if (!TopicOperatorUtil.isManaged(reconcilableTopic.kt())) {
@@ -894,11 +899,15 @@ public class BatchingTopicController {
                 .withReplicasChange(results.getReplicasChange(reconcilableTopic))
                 .build());
         
-        kubernetesHandler.updateStatus(reconcilableTopic);
         metricsHolder.successfulReconciliationsCounter(config.namespace()).increment();
     }
 
     private void updateStatusForException(ReconcilableTopic reconcilableTopic, Exception e) {
+        setStatusForException(reconcilableTopic, e);
+        kubernetesHandler.updateStatus(reconcilableTopic);
+    }
+
+    private void setStatusForException(ReconcilableTopic reconcilableTopic, Exception e) {
         List<Condition> conditions = new ArrayList<>();
         String reason;
         if (e instanceof TopicOperatorException) {
@@ -933,7 +942,6 @@ public class BatchingTopicController {
                 .withConditions(conditions)
                 .build());
         
-        kubernetesHandler.updateStatus(reconcilableTopic);
         metricsHolder.failedReconciliationsCounter(config.namespace()).increment();
     }
 }
@@ -21,18 +21,23 @@ import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.CreatePartitionsResult;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.PartitionReassignment;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.TopicCollection;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.ApiException;
+import org.apache.kafka.common.errors.ThrottlingQuotaExceededException;
+import org.apache.kafka.common.errors.TimeoutException;
 import org.apache.kafka.common.errors.TopicExistsException;
 import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -41,6 +46,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -61,6 +67,8 @@ public class KafkaHandler {
     private final TopicOperatorConfig config;
     private final TopicOperatorMetricsHolder metricsHolder;
     private final Admin kafkaAdminClient;
+    private final TopicStateCache topicStateCache;
+    private final BatchTuner batchTuner;
 
     /**
      * Create a new instance.
@@ -68,11 +76,14 @@ public class KafkaHandler {
      * @param config Topic Operator configuration.
      * @param metricsHolder Metrics holder.
      * @param kafkaAdminClient Kafka admin client.
+     * @param batchTuner Batch tuner, which is informed about the latency and errors of the Kafka requests.
      */
-    KafkaHandler(TopicOperatorConfig config, TopicOperatorMetricsHolder metricsHolder, Admin kafkaAdminClient) {
+    KafkaHandler(TopicOperatorConfig config, TopicOperatorMetricsHolder metricsHolder, Admin kafkaAdminClient, BatchTuner batchTuner) {
         this.config = config;
         this.metricsHolder = metricsHolder;
         this.kafkaAdminClient = kafkaAdminClient;
+        this.topicStateCache = new TopicStateCache(config.topicStateCacheTtlMs());
+        this.batchTuner = batchTuner;
     }
 
     /**
@@ -137,7 +148,7 @@ public class KafkaHandler {
             }
         });
         var values = ctr.values();
-        return TopicOperatorUtil.partitionedByError(reconcilableTopics.stream().map(reconcilableTopic -> {
+        var result = TopicOperatorUtil.partitionedByError(reconcilableTopics.stream().map(reconcilableTopic -> {
             if (newTopicsErrors.containsKey(reconcilableTopic)) {
                 return new Pair<>(reconcilableTopic, Either.ofLeft(newTopicsErrors.get(reconcilableTopic)));
             }
@@ -158,6 +169,8 @@ public class KafkaHandler {
                 throw new UncheckedInterruptedException(e);
             }
         }));
+        invalidateTopicStates(reconcilableTopics);
+        return result;
     }
 
     /**
@@ -231,10 +244,12 @@ public class KafkaHandler {
         var alteredConfigs = someAlterConfigs.stream().collect(Collectors.toMap(entry -> buildTopicConfigResource(entry.getKey().topicName()), Pair::getValue));
         LOGGER.debugOp("Admin.incrementalAlterConfigs({})", alteredConfigs);
         var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
+        var startNs = System.nanoTime();
         var acr = kafkaAdminClient.incrementalAlterConfigs(alteredConfigs);
         TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::alterConfigsTimer, config.enableAdditionalMetrics(), config.namespace());
         acr.all().whenComplete((i, e) -> {
             TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::alterConfigsTimer, config.enableAdditionalMetrics(), config.namespace());
+            recordKafkaRequest(startNs, e);
             if (e != null) {
                 LOGGER.traceOp("Admin.incrementalAlterConfigs({}) failed with {}", alteredConfigs, String.valueOf(e));
             } else {
@@ -251,7 +266,9 @@ public class KafkaHandler {
                 throw new UncheckedInterruptedException(e);
             }
         });
-        return TopicOperatorUtil.partitionedByError(entryStream);
+        var result = TopicOperatorUtil.partitionedByError(entryStream);
+        invalidateTopicStates(someAlterConfigs.stream().map(Pair::getKey).toList());
+        return result;
     }
 
     /**
@@ -287,16 +304,83 @@ public class KafkaHandler {
                 throw new UncheckedInterruptedException(e);
             }
         });
-        return TopicOperatorUtil.partitionedByError(entryStream);
+        var result = TopicOperatorUtil.partitionedByError(entryStream);
+        invalidateTopicStates(someCreatePartitions.stream().map(Pair::getKey).toList());
+        return result;
     }
 
     /**
      * Describe topics.
+     * <br/><br/>
+     * When the topic state cache is enabled, the state of the topics whose KafkaTopic generation did not change 
+     * since they were last described is served from the cache, so only new, changed and expired topics are described.
+     * A single listTopics request is used to drop the cached topics which were deleted or recreated in the meantime.
      * 
      * @param reconcilableTopics Topics to describe.
      * @return Result partitioned by error.
      */
     public PartitionedByError<ReconcilableTopic, TopicState> describeTopics(List<ReconcilableTopic> reconcilableTopics) {
+        if (!topicStateCache.isEnabled() || reconcilableTopics.isEmpty()) {
+            return describeTopicsInKafka(reconcilableTopics);
+        }
+        if (reconcilableTopics.stream().anyMatch(reconcilableTopic -> cachedTopicState(reconcilableTopic) != null)) {
+            refreshTopicStateCache();
+        }
+
+        List<Pair<ReconcilableTopic, Either<TopicOperatorException, TopicState>>> okList = new ArrayList<>();
+        List<ReconcilableTopic> toDescribe = new ArrayList<>();
+        for (var reconcilableTopic : reconcilableTopics) {
+            var topicState = cachedTopicState(reconcilableTopic);
+            if (topicState != null) {
+                okList.add(new Pair<>(reconcilableTopic, Either.ofRight(topicState)));
+            } else {
+                toDescribe.add(reconcilableTopic);
+            }
+        }
+        if (!okList.isEmpty()) {
+            LOGGER.debugOp("Using cached state of {} topics", okList.size());
+            metricsHolder.topicStateCacheHitsCounter(config.namespace()).increment(okList.size());
+        }
+
+        var described = describeTopicsInKafka(toDescribe);
+        described.ok().forEach(pair -> {
+            // topics which still need partition or replication factor changes are always described again
+            if (hasDesiredPartitionsAndReplicas(pair.getKey(), pair.getValue())) {
+                topicStateCache.put(pair.getKey().topicName(), pair.getKey().kt().getMetadata().getGeneration(), pair.getValue());
+            }
+        });
+        okList.addAll(described.okList());
+        return new PartitionedByError<>(okList, described.errorsList());
+    }
+
+    private TopicState cachedTopicState(ReconcilableTopic reconcilableTopic) {
+        return topicStateCache.get(reconcilableTopic.topicName(), reconcilableTopic.kt().getMetadata().getGeneration());
+    }
+
+    private static boolean hasDesiredPartitionsAndReplicas(ReconcilableTopic reconcilableTopic, TopicState topicState) {
+        int partitions = TopicOperatorUtil.partitions(reconcilableTopic.kt());
+        int replicas = TopicOperatorUtil.replicas(reconcilableTopic.kt());
+        return (partitions == BROKER_DEFAULT || partitions == topicState.numPartitions())
+            && (replicas == BROKER_DEFAULT || replicas == topicState.uniqueReplicationFactor());
+    }
+
+    private void refreshTopicStateCache() {
+        try {
+            int dropped = topicStateCache.retainListed(topicIds());
+            LOGGER.traceOp("Dropped {} of the cached topic states", dropped);
+        } catch (ExecutionException e) {
+            LOGGER.traceOp("Dropping all the cached topic states");
+            topicStateCache.clear();
+        }
+    }
+
+    private void invalidateTopicStates(List<ReconcilableTopic> reconcilableTopics) {
+        if (topicStateCache.isEnabled()) {
+            reconcilableTopics.forEach(reconcilableTopic -> topicStateCache.invalidate(reconcilableTopic.topicName()));
+        }
+    }
+
+    private PartitionedByError<ReconcilableTopic, TopicState> describeTopicsInKafka(List<ReconcilableTopic> reconcilableTopics) {
         if (reconcilableTopics.isEmpty()) {
             return new PartitionedByError<>(List.of(), List.of());
         }
@@ -309,9 +393,11 @@ public class KafkaHandler {
         {
             LOGGER.debugOp("Admin.describeTopics({})", tns);
             var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
+            var startNs = System.nanoTime();
             describeTopicsResult = kafkaAdminClient.describeTopics(tns);
             describeTopicsResult.allTopicNames().whenComplete((i, e) -> {
                 TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::describeTopicsTimer, config.enableAdditionalMetrics(), config.namespace());
+                recordKafkaRequest(startNs, e);
                 if (e != null) {
                     LOGGER.traceOp("Admin.describeTopics({}) failed with {}", tns, String.valueOf(e));
                 } else {
@@ -323,9 +409,11 @@ public class KafkaHandler {
         {
             LOGGER.debugOp("Admin.describeConfigs({})", configResources);
             var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
+            var startNs = System.nanoTime();
             describeConfigsResult = kafkaAdminClient.describeConfigs(configResources);
             describeConfigsResult.all().whenComplete((i, e) -> {
                 TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::describeConfigsTimer, config.enableAdditionalMetrics(), config.namespace());
+                recordKafkaRequest(startNs, e);
                 if (e != null) {
                     LOGGER.traceOp("Admin.describeConfigs({}) failed with {}", configResources, String.valueOf(e));
                 } else {
@@ -363,6 +451,30 @@ public class KafkaHandler {
         }));
     }
 
+    /**
+     * List the IDs of all the topics in the Kafka cluster, including the internal ones.
+     *
+     * @return Topic IDs keyed by topic name.
+     * @throws ExecutionException If the listTopics request failed.
+     */
+    public Map<String, String> topicIds() throws ExecutionException {
+        LOGGER.debugOp("Admin.listTopics()");
+        var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
+        try {
+            var listings = kafkaAdminClient.listTopics(new ListTopicsOptions().listInternal(true)).listings().get();
+            TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::listTopicsTimer, config.enableAdditionalMetrics(), config.namespace());
+            LOGGER.traceOp("Admin.listTopics() completed");
+            return listings.stream()
+                .filter(listing -> listing.topicId() != null)
+                .collect(Collectors.toMap(TopicListing::name, listing -> listing.topicId().toString()));
+        } catch (ExecutionException e) {
+            LOGGER.traceOp("Admin.listTopics() failed with {}", String.valueOf(e));
+            throw e;
+        } catch (InterruptedException e) {
+            throw new UncheckedInterruptedException(e);
+        }
+    }
+
     /**
      * Delete topics.
      * 
@@ -390,7 +502,7 @@ public class KafkaHandler {
         });
         var futuresMap = dtr.topicNameValues();
         
-        return TopicOperatorUtil.partitionedByError(reconcilableTopics.stream()
+        var result = TopicOperatorUtil.partitionedByError(reconcilableTopics.stream()
             .filter(reconcilableTopic -> futuresMap.get(reconcilableTopic.topicName()) != null)
             .map(reconcilableTopic -> {
                 try {
@@ -406,6 +518,8 @@ public class KafkaHandler {
                     throw new UncheckedInterruptedException(e);
                 }
             }));
+        invalidateTopicStates(reconcilableTopics);
+        return result;
     }
     
     private static NewTopic buildNewTopic(KafkaTopic kafkaTopic, String topicName) {
@@ -427,6 +541,12 @@ public class KafkaHandler {
         return new ConfigResource(ConfigResource.Type.TOPIC, topicName);
     }
 
+    private void recordKafkaRequest(long startNs, Throwable e) {
+        var cause = e instanceof CompletionException || e instanceof ExecutionException ? e.getCause() : e;
+        batchTuner.recordKafkaRequest(System.nanoTime() - startNs,
+            cause instanceof TimeoutException || cause instanceof ThrottlingQuotaExceededException);
+    }
+
     private static TopicOperatorException handleAdminException(ExecutionException e) {
         var cause = e.getCause();
         if (cause instanceof ApiException) {
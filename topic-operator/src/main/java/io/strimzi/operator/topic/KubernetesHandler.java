@@ -4,14 +4,43 @@
  */
 package io.strimzi.operator.topic;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicStatus;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.StatusDiff;
 import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.model.Either;
+import io.strimzi.operator.topic.model.KubeRef;
+import io.strimzi.operator.topic.model.Pair;
+import io.strimzi.operator.topic.model.PartitionedByError;
 import io.strimzi.operator.topic.model.ReconcilableTopic;
+import io.strimzi.operator.topic.model.TopicOperatorException;
+import io.strimzi.operator.topic.model.UncheckedInterruptedException;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Handler for Kubernetes requests.
@@ -22,22 +51,59 @@ public class KubernetesHandler {
     /** Annotation for managing and unmanaging a KafkaTopic. */
     public static final String ANNO_STRIMZI_IO_MANAGED = "strimzi.io/managed";
     static final String FINALIZER_STRIMZI_IO_TO = "strimzi.io/topic-operator";
+    private static final ObjectMapper PATCH_MAPPER = new ObjectMapper();
     
     private final TopicOperatorConfig config;
     private final TopicOperatorMetricsHolder metricsHolder;
     private final KubernetesClient kubernetesClient;
+    private final ItemStore<KafkaTopic> itemStore;
+    private final ExecutorService requestExecutor;
+    // KafkaTopics returned by the finalizer updates, which are newer than the ones in the informer item store
+    private final Map<String, KafkaTopic> patchedTopics = new ConcurrentHashMap<>();
 
     /**
-     * Create a new instance.
+     * Create a new instance which always reads the current status from the API server.
      *
      * @param config Topic Operator configuration.
      * @param metricsHolder Metrics holder.
      * @param kubernetesClient Kubernetes client.
      */
     KubernetesHandler(TopicOperatorConfig config, TopicOperatorMetricsHolder metricsHolder, KubernetesClient kubernetesClient) {
+        this(config, metricsHolder, kubernetesClient, null);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param config Topic Operator configuration.
+     * @param metricsHolder Metrics holder.
+     * @param kubernetesClient Kubernetes client.
+     * @param itemStore Informer item store used to diff the status, or null to always read it from the API server.
+     */
+    KubernetesHandler(TopicOperatorConfig config, TopicOperatorMetricsHolder metricsHolder, KubernetesClient kubernetesClient, ItemStore<KafkaTopic> itemStore) {
         this.config = config;
         this.metricsHolder = metricsHolder;
         this.kubernetesClient = kubernetesClient;
+        this.itemStore = itemStore;
+        if (config.maxKubernetesRequestConcurrency() > 1) {
+            var threadCounter = new AtomicInteger(0);
+            this.requestExecutor = Executors.newFixedThreadPool(config.maxKubernetesRequestConcurrency(), runnable -> {
+                var thread = new Thread(runnable, "KubernetesHandler-" + threadCounter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.requestExecutor = null;
+        }
+    }
+
+    /**
+     * Stop the threads used for concurrent requests.
+     */
+    public void stop() {
+        if (requestExecutor != null) {
+            requestExecutor.shutdownNow();
+        }
     }
 
     /**
@@ -81,39 +147,233 @@ public class KubernetesHandler {
 
     /**
      * Update the KafkaTopic status.
+     *
+     * <p>When an informer item store is available, the new status is compared with the cached one, and the
+     * update is conditional on the cached resourceVersion. When the finalizer was updated by this handler, the
+     * resource returned by that update is used instead, because the item store is not updated yet. The current
+     * status is only read from the API server when there is no cached resource, or when the conditional update
+     * fails with a conflict.</p>
      * 
      * @param reconcilableTopic Reconcilable topic.
      * @return KafkaTopic resource.
      */
     public KafkaTopic updateStatus(ReconcilableTopic reconcilableTopic) {
-        var oldStatus = Crds.topicOperation(kubernetesClient)
-            .inNamespace(reconcilableTopic.kt().getMetadata().getNamespace())
-            .withName(reconcilableTopic.kt().getMetadata().getName()).get().getStatus();
-        
         // we always set the observedGeneration because it shows that the operator works, 
         // and that it saw the last update to the resource
         reconcilableTopic.kt().getStatus().setObservedGeneration(reconcilableTopic.kt().getMetadata().getGeneration());
 
-        StatusDiff statusDiff = new StatusDiff(oldStatus, reconcilableTopic.kt().getStatus());
-        if (!statusDiff.isEmpty()) {
-            var updatedTopic = new KafkaTopicBuilder(reconcilableTopic.kt())
-                .editOrNewMetadata()
-                    .withResourceVersion(null)
-                .endMetadata()
-                .withStatus(reconcilableTopic.kt().getStatus())
-                .build();
-            LOGGER.debugCr(reconcilableTopic.reconciliation(), "Updating status with {}", updatedTopic.getStatus());
+        var cachedTopic = cachedTopic(reconcilableTopic);
+        if (cachedTopic != null) {
+            if (updateStatusIfChanged(reconcilableTopic, cachedTopic.getStatus(), TopicOperatorUtil.resourceVersion(cachedTopic))) {
+                metricsHolder.skippedStatusGetsCounter(config.namespace()).increment();
+                return reconcilableTopic.kt();
+            }
+            LOGGER.debugCr(reconcilableTopic.reconciliation(), "Cached resourceVersion {} is stale, getting the current status",
+                TopicOperatorUtil.resourceVersion(cachedTopic));
+        }
+
+        var oldStatus = Crds.topicOperation(kubernetesClient)
+            .inNamespace(reconcilableTopic.kt().getMetadata().getNamespace())
+            .withName(reconcilableTopic.kt().getMetadata().getName()).get().getStatus();
+        updateStatusIfChanged(reconcilableTopic, oldStatus, null);
+        return reconcilableTopic.kt();
+    }
+
+    /**
+     * Update the status of a batch of KafkaTopics, running up to {@code maxKubernetesRequestConcurrency} updates 
+     * concurrently, and wait for all of them to complete.
+     *
+     * <p>The {@link BatchingLoop} guarantees that a KafkaTopic is only part of one batch at any time, so 
+     * waiting for the whole batch preserves the order of updates across batches. Updates of the same 
+     * KafkaTopic within a batch are applied in order by the same task.</p>
+     *
+     * @param reconcilableTopics Reconcilable topics.
+     */
+    public void updateStatuses(List<ReconcilableTopic> reconcilableTopics) {
+        if (reconcilableTopics.isEmpty()) {
+            return;
+        }
+        // the batch duration is always recorded, because it shows the effect of maxKubernetesRequestConcurrency
+        var timerSample = Timer.start(metricsHolder.metricsProvider().meterRegistry());
+        var byRef = reconcilableTopics.stream().collect(Collectors.groupingBy(
+            reconcilableTopic -> new KubeRef(reconcilableTopic.kt()), LinkedHashMap::new, Collectors.toList()));
+        mapConcurrently(List.copyOf(byRef.values()), sameRef -> {
+            sameRef.forEach(this::updateStatus);
+            return null;
+        });
+        timerSample.stop(metricsHolder.updateStatusBatchTimer(config.namespace()));
+        metricsHolder.updateStatusBatchTopicsCounter(config.namespace()).increment(reconcilableTopics.size());
+        LOGGER.traceOp("Updated status of {} KafkaTopics", reconcilableTopics.size());
+    }
+
+    /**
+     * Add finalizer to a batch of KafkaTopic resources, running up to {@code maxKubernetesRequestConcurrency} 
+     * requests concurrently.
+     *
+     * @param reconcilableTopics Reconcilable topics.
+     * @return The KafkaTopic resources with finalizer, or the errors, partitioned by error.
+     */
+    public PartitionedByError<ReconcilableTopic, KafkaTopic> addFinalizers(List<ReconcilableTopic> reconcilableTopics) {
+        return patchFinalizers(reconcilableTopics, true);
+    }
+
+    /**
+     * Remove finalizer from a batch of KafkaTopic resources, running up to {@code maxKubernetesRequestConcurrency} 
+     * requests concurrently.
+     *
+     * @param reconcilableTopics Reconcilable topics.
+     * @return The KafkaTopic resources without finalizer, or the errors, partitioned by error.
+     */
+    public PartitionedByError<ReconcilableTopic, KafkaTopic> removeFinalizers(List<ReconcilableTopic> reconcilableTopics) {
+        return patchFinalizers(reconcilableTopics, false);
+    }
+
+    private PartitionedByError<ReconcilableTopic, KafkaTopic> patchFinalizers(List<ReconcilableTopic> reconcilableTopics, boolean add) {
+        var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
+        var results = mapConcurrently(reconcilableTopics, reconcilableTopic -> new Pair<>(reconcilableTopic, patchFinalizer(reconcilableTopic, add)));
+        TopicOperatorUtil.stopExternalRequestTimer(timerSample, add ? metricsHolder::addFinalizersBatchTimer : metricsHolder::removeFinalizersBatchTimer,
+            config.enableAdditionalMetrics(), config.namespace());
+        LOGGER.traceOp("{} {} topics", add ? "Added finalizers to" : "Removed finalizers from", reconcilableTopics.size());
+        return TopicOperatorUtil.partitionedByError(results.stream());
+    }
+
+    /**
+     * Add or remove the finalizer using a JSON merge patch, with the resourceVersion of the KafkaTopic as precondition.
+     * This avoids the GET done by {@code edit()}, which is only used as a fallback if the precondition fails.
+     */
+    private Either<TopicOperatorException, KafkaTopic> patchFinalizer(ReconcilableTopic reconcilableTopic, boolean add) {
+        var kt = reconcilableTopic.kt();
+        var finalizers = kt.getMetadata().getFinalizers();
+        if (finalizers.contains(FINALIZER_STRIMZI_IO_TO) == add) {
+            return Either.ofRight(kt);
+        }
+        try {
+            var patched = patchFinalizerOrEdit(reconcilableTopic, add);
+            if (itemStore != null) {
+                // the status of the returned instance is replaced during the reconciliation, so we keep a copy
+                patchedTopics.put(Cache.metaNamespaceKeyFunc(patched), new KafkaTopicBuilder(patched).build());
+            }
+            return Either.ofRight(patched);
+        } catch (KubernetesClientException e) {
+            return Either.ofLeft(new TopicOperatorException.InternalError(e));
+        }
+    }
+
+    private KafkaTopic patchFinalizerOrEdit(ReconcilableTopic reconcilableTopic, boolean add) {
+        var kt = reconcilableTopic.kt();
+        var resourceVersion = kt.getMetadata().getResourceVersion();
+        if (resourceVersion != null) {
+            var newFinalizers = new ArrayList<>(kt.getMetadata().getFinalizers());
+            if (add) {
+                newFinalizers.add(FINALIZER_STRIMZI_IO_TO);
+            } else {
+                newFinalizers.remove(FINALIZER_STRIMZI_IO_TO);
+            }
+            LOGGER.traceCr(reconcilableTopic.reconciliation(), "Patching finalizers to {}", newFinalizers);
             var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
             try {
-                var got = Crds.topicOperation(kubernetesClient).resource(updatedTopic).updateStatus();
-                LOGGER.traceCr(reconcilableTopic.reconciliation(), "Updated status to observedGeneration {}, resourceVersion {}",
-                    got.getStatus().getObservedGeneration(), got.getMetadata().getResourceVersion());
-            } catch (Throwable e) {
-                TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::updateStatusTimer, config.enableAdditionalMetrics(), config.namespace());
-                LOGGER.errorOp("Status update failed: {}", e.getMessage());
+                var patched = Crds.topicOperation(kubernetesClient)
+                    .inNamespace(kt.getMetadata().getNamespace())
+                    .withName(kt.getMetadata().getName())
+                    .patch(PatchContext.of(PatchType.JSON_MERGE), finalizersPatch(resourceVersion, newFinalizers));
+                LOGGER.traceCr(reconcilableTopic.reconciliation(), "Patched finalizers, resourceVersion now {}", TopicOperatorUtil.resourceVersion(patched));
+                return patched;
+            } catch (KubernetesClientException e) {
+                if (e.getCode() != 409) { // 409 = Conflict
+                    throw e;
+                }
+                LOGGER.debugCr(reconcilableTopic.reconciliation(), "Resource version {} is stale, editing the current resource", resourceVersion);
+            } finally {
+                TopicOperatorUtil.stopExternalRequestTimer(timerSample, add ? metricsHolder::addFinalizerTimer : metricsHolder::removeFinalizerTimer,
+                    config.enableAdditionalMetrics(), config.namespace());
+            }
+        }
+        return add ? addFinalizer(reconcilableTopic) : removeFinalizer(reconcilableTopic);
+    }
+
+    private static String finalizersPatch(String resourceVersion, List<String> finalizers) {
+        try {
+            return PATCH_MAPPER.writeValueAsString(Map.of("metadata", Map.of("resourceVersion", resourceVersion, "finalizers", finalizers)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Apply the function to all the inputs, running up to {@code maxKubernetesRequestConcurrency} of them concurrently.
+     *
+     * @param inputs Inputs.
+     * @param fn Function to apply.
+     * @return The results, in the same order as the inputs.
+     */
+    private <T, R> List<R> mapConcurrently(List<T> inputs, Function<T, R> fn) {
+        if (requestExecutor == null || inputs.size() <= 1) {
+            return inputs.stream().map(fn).toList();
+        }
+        var futures = inputs.stream().map(input -> CompletableFuture.supplyAsync(() -> fn.apply(input), requestExecutor)).toList();
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException e) {
+            throw new UncheckedInterruptedException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
             }
+            throw new RuntimeException(e.getCause());
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private KafkaTopic cachedTopic(ReconcilableTopic reconcilableTopic) {
+        if (itemStore == null) {
+            return null;
+        }
+        var key = Cache.metaNamespaceKeyFunc(reconcilableTopic.kt());
+        var patchedTopic = patchedTopics.remove(key);
+        if (patchedTopic != null
+                && TopicOperatorUtil.resourceVersion(patchedTopic).equals(TopicOperatorUtil.resourceVersion(reconcilableTopic.kt()))) {
+            return patchedTopic;
+        }
+        var cachedTopic = itemStore.get(key);
+        // the cached instance must not be the one we are updating, otherwise we would compare the new status with itself
+        return cachedTopic != reconcilableTopic.kt() ? cachedTopic : null;
+    }
+
+    /**
+     * Update the KafkaTopic status if it differs from the old status.
+     *
+     * @param reconcilableTopic Reconcilable topic.
+     * @param oldStatus The status to compare with.
+     * @param resourceVersion The resourceVersion the old status was read at, or null for an unconditional update.
+     * @return False if the conditional update failed with a conflict, true otherwise.
+     */
+    private boolean updateStatusIfChanged(ReconcilableTopic reconcilableTopic, KafkaTopicStatus oldStatus, String resourceVersion) {
+        StatusDiff statusDiff = new StatusDiff(oldStatus, reconcilableTopic.kt().getStatus());
+        if (statusDiff.isEmpty()) {
+            return true;
+        }
+        var updatedTopic = new KafkaTopicBuilder(reconcilableTopic.kt())
+            .editOrNewMetadata()
+                .withResourceVersion(resourceVersion)
+            .endMetadata()
+            .withStatus(reconcilableTopic.kt().getStatus())
+            .build();
+        LOGGER.debugCr(reconcilableTopic.reconciliation(), "Updating status with {}", updatedTopic.getStatus());
+        var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
+        try {
+            var got = Crds.topicOperation(kubernetesClient).resource(updatedTopic).updateStatus();
+            LOGGER.traceCr(reconcilableTopic.reconciliation(), "Updated status to observedGeneration {}, resourceVersion {}",
+                got.getStatus().getObservedGeneration(), got.getMetadata().getResourceVersion());
+        } catch (KubernetesClientException e) {
+            if (resourceVersion != null && e.getCode() == 409) { // 409 = Conflict
+                return false;
+            }
+            LOGGER.errorOp("Status update failed: {}", e.getMessage());
+        } catch (Throwable e) {
+            LOGGER.errorOp("Status update failed: {}", e.getMessage());
+        } finally {
             TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::updateStatusTimer, config.enableAdditionalMetrics(), config.namespace());
         }
-        return reconcilableTopic.kt();
+        return true;
     }
 }
@@ -5,32 +5,70 @@
 package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.ReconciliationLogger;
-import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
 import io.strimzi.operator.topic.model.TopicEvent.TopicDelete;
 import io.strimzi.operator.topic.model.TopicEvent.TopicUpsert;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Handler for {@link KafkaTopic} events.
+ * <br/><br/>
+ * When {@code fullReconciliationSamplePercentage} is less than 100, the periodic reconciliation skips the topics 
+ * which were already reconciled by this operator and did not change since then, that is topics whose spec hash is unchanged, 
+ * whose status is ready for the current generation, and whose topic ID in Kafka matches the one in the status.
+ * A rotating sample of those topics is still fully reconciled on each periodic reconciliation, so that 
+ * configuration changes made directly in Kafka are eventually reverted.
+ * <br/><br/>
+ * The topic IDs are listed asynchronously, so that the informer thread is not blocked by the Kafka request. 
+ * The resyncs of the skip candidates received while the listing is in progress are decided once it completes. 
+ * Only the topic ID is compared with Kafka: configuration and partition changes made directly in Kafka, 
+ * without recreating the topic, are only detected when the topic is in the sample.
  */
 class TopicEventHandler implements ResourceEventHandler<KafkaTopic> {
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicEventHandler.class);
 
     private final TopicOperatorConfig config;
     private final BatchingLoop queue;
-    private final MetricsHolder metrics;
+    private final KafkaHandler kafkaHandler;
+    private final TopicOperatorMetricsHolder metrics;
+    // key: KafkaTopic namespace/name, value: spec hash when the KafkaTopic was last enqueued for a full reconciliation
+    private final Map<String, Integer> reconciledSpecHashes = new ConcurrentHashMap<>();
+    private final Executor listingExecutor;
+    // resyncs received while the topic ids are being listed
+    private final List<KafkaTopic> pendingResyncs = new ArrayList<>();
     
     private long lastPeriodicTimestampMs;
+    private long periodicReconciliations;
+    private boolean listingTopicIds;
+    private Map<String, String> kafkaTopicIds; // topic ids listed at the start of the current periodic reconciliation
 
-    public TopicEventHandler(TopicOperatorConfig config, BatchingLoop queue, MetricsHolder metrics) {
+    public TopicEventHandler(TopicOperatorConfig config, BatchingLoop queue, KafkaHandler kafkaHandler, TopicOperatorMetricsHolder metrics) {
+        this(config, queue, kafkaHandler, metrics, Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "TopicEventHandler-listing");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    TopicEventHandler(TopicOperatorConfig config, BatchingLoop queue, KafkaHandler kafkaHandler, TopicOperatorMetricsHolder metrics, Executor listingExecutor) {
         this.config = config;
         this.queue = queue;
+        this.kafkaHandler = kafkaHandler;
         this.metrics = metrics;
+        this.listingExecutor = listingExecutor;
     }
 
     @Override
@@ -40,9 +78,7 @@ class TopicEventHandler implements ResourceEventHandler<KafkaTopic> {
         if (Annotations.isReconciliationPausedWithAnnotation(obj)) {
             metrics.pausedResourceCounter(config.namespace()).incrementAndGet();
         }
-        queue.offer(new TopicUpsert(System.nanoTime(), obj.getMetadata().getNamespace(),
-                obj.getMetadata().getName(),
-                obj.getMetadata().getResourceVersion()));
+        enqueueUpsert(obj);
     }
 
     @Override
@@ -51,6 +87,7 @@ class TopicEventHandler implements ResourceEventHandler<KafkaTopic> {
         if (trigger.equals("resync") && (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastPeriodicTimestampMs) > config.fullReconciliationIntervalMs()) {
             LOGGER.infoOp("Triggering periodic reconciliation of {} resources for namespace {}", KafkaTopic.RESOURCE_KIND, config.namespace());
             this.lastPeriodicTimestampMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+            startPeriodicReconciliation();
         }
         if (trigger.equals("update")) {
             LOGGER.debugOp("Informed about update event for topic {}", TopicOperatorUtil.topicName(newObj));
@@ -60,9 +97,17 @@ class TopicEventHandler implements ResourceEventHandler<KafkaTopic> {
         } else if (!Annotations.isReconciliationPausedWithAnnotation(oldObj) && Annotations.isReconciliationPausedWithAnnotation(newObj)) {
             metrics.pausedResourceCounter(config.namespace()).incrementAndGet();
         }
-        queue.offer(new TopicUpsert(System.nanoTime(), newObj.getMetadata().getNamespace(),
-                newObj.getMetadata().getName(),
-                newObj.getMetadata().getResourceVersion()));
+        if (trigger.equals("resync") && isSkipCandidate(newObj)) {
+            synchronized (this) {
+                if (listingTopicIds) {
+                    pendingResyncs.add(newObj);
+                    return;
+                }
+            }
+            resync(newObj);
+        } else {
+            enqueueUpsert(newObj);
+        }
     }
 
     @Override
@@ -72,10 +117,110 @@ class TopicEventHandler implements ResourceEventHandler<KafkaTopic> {
         if (Annotations.isReconciliationPausedWithAnnotation(obj)) {
             metrics.pausedResourceCounter(config.namespace()).decrementAndGet();
         }
+        var key = Cache.metaNamespaceKeyFunc(obj);
+        synchronized (this) {
+            pendingResyncs.removeIf(kt -> key.equals(Cache.metaNamespaceKeyFunc(kt)));
+        }
+        reconciledSpecHashes.remove(key);
         if (config.useFinalizer()) {
             LOGGER.debugOp("Ignoring deletion of {} (using finalizers)", TopicOperatorUtil.topicName(obj));
         } else {
             queue.offer(new TopicDelete(System.nanoTime(), obj));
         }
     }
+
+    private boolean isFastResyncEnabled() {
+        return config.fullReconciliationSamplePercentage() < 100;
+    }
+
+    private void enqueueUpsert(KafkaTopic kt) {
+        if (isFastResyncEnabled()) {
+            reconciledSpecHashes.put(Cache.metaNamespaceKeyFunc(kt), Objects.hashCode(kt.getSpec()));
+        }
+        queue.offer(new TopicUpsert(System.nanoTime(), kt.getMetadata().getNamespace(),
+                kt.getMetadata().getName(),
+                kt.getMetadata().getResourceVersion()));
+    }
+
+    private synchronized void startPeriodicReconciliation() {
+        if (!isFastResyncEnabled() || listingTopicIds) {
+            return;
+        }
+        periodicReconciliations++;
+        listingTopicIds = true;
+        listingExecutor.execute(this::listTopicIds);
+    }
+
+    private void listTopicIds() {
+        Map<String, String> listed;
+        try {
+            listed = kafkaHandler.topicIds();
+        } catch (ExecutionException | RuntimeException e) {
+            // without the Kafka topic ids we can't tell which topics are unchanged, so reconcile all of them
+            LOGGER.warnOp("Failed to list topics, all {} resources will be reconciled: {}", KafkaTopic.RESOURCE_KIND, e.getMessage());
+            listed = null;
+        }
+        List<KafkaTopic> resyncs;
+        synchronized (this) {
+            kafkaTopicIds = listed;
+            listingTopicIds = false;
+            resyncs = new ArrayList<>(pendingResyncs);
+            pendingResyncs.clear();
+        }
+        resyncs.forEach(this::resync);
+    }
+
+    private void resync(KafkaTopic kt) {
+        if (isUnchangedInKafka(kt)) {
+            LOGGER.traceOp("Skipping periodic reconciliation of unchanged topic {}", TopicOperatorUtil.topicName(kt));
+            metrics.skippedResyncsCounter(config.namespace()).increment();
+        } else {
+            enqueueUpsert(kt);
+        }
+    }
+
+    /**
+     * Checks the parts of the unchanged topic condition which do not need the Kafka topic ids.
+     */
+    private boolean isSkipCandidate(KafkaTopic kt) {
+        if (!isFastResyncEnabled()) {
+            return false;
+        }
+        if (!TopicOperatorUtil.isManaged(kt) || TopicOperatorUtil.isPaused(kt) || kt.getMetadata().getDeletionTimestamp() != null) {
+            return false;
+        }
+        var status = kt.getStatus();
+        if (status == null
+                || status.getTopicId() == null
+                || status.getReplicasChange() != null
+                || !Objects.equals(kt.getMetadata().getGeneration(), status.getObservedGeneration())
+                || status.getConditions() == null
+                || status.getConditions().stream().noneMatch(c -> "Ready".equals(c.getType()) && "True".equals(c.getStatus()))) {
+            return false;
+        }
+        var specHash = reconciledSpecHashes.get(Cache.metaNamespaceKeyFunc(kt));
+        return specHash != null && specHash == Objects.hashCode(kt.getSpec());
+    }
+
+    private synchronized boolean isUnchangedInKafka(KafkaTopic kt) {
+        if (kafkaTopicIds == null) {
+            return false;
+        }
+        var status = kt.getStatus();
+        if (!status.getTopicId().equals(kafkaTopicIds.get(status.getTopicName()))) {
+            return false;
+        }
+        return !isSampled(Cache.metaNamespaceKeyFunc(kt));
+    }
+
+    /**
+     * The sample window rotates on every periodic reconciliation, so that each unchanged topic is fully 
+     * reconciled at least once every {@code ceil(100 / fullReconciliationSamplePercentage)} periodic reconciliations.
+     */
+    private boolean isSampled(String key) {
+        int percentage = config.fullReconciliationSamplePercentage();
+        int bucket = Math.floorMod(key.hashCode(), 100);
+        int windowStart = (int) Math.floorMod(periodicReconciliations * percentage, 100L);
+        return Math.floorMod(bucket - windowStart, 100) < percentage;
+    }
 }
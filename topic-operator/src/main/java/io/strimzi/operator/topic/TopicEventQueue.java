@@ -0,0 +1,176 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.model.KubeRef;
+import io.strimzi.operator.topic.model.TopicEvent;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A queue of {@link TopicEvent}s keyed by {@link KubeRef}, used by the {@link BatchingLoop}.
+ * <br/><br/>
+ * Polling an event claims its key, and no other event for the same key is returned until the key
+ * is released with {@link #complete(KubeRef)}, so that any given KafkaTopic is only being reconciled by a
+ * single thread at any one time. Events for a claimed key are held, rather than being rejected and re-queued.
+ * <br/><br/>
+ * An event of the same kind (upsert or delete) as the last pending event for the same key replaces it,
+ * because only the latest state of a KafkaTopic is reconciled anyway.
+ * <br/><br/>
+ * There is no queue-wide lock: pending events are held in a {@link ConcurrentHashMap}, and the keys which
+ * can be claimed in a {@link ConcurrentLinkedQueue} whose size is tracked by a {@link Semaphore}.
+ */
+class TopicEventQueue {
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicEventQueue.class);
+
+    private final int maxQueueSize;
+    private final String namespace;
+    private final TopicOperatorMetricsHolder metricsHolder;
+
+    private final Map<KubeRef, KeyState> states = new ConcurrentHashMap<>();
+    // keys with pending events which are not in flight, each key is present at most once
+    private final Queue<KubeRef> readyKeys = new ConcurrentLinkedQueue<>();
+    // the number of permits is the number of readyKeys
+    private final Semaphore readyPermits = new Semaphore(0);
+    // the number of pending events
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Mutable state for a key, only accessed within {@link ConcurrentHashMap} compute methods.
+     */
+    private static final class KeyState {
+        private final ArrayDeque<TopicEvent> pending = new ArrayDeque<>(2);
+        private boolean inFlight;
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param maxQueueSize Max number of pending events.
+     * @param namespace Namespace of the KafkaTopics.
+     * @param metricsHolder Metrics holder.
+     */
+    TopicEventQueue(int maxQueueSize, String namespace, TopicOperatorMetricsHolder metricsHolder) {
+        this.maxQueueSize = maxQueueSize;
+        this.namespace = namespace;
+        this.metricsHolder = metricsHolder;
+    }
+
+    /**
+     * Add an event to the queue.
+     *
+     * @param event The event.
+     * @return False if the queue is full.
+     */
+    boolean offer(TopicEvent event) {
+        var ref = event.toRef();
+        var outcome = new Outcome();
+        states.compute(ref, (k, state) -> {
+            if (state == null) {
+                state = new KeyState();
+            }
+            var last = state.pending.peekLast();
+            if (last != null && last.getClass() == event.getClass()) {
+                state.pending.pollLast();
+                state.pending.addLast(event);
+                outcome.coalesced = true;
+            } else if (size.incrementAndGet() > maxQueueSize) {
+                size.decrementAndGet();
+                outcome.full = true;
+            } else {
+                state.pending.addLast(event);
+                outcome.ready = !state.inFlight && state.pending.size() == 1;
+                outcome.locked = state.inFlight;
+            }
+            return state.pending.isEmpty() && !state.inFlight ? null : state;
+        });
+
+        if (outcome.full) {
+            return false;
+        } else if (outcome.coalesced) {
+            LOGGER.debugOp("Item {} coalesced with pending item", event);
+            metricsHolder.coalescedEventsCounter(namespace).increment();
+        } else {
+            LOGGER.debugOp("Item {} added to queue", event);
+            if (outcome.ready) {
+                makeReady(ref);
+            } else if (outcome.locked) {
+                LOGGER.debugOp("Holding item {}, already inflight", event);
+                metricsHolder.lockedReconciliationsCounter(namespace).increment();
+            }
+            metricsHolder.reconciliationsMaxQueueSize(namespace).getAndUpdate(max -> Math.max(max, size.get()));
+        }
+        return true;
+    }
+
+    /**
+     * Claim the next event whose key is not in flight, waiting if necessary.
+     * The key of the returned event is in flight until it is released with {@link #complete(KubeRef)}.
+     *
+     * @param timeout How long to wait.
+     * @param unit The unit of timeout.
+     * @return The event, or null if the timeout elapsed.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    TopicEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!readyPermits.tryAcquire(timeout, unit)) {
+            return null;
+        }
+        var ref = readyKeys.poll();
+        var claimed = new TopicEvent[1];
+        states.computeIfPresent(ref, (k, state) -> {
+            claimed[0] = state.pending.pollFirst();
+            state.inFlight = true;
+            return state;
+        });
+        size.decrementAndGet();
+        return claimed[0];
+    }
+
+    /**
+     * Release a key claimed by {@link #poll(long, TimeUnit)}, making its held events available.
+     *
+     * @param ref The key.
+     */
+    void complete(KubeRef ref) {
+        var outcome = new Outcome();
+        states.computeIfPresent(ref, (k, state) -> {
+            state.inFlight = false;
+            outcome.ready = !state.pending.isEmpty();
+            return outcome.ready ? state : null;
+        });
+        if (outcome.ready) {
+            makeReady(ref);
+        }
+    }
+
+    /**
+     * @return The number of pending events.
+     */
+    int size() {
+        return size.get();
+    }
+
+    private void makeReady(KubeRef ref) {
+        readyKeys.offer(ref);
+        readyPermits.release();
+    }
+
+    private static final class Outcome {
+        private boolean coalesced;
+        private boolean full;
+        private boolean ready;
+        private boolean locked;
+    }
+}
@@ -49,6 +49,12 @@ import java.util.UUID;
  * @param maxQueueSize                          The capacity of the queue.
  * @param maxBatchSize                          The maximum size of a reconciliation batch.
  * @param maxBatchLingerMs                      The maximum time to wait for a reconciliation batch to contain {@code maxBatchSize} items.
+ * @param adaptiveBatchingEnabled               Whether the batch size and linger are tuned at runtime, within their min and max values.
+ * @param minBatchSize                          The minimum size of a reconciliation batch when adaptive batching is enabled.
+ * @param minBatchLingerMs                      The minimum time to wait for a reconciliation batch when adaptive batching is enabled.
+ * @param maxKubernetesRequestConcurrency       The maximum number of concurrent Kubernetes requests for a reconciliation batch.
+ * @param topicStateCacheTtlMs                  How long the Kafka state of an unchanged topic is cached for, in milliseconds (zero disables the cache).
+ * @param fullReconciliationSamplePercentage    The percentage of unchanged topics which are fully reconciled by each periodic reconciliation (between 1 and 100).
  * @param enableAdditionalMetrics               Whether to enable additional metrics.
  * @param featureGates                          Configured feature gates.
  * @param cruiseControlEnabled                  Whether Cruise Control integration is enabled.
@@ -85,6 +91,12 @@ public record TopicOperatorConfig(
         int maxQueueSize,
         int maxBatchSize,
         long maxBatchLingerMs,
+        boolean adaptiveBatchingEnabled,
+        int minBatchSize,
+        long minBatchLingerMs,
+        int maxKubernetesRequestConcurrency,
+        long topicStateCacheTtlMs,
+        int fullReconciliationSamplePercentage,
         boolean enableAdditionalMetrics,
         FeatureGates featureGates,
         boolean cruiseControlEnabled,
@@ -145,6 +157,18 @@ public record TopicOperatorConfig(
     public static final ConfigParameter<Integer> MAX_BATCH_SIZE = new ConfigParameter<>("STRIMZI_MAX_BATCH_SIZE", ConfigParameterParser.strictlyPositive(ConfigParameterParser.INTEGER), "100", CONFIG_VALUES);
     /** Max linger time in milliseconds before creating a new topic event batch. */
     public static final ConfigParameter<Long> MAX_BATCH_LINGER_MS = new ConfigParameter<>("STRIMZI_MAX_BATCH_LINGER_MS", ConfigParameterParser.strictlyPositive(ConfigParameterParser.LONG), "100", CONFIG_VALUES);
+    /** Whether to tune the size and linger time of topic event batches at runtime. */
+    public static final ConfigParameter<Boolean> ADAPTIVE_BATCHING_ENABLED = new ConfigParameter<>("STRIMZI_ADAPTIVE_BATCHING_ENABLED", ConfigParameterParser.BOOLEAN, "false", CONFIG_VALUES);
+    /** Min size of a topic event batch when adaptive batching is enabled. */
+    public static final ConfigParameter<Integer> MIN_BATCH_SIZE = new ConfigParameter<>("STRIMZI_MIN_BATCH_SIZE", ConfigParameterParser.strictlyPositive(ConfigParameterParser.INTEGER), "1", CONFIG_VALUES);
+    /** Min linger time in milliseconds for a topic event batch when adaptive batching is enabled. */
+    public static final ConfigParameter<Long> MIN_BATCH_LINGER_MS = new ConfigParameter<>("STRIMZI_MIN_BATCH_LINGER_MS", ConfigParameterParser.strictlyPositive(ConfigParameterParser.LONG), "1", CONFIG_VALUES);
+    /** Max number of concurrent Kubernetes requests (status updates and finalizer changes) for a topic event batch. */
+    public static final ConfigParameter<Integer> MAX_KUBERNETES_REQUEST_CONCURRENCY = new ConfigParameter<>("STRIMZI_MAX_KUBERNETES_REQUEST_CONCURRENCY", ConfigParameterParser.strictlyPositive(ConfigParameterParser.INTEGER), "5", CONFIG_VALUES);
+    /** How long the Kafka state of a topic whose KafkaTopic generation did not change is cached for (zero disables the cache). */
+    public static final ConfigParameter<Long> TOPIC_STATE_CACHE_TTL_MS = new ConfigParameter<>("STRIMZI_TOPIC_STATE_CACHE_TTL_MS", ConfigParameterParser.LONG, "0", CONFIG_VALUES);
+    /** Percentage (between 1 and 100) of the unchanged topics which are fully reconciled by each periodic reconciliation (100 reconciles all topics). */
+    public static final ConfigParameter<Integer> FULL_RECONCILIATION_SAMPLE_PERCENTAGE = new ConfigParameter<>("STRIMZI_FULL_RECONCILIATION_SAMPLE_PERCENTAGE", percentage(), "100", CONFIG_VALUES);
     /** Whether to enable additional metrics related to requests to external services (Kafka, Kubernetes, Cruise Control). */
     public static final ConfigParameter<Boolean> ENABLE_ADDITIONAL_METRICS = new ConfigParameter<>("STRIMZI_ENABLE_ADDITIONAL_METRICS", ConfigParameterParser.BOOLEAN, "false", CONFIG_VALUES);
     /** An allow list of topic configurations that are reconciles, everything else is ignored. */
@@ -172,6 +196,16 @@ public record TopicOperatorConfig(
     /** Cruise Control: password file location. */
     public static final ConfigParameter<String> CRUISE_CONTROL_API_PASS_PATH = new ConfigParameter<>("STRIMZI_CRUISE_CONTROL_API_PASS_PATH", ConfigParameterParser.STRING, "/etc/eto-cc-api/" + CruiseControlApiProperties.TOPIC_OPERATOR_PASSWORD_KEY, CONFIG_VALUES);
 
+    private static ConfigParameterParser<Integer> percentage() {
+        return configValue -> {
+            var value = ConfigParameterParser.INTEGER.parse(configValue);
+            if (value < 1 || value > 100) {
+                throw new InvalidConfigurationException("Failed to parse. Value " + value + " is not a percentage between 1 and 100");
+            }
+            return value;
+        };
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> T get(Map<String, Object> map, ConfigParameter<T> value) {
         return (T) map.get(value.key());
@@ -226,6 +260,12 @@ public record TopicOperatorConfig(
                 get(map, MAX_QUEUE_SIZE),
                 get(map, MAX_BATCH_SIZE),
                 get(map, MAX_BATCH_LINGER_MS),
+                get(map, ADAPTIVE_BATCHING_ENABLED),
+                get(map, MIN_BATCH_SIZE),
+                get(map, MIN_BATCH_LINGER_MS),
+                get(map, MAX_KUBERNETES_REQUEST_CONCURRENCY),
+                get(map, TOPIC_STATE_CACHE_TTL_MS),
+                get(map, FULL_RECONCILIATION_SAMPLE_PERCENTAGE),
                 get(map, ENABLE_ADDITIONAL_METRICS),
                 get(map, FEATURE_GATES),
                 get(map, CRUISE_CONTROL_ENABLED),
@@ -390,6 +430,12 @@ public record TopicOperatorConfig(
                 "\n\tmaxQueueSize=" + maxQueueSize +
                 "\n\tmaxBatchSize=" + maxBatchSize +
                 "\n\tmaxBatchLingerMs=" + maxBatchLingerMs +
+                "\n\tadaptiveBatchingEnabled=" + adaptiveBatchingEnabled +
+                "\n\tminBatchSize=" + minBatchSize +
+                "\n\tminBatchLingerMs=" + minBatchLingerMs +
+                "\n\tmaxKubernetesRequestConcurrency=" + maxKubernetesRequestConcurrency +
+                "\n\ttopicStateCacheTtlMs=" + topicStateCacheTtlMs +
+                "\n\tfullReconciliationSamplePercentage=" + fullReconciliationSamplePercentage +
                 "\n\tenableAdditionalMetrics=" + enableAdditionalMetrics +
                 "\n\tfeatureGates='" + featureGates + "'" +
                 "\n\tcruiseControlEnabled=" + cruiseControlEnabled +
@@ -49,6 +49,7 @@ public class TopicOperatorMain implements Liveness, Readiness {
     /* test */ final BatchingLoop queue;
     private final BasicItemStore<KafkaTopic> itemStore;
     /* test */ final BatchingTopicController controller;
+    private final KubernetesHandler kubeHandler;
     
     private SharedIndexInformer<KafkaTopic> informer; // guarded by this
     Thread shutdownHook; // guarded by this
@@ -67,14 +68,15 @@ public class TopicOperatorMain implements Liveness, Readiness {
         
         var metricsProvider = createMetricsProvider();
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, Labels.fromMap(selector), metricsProvider);
-        var kubeHandler = new KubernetesHandler(config, metricsHolder, kubernetesClient);
-        var kafkaHandler = new KafkaHandler(config, metricsHolder, kafkaAdminClient);
+        this.itemStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+        this.kubeHandler = new KubernetesHandler(config, metricsHolder, kubernetesClient, itemStore);
+        var batchTuner = new BatchTuner(config, metricsHolder);
+        var kafkaHandler = new KafkaHandler(config, metricsHolder, kafkaAdminClient, batchTuner);
         var cruiseControlHandler = new CruiseControlHandler(config, metricsHolder, cruiseControlClient);
 
         this.controller = new BatchingTopicController(config, selector, kubeHandler, kafkaHandler, metricsHolder, cruiseControlHandler);
-        this.itemStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
-        this.queue = new BatchingLoop(config, controller, 1, itemStore, this::stop, metricsHolder);
-        this.resourceEventHandler = new TopicEventHandler(config, queue, metricsHolder);
+        this.queue = new BatchingLoop(config, controller, 1, itemStore, this::stop, metricsHolder, batchTuner);
+        this.resourceEventHandler = new TopicEventHandler(config, queue, kafkaHandler, metricsHolder);
         this.healthAndMetricsServer = new HealthCheckAndMetricsServer(8080, this, this, metricsProvider);
     }
 
@@ -137,6 +139,7 @@ public class TopicOperatorMain implements Liveness, Readiness {
                 informer = null;
             }
             this.queue.stop();
+            this.kubeHandler.stop();
             this.kafkaAdminClient.close();
             this.kubernetesClient.close();
             this.cruiseControlClient.close();
@@ -0,0 +1,135 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.model.TopicState;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache of the Kafka-side state of topics, keyed by topic ID.
+ * <br/><br/>
+ * An entry is only valid for the KafkaTopic generation it was described for, and expires after the configured TTL,
+ * so that changes made directly in Kafka are still detected by periodic reconciliations.
+ * Entries are dropped when the operator changes the topic in Kafka, or when a listing shows that
+ * the topic was deleted or recreated with a different topic ID.
+ */
+class TopicStateCache {
+    private record Entry(TopicState state, long generation, long describedAtMs) { }
+
+    private final long ttlMs;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entriesById = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByName = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new instance.
+     *
+     * @param ttlMs How long an entry is valid for, in milliseconds (zero or less disables the cache).
+     */
+    TopicStateCache(long ttlMs) {
+        this(ttlMs, System::currentTimeMillis);
+    }
+
+    TopicStateCache(long ttlMs, LongSupplier clock) {
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+    }
+
+    /**
+     * @return Whether the cache is enabled.
+     */
+    boolean isEnabled() {
+        return ttlMs > 0;
+    }
+
+    /**
+     * @return The number of cached topics.
+     */
+    int size() {
+        return idsByName.size();
+    }
+
+    /**
+     * Get the cached state of a topic.
+     *
+     * @param topicName Topic name.
+     * @param generation Generation of the KafkaTopic being reconciled.
+     * @return The cached state, or null if there is no valid entry for that generation.
+     */
+    TopicState get(String topicName, Long generation) {
+        if (!isEnabled() || generation == null) {
+            return null;
+        }
+        var topicId = idsByName.get(topicName);
+        var entry = topicId != null ? entriesById.get(topicId) : null;
+        if (entry == null) {
+            return null;
+        }
+        if (entry.generation() != generation || clock.getAsLong() - entry.describedAtMs() >= ttlMs) {
+            invalidate(topicName);
+            return null;
+        }
+        return entry.state();
+    }
+
+    /**
+     * Cache the state of a topic which has just been described.
+     *
+     * @param topicName Topic name.
+     * @param generation Generation of the KafkaTopic being reconciled.
+     * @param state Described topic state.
+     */
+    void put(String topicName, Long generation, TopicState state) {
+        if (!isEnabled() || generation == null || state == null || state.topicId() == null) {
+            return;
+        }
+        var previousId = idsByName.put(topicName, state.topicId());
+        if (previousId != null && !previousId.equals(state.topicId())) {
+            entriesById.remove(previousId);
+        }
+        entriesById.put(state.topicId(), new Entry(state, generation, clock.getAsLong()));
+    }
+
+    /**
+     * Drop the cached state of a topic.
+     *
+     * @param topicName Topic name.
+     */
+    void invalidate(String topicName) {
+        var topicId = idsByName.remove(topicName);
+        if (topicId != null) {
+            entriesById.remove(topicId);
+        }
+    }
+
+    /**
+     * Drop all the cached topic states.
+     */
+    void clear() {
+        idsByName.clear();
+        entriesById.clear();
+    }
+
+    /**
+     * Drop the cached state of the topics which are no longer listed with the same topic ID.
+     *
+     * @param listedIdsByName The topic IDs of the topics currently in Kafka, keyed by topic name.
+     * @return The number of dropped entries.
+     */
+    int retainListed(Map<String, String> listedIdsByName) {
+        int dropped = 0;
+        for (var entry : idsByName.entrySet()) {
+            if (!Objects.equals(listedIdsByName.get(entry.getKey()), entry.getValue())) {
+                invalidate(entry.getKey());
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+}
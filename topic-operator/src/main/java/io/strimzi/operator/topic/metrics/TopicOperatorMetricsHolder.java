@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.topic.metrics;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.metrics.MetricKey;
 import io.strimzi.operator.common.metrics.MetricsHolder;
@@ -13,6 +14,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A metrics holder for the Topic Operator.
@@ -26,6 +28,18 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
      * Metric name for reconciliations max batch size.
      */
     public static final String METRICS_RECONCILIATIONS_MAX_BATCH_SIZE = METRICS_RECONCILIATIONS + ".max.batch.size";
+    /**
+     * Metric name for events coalesced with a pending event for the same resource.
+     */
+    public static final String METRICS_RECONCILIATIONS_COALESCED = METRICS_RECONCILIATIONS + ".coalesced";
+    /**
+     * Metric name for reconciliations current batch size.
+     */
+    public static final String METRICS_RECONCILIATIONS_BATCH_SIZE = METRICS_RECONCILIATIONS + ".batch.size";
+    /**
+     * Metric name for reconciliations current batch linger time.
+     */
+    public static final String METRICS_RECONCILIATIONS_BATCH_LINGER = METRICS_RECONCILIATIONS + ".batch.linger.ms";
     /**
      * Metric name for Kubernetes add finalizer duration.
      */
@@ -34,6 +48,14 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
      * Metric name for Kubernetes removing finalizer duration.
      */
     public static final String METRICS_REMOVE_FINALIZER_DURATION = METRICS_PREFIX + "remove.finalizer.duration";
+    /**
+     * Metric name for Kubernetes add finalizer duration of a whole batch.
+     */
+    public static final String METRICS_ADD_FINALIZERS_BATCH_DURATION = METRICS_PREFIX + "add.finalizer.batch.duration";
+    /**
+     * Metric name for Kubernetes removing finalizer duration of a whole batch.
+     */
+    public static final String METRICS_REMOVE_FINALIZERS_BATCH_DURATION = METRICS_PREFIX + "remove.finalizer.batch.duration";
     /**
      * Metric name for Kafka create topics duration.
      */
@@ -42,6 +64,18 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
      * Metric name for Kubernetes update status duration.
      */
     public static final String METRICS_UPDATE_TOPICS_DURATION = METRICS_PREFIX + "update.status.duration";
+    /**
+     * Metric name for Kubernetes update status requests which used the informer cache instead of a GET.
+     */
+    public static final String METRICS_UPDATE_STATUS_SKIPPED_GETS = METRICS_PREFIX + "update.status.skipped.gets";
+    /**
+     * Metric name for Kubernetes update status duration of a whole batch.
+     */
+    public static final String METRICS_UPDATE_STATUS_BATCH_DURATION = METRICS_PREFIX + "update.status.batch.duration";
+    /**
+     * Metric name for number of KafkaTopic statuses updated in batches.
+     */
+    public static final String METRICS_UPDATE_STATUS_BATCH_TOPICS = METRICS_PREFIX + "update.status.batch.topics";
     /**
      * Metric name for Kafka list reassignments duration.
      */
@@ -62,6 +96,18 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
      * Metric name for Kafka describe configs duration.
      */
     public static final String METRICS_DESCRIBE_CONFIGS_DURATION = METRICS_PREFIX + "describe.configs.duration";
+    /**
+     * Metric name for number of periodic reconciliations skipped because the topic did not change.
+     */
+    public static final String METRICS_SKIPPED_RESYNCS = METRICS_PREFIX + "skipped.resyncs";
+    /**
+     * Metric name for Kafka list topics duration.
+     */
+    public static final String METRICS_LIST_TOPICS_DURATION = METRICS_PREFIX + "list.topics.duration";
+    /**
+     * Metric name for number of topics whose state was served by the topic state cache instead of a Kafka describe.
+     */
+    public static final String METRICS_TOPIC_STATE_CACHE_HITS = METRICS_PREFIX + "topic.state.cache.hits";
     /**
      * Metric name for Kafka delete topics duration.
      */
@@ -77,10 +123,18 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
 
     private final Map<MetricKey, AtomicInteger> reconciliationsMaxQueueMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, AtomicInteger> reconciliationsMaxBatchMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Counter> reconciliationsCoalescedMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, AtomicInteger> reconciliationsBatchSizeMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, AtomicLong> reconciliationsBatchLingerMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Counter> updateStatusSkippedGetsMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Counter> updateStatusBatchTopicsMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Timer> updateStatusBatchTimerMap = new ConcurrentHashMap<>(1);
 
     // additional metrics useful for tuning or monitoring specific internal requests
     private final Map<MetricKey, Timer> addFinalizerTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> removeFinalizerTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Timer> addFinalizersBatchTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Timer> removeFinalizersBatchTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> createTopicsTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> updateStatusTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> listReassignmentsTimerMap = new ConcurrentHashMap<>(1);
@@ -88,6 +142,9 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
     private final Map<MetricKey, Timer> createPartitionsTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> describeTopicsTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> describeConfigsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Counter> skippedResyncsMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Timer> listTopicsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Counter> topicStateCacheHitsMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> deleteTopicsTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> ccTopicConfigTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> ccUserTasksTimerMap = new ConcurrentHashMap<>(1);
@@ -149,6 +206,55 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
                 Optional.of(getLabelSelectorValues()), reconciliationsMaxBatchMap);
     }
 
+    /**
+     * Gauge metric for the current max size of the event batches.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics gauge.
+     */
+    public AtomicInteger reconciliationsBatchSize(String namespace) {
+        return getGauge(new MetricKey(kind, namespace), METRICS_RECONCILIATIONS_BATCH_SIZE,
+                "Current max size of the event batches",
+                Optional.of(getLabelSelectorValues()), reconciliationsBatchSizeMap);
+    }
+
+    /**
+     * Gauge metric for the current linger time of the event batches.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics gauge.
+     */
+    public AtomicLong reconciliationsBatchLingerMs(String namespace) {
+        return getGaugeLong(new MetricKey(kind, namespace), METRICS_RECONCILIATIONS_BATCH_LINGER,
+                "Current linger time in milliseconds of the event batches",
+                Optional.of(getLabelSelectorValues()), reconciliationsBatchLingerMap);
+    }
+
+    /**
+     * Counter metric for the number of events which were coalesced with a pending event for the same resource.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics counter.
+     */
+    public Counter coalescedEventsCounter(String namespace) {
+        return getCounter(new MetricKey(kind, namespace), METRICS_RECONCILIATIONS_COALESCED,
+                "Number of events coalesced with a pending event for the same resource",
+                Optional.of(getLabelSelectorValues()), reconciliationsCoalescedMap);
+    }
+
+    /**
+     * Counter metric for the number of status updates which were compared with the informer cache,
+     * and therefore skipped the Kubernetes GET request.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics counter.
+     */
+    public Counter skippedStatusGetsCounter(String namespace) {
+        return getCounter(new MetricKey(kind, namespace), METRICS_UPDATE_STATUS_SKIPPED_GETS,
+                "Number of status updates which used the informer cache instead of a Kubernetes GET request",
+                Optional.of(getLabelSelectorValues()), updateStatusSkippedGetsMap);
+    }
+
     /**
      * Timer which measures how long the Kubernetes add finalizer request takes to complete.
      *
@@ -173,6 +279,30 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
                 Optional.of(getLabelSelectorValues()), removeFinalizerTimerMap);
     }
 
+    /**
+     * Timer which measures how long the Kubernetes add finalizer requests of a whole batch take to complete.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics timer.
+     */
+    public Timer addFinalizersBatchTimer(String namespace) {
+        return getFineGrainedTimer(namespace, METRICS_ADD_FINALIZERS_BATCH_DURATION,
+            "The time Kubernetes addFinalizer requests of a whole batch take to complete",
+                Optional.of(getLabelSelectorValues()), addFinalizersBatchTimerMap);
+    }
+
+    /**
+     * Timer which measures how long the Kubernetes remove finalizer requests of a whole batch take to complete.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics timer.
+     */
+    public Timer removeFinalizersBatchTimer(String namespace) {
+        return getFineGrainedTimer(namespace, METRICS_REMOVE_FINALIZERS_BATCH_DURATION,
+            "The time Kubernetes removeFinalizer requests of a whole batch take to complete",
+                Optional.of(getLabelSelectorValues()), removeFinalizersBatchTimerMap);
+    }
+
     /**
      * Timer which measures how long the Kafka createTopics request takes to complete.
      *
@@ -197,6 +327,30 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
                 Optional.of(getLabelSelectorValues()), updateStatusTimerMap);
     }
 
+    /**
+     * Timer which measures how long the Kubernetes updateStatus requests of a whole batch take to complete.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics timer.
+     */
+    public Timer updateStatusBatchTimer(String namespace) {
+        return getFineGrainedTimer(namespace, METRICS_UPDATE_STATUS_BATCH_DURATION,
+            "The time Kubernetes updateStatus requests of a whole batch take to complete",
+                Optional.of(getLabelSelectorValues()), updateStatusBatchTimerMap);
+    }
+
+    /**
+     * Counter metric for the number of KafkaTopic statuses updated in batches.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics counter.
+     */
+    public Counter updateStatusBatchTopicsCounter(String namespace) {
+        return getCounter(new MetricKey(kind, namespace), METRICS_UPDATE_STATUS_BATCH_TOPICS,
+                "Number of KafkaTopic statuses updated in batches",
+                Optional.of(getLabelSelectorValues()), updateStatusBatchTopicsMap);
+    }
+
     /**
      * Timer which measures how long the Kafka listPartitionReassignments request takes to complete.
      *
@@ -257,6 +411,42 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
                 Optional.of(getLabelSelectorValues()), describeConfigsTimerMap);
     }
 
+    /**
+     * Counter metric for number of periodic reconciliations skipped because the topic did not change.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics counter.
+     */
+    public Counter skippedResyncsCounter(String namespace) {
+        return getCounter(new MetricKey(kind, namespace), METRICS_SKIPPED_RESYNCS,
+                "Number of periodic reconciliations skipped because neither the KafkaTopic nor the topic ID in Kafka changed",
+                Optional.of(getLabelSelectorValues()), skippedResyncsMap);
+    }
+
+    /**
+     * Timer which measures how long the Kafka listTopics request takes to complete.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics timer.
+     */
+    public Timer listTopicsTimer(String namespace) {
+        return getFineGrainedTimer(namespace, METRICS_LIST_TOPICS_DURATION,
+            "The time Kafka listTopics request takes to complete",
+                Optional.of(getLabelSelectorValues()), listTopicsTimerMap);
+    }
+
+    /**
+     * Counter metric for number of topics whose state was served by the topic state cache.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics counter.
+     */
+    public Counter topicStateCacheHitsCounter(String namespace) {
+        return getCounter(new MetricKey(kind, namespace), METRICS_TOPIC_STATE_CACHE_HITS,
+                "Number of topics whose state was served by the topic state cache instead of a Kafka describe request",
+                Optional.of(getLabelSelectorValues()), topicStateCacheHitsMap);
+    }
+
     /**
      * Timer which measures how long the Kafka deleteTopics request takes to complete.
      *
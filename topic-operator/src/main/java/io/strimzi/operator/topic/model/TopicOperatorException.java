@@ -91,6 +91,7 @@ public abstract class TopicOperatorException extends Exception {
          */
         public InternalError(Throwable throwable) {
             super(Reason.INTERNAL_ERROR, throwable.toString());
+            initCause(throwable);
         }
     }
 
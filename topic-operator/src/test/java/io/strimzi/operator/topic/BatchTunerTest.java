@@ -0,0 +1,108 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class BatchTunerTest {
+    private static final String NAMESPACE = TopicOperatorTestUtil.namespaceName(BatchTunerTest.class);
+
+    @Test
+    void shouldUseMaxValuesWhenDisabled() {
+        var metricsHolder = metricsHolder();
+        var tuner = new BatchTuner(config("false"), metricsHolder);
+
+        tuner.recordKafkaRequest(1_000_000_000L, true);
+        tuner.tune(0);
+
+        assertThat(tuner.batchSize(), is(64));
+        assertThat(tuner.lingerMs(), is(400L));
+        assertThat(metricsHolder.reconciliationsBatchSize(NAMESPACE).get(), is(64));
+        assertThat(metricsHolder.reconciliationsBatchLingerMs(NAMESPACE).get(), is(400L));
+    }
+
+    @Test
+    void shouldShortenLingerWhenIdle() {
+        var tuner = new BatchTuner(config("true"), metricsHolder());
+
+        for (int i = 0; i < 10; i++) {
+            tuner.tune(0);
+        }
+        assertThat(tuner.lingerMs(), is(10L));
+        assertThat(tuner.batchSize(), is(64));
+
+        // events are waiting, so linger longer to collect them
+        tuner.tune(5);
+        assertThat(tuner.lingerMs(), is(20L));
+    }
+
+    @Test
+    void shouldShrinkBatchesWhenKafkaIsOverloadedAndGrowThemUnderBurst() {
+        var tuner = new BatchTuner(config("true"), metricsHolder());
+
+        for (int i = 0; i < 3; i++) {
+            tuner.recordKafkaRequest(10_000_000L, true);
+        }
+        tuner.tune(1_000);
+        assertThat(tuner.batchSize(), is(32));
+        for (int i = 0; i < 10; i++) {
+            tuner.tune(1_000);
+        }
+        assertThat(tuner.batchSize(), is(4));
+
+        // Kafka recovers, and the burst is still in the queue
+        for (int i = 0; i < 20; i++) {
+            tuner.recordKafkaRequest(10_000_000L, false);
+        }
+        tuner.tune(1_000);
+        assertThat(tuner.batchSize(), is(8));
+        for (int i = 0; i < 10; i++) {
+            tuner.tune(1_000);
+        }
+        assertThat(tuner.batchSize(), is(64));
+    }
+
+    @Test
+    void shouldShrinkBatchesWhenKafkaLatencyGrows() {
+        var tuner = new BatchTuner(config("true"), metricsHolder());
+
+        for (int i = 0; i < 5; i++) {
+            tuner.recordKafkaRequest(10_000_000L, false);
+        }
+        tuner.tune(1_000);
+        assertThat(tuner.batchSize(), is(64));
+
+        for (int i = 0; i < 10; i++) {
+            tuner.recordKafkaRequest(100_000_000L, false);
+        }
+        tuner.tune(1_000);
+        assertThat(tuner.batchSize(), is(32));
+    }
+
+    private static TopicOperatorConfig config(String adaptive) {
+        return TopicOperatorConfig.buildFromMap(Map.of(
+            TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+            TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+            TopicOperatorConfig.MAX_BATCH_SIZE.key(), "64",
+            TopicOperatorConfig.MAX_BATCH_LINGER_MS.key(), "400",
+            TopicOperatorConfig.ADAPTIVE_BATCHING_ENABLED.key(), adaptive,
+            TopicOperatorConfig.MIN_BATCH_SIZE.key(), "4",
+            TopicOperatorConfig.MIN_BATCH_LINGER_MS.key(), "10")
+        );
+    }
+
+    private static TopicOperatorMetricsHolder metricsHolder() {
+        return new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+    }
+}
@@ -77,6 +77,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
  * rather it aims to cover some parts that a difficult to test via {@link TopicControllerIT}.
  */
 @ExtendWith(KafkaClusterExtension.class)
+@SuppressWarnings("checkstyle:ClassDataAbstractionCoupling")
 class BatchingTopicControllerTest {
     private static final String NAMESPACE = TopicOperatorTestUtil.namespaceName(BatchingTopicControllerTest.class);
 
@@ -141,7 +142,7 @@ class BatchingTopicControllerTest {
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var controller = new BatchingTopicController(config, Map.of("key", "VALUE"),
             new KubernetesHandler(config, metricsHolder, kubernetesClient),
-            new KafkaHandler(config, metricsHolder, kafkaAdmin), metricsHolder,
+            new KafkaHandler(config, metricsHolder, kafkaAdmin, new BatchTuner(config, metricsHolder)), metricsHolder,
             new CruiseControlHandler(config, metricsHolder, TopicOperatorUtil.createCruiseControlClient(config)));
         
         var batch = List.of(new ReconcilableTopic(
@@ -334,7 +335,7 @@ class BatchingTopicControllerTest {
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var controller = new BatchingTopicController(config, Map.of("key", "VALUE"),
             new KubernetesHandler(config, metricsHolder, kubernetesClient),
-            new KafkaHandler(config, metricsHolder, kafkaAdmin), metricsHolder,
+            new KafkaHandler(config, metricsHolder, kafkaAdmin, new BatchTuner(config, metricsHolder)), metricsHolder,
             cruiseControlHandler);
         var results = controller.checkReplicasChanges(currentStatesOrError.ok(), List.of(reconcilableTopic));
 
@@ -418,7 +419,7 @@ class BatchingTopicControllerTest {
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var controller = new BatchingTopicController(config, Map.of("key", "VALUE"),
             new KubernetesHandler(config, metricsHolder, kubernetesClient),
-            new KafkaHandler(config, metricsHolder, kafkaAdmin), metricsHolder,
+            new KafkaHandler(config, metricsHolder, kafkaAdmin, new BatchTuner(config, metricsHolder)), metricsHolder,
             cruiseControlHandler);
         var results = controller.checkReplicasChanges(currentStatesOrError.ok(), reconcilableTopics);
 
@@ -496,7 +497,7 @@ class BatchingTopicControllerTest {
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var controller = new BatchingTopicController(config, Map.of("key", "VALUE"),
             new KubernetesHandler(config, metricsHolder, kubernetesClient),
-            new KafkaHandler(config, metricsHolder, kafkaAdmin), metricsHolder,
+            new KafkaHandler(config, metricsHolder, kafkaAdmin, new BatchTuner(config, metricsHolder)), metricsHolder,
             cruiseControlHandler);
         var results = controller.checkReplicasChanges(currentStatesOrError.ok(), reconcilableTopics);
         
@@ -517,7 +518,7 @@ class BatchingTopicControllerTest {
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         new BatchingTopicController(config, Map.of("key", "VALUE"),
             new KubernetesHandler(config, metricsHolder, kubernetesClient),
-            new KafkaHandler(config, metricsHolder, kafkaAdmin), metricsHolder,
+            new KafkaHandler(config, metricsHolder, kafkaAdmin, new BatchTuner(config, metricsHolder)), metricsHolder,
             new CruiseControlHandler(config, metricsHolder, TopicOperatorUtil.createCruiseControlClient(config)));
 
         verifyNoInteractions(kafkaAdmin);
@@ -555,7 +556,7 @@ class BatchingTopicControllerTest {
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var controller = new BatchingTopicController(config, Map.of("key", "VALUE"),
             new KubernetesHandler(config, metricsHolder, kubernetesClient),
-            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy), metricsHolder,
+            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy, new BatchTuner(config, metricsHolder)), metricsHolder,
             new CruiseControlHandler(config, metricsHolder, TopicOperatorUtil.createCruiseControlClient(config)));
         controller.onUpdate(List.of(new ReconcilableTopic(
             new Reconciliation("test", KafkaTopic.RESOURCE_KIND, NAMESPACE, "my-topic"), testTopic, "my-topic")));
@@ -602,7 +603,7 @@ class BatchingTopicControllerTest {
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var controller = new BatchingTopicController(config, Map.of("key", "VALUE"),
             new KubernetesHandler(config, metricsHolder, kubernetesClient),
-            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy), metricsHolder,
+            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy, new BatchTuner(config, metricsHolder)), metricsHolder,
             new CruiseControlHandler(config, metricsHolder, TopicOperatorUtil.createCruiseControlClient(config)));
         controller.onUpdate(List.of(new ReconcilableTopic(new Reconciliation("test", KafkaTopic.RESOURCE_KIND, NAMESPACE, "my-topic"), testTopic, "my-topic")));
 
@@ -676,7 +677,7 @@ class BatchingTopicControllerTest {
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var controller = new BatchingTopicController(config, Map.of("key", "VALUE"),
             new KubernetesHandler(config, metricsHolder, kubernetesClient),
-            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy), metricsHolder,
+            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy, new BatchTuner(config, metricsHolder)), metricsHolder,
             new CruiseControlHandler(config, metricsHolder, TopicOperatorUtil.createCruiseControlClient(config)));
         controller.onUpdate(List.of(new ReconcilableTopic(new Reconciliation("test", KafkaTopic.RESOURCE_KIND, NAMESPACE, "my-topic"), testTopic, "my-topic")));
 
@@ -733,7 +734,7 @@ class BatchingTopicControllerTest {
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var controller = new BatchingTopicController(config, Map.of("key", "VALUE"),
             new KubernetesHandler(config, metricsHolder, kubernetesClient),
-            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy), metricsHolder,
+            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy, new BatchTuner(config, metricsHolder)), metricsHolder,
             new CruiseControlHandler(config, metricsHolder, TopicOperatorUtil.createCruiseControlClient(config)));
         controller.onUpdate(List.of(new ReconcilableTopic(new Reconciliation("test", KafkaTopic.RESOURCE_KIND, NAMESPACE, "my-topic"), testTopic, "my-topic")));
 
@@ -811,7 +812,7 @@ class BatchingTopicControllerTest {
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var controller = new BatchingTopicController(config, Map.of("key", "VALUE"),
             new KubernetesHandler(config, metricsHolder, kubernetesClient),
-            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy), metricsHolder,
+            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy, new BatchTuner(config, metricsHolder)), metricsHolder,
             new CruiseControlHandler(config, metricsHolder, TopicOperatorUtil.createCruiseControlClient(config)));
         controller.onUpdate(List.of(new ReconcilableTopic(new Reconciliation("test", KafkaTopic.RESOURCE_KIND, NAMESPACE, "my-topic"), testTopic, "my-topic")));
 
@@ -857,7 +858,7 @@ class BatchingTopicControllerTest {
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var controller = new BatchingTopicController(config, Map.of("key", "VALUE"),
             new KubernetesHandler(config, metricsHolder, kubernetesClient),
-            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy), metricsHolder,
+            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy, new BatchTuner(config, metricsHolder)), metricsHolder,
             new CruiseControlHandler(config, metricsHolder, TopicOperatorUtil.createCruiseControlClient(config)));
         controller.onUpdate(List.of(new ReconcilableTopic(new Reconciliation("test", KafkaTopic.RESOURCE_KIND, NAMESPACE, "my-topic"), testTopic, "my-topic")));
 
@@ -913,7 +914,7 @@ class BatchingTopicControllerTest {
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var controller = new BatchingTopicController(config, Map.of("key", "VALUE"),
             new KubernetesHandler(config, metricsHolder, kubernetesClient),
-            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy), metricsHolder,
+            new KafkaHandler(config, metricsHolder, kafkaAdminClientSpy, new BatchTuner(config, metricsHolder)), metricsHolder,
             new CruiseControlHandler(config, metricsHolder, TopicOperatorUtil.createCruiseControlClient(config)));
         controller.onUpdate(List.of(new ReconcilableTopic(new Reconciliation("test", KafkaTopic.RESOURCE_KIND, NAMESPACE, "my-topic"), testTopic, "my-topic")));
 
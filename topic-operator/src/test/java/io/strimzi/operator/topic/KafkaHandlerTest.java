@@ -64,9 +64,7 @@ public class KafkaHandlerTest {
         );
         var kafkaAdminClientSpy = spy(Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers())));
 
-        var kafkaHandler = new KafkaHandler(config, 
-            new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry())), 
-            kafkaAdminClientSpy);
+        var kafkaHandler = kafkaHandler(config, kafkaAdminClientSpy);
         var autoCreateValue = kafkaHandler.clusterConfig(KafkaHandler.AUTO_CREATE_TOPICS_ENABLE);
 
         verify(kafkaAdminClientSpy, times(1)).describeCluster(any());
@@ -84,9 +82,7 @@ public class KafkaHandlerTest {
         );
         var kafkaAdminClientSpy = spy(Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers())));
 
-        var kafkaHandler = new KafkaHandler(config,
-            new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry())),
-            kafkaAdminClientSpy);
+        var kafkaHandler = kafkaHandler(config, kafkaAdminClientSpy);
         var reconcilableTopics = List.of(
             TopicOperatorTestUtil.reconcilableTopic(buildTopic("t1", 1, 1), NAMESPACE),
             TopicOperatorTestUtil.reconcilableTopic(buildTopic("t2", 1, 1), NAMESPACE)
@@ -109,9 +105,7 @@ public class KafkaHandlerTest {
         );
         var kafkaAdminClientSpy = spy(Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers())));
 
-        var kafkaHandler = new KafkaHandler(config,
-            new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry())),
-            kafkaAdminClientSpy);
+        var kafkaHandler = kafkaHandler(config, kafkaAdminClientSpy);
 
         // current RF = 2
         var topicName = "my-topic";
@@ -139,9 +133,7 @@ public class KafkaHandlerTest {
         );
         var kafkaAdminClientSpy = spy(Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers())));
 
-        var kafkaHandler = new KafkaHandler(config,
-            new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry())),
-            kafkaAdminClientSpy);
+        var kafkaHandler = kafkaHandler(config, kafkaAdminClientSpy);
         
         List<Pair<ReconcilableTopic, Collection<AlterConfigOp>>> pairs = List.of(
             new Pair(TopicOperatorTestUtil.reconcilableTopic(buildTopic(t1.name(), 1, 1), NAMESPACE), 
@@ -167,9 +159,7 @@ public class KafkaHandlerTest {
         );
         var kafkaAdminClientSpy = spy(Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers())));
 
-        var kafkaHandler = new KafkaHandler(config,
-            new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry())),
-            kafkaAdminClientSpy);
+        var kafkaHandler = kafkaHandler(config, kafkaAdminClientSpy);
         List<Pair<ReconcilableTopic, NewPartitions>> pairs = List.of(
             new Pair(TopicOperatorTestUtil.reconcilableTopic(buildTopic(t1.name(), 1, 1), NAMESPACE), NewPartitions.increaseTo(2)),
             new Pair(TopicOperatorTestUtil.reconcilableTopic(buildTopic(t2.name(), 1, 1), NAMESPACE), NewPartitions.increaseTo(2))
@@ -192,9 +182,7 @@ public class KafkaHandlerTest {
         );
         var kafkaAdminClientSpy = spy(Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers())));
 
-        var kafkaHandler = new KafkaHandler(config,
-            new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry())),
-            kafkaAdminClientSpy);
+        var kafkaHandler = kafkaHandler(config, kafkaAdminClientSpy);
         var reconcilableTopics = List.of(
             TopicOperatorTestUtil.reconcilableTopic(buildTopic(t1.name(), 1, 1), NAMESPACE),
             TopicOperatorTestUtil.reconcilableTopic(buildTopic(t2.name(), 1, 1), NAMESPACE)
@@ -214,6 +202,58 @@ public class KafkaHandlerTest {
         assertThat(t2State.get().description().name(), is(t2.name()));
     }
 
+    @Test
+    public void shouldDescribeOnlyChangedTopicsWhenTopicStateCacheIsEnabled(KafkaCluster cluster, Topic t1, Topic t2) throws Exception {
+        var config = TopicOperatorConfig.buildFromMap(Map.of(
+            TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), cluster.getBootstrapServers(),
+            TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+            TopicOperatorConfig.TOPIC_STATE_CACHE_TTL_MS.key(), "600000")
+        );
+        var kafkaAdminClientSpy = spy(Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers())));
+
+        var kafkaHandler = kafkaHandler(config, kafkaAdminClientSpy);
+        var kt1 = buildTopic(t1.name(), 1, 1);
+        kt1.getMetadata().setGeneration(1L);
+        var kt2 = buildTopic(t2.name(), 1, 1);
+        kt2.getMetadata().setGeneration(1L);
+        var reconcilableTopics = List.of(
+            TopicOperatorTestUtil.reconcilableTopic(kt1, NAMESPACE),
+            TopicOperatorTestUtil.reconcilableTopic(kt2, NAMESPACE)
+        );
+
+        // first reconciliation describes all topics
+        var result = kafkaHandler.describeTopics(reconcilableTopics);
+        assertThat(result.ok().count(), is(2L));
+        verify(kafkaAdminClientSpy, times(1)).describeTopics(anyCollection());
+        verify(kafkaAdminClientSpy, times(1)).describeConfigs(any());
+
+        // unchanged topics are served from the cache
+        result = kafkaHandler.describeTopics(reconcilableTopics);
+        assertThat(result.ok().count(), is(2L));
+        verify(kafkaAdminClientSpy, times(1)).describeTopics(anyCollection());
+        verify(kafkaAdminClientSpy, times(1)).describeConfigs(any());
+        verify(kafkaAdminClientSpy, times(1)).listTopics(any());
+
+        // only the topic with a new generation is described
+        kt2.getMetadata().setGeneration(2L);
+        result = kafkaHandler.describeTopics(reconcilableTopics);
+        assertThat(result.ok().count(), is(2L));
+        verify(kafkaAdminClientSpy, times(2)).describeTopics(anyCollection());
+        verify(kafkaAdminClientSpy, times(1)).describeTopics(Set.of(t2.name()));
+
+        // topics deleted in Kafka are dropped from the cache
+        try (var admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers()))) {
+            admin.deleteTopics(Set.of(t1.name())).all().get();
+            while (admin.listTopics().names().get().contains(t1.name())) {
+                Thread.sleep(100);
+            }
+        }
+        result = kafkaHandler.describeTopics(reconcilableTopics);
+        verify(kafkaAdminClientSpy, times(1)).describeTopics(Set.of(t1.name()));
+        assertThat(result.ok().count(), is(1L));
+        assertThat(result.errors().map(pair -> pair.getKey().topicName()).toList(), is(List.of(t1.name())));
+    }
+
     @Test
     public void shouldDeleteTopics(KafkaCluster cluster, Topic t1, Topic t2, Topic t3) {
         var config = TopicOperatorConfig.buildFromMap(Map.of(
@@ -222,9 +262,7 @@ public class KafkaHandlerTest {
         );
         var kafkaAdminClientSpy = spy(Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers())));
 
-        var kafkaHandler = new KafkaHandler(config,
-            new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry())),
-            kafkaAdminClientSpy);
+        var kafkaHandler = kafkaHandler(config, kafkaAdminClientSpy);
         var reconcilableTopics = List.of(
             TopicOperatorTestUtil.reconcilableTopic(buildTopic(t1.name(), 1, 1), NAMESPACE),
             TopicOperatorTestUtil.reconcilableTopic(buildTopic(t2.name(), 1, 1), NAMESPACE),
@@ -242,6 +280,11 @@ public class KafkaHandlerTest {
         assertThat(resultTopicNames, is(topicNamesToDelete));
     }
 
+    private static KafkaHandler kafkaHandler(TopicOperatorConfig config, Admin kafkaAdminClient) {
+        var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        return new KafkaHandler(config, metricsHolder, kafkaAdminClient, new BatchTuner(config, metricsHolder));
+    }
+
     private KafkaTopic buildTopic(String name, int partitions, int replicas) {
         return new KafkaTopicBuilder()
             .withNewMetadata()
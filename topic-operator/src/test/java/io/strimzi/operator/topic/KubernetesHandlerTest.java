@@ -5,6 +5,9 @@
 package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.common.ConditionBuilder;
@@ -34,6 +37,8 @@ class KubernetesHandlerTest {
 
     private static MockKube3 mockKube;
     private static KubernetesClient kubernetesClient;
+    private TopicOperatorConfig config;
+    private TopicOperatorMetricsHolder metricsHolder;
     private KubernetesHandler kubernetesHandler;
 
     @BeforeAll
@@ -54,11 +59,11 @@ class KubernetesHandlerTest {
 
     @BeforeEach
     public void beforeEach() {
-        var config = TopicOperatorConfig.buildFromMap(Map.of(
+        config = TopicOperatorConfig.buildFromMap(Map.of(
             TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:9092",
             TopicOperatorConfig.NAMESPACE.key(), NAMESPACE
         ));
-        var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, 
+        metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, 
             new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         kubernetesHandler = new KubernetesHandler(config, metricsHolder, kubernetesClient);
     }
@@ -96,6 +101,51 @@ class KubernetesHandlerTest {
         assertTrue(update.getMetadata().getFinalizers().isEmpty());
     }
 
+    @Test
+    public void addFinalizersShouldWork() {
+        var topics = List.of(createTopic("my-topic-1", false), createTopic("my-topic-2", true), createTopic("my-topic-3", false));
+
+        var results = kubernetesHandler.addFinalizers(topics.stream().map(kt -> TopicOperatorTestUtil.reconcilableTopic(kt, NAMESPACE)).toList());
+        assertThat(results.errors().count(), is(0L));
+        results.ok().forEach(pair -> assertThat(pair.getValue().getMetadata().getFinalizers(), is(List.of(KubernetesHandler.FINALIZER_STRIMZI_IO_TO))));
+    }
+
+    @Test
+    public void addFinalizersShouldRetryWithStaleResourceVersion() {
+        var kafkaTopic = createTopic("my-topic", false);
+        TopicOperatorTestUtil.changeTopic(kubernetesClient, kafkaTopic, kt -> {
+            kt.getSpec().setPartitions(3);
+            return kt;
+        });
+
+        var results = kubernetesHandler.addFinalizers(List.of(TopicOperatorTestUtil.reconcilableTopic(kafkaTopic, NAMESPACE)));
+        assertThat(results.errors().count(), is(0L));
+        var update = results.ok().findFirst().orElseThrow().getValue();
+        assertThat(update.getMetadata().getFinalizers(), is(List.of(KubernetesHandler.FINALIZER_STRIMZI_IO_TO)));
+        assertThat(update.getSpec().getPartitions(), is(3));
+    }
+
+    @Test
+    public void removeFinalizersShouldWork() {
+        var topics = List.of(createTopic("my-topic-1", true), createTopic("my-topic-2", false));
+
+        var results = kubernetesHandler.removeFinalizers(topics.stream().map(kt -> TopicOperatorTestUtil.reconcilableTopic(kt, NAMESPACE)).toList());
+        assertThat(results.errors().count(), is(0L));
+        results.ok().forEach(pair -> assertTrue(pair.getValue().getMetadata().getFinalizers().isEmpty()));
+    }
+
+    @Test
+    public void removeFinalizersShouldReturnErrorWhenNotFound() {
+        var kafkaTopic = createTopic("my-topic", true);
+        Crds.topicOperation(kubernetesClient).resource(kafkaTopic).withGracePeriod(0).delete();
+        Crds.topicOperation(kubernetesClient).resource(kafkaTopic).edit(kt -> new KafkaTopicBuilder(kt).editMetadata().withFinalizers().endMetadata().build());
+
+        var results = kubernetesHandler.removeFinalizers(List.of(TopicOperatorTestUtil.reconcilableTopic(kafkaTopic, NAMESPACE)));
+        assertThat(results.ok().count(), is(0L));
+        var error = results.errors().findFirst().orElseThrow().getValue();
+        assertThat(((KubernetesClientException) error.getCause()).getCode(), is(404));
+    }
+
     @Test
     public void shouldNotUpdateStatusWithNoChanges() {
         var kafkaTopic = createTopicWithReadyState("my-topic", Map.of(TopicConfig.RETENTION_MS_CONFIG, "604800000"));
@@ -157,6 +207,85 @@ class KubernetesHandlerTest {
         assertThat(update2.getStatus().getObservedGeneration(), is(2L));
     }
 
+    @Test
+    public void shouldUpdateStatusUsingCachedTopic() {
+        var kafkaTopic = createTopicWithReadyState("my-topic", Map.of(TopicConfig.RETENTION_MS_CONFIG, "604800000"));
+        var change = TopicOperatorTestUtil.changeTopic(kubernetesClient, kafkaTopic, kt -> {
+            kt.getSpec().setPartitions(3);
+            return kt;
+        });
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        itemStore.put(Cache.metaNamespaceKeyFunc(change), change);
+        var cachingHandler = new KubernetesHandler(config, metricsHolder, kubernetesClient, itemStore);
+
+        cachingHandler.updateStatus(TopicOperatorTestUtil.reconcilableTopic(new KafkaTopicBuilder(change).build(), NAMESPACE));
+        var got = Crds.topicOperation(kubernetesClient).resource(change).get();
+        assertThat(got.getStatus().getObservedGeneration(), is(2L));
+        assertThat(metricsHolder.skippedStatusGetsCounter(NAMESPACE).count(), is(1.0));
+    }
+
+    @Test
+    public void shouldUpdateStatusWithStaleCachedTopic() {
+        var kafkaTopic = createTopicWithReadyState("my-topic", Map.of(TopicConfig.RETENTION_MS_CONFIG, "604800000"));
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        itemStore.put(Cache.metaNamespaceKeyFunc(kafkaTopic), kafkaTopic);
+        var cachingHandler = new KubernetesHandler(config, metricsHolder, kubernetesClient, itemStore);
+        var change = TopicOperatorTestUtil.changeTopic(kubernetesClient, kafkaTopic, kt -> {
+            kt.getSpec().setPartitions(3);
+            return kt;
+        });
+
+        // the conditional update conflicts, so the handler falls back to getting the current status
+        cachingHandler.updateStatus(TopicOperatorTestUtil.reconcilableTopic(new KafkaTopicBuilder(change).build(), NAMESPACE));
+        var got = Crds.topicOperation(kubernetesClient).resource(change).get();
+        assertThat(got.getStatus().getObservedGeneration(), is(2L));
+        assertThat(metricsHolder.skippedStatusGetsCounter(NAMESPACE).count(), is(0.0));
+    }
+
+    @Test
+    public void shouldUpdateStatusUsingPatchedFinalizerTopic() {
+        var kafkaTopic = createTopicWithReadyState("my-topic", Map.of(TopicConfig.RETENTION_MS_CONFIG, "604800000"));
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        itemStore.put(Cache.metaNamespaceKeyFunc(kafkaTopic), kafkaTopic);
+        var cachingHandler = new KubernetesHandler(config, metricsHolder, kubernetesClient, itemStore);
+
+        // the item store still has the resourceVersion from before the finalizer was added
+        var results = cachingHandler.addFinalizers(List.of(TopicOperatorTestUtil.reconcilableTopic(kafkaTopic, NAMESPACE)));
+        var withFinalizer = results.ok().findFirst().orElseThrow().getValue();
+        withFinalizer.getStatus().setConditions(List.of(new ConditionBuilder()
+            .withType("Ready")
+            .withStatus("False")
+            .withLastTransitionTime(StatusUtils.iso8601Now())
+            .build()));
+
+        // the conditional update uses the resourceVersion returned by the finalizer update, so it does not conflict
+        cachingHandler.updateStatus(TopicOperatorTestUtil.reconcilableTopic(withFinalizer, NAMESPACE));
+        var got = Crds.topicOperation(kubernetesClient).resource(withFinalizer).get();
+        assertThat(got.getStatus().getConditions().get(0).getStatus(), is("False"));
+        assertThat(metricsHolder.skippedStatusGetsCounter(NAMESPACE).count(), is(1.0));
+    }
+
+    @Test
+    public void shouldUpdateStatusesConcurrently() {
+        var topics = List.of(
+            createTopicWithReadyState("my-topic-1", Map.of(TopicConfig.RETENTION_MS_CONFIG, "604800000")),
+            createTopicWithReadyState("my-topic-2", Map.of(TopicConfig.RETENTION_MS_CONFIG, "604800000")),
+            createTopicWithReadyState("my-topic-3", Map.of(TopicConfig.RETENTION_MS_CONFIG, "604800000")));
+        var changes = topics.stream().map(kt -> TopicOperatorTestUtil.changeTopic(kubernetesClient, kt, changed -> {
+            changed.getSpec().setPartitions(3);
+            return changed;
+        })).toList();
+
+        kubernetesHandler.updateStatuses(changes.stream().map(kt -> TopicOperatorTestUtil.reconcilableTopic(kt, NAMESPACE)).toList());
+        for (var change : changes) {
+            var got = Crds.topicOperation(kubernetesClient).resource(change).get();
+            assertThat(got.getStatus().getObservedGeneration(), is(2L));
+        }
+        assertThat(metricsHolder.updateStatusBatchTopicsCounter(NAMESPACE).count(), is(3.0));
+        // recorded even though the additional metrics are disabled
+        assertThat(metricsHolder.updateStatusBatchTimer(NAMESPACE).count(), is(1L));
+    }
+
     private KafkaTopic createTopic(String name, boolean withFinalizer) {
         var kafkaTopic = new KafkaTopicBuilder()
             .withNewMetadata()
@@ -1285,7 +1285,7 @@ class TopicControllerIT {
             false, "", "", "", "", "",
             false, "", "", "", "", "",
             useFinalizer,
-            100, 100, 10, false, new FeatureGates(""),
+            100, 100, 10, false, 1, 1, 5, 0, 100, false, new FeatureGates(""),
             false, false, "", 9090, false, false, "", "", "",
             "all", false);
     }
@@ -2067,7 +2067,7 @@ class TopicControllerIT {
             false, "", "", "", "", "",
             false, "", "", "", "", "",
             true,
-            1, 100, 5_0000, false, new FeatureGates(""),
+            1, 100, 5_0000, false, 1, 1, 5, 0, 100, false, new FeatureGates(""),
             false, false, "", 9090, false, false, "", "", "",
             "all", false);
 
@@ -0,0 +1,160 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsProvider;
+import io.strimzi.operator.topic.model.TopicEvent;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TopicEventHandlerTest {
+    private static final String NAMESPACE = TopicOperatorTestUtil.namespaceName(TopicEventHandlerTest.class);
+
+    @Test
+    void shouldSkipResyncOfUnchangedTopic() throws ExecutionException {
+        var queue = mock(BatchingLoop.class);
+        var kafkaHandler = mock(KafkaHandler.class);
+        doReturn(Map.of("my-topic", "my-topic-id")).when(kafkaHandler).topicIds();
+        var metricsHolder = metricsHolder();
+        var handler = new TopicEventHandler(config("1"), queue, kafkaHandler, metricsHolder, Runnable::run);
+
+        var kt = readyTopic(1L, "my-topic-id");
+        handler.onAdd(kt);
+        handler.onUpdate(kt, kt);
+
+        verify(kafkaHandler, times(1)).topicIds();
+        verify(queue, times(1)).offer(any(TopicEvent.TopicUpsert.class));
+        assertThat(metricsHolder.skippedResyncsCounter(NAMESPACE).count(), is(1.0));
+    }
+
+    @Test
+    void shouldNotSkipResyncOfChangedTopic() throws ExecutionException {
+        var queue = mock(BatchingLoop.class);
+        var kafkaHandler = mock(KafkaHandler.class);
+        doReturn(Map.of("my-topic", "my-topic-id")).when(kafkaHandler).topicIds();
+        var metricsHolder = metricsHolder();
+        var handler = new TopicEventHandler(config("1"), queue, kafkaHandler, metricsHolder, Runnable::run);
+
+        // the spec changed, but the status was not updated yet
+        var kt = readyTopic(1L, "my-topic-id");
+        handler.onAdd(kt);
+        var changed = new KafkaTopicBuilder(kt).editMetadata().withGeneration(2L).endMetadata()
+            .editSpec().withPartitions(2).endSpec().build();
+        handler.onUpdate(changed, changed);
+
+        // the topic was recreated in Kafka
+        var recreated = readyTopic(1L, "old-topic-id");
+        handler.onAdd(recreated);
+        handler.onUpdate(recreated, recreated);
+
+        verify(queue, times(4)).offer(any(TopicEvent.TopicUpsert.class));
+        assertThat(metricsHolder.skippedResyncsCounter(NAMESPACE).count(), is(0.0));
+    }
+
+    @Test
+    void shouldNotSkipResyncWhenListingTopicsFails() throws ExecutionException {
+        var queue = mock(BatchingLoop.class);
+        var kafkaHandler = mock(KafkaHandler.class);
+        doThrow(new ExecutionException(new TimeoutException())).when(kafkaHandler).topicIds();
+        var handler = new TopicEventHandler(config("1"), queue, kafkaHandler, metricsHolder(), Runnable::run);
+
+        var kt = readyTopic(1L, "my-topic-id");
+        handler.onAdd(kt);
+        handler.onUpdate(kt, kt);
+
+        verify(queue, times(2)).offer(any(TopicEvent.TopicUpsert.class));
+    }
+
+    @Test
+    void shouldDecideResyncsReceivedWhileListingTopics() throws ExecutionException {
+        var queue = mock(BatchingLoop.class);
+        var kafkaHandler = mock(KafkaHandler.class);
+        doReturn(Map.of("my-topic", "my-topic-id")).when(kafkaHandler).topicIds();
+        var metricsHolder = metricsHolder();
+        List<Runnable> listings = new ArrayList<>();
+        var handler = new TopicEventHandler(config("1"), queue, kafkaHandler, metricsHolder, listings::add);
+
+        var kt = readyTopic(1L, "my-topic-id");
+        handler.onAdd(kt);
+        // the informer thread does not wait for the topics to be listed
+        handler.onUpdate(kt, kt);
+        verify(kafkaHandler, never()).topicIds();
+        verify(queue, times(1)).offer(any(TopicEvent.TopicUpsert.class));
+        assertThat(listings.size(), is(1));
+
+        listings.get(0).run();
+        verify(kafkaHandler, times(1)).topicIds();
+        verify(queue, times(1)).offer(any(TopicEvent.TopicUpsert.class));
+        assertThat(metricsHolder.skippedResyncsCounter(NAMESPACE).count(), is(1.0));
+    }
+
+    @Test
+    void shouldNotSkipResyncByDefault() throws ExecutionException {
+        var queue = mock(BatchingLoop.class);
+        var kafkaHandler = mock(KafkaHandler.class);
+        var handler = new TopicEventHandler(config("100"), queue, kafkaHandler, metricsHolder(), Runnable::run);
+
+        var kt = readyTopic(1L, "my-topic-id");
+        handler.onAdd(kt);
+        handler.onUpdate(kt, kt);
+
+        verify(kafkaHandler, never()).topicIds();
+        verify(queue, times(2)).offer(any(TopicEvent.TopicUpsert.class));
+    }
+
+    private static TopicOperatorConfig config(String samplePercentage) {
+        return TopicOperatorConfig.buildFromMap(Map.of(
+            TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+            TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+            TopicOperatorConfig.FULL_RECONCILIATION_SAMPLE_PERCENTAGE.key(), samplePercentage)
+        );
+    }
+
+    private static TopicOperatorMetricsHolder metricsHolder() {
+        return new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+    }
+
+    private static KafkaTopic readyTopic(long generation, String topicId) {
+        return new KafkaTopicBuilder()
+            .withNewMetadata()
+                .withName("my-topic")
+                .withNamespace(NAMESPACE)
+                .withGeneration(generation)
+            .endMetadata()
+            .withNewSpec()
+                .withPartitions(1)
+                .withReplicas(1)
+            .endSpec()
+            .withNewStatus()
+                .withObservedGeneration(1L)
+                .withTopicName("my-topic")
+                .withTopicId(topicId)
+                .addNewCondition()
+                    .withType("Ready")
+                    .withStatus("True")
+                .endCondition()
+            .endStatus()
+            .build();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsProvider;
+import io.strimzi.operator.topic.model.KubeRef;
+import io.strimzi.operator.topic.model.TopicEvent;
+import io.strimzi.operator.topic.model.TopicEvent.TopicDelete;
+import io.strimzi.operator.topic.model.TopicEvent.TopicUpsert;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class TopicEventQueueTest {
+    private static final String NAMESPACE = TopicOperatorTestUtil.namespaceName(TopicEventQueueTest.class);
+
+    @Test
+    void shouldCoalesceEventsOfTheSameKind() throws InterruptedException {
+        var metricsHolder = metricsHolder();
+        var queue = new TopicEventQueue(10, NAMESPACE, metricsHolder);
+
+        assertThat(queue.offer(new TopicUpsert(0, NAMESPACE, "t1", "1")), is(true));
+        assertThat(queue.offer(new TopicUpsert(0, NAMESPACE, "t1", "2")), is(true));
+        assertThat(queue.offer(new TopicUpsert(0, NAMESPACE, "t2", "1")), is(true));
+        assertThat(queue.size(), is(2));
+        assertThat(metricsHolder.coalescedEventsCounter(NAMESPACE).count(), is(1.0));
+
+        var first = (TopicUpsert) queue.poll(0, TimeUnit.MILLISECONDS);
+        assertThat(first.name(), is("t1"));
+        assertThat(first.resourceVersion(), is("2"));
+        assertThat(((TopicUpsert) queue.poll(0, TimeUnit.MILLISECONDS)).name(), is("t2"));
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS), is(nullValue()));
+    }
+
+    @Test
+    void shouldHoldEventsWhileInFlight() throws InterruptedException {
+        var metricsHolder = metricsHolder();
+        var queue = new TopicEventQueue(10, NAMESPACE, metricsHolder);
+
+        queue.offer(new TopicUpsert(0, NAMESPACE, "t1", "1"));
+        var claimed = queue.poll(0, TimeUnit.MILLISECONDS);
+
+        // events for an inflight topic are held, not coalesced with the inflight one
+        queue.offer(new TopicUpsert(0, NAMESPACE, "t1", "2"));
+        queue.offer(new TopicDelete(0, kafkaTopic("t1")));
+        assertThat(metricsHolder.lockedReconciliationsCounter(NAMESPACE).count(), is(2.0));
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS), is(nullValue()));
+
+        // releasing the topic makes the held events available, in order
+        queue.complete(claimed.toRef());
+        assertThat(((TopicUpsert) queue.poll(0, TimeUnit.MILLISECONDS)).resourceVersion(), is("2"));
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS), is(nullValue()));
+        queue.complete(claimed.toRef());
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS), instanceOf(TopicDelete.class));
+        queue.complete(claimed.toRef());
+        assertThat(queue.size(), is(0));
+    }
+
+    @Test
+    void shouldRejectWhenFull() {
+        var queue = new TopicEventQueue(2, NAMESPACE, metricsHolder());
+
+        assertThat(queue.offer(new TopicUpsert(0, NAMESPACE, "t1", "1")), is(true));
+        assertThat(queue.offer(new TopicUpsert(0, NAMESPACE, "t2", "1")), is(true));
+        // coalesced events don't need space in the queue
+        assertThat(queue.offer(new TopicUpsert(0, NAMESPACE, "t2", "2")), is(true));
+        assertThat(queue.offer(new TopicUpsert(0, NAMESPACE, "t3", "1")), is(false));
+    }
+
+    @Test
+    void shouldNeverClaimTheSameTopicConcurrently() throws InterruptedException {
+        var queue = new TopicEventQueue(100_000, NAMESPACE, metricsHolder());
+        int numTopics = 50;
+        int numEvents = 20_000;
+        int numThreads = 4;
+        Set<KubeRef> inFlight = ConcurrentHashMap.newKeySet();
+        var violations = new AtomicInteger();
+        var claimed = new AtomicInteger();
+        var done = new CountDownLatch(numThreads);
+
+        for (int i = 0; i < numThreads; i++) {
+            new Thread(() -> {
+                try {
+                    TopicEvent event;
+                    while ((event = queue.poll(500, TimeUnit.MILLISECONDS)) != null) {
+                        if (!inFlight.add(event.toRef())) {
+                            violations.incrementAndGet();
+                        }
+                        claimed.incrementAndGet();
+                        inFlight.remove(event.toRef());
+                        queue.complete(event.toRef());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        var names = new HashSet<String>();
+        for (int i = 0; i < numEvents; i++) {
+            var name = "t" + (i % numTopics);
+            names.add(name);
+            queue.offer(new TopicUpsert(0, NAMESPACE, name, String.valueOf(i)));
+        }
+
+        assertThat(done.await(30, TimeUnit.SECONDS), is(true));
+        assertThat(violations.get(), is(0));
+        assertThat(queue.size(), is(0));
+        assertThat(claimed.get() >= names.size(), is(true));
+    }
+
+    private static TopicOperatorMetricsHolder metricsHolder() {
+        return new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+    }
+
+    private static KafkaTopic kafkaTopic(String name) {
+        return new KafkaTopicBuilder()
+            .withNewMetadata()
+                .withName(name)
+                .withNamespace(NAMESPACE)
+            .endMetadata()
+            .build();
+    }
+}
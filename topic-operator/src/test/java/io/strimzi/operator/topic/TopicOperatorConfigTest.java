@@ -162,6 +162,41 @@ class TopicOperatorConfigTest {
         assertEquals("Invalid SASL_MECHANISM type: scram-sha-511", e.getMessage());
     }
 
+    @Test
+    void shouldRejectInvalidFullReconciliationSamplePercentage() {
+        var e = assertThrows(InvalidConfigurationException.class, () -> TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+                TopicOperatorConfig.FULL_RECONCILIATION_SAMPLE_PERCENTAGE.key(), "101")));
+        assertEquals("Failed to parse. Value 101 is not a percentage between 1 and 100", e.getMessage());
+
+        // with 0 no unchanged topic would ever be fully reconciled again
+        e = assertThrows(InvalidConfigurationException.class, () -> TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+                TopicOperatorConfig.FULL_RECONCILIATION_SAMPLE_PERCENTAGE.key(), "0")));
+        assertEquals("Failed to parse. Value 0 is not a percentage between 1 and 100", e.getMessage());
+    }
+
+    @Test
+    void shouldConfigureMaxKubernetesRequestConcurrency() {
+        var defaultConfig = TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), NAMESPACE));
+        assertEquals(5, defaultConfig.maxKubernetesRequestConcurrency());
+
+        var config = TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+                "STRIMZI_MAX_KUBERNETES_REQUEST_CONCURRENCY", "10"));
+        assertEquals(10, config.maxKubernetesRequestConcurrency());
+
+        assertThrows(InvalidConfigurationException.class, () -> TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+                TopicOperatorConfig.MAX_KUBERNETES_REQUEST_CONCURRENCY.key(), "0")));
+    }
+
     void saslScramSha(int bits) {
         // given
         var config = TopicOperatorConfig.buildFromMap(Map.of(
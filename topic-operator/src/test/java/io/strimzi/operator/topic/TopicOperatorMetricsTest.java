@@ -87,7 +87,7 @@ public class TopicOperatorMetricsTest {
             TopicOperatorConfig.NAMESPACE.key(), NAMESPACE)
         );
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
-        var eventHandler = new TopicEventHandler(config, mock(BatchingLoop.class), metricsHolder);
+        var eventHandler = new TopicEventHandler(config, mock(BatchingLoop.class), mock(KafkaHandler.class), metricsHolder);
 
         var numOfTestResources = 100;
         for (int i = 0; i < numOfTestResources; i++) {
@@ -124,7 +124,7 @@ public class TopicOperatorMetricsTest {
             TopicOperatorConfig.MAX_BATCH_LINGER_MS.key(), String.valueOf(MAX_BATCH_LINGER_MS)
         ));
         var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
-        var batchingLoop = new BatchingLoop(config, mock(BatchingTopicController.class), 1, mock(ItemStore.class), mock(Runnable.class), metricsHolder);
+        var batchingLoop = new BatchingLoop(config, mock(BatchingTopicController.class), 1, mock(ItemStore.class), mock(Runnable.class), metricsHolder, new BatchTuner(config, metricsHolder));
         batchingLoop.start();
         
         int numOfTestResources = 100;
@@ -140,7 +140,35 @@ public class TopicOperatorMetricsTest {
         assertMetricMatches(metricsHolder, TopicOperatorMetricsHolder.METRICS_RECONCILIATIONS_MAX_QUEUE_SIZE, "gauge", lessThanOrEqualTo(Double.valueOf(MAX_QUEUE_SIZE)));
         assertMetricMatches(metricsHolder, TopicOperatorMetricsHolder.METRICS_RECONCILIATIONS_MAX_BATCH_SIZE, "gauge", greaterThan(0.0));
         assertMetricMatches(metricsHolder, TopicOperatorMetricsHolder.METRICS_RECONCILIATIONS_MAX_BATCH_SIZE, "gauge", lessThanOrEqualTo(Double.valueOf(MAX_BATCH_SIZE)));
-        assertMetricMatches(metricsHolder, MetricsHolder.METRICS_RECONCILIATIONS_LOCKED, "counter", greaterThan(0.0));
+        // a repeated event for t0 is held while t0 is inflight, coalesced with a pending event,
+        // or neither when the previous one was already reconciled, depending on the timing of the loop threads
+        var lockedOrCoalesced = metricsHolder.lockedReconciliationsCounter(NAMESPACE).count()
+            + metricsHolder.coalescedEventsCounter(NAMESPACE).count();
+        assertThat(lockedOrCoalesced, greaterThan(0.0));
+        assertThat(lockedOrCoalesced, lessThanOrEqualTo(Double.valueOf(numOfTestResources / 2 - 1)));
+        batchingLoop.stop();
+    }
+
+    @Test
+    public void batchingLoopCoalescedEventsMetric() throws InterruptedException {
+        var config = TopicOperatorConfig.buildFromMap(Map.of(
+            TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:9092",
+            TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+            TopicOperatorConfig.MAX_QUEUE_SIZE.key(), String.valueOf(MAX_QUEUE_SIZE)
+        ));
+        var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        var batchingLoop = new BatchingLoop(config, mock(BatchingTopicController.class), 1, mock(ItemStore.class), mock(Runnable.class), metricsHolder, new BatchTuner(config, metricsHolder));
+
+        // the loop is not started yet, so all the repeated events are pending and coalesced
+        int numOfEvents = 10;
+        for (int i = 0; i < numOfEvents; i++) {
+            batchingLoop.offer(new TopicUpsert(0, NAMESPACE, "t0", "10010" + i));
+        }
+
+        assertThat(metricsHolder.coalescedEventsCounter(NAMESPACE).count(), is(Double.valueOf(numOfEvents - 1)));
+        assertThat(metricsHolder.lockedReconciliationsCounter(NAMESPACE).count(), is(0.0));
+        assertMetricMatches(metricsHolder, TopicOperatorMetricsHolder.METRICS_RECONCILIATIONS_MAX_QUEUE_SIZE, "gauge", is(1.0));
+        batchingLoop.start();
         batchingLoop.stop();
     }
 
@@ -167,7 +195,7 @@ public class TopicOperatorMetricsTest {
             new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var controller = new BatchingTopicController(config, Map.of("key", "VALUE"),
             new KubernetesHandler(config, metricsHolder, kubernetesClient),
-            new KafkaHandler(config, metricsHolder, kafkaAdminClient),
+            new KafkaHandler(config, metricsHolder, kafkaAdminClient, new BatchTuner(config, metricsHolder)),
             metricsHolder,
             new CruiseControlHandler(config, metricsHolder, cruiseControlClient));
 
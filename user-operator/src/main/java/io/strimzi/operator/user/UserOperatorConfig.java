@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.config.ConfigParameter;
 import io.strimzi.operator.common.featuregates.FeatureGates;
 import io.strimzi.operator.common.model.Labels;
@@ -16,6 +17,7 @@ import java.util.Properties;
 import java.util.Set;
 
 import static io.strimzi.operator.common.config.ConfigParameterParser.BOOLEAN;
+import static io.strimzi.operator.common.config.ConfigParameterParser.CERT_MANAGER_TYPE;
 import static io.strimzi.operator.common.config.ConfigParameterParser.INTEGER;
 import static io.strimzi.operator.common.config.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.config.ConfigParameterParser.LONG;
@@ -81,6 +83,10 @@ public class UserOperatorConfig {
      * How long before the certificate expiration should the user certificate be renewed
      */
     public static final ConfigParameter<Integer> CERTS_RENEWAL_DAYS = new ConfigParameter<>("STRIMZI_CA_RENEWAL", strictlyPositive(INTEGER), "30", CONFIG_VALUES);
+    /**
+     * Cert Manager implementation used to issue the user certificates (openssl or bouncycastle)
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER = new ConfigParameter<>("STRIMZI_CERT_MANAGER_TYPE", CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
     /**
      * Length used for the Scram-Sha Password
      */
@@ -105,6 +111,18 @@ public class UserOperatorConfig {
      * Refresh interval for the cache storing the resources from the Kafka Admin API
      */
     public static final ConfigParameter<Long> CACHE_REFRESH_INTERVAL_MS = new ConfigParameter<>("STRIMZI_CACHE_REFRESH_INTERVAL_MS", LONG, "15000", CONFIG_VALUES);
+    /**
+     * Refresh interval for the ACL cache. Defaults to the STRIMZI_CACHE_REFRESH_INTERVAL_MS value when not set.
+     */
+    public static final ConfigParameter<Long> ACL_CACHE_REFRESH_INTERVAL_MS = new ConfigParameter<>("STRIMZI_ACL_CACHE_REFRESH_INTERVAL_MS", strictlyPositive(LONG), null, CONFIG_VALUES);
+    /**
+     * Refresh interval for the Quotas cache. Defaults to the STRIMZI_CACHE_REFRESH_INTERVAL_MS value when not set.
+     */
+    public static final ConfigParameter<Long> QUOTAS_CACHE_REFRESH_INTERVAL_MS = new ConfigParameter<>("STRIMZI_QUOTAS_CACHE_REFRESH_INTERVAL_MS", strictlyPositive(LONG), null, CONFIG_VALUES);
+    /**
+     * Refresh interval for the SCRAM-SHA credentials cache. Defaults to the STRIMZI_CACHE_REFRESH_INTERVAL_MS value when not set.
+     */
+    public static final ConfigParameter<Long> SCRAM_SHA_CACHE_REFRESH_INTERVAL_MS = new ConfigParameter<>("STRIMZI_SCRAM_SHA_CACHE_REFRESH_INTERVAL_MS", strictlyPositive(LONG), null, CONFIG_VALUES);
     /**
      * Maximal queue for requests when micro-batching the Kafka Admin API requests
      */
@@ -330,6 +348,32 @@ public class UserOperatorConfig {
         return get(CACHE_REFRESH_INTERVAL_MS);
     }
 
+    /**
+     * @return  Refresh interval for the ACL cache
+     */
+    public long getAclCacheRefresh() {
+        return getCacheRefreshOrDefault(ACL_CACHE_REFRESH_INTERVAL_MS);
+    }
+
+    /**
+     * @return  Refresh interval for the Quotas cache
+     */
+    public long getQuotasCacheRefresh() {
+        return getCacheRefreshOrDefault(QUOTAS_CACHE_REFRESH_INTERVAL_MS);
+    }
+
+    /**
+     * @return  Refresh interval for the SCRAM-SHA credentials cache
+     */
+    public long getScramShaCacheRefresh() {
+        return getCacheRefreshOrDefault(SCRAM_SHA_CACHE_REFRESH_INTERVAL_MS);
+    }
+
+    private long getCacheRefreshOrDefault(ConfigParameter<Long> refreshInterval) {
+        Long value = get(refreshInterval);
+        return value != null ? value : getCacheRefresh();
+    }
+
     /**
      * @return  Maximal queue for requests when micro-batching the Kafka Admin API requests
      */
@@ -372,6 +416,13 @@ public class UserOperatorConfig {
         return get(CERTS_RENEWAL_DAYS);
     }
 
+    /**
+     * @return The Cert Manager implementation used to issue the user certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER);
+    }
+
     /**
      * @return  Feature gates configuration
      */
@@ -394,6 +445,7 @@ public class UserOperatorConfig {
                 "\n\tsecretPrefix='" + getSecretPrefix() + '\'' +
                 "\n\tclientsCaValidityDays=" + getClientsCaValidityDays() +
                 "\n\tclientsCaRenewalDays=" + getClientsCaRenewalDays() +
+                "\n\tcertManagerType=" + getCertManagerType() +
                 "\n\taclsAdminApiSupported=" + isAclsAdminApiSupported() +
                 "\n\tscramPasswordLength=" + getScramPasswordLength() +
                 "\n\tmaintenanceWindows=`" + getMaintenanceWindows() + '\'' +
@@ -402,6 +454,9 @@ public class UserOperatorConfig {
                 "\n\tworkQueueSize=" + getWorkQueueSize() +
                 "\n\tcontrollerThreadPoolSize=" + getControllerThreadPoolSize() +
                 "\n\tcacheRefresh=" + getCacheRefresh() +
+                "\n\taclCacheRefresh=" + getAclCacheRefresh() +
+                "\n\tquotasCacheRefresh=" + getQuotasCacheRefresh() +
+                "\n\tscramShaCacheRefresh=" + getScramShaCacheRefresh() +
                 "\n\tbatchQueueSize=" + getBatchQueueSize() +
                 "\n\tbatchMaxBlockSize=" + getBatchMaxBlockSize() +
                 "\n\tbatchMaxBlockTime=" + getBatchMaxBlockTime() +
@@ -47,7 +47,7 @@ public class QuotasOperator implements AdminApiOperator<KafkaUserQuotas, Set<Str
         this.executor = executor;
 
         // Create cache for querying the Quotas locally
-        this.cache = new QuotasCache(adminClient, config.getCacheRefresh());
+        this.cache = new QuotasCache(adminClient, config.getQuotasCacheRefresh());
 
         // Create micro-batching reconcilers for managing the quotas
         this.patchReconciler = new QuotasBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
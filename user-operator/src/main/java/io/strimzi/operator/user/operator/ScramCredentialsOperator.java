@@ -53,7 +53,7 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
         this.executor = executor;
 
         // Create cache for querying the SCRAM-SHA Credentials locally
-        this.cache = new ScramShaCredentialsCache(adminClient, config.getCacheRefresh());
+        this.cache = new ScramShaCredentialsCache(adminClient, config.getScramShaCacheRefresh());
 
         // Create micro-batching reconciler for updating the SCRAM-SHA credentials
         this.patchReconciler = new ScramShaCredentialsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
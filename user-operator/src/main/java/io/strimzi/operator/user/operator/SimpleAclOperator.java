@@ -53,7 +53,7 @@ public class SimpleAclOperator implements AdminApiOperator<Set<SimpleAclRule>, S
         this.executor = executor;
 
         // Create cache for querying the ACLs locally
-        this.cache = new AclCache(adminClient, config.getCacheRefresh());
+        this.cache = new AclCache(adminClient, config.getAclCacheRefresh());
 
         // Create micro-batching reconcilers for managing the ACLs
         this.addReconciler = new AddAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
@@ -8,15 +8,24 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Enumeration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Abstract cache provides a periodically refreshed cache. The cache is based around ConcurrentHashMap and a scheduled
  * periodical timer which regularly updates the cache. It also provides method to access the cache and its data.
  *
+ * The periodical refresh does not replace the ConcurrentHashMap. It compares the freshly loaded data with the cache
+ * and updates only the entries which changed. Entries updated through {@link #put(String, Object)} or
+ * {@link #remove(String)} while the refresh is running are left untouched, because the freshly loaded data might
+ * already be outdated for them. When the refresh fails, the cache keeps its previous content.
+ *
  * @param <T> Type of the resource that will be cached
  */
 public abstract class AbstractCache<T> {
@@ -26,6 +35,8 @@ public abstract class AbstractCache<T> {
     private final ScheduledExecutorService scheduledExecutor;
 
     private volatile ConcurrentHashMap<String, T> cache = null;
+    private volatile boolean refreshing = false;
+    private final Set<String> updatedDuringRefresh = ConcurrentHashMap.newKeySet();
 
     /**
      * Constructs the abstract cache
@@ -41,9 +52,9 @@ public abstract class AbstractCache<T> {
     /**
      * Method for loading the data into the cache. This method is implemented by the different cache implementations.
      *
-     * @return  New map with the latest data
+     * @return  Map with the latest data
      */
-    protected abstract ConcurrentHashMap<String, T> loadCache();
+    protected abstract Map<String, T> loadCache();
 
     /**
      * Retrieves a value from the cache for given key.
@@ -82,7 +93,10 @@ public abstract class AbstractCache<T> {
         if (cache == null)  {
             throw new RuntimeException(this.getClass().getSimpleName() + " is not ready!");
         } else {
-            cache.put(key, value);
+            cache.compute(key, (k, oldValue) -> {
+                markUpdated(k);
+                return value;
+            });
         }
     }
 
@@ -95,7 +109,10 @@ public abstract class AbstractCache<T> {
         if (cache == null)  {
             throw new RuntimeException(this.getClass().getSimpleName() + " is not ready!");
         } else {
-            cache.remove(key);
+            cache.compute(key, (k, oldValue) -> {
+                markUpdated(k);
+                return null;
+            });
         }
     }
 
@@ -139,17 +156,78 @@ public abstract class AbstractCache<T> {
         cache = null;
     }
 
+    /**
+     * Records that the key was updated while the cache is being refreshed, so that the refresh does not overwrite it
+     * with possibly outdated data. This is called from within the compute method of the key, like the refresh
+     * checks it, so that an update cannot happen between the refresh checking the key and changing its value.
+     *
+     * @param key   The key which was updated
+     */
+    private void markUpdated(String key)    {
+        if (refreshing) {
+            updatedDuringRefresh.add(key);
+        }
+    }
+
     /**
      * Called periodically to update the cache
      */
-    private void updateCache()  {
+    /* test */ void updateCache()  {
         try {
             LOGGER.debug("Starting update of {}", this.getClass().getSimpleName());
-            cache = loadCache();
-            LOGGER.debug("{} updated", this.getClass().getSimpleName());
+            updatedDuringRefresh.clear();
+            refreshing = true;
+
+            Map<String, T> latest = loadCache();
+            ConcurrentHashMap<String, T> current = cache;
+
+            if (current == null) {
+                cache = new ConcurrentHashMap<>(latest);
+            } else {
+                int changed = applyChanges(current, latest);
+                LOGGER.debug("{} updated with {} changed entries", this.getClass().getSimpleName(), changed);
+            }
         } catch (Exception e)   {
-            LOGGER.error("{} failed to update", this.getClass().getSimpleName(), e);
-            cache = null; // Reset the cache
+            LOGGER.error("{} failed to update and will keep the previous data", this.getClass().getSimpleName(), e);
+        } finally {
+            refreshing = false;
+            updatedDuringRefresh.clear();
         }
     }
+
+    /**
+     * Updates the current cache in place to match the latest data
+     *
+     * @param current   The current cache
+     * @param latest    The latest data
+     *
+     * @return  Number of entries which were added, updated or removed
+     */
+    private int applyChanges(ConcurrentHashMap<String, T> current, Map<String, T> latest) {
+        AtomicInteger changed = new AtomicInteger(0);
+
+        for (Map.Entry<String, T> entry : latest.entrySet()) {
+            current.compute(entry.getKey(), (key, value) -> {
+                if (updatedDuringRefresh.contains(key) || Objects.equals(value, entry.getValue())) {
+                    return value;
+                } else {
+                    changed.incrementAndGet();
+                    return entry.getValue();
+                }
+            });
+        }
+
+        for (String key : current.keySet()) {
+            current.computeIfPresent(key, (k, value) -> {
+                if (latest.containsKey(k) || updatedDuringRefresh.contains(k)) {
+                    return value;
+                } else {
+                    changed.incrementAndGet();
+                    return null;
+                }
+            });
+        }
+
+        return changed.get();
+    }
 }
@@ -15,9 +15,10 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -44,10 +45,10 @@ public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
     /**
      * Loads the ACL rules from Kafka for all users
      *
-     * @return  ConcurrentHashMap with all users and their ACLs
+     * @return  Map with all users and their ACLs
      */
     @Override
-    protected ConcurrentHashMap<String, Set<SimpleAclRule>> loadCache() {
+    protected Map<String, Set<SimpleAclRule>> loadCache() {
         KafkaFuture<Collection<AclBinding>> futureAcls = adminClient.describeAcls(AclBindingFilter.ANY).values();
 
         try {
@@ -55,7 +56,7 @@ public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
             // Each user can have multiple ACL rules. So the size of the map will not directly correspond to the number
             // of rules. But we size it for 3-5 rules per user to give us at least some start and have some better
             // initial size than Java's default
-            ConcurrentHashMap<String, Set<SimpleAclRule>> map = new ConcurrentHashMap<>(aclsBindings.size() / 3);
+            Map<String, Set<SimpleAclRule>> map = new HashMap<>(aclsBindings.size() / 3);
 
             for (AclBinding aclBinding : aclsBindings) {
                 KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
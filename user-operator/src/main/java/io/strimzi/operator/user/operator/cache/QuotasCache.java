@@ -13,8 +13,8 @@ import org.apache.kafka.common.quota.ClientQuotaFilter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -41,15 +41,15 @@ public class QuotasCache extends AbstractCache<KafkaUserQuotas> {
     /**
      * Loads the Quotas from Kafka for all users
      *
-     * @return  ConcurrentHashMap with all users and their Quotas
+     * @return  Map with all users and their Quotas
      */
     @Override
-    protected ConcurrentHashMap<String, KafkaUserQuotas> loadCache() {
+    protected Map<String, KafkaUserQuotas> loadCache() {
         KafkaFuture<Map<ClientQuotaEntity, Map<String, Double>>> futureQuotas = adminClient.describeClientQuotas(ClientQuotaFilter.all()).entities();
 
         try {
             Map<ClientQuotaEntity, Map<String, Double>> quotas = futureQuotas.get(1, TimeUnit.MINUTES);
-            ConcurrentHashMap<String, KafkaUserQuotas> map = new ConcurrentHashMap<>((int) (quotas.size() / 0.75f));
+            Map<String, KafkaUserQuotas> map = new HashMap<>((int) (quotas.size() / 0.75f));
 
             for (Map.Entry<ClientQuotaEntity, Map<String, Double>> entry : quotas.entrySet()) {
                 // We have to check if the ClientQuotaEntity.USER value is not null, because the entries might contain
@@ -9,8 +9,9 @@ import org.apache.kafka.common.KafkaFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -39,15 +40,15 @@ public class ScramShaCredentialsCache extends AbstractCache<Boolean> {
     /**
      * Loads the SCRAM-SHA credentials from Kafka for all users
      *
-     * @return  ConcurrentHashMap with Boolean values indicating if the user has SCRAM-SHA credentials set.
+     * @return  Map with Boolean values indicating if the user has SCRAM-SHA credentials set.
      */
     @Override
-    protected ConcurrentHashMap<String, Boolean> loadCache() {
+    protected Map<String, Boolean> loadCache() {
         KafkaFuture<List<String>> futureUsers = adminClient.describeUserScramCredentials().users();
 
         try {
             List<String> users = futureUsers.get(1, TimeUnit.MINUTES);
-            ConcurrentHashMap<String, Boolean> map = new ConcurrentHashMap<>((int) (users.size() / 0.75f));
+            Map<String, Boolean> map = new HashMap<>((int) (users.size() / 0.75f));
             users.forEach(u -> map.put(u, true));
             return map;
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.featuregates.FeatureGates;
 import io.strimzi.operator.common.model.Labels;
@@ -60,6 +61,9 @@ public class UserOperatorConfigTest {
         assertThat(config.getWorkQueueSize(), is(1_024));
         assertThat(config.getControllerThreadPoolSize(), is(50));
         assertThat(config.getCacheRefresh(), is(15_000L));
+        assertThat(config.getAclCacheRefresh(), is(15_000L));
+        assertThat(config.getQuotasCacheRefresh(), is(15_000L));
+        assertThat(config.getScramShaCacheRefresh(), is(15_000L));
         assertThat(config.getBatchQueueSize(), is(1_024));
         assertThat(config.getBatchMaxBlockSize(), is(100));
         assertThat(config.getBatchMaxBlockTime(), is(100));
@@ -67,6 +71,23 @@ public class UserOperatorConfigTest {
         assertThat(config.featureGates(), is(new FeatureGates("")));
     }
 
+    @Test
+    public void testPerCacheRefreshIntervals()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.put(UserOperatorConfig.CACHE_REFRESH_INTERVAL_MS.key(), "30000");
+        envVars.put(UserOperatorConfig.ACL_CACHE_REFRESH_INTERVAL_MS.key(), "120000");
+        envVars.put(UserOperatorConfig.SCRAM_SHA_CACHE_REFRESH_INTERVAL_MS.key(), "5000");
+
+        UserOperatorConfig config = UserOperatorConfig.buildFromMap(envVars);
+        assertThat(config.getCacheRefresh(), is(30_000L));
+        assertThat(config.getAclCacheRefresh(), is(120_000L));
+        assertThat(config.getQuotasCacheRefresh(), is(30_000L));
+        assertThat(config.getScramShaCacheRefresh(), is(5_000L));
+
+        envVars.put(UserOperatorConfig.QUOTAS_CACHE_REFRESH_INTERVAL_MS.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
     @Test
     public void testFromMapNamespaceEnvVarMissingThrows()  {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
@@ -241,4 +262,17 @@ public class UserOperatorConfigTest {
         InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
         assertThat(e.getMessage(), is("Unknown feature gate NonExistingGate found in the configuration"));
     }
+
+    @Test
+    public void testCertManagerType()    {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        envVars.put(UserOperatorConfig.CERT_MANAGER.key(), "BouncyCastle");
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getCertManagerType(), is(CertManagerType.BOUNCYCASTLE));
+
+        envVars.put(UserOperatorConfig.CERT_MANAGER.key(), "keytool");
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+        assertThat(e.getMessage(), is("Failed to parse. Value keytool is not a valid Cert Manager type. Valid values are openssl, bouncycastle"));
+    }
 }
@@ -7,15 +7,19 @@ package io.strimzi.operator.user.operator.cache;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 
 public class AbstractCacheTest {
-    private CountDownLatch reload;
+    private volatile CountDownLatch reload;
 
     @Test
     public void testCache() throws InterruptedException {
@@ -50,7 +54,9 @@ public class AbstractCacheTest {
         assertThat(cache.get("two"), is(nullValue()));
         assertThat(cache.get("three"), is(true));
 
-        // Wait for cache refresh
+        // Wait for cache refresh. The first refresh might have been running during the updates and keep them, so
+        // we wait for two refreshes to complete.
+        reload = new CountDownLatch(2);
         reload.await();
 
         // Check refreshed values
@@ -71,6 +77,95 @@ public class AbstractCacheTest {
         assertThat(e.getMessage(), is("TestCache is not ready!"));
     }
 
+    @Test
+    public void testRefreshUpdatesCacheInPlace() {
+        Map<String, Boolean> data = new HashMap<>(Map.of("one", true, "two", true));
+        AbstractCache<Boolean> cache = new MapCache(data);
+
+        cache.updateCache();
+        assertThat(Collections.list(cache.keys()), containsInAnyOrder("one", "two"));
+
+        data.remove("two");
+        data.put("one", false);
+        data.put("three", true);
+        cache.updateCache();
+
+        assertThat(Collections.list(cache.keys()), containsInAnyOrder("one", "three"));
+        assertThat(cache.get("one"), is(false));
+        assertThat(cache.get("two"), is(nullValue()));
+        assertThat(cache.get("three"), is(true));
+    }
+
+    @Test
+    public void testFailedRefreshKeepsCache() {
+        Map<String, Boolean> data = new HashMap<>(Map.of("one", true));
+        MapCache cache = new MapCache(data);
+
+        // The cache is not ready until it is loaded for the first time
+        cache.fail = true;
+        cache.updateCache();
+        RuntimeException e = Assertions.assertThrows(RuntimeException.class, () -> cache.get("one"));
+        assertThat(e.getMessage(), is("MapCache is not ready!"));
+
+        cache.fail = false;
+        cache.updateCache();
+        assertThat(cache.get("one"), is(true));
+
+        // A failed refresh keeps the previous data
+        cache.fail = true;
+        cache.updateCache();
+        assertThat(cache.get("one"), is(true));
+    }
+
+    @Test
+    public void testUpdatesDuringRefreshAreKept() {
+        Map<String, Boolean> data = new HashMap<>(Map.of("one", true, "two", true));
+        MapCache cache = new MapCache(data);
+        cache.updateCache();
+
+        // The data is loaded before the user operations complete and update the cache
+        cache.duringLoad = () -> {
+            cache.put("one", false);
+            cache.remove("two");
+            cache.put("three", true);
+        };
+        cache.updateCache();
+
+        assertThat(cache.get("one"), is(false));
+        assertThat(cache.get("two"), is(nullValue()));
+        assertThat(cache.get("three"), is(true));
+
+        // The next refresh updates them again
+        cache.duringLoad = () -> { };
+        cache.updateCache();
+
+        assertThat(cache.get("one"), is(true));
+        assertThat(cache.get("two"), is(true));
+        assertThat(cache.get("three"), is(nullValue()));
+    }
+
+    static class MapCache extends AbstractCache<Boolean>  {
+        private final Map<String, Boolean> data;
+        private volatile boolean fail = false;
+        private volatile Runnable duringLoad = () -> { };
+
+        public MapCache(Map<String, Boolean> data) {
+            super("Map", 60_000L);
+            this.data = data;
+        }
+
+        @Override
+        protected Map<String, Boolean> loadCache() {
+            if (fail) {
+                throw new RuntimeException("Failed to load");
+            }
+
+            Map<String, Boolean> map = new HashMap<>(data);
+            duringLoad.run();
+            return map;
+        }
+    }
+
     class TestCache extends AbstractCache<Boolean>  {
         public TestCache() {
             super("Test", 100L);
@@ -83,8 +178,13 @@ public class AbstractCacheTest {
             map.put("two", Boolean.TRUE);
             map.put("three", Boolean.TRUE);
 
-            reload.countDown();
             return map;
         }
+
+        @Override
+        void updateCache() {
+            super.updateCache();
+            reload.countDown();
+        }
     }
 }
@@ -53,6 +53,7 @@ public class AclCacheTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
+        @SuppressWarnings("unchecked")
         KafkaFuture<Collection<AclBinding>> mockFuture = mock(KafkaFuture.class);
 
         AclBinding myUserRead = new AclBinding(
@@ -42,6 +42,7 @@ public class ScramShaCredentialsCacheTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
+        @SuppressWarnings("unchecked")
         KafkaFuture<List<String>> mockFuture = mock(KafkaFuture.class);
 
         when(mockFuture.get(anyLong(), any())).thenAnswer(i -> {